@@ -0,0 +1,378 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * {@code Determinant} 类提供 n 阶行列式的计算，所有方法的时间复杂度都为 O(n<sup>3</sup>)。
+ * 
+ * <ul>
+ * <li>整数行列式采用 Bareiss 无分数消元法，每一步的除法都是整除，因此结果是精确的。
+ * 中间结果超出 {@code long} 的范围时，会从当前的消元步骤开始改用 {@link BigInteger}
+ * 继续计算，而不是从头重新计算。
+ * <li>浮点数行列式采用列主元（partial pivoting）的 LU 分解。
+ * </ul>
+ * 
+ * <p>
+ * 名称以 {@code InPlace} 结尾的方法直接在参数数组上进行消元，调用之后数组的内容会被破坏，
+ * 但这些方法在没有发生溢出时不会分配任何内存，适合批量计算大量的小型行列式。
+ * 
+ * @author 王帅
+ * @since  1.0
+ * @see    SuperMath#determinant(int[][])
+ */
+public final class Determinant {
+
+	private Determinant() {}
+
+	/**
+	 * 精确计算 {@code int} 类型的行列式。
+	 * 
+	 * @param x 行列式
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static long exact(int[][] x) {
+		return exact(x, new long[x.length][x.length]);
+	}
+
+	/**
+	 * 使用指定的工作数组精确计算 {@code int} 类型的行列式，参数 {@code x} 的内容不会改变。
+	 * 
+	 * <p>
+	 * 工作数组可以在多次调用之间重复使用，因此在没有发生溢出时，此方法不会分配任何内存。
+	 * 
+	 * @param x    行列式
+	 * @param work 与行列式阶数相同的工作数组，其原有内容会被覆盖
+	 * @return     计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式，或工作数组的阶数与行列式不同
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static long exact(int[][] x, long[][] work) {
+		check(x);
+		check(work);
+		if (work.length != x.length)
+			throw new MathIllegalArgumentException("工作数组的阶数与行列式不同");
+		for (int i = 0; i < x.length; i++) {
+			final int[] src = x[i];
+			final long[] dst = work[i];
+			for (int j = 0; j < src.length; j++) {
+				dst[j] = src[j];
+			}
+		}
+		return bareiss(work);
+	}
+
+	/**
+	 * 精确计算 {@code long} 类型的行列式。
+	 * 
+	 * @param x 行列式
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static long exact(long[][] x) {
+		return exactInPlace(copy(x));
+	}
+
+	/**
+	 * 精确计算 {@code long} 类型的行列式，计算过程直接在参数数组上进行。
+	 * 
+	 * @param x 行列式，调用之后其内容会被破坏
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static long exactInPlace(long[][] x) {
+		check(x);
+		return bareiss(x);
+	}
+
+	/**
+	 * 精确计算 {@code long} 类型的行列式，结果以 {@link BigInteger} 表示，因此不会溢出。
+	 * 
+	 * @param x 行列式
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 */
+	public static BigInteger big(long[][] x) {
+		check(x);
+		final int n = x.length;
+		final BigInteger[][] a = new BigInteger[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				a[i][j] = BigInteger.valueOf(x[i][j]);
+			}
+		}
+		return bareiss(a, 0, 1, 1, BigInteger.ONE, 1);
+	}
+
+	/**
+	 * 计算 {@code double} 类型的行列式。
+	 * 
+	 * @param x 行列式
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 */
+	public static double lu(double[][] x) {
+		check(x);
+		final int n = x.length;
+		final double[][] a = new double[n][];
+		for (int i = 0; i < n; i++) {
+			a[i] = x[i].clone();
+		}
+		return decompose(a);
+	}
+
+	/**
+	 * 计算 {@code double} 类型的行列式，计算过程直接在参数数组上进行。
+	 * 
+	 * @param x 行列式，调用之后其内容会被破坏
+	 * @return  计算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 */
+	public static double luInPlace(double[][] x) {
+		check(x);
+		return decompose(x);
+	}
+
+	/**
+	 * 检查参数是否为行列式。
+	 * 
+	 * @param x 行列式（二维数组）
+	 */
+	private static void check(int[][] x) {
+		checkOrder(x.length);
+		for (int[] row : x)
+			checkRow(x.length, row.length);
+	}
+
+	private static void check(long[][] x) {
+		checkOrder(x.length);
+		for (long[] row : x)
+			checkRow(x.length, row.length);
+	}
+
+	private static void check(double[][] x) {
+		checkOrder(x.length);
+		for (double[] row : x)
+			checkRow(x.length, row.length);
+	}
+
+	private static void checkOrder(int order) {
+		// 阶数不能为零
+		if (order == 0)
+			throw new MathIllegalArgumentException("行列式的阶数不能零");
+	}
+
+	private static void checkRow(int order, int length) {
+		// 判断是否为行列式
+		if (length != order)
+			throw new MathIllegalArgumentException("这不是一个行列式");
+	}
+
+	private static long[][] copy(long[][] x) {
+		final long[][] a = new long[x.length][];
+		for (int i = 0; i < x.length; i++) {
+			a[i] = x[i].clone();
+		}
+		return a;
+	}
+
+	/**
+	 * 在第 {@code k} 列中寻找第 {@code k} 行以下第一个非零元素所在的行。
+	 * 
+	 * @return 行号，如果该列全部为零则返回 {@code -1}
+	 */
+	private static int pivot(long[][] a, int k) {
+		for (int i = k + 1; i < a.length; i++) {
+			if (a[i][k] != 0L) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void swap(Object[] a, int i, int j) {
+		final Object t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	/**
+	 * <p>
+	 * Bareiss 消元法。第 k 步消元之后，a<sub>ij</sub> 等于原行列式左上角 k+1 阶子式
+	 * 添加第 i 行、第 j 列后的子式，因此 a<sub>ij</sub> &middot; a<sub>kk</sub>
+	 * &minus; a<sub>ik</sub> &middot; a<sub>kj</sub> 总能被上一步的主元整除。
+	 * 
+	 * @param a 行列式，消元直接在其上进行
+	 * @return  计算结果
+	 */
+	private static long bareiss(long[][] a) {
+		final int n = a.length;
+		int sign = 1;
+		long prev = 1L;
+		for (int k = 0; k < n - 1; k++) {
+			// 主元为零时与下方的行交换
+			if (a[k][k] == 0L) {
+				final int p = pivot(a, k);
+				if (p < 0) {
+					return 0L;
+				}
+				swap(a, k, p);
+				sign = -sign;
+			}
+			final long[] rk = a[k];
+			final long pivot = rk[k];
+			for (int i = k + 1; i < n; i++) {
+				final long[] ri = a[i];
+				final long aik = ri[k];
+				for (int j = k + 1; j < n; j++) {
+					final long m = ri[j] * pivot;
+					final long s = aik * rk[j];
+					final long d = m - s;
+					// 乘法或减法溢出，从当前位置开始改用 BigInteger 继续计算
+					if (Math.multiplyHigh(ri[j], pivot) != (m >> 63)
+							|| Math.multiplyHigh(aik, rk[j]) != (s >> 63)
+							|| ((m ^ s) & (m ^ d)) < 0
+							|| (d == Long.MIN_VALUE && prev == -1L)) {
+						return toLong(bareiss(promote(a), k, i, j, BigInteger.valueOf(prev), sign));
+					}
+					ri[j] = d / prev;
+				}
+			}
+			prev = pivot;
+		}
+		final long det = a[n - 1][n - 1];
+		if (sign < 0) {
+			if (det == Long.MIN_VALUE) {
+				throw new MathArithmeticException("行列式的值超出 long 的范围");
+			}
+			return -det;
+		}
+		return det;
+	}
+
+	private static BigInteger[][] promote(long[][] a) {
+		final int n = a.length;
+		final BigInteger[][] big = new BigInteger[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				big[i][j] = BigInteger.valueOf(a[i][j]);
+			}
+		}
+		return big;
+	}
+
+	private static long toLong(BigInteger det) {
+		if (det.bitLength() >= Long.SIZE) {
+			throw new MathArithmeticException("行列式的值超出 long 的范围");
+		}
+		return det.longValue();
+	}
+
+	/**
+	 * <p>
+	 * {@link BigInteger} 版本的 Bareiss 消元法，从第 {@code k} 步消元的第 {@code i} 行、
+	 * 第 {@code j} 列开始计算，用于在 {@code long} 溢出时接续计算。
+	 * 
+	 * @param a    行列式
+	 * @param k    开始的消元步骤
+	 * @param i    开始的行
+	 * @param j    开始的列
+	 * @param prev 上一步消元的主元
+	 * @param sign 行交换产生的符号
+	 * @return     计算结果
+	 */
+	private static BigInteger bareiss(BigInteger[][] a, int k, int i, int j, BigInteger prev, int sign) {
+		final int n = a.length;
+		for (; k < n - 1; k++, i = k + 1, j = k + 1) {
+			// 主元为零时与下方的行交换
+			if (a[k][k].signum() == 0) {
+				int p = k + 1;
+				while (p < n && a[p][k].signum() == 0) {
+					p++;
+				}
+				if (p == n) {
+					return BigInteger.ZERO;
+				}
+				swap(a, k, p);
+				sign = -sign;
+			}
+			final BigInteger[] rk = a[k];
+			final BigInteger pivot = rk[k];
+			for (; i < n; i++, j = k + 1) {
+				final BigInteger[] ri = a[i];
+				final BigInteger aik = ri[k];
+				for (; j < n; j++) {
+					ri[j] = ri[j].multiply(pivot).subtract(aik.multiply(rk[j])).divide(prev);
+				}
+			}
+			prev = pivot;
+		}
+		final BigInteger det = a[n - 1][n - 1];
+		return sign < 0 ? det.negate() : det;
+	}
+
+	/**
+	 * 列主元 LU 分解，返回对角线元素之积。
+	 * 
+	 * @param a 行列式，分解直接在其上进行
+	 * @return  计算结果
+	 */
+	private static double decompose(double[][] a) {
+		final int n = a.length;
+		double det = 1.0;
+		for (int k = 0; k < n; k++) {
+			// 选取绝对值最大的元素作为主元
+			int p = k;
+			double max = Math.abs(a[k][k]);
+			for (int i = k + 1; i < n; i++) {
+				final double v = Math.abs(a[i][k]);
+				if (v > max) {
+					max = v;
+					p = i;
+				}
+			}
+			if (max == 0.0) {
+				return 0.0;
+			}
+			if (p != k) {
+				swap(a, k, p);
+				det = -det;
+			}
+			final double[] rk = a[k];
+			final double pivot = rk[k];
+			det *= pivot;
+			for (int i = k + 1; i < n; i++) {
+				final double[] ri = a[i];
+				final double f = ri[k] / pivot;
+				for (int j = k + 1; j < n; j++) {
+					ri[j] -= f * rk[j];
+				}
+			}
+		}
+		return det;
+	}
+
+}
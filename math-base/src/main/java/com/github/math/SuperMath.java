@@ -16,13 +16,16 @@
 
 package com.github.math;
 
+import com.github.math.exception.MathArithmeticException;
 import com.github.math.exception.MathIllegalArgumentException;
-import com.github.math.node.AddNode;
-import com.github.math.node.Node;
-import com.github.math.node.ValNode;
+import com.github.math.exception.MathParseException;
+import com.github.math.node.CompiledExpression;
 import com.github.math.utils.MathUtils;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Map;
 
 /**
  * <p>
@@ -226,151 +229,281 @@ public final class SuperMath {
 	 * 需要注意的是，对于大素数，试商法将使每次迭代都更复杂，因此对于大素数 Stein 将更有优势。
 	 * 
 	 * <p>
-	 * 此方法是对 Stein 算法的简单实现。
+	 * 此方法采用迭代的方式实现 Stein 算法：借助 {@link Integer#numberOfTrailingZeros(int)}
+	 * 一次性移除所有的因子 2，循环体内只有减法、移位以及可以编译为条件传送指令的
+	 * {@link Math#min(int, int)} 与 {@link Math#abs(int)}，不会因递归而耗尽调用栈。
 	 * 
 	 * @param a 第一个参数
 	 * @param b 第二个参数
 	 * @return  两个参数的最大公约数
+	 * @exception MathArithmeticException 如果结果为 2<sup>31</sup>，即参数为
+	 * 			  {@code (Integer.MIN_VALUE, 0)}、{@code (0, Integer.MIN_VALUE)} 或
+	 * 			  {@code (Integer.MIN_VALUE, Integer.MIN_VALUE)}
 	 */
 	public static int gcd(int a, int b) {
-		// 确保两个值都为正
-		a = Math.abs(a);
-		b = Math.abs(b);
+		// 其中一个值为零，另一个值的绝对值即为最大公约数
+		if (a == 0 || b == 0) {
+			if (a == Integer.MIN_VALUE || b == Integer.MIN_VALUE) {
+				throw new MathArithmeticException("gcd(" + a + ", " + b + ") = 2^31");
+			}
+			return Math.abs(a + b);
+		}
+		
+		// 两个值共同含有的因子 2 的个数
+		final int az = Integer.numberOfTrailingZeros(a);
+		final int bz = Integer.numberOfTrailingZeros(b);
+		final int shift = Math.min(az, bz);
+		
+		// 移除因子 2 之后两个值都为正奇数（Integer#MIN_VALUE 右移后为 -1）
+		a = Math.abs(a >> az);
+		b = Math.abs(b >> bz);
 		
-		// 如果两个值相等其中一个即为最大公约数
-		if (a == b) {
-			return a;
+		// Stein 算法
+		while (a != b) {
+			final int delta = a - b;
+			b = Math.min(a, b);
+			a = Math.abs(delta);
+			a >>= Integer.numberOfTrailingZeros(a);
 		}
-
-		/*
-		 * ============== 
-		 * 我们约定： 
-		 * 第一个参数为较大的数； 
-		 * 第二个参数为较小的数。
-		 *  ==============
-		 */
-
-		int t;
-		// 使参数符合约定
-		if (a < b) {
-			t = a;
-			a = b;
-			b = t;
+		
+		// 两个参数都为 Integer#MIN_VALUE
+		if (shift == Integer.SIZE - 1) {
+			throw new MathArithmeticException("gcd(" + Integer.MIN_VALUE + ", " + Integer.MIN_VALUE + ") = 2^31");
 		}
+		return a << shift;
+	}
 
-		// 如果较小数为零则返回较大数
-		if (b == 0) {
-			return a;
+	/**
+	 * <p>
+	 * 采用 Stein 算法对两个 {@code long} 类型的数值计算最大公约数。
+	 * 
+	 * <p>
+	 * 算法的实现与 {@link #gcd(int, int)} 相同。
+	 * 
+	 * @param a 第一个参数
+	 * @param b 第二个参数
+	 * @return  两个参数的最大公约数
+	 * @exception MathArithmeticException 如果结果为 2<sup>63</sup>
+	 * @see #gcd(int, int)
+	 */
+	public static long gcd(long a, long b) {
+		// 其中一个值为零，另一个值的绝对值即为最大公约数
+		if (a == 0L || b == 0L) {
+			if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+				throw new MathArithmeticException("gcd(" + a + ", " + b + ") = 2^63");
+			}
+			return Math.abs(a + b);
 		}
-
-		// 较大参数是否为偶数
-		boolean m = (a % 2) == 0;
-		// 较小参数是否为偶数
-		boolean n = (b % 2) == 0;
-
+		
+		// 两个值共同含有的因子 2 的个数
+		final int az = Long.numberOfTrailingZeros(a);
+		final int bz = Long.numberOfTrailingZeros(b);
+		final int shift = Math.min(az, bz);
+		
+		// 移除因子 2 之后两个值都为正奇数
+		a = Math.abs(a >> az);
+		b = Math.abs(b >> bz);
+		
 		// Stein 算法
-		if (m && n) {
-			a >>= 1;
-			b >>= 1;
-			t = gcd(a, b);
-			t <<= 1;
-			return t;
-		} else if (m) {
-			a >>= 1;
-			return gcd(a, b);
-		} else if (n) {
-			b >>= 1;
-			return gcd(a, b);
-		} else {
-			return gcd(a - b, b);
+		while (a != b) {
+			final long delta = a - b;
+			b = Math.min(a, b);
+			a = Math.abs(delta);
+			a >>= Long.numberOfTrailingZeros(a);
+		}
+		
+		// 两个参数都为 Long#MIN_VALUE
+		if (shift == Long.SIZE - 1) {
+			throw new MathArithmeticException("gcd(" + Long.MIN_VALUE + ", " + Long.MIN_VALUE + ") = 2^63");
+		}
+		return a << shift;
+	}
+
+	/**
+	 * <p>
+	 * 计算两个 {@code BigInteger} 类型数值的最大公约数。
+	 * 
+	 * <p>
+	 * 如果两个参数都可以用 {@code long} 表示，则使用 {@link #gcd(long, long)} 计算，
+	 * 避免创建中间对象；否则使用 {@link BigInteger#gcd(BigInteger)} 进行计算。
+	 * 
+	 * @param a 第一个参数
+	 * @param b 第二个参数
+	 * @return  两个参数的最大公约数（非负数）
+	 */
+	public static BigInteger gcd(BigInteger a, BigInteger b) {
+		if (a.bitLength() < Long.SIZE && b.bitLength() < Long.SIZE) {
+			return BigInteger.valueOf(gcd(a.longValue(), b.longValue()));
 		}
+		return a.gcd(b);
 	}
 
 	/**
 	 * <p>计算两个数的最小公倍数。
+	 * 
+	 * <p>
+	 * 计算时会先除以最大公约数再相乘，以减少溢出的可能。但此方法不检查溢出，
+	 * 如果结果超出 {@code int} 的范围，返回的值将没有意义。需要检查溢出时请使用
+	 * {@link #lcmExact(int, int)}。
 	 *
 	 * @param a 第一个参数
 	 * @param b 第二个参数
-	 * @return 最大公倍数
+	 * @return 最小公倍数
 	 */
 	public static int lcm(int a, int b) {
-		return a * b / gcd(a, b);
+		if (a == 0 || b == 0) {
+			return 0;
+		}
+		return Math.abs(a / gcd(a, b) * b);
+	}
+
+	/**
+	 * <p>计算两个数的最小公倍数，并检查结果是否溢出。
+	 * 
+	 * <p>
+	 * 计算时会先除以最大公约数再相乘，只有在最小公倍数本身超出 {@code int}
+	 * 的范围时才会抛出异常。
+	 *
+	 * @param a 第一个参数
+	 * @param b 第二个参数
+	 * @return 最小公倍数（非负数）
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围
+	 */
+	public static int lcmExact(int a, int b) {
+		if (a == 0 || b == 0) {
+			return 0;
+		}
+		final long lcm = Math.abs((long) (a / gcd(a, b)) * b);
+		if (lcm > Integer.MAX_VALUE) {
+			throw new MathArithmeticException("lcm(" + a + ", " + b + ") 超出 int 的范围");
+		}
+		return (int) lcm;
+	}
+
+	/**
+	 * <p>计算两个 {@code long} 类型数值的最小公倍数，并检查结果是否溢出。
+	 *
+	 * @param a 第一个参数
+	 * @param b 第二个参数
+	 * @return 最小公倍数（非负数）
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 * @see #lcmExact(int, int)
+	 */
+	public static long lcmExact(long a, long b) {
+		if (a == 0L || b == 0L) {
+			return 0L;
+		}
+		final long lcm = MathUtils.mulAndCheck(a / gcd(a, b), b);
+		if (lcm == Long.MIN_VALUE) {
+			throw new MathArithmeticException("lcm(" + a + ", " + b + ") 超出 long 的范围");
+		}
+		return Math.abs(lcm);
 	}
 
 	/**
 	 * <p>n阶行列式的计算。
+	 * 
+	 * <p>
+	 * 采用 Bareiss 无分数消元法进行精确计算，时间复杂度为 O(n<sup>3</sup>)。
 	 *
 	 * @param x 行列式
 	 * @return 结算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围
+	 * @see Determinant
 	 */
 	public static int determinant(int[][] x) {
-		// 行列式阶数
-		final int order = x.length;
-		// 阶数不能为零
-		if (order == 0)
-			throw new MathIllegalArgumentException("行列式的阶数不能零");
-		// 判断是否为行列式
-		for (int[] ints : x)
-			if (ints.length != order)
-				throw new MathIllegalArgumentException("这不是一个行列式");
-		// 计算n阶行列式
-		return calc(x);
+		final long det = Determinant.exact(x);
+		if ((int) det != det) {
+			throw new MathArithmeticException("行列式的值超出 int 的范围");
+		}
+		return (int) det;
 	}
 
 	/**
-	 * <p>计算n阶行列式
+	 * <p>n阶行列式的计算。
+	 * 
+	 * <p>
+	 * 采用 Bareiss 无分数消元法进行精确计算，中间结果溢出时自动改用 {@link BigInteger} 计算。
 	 *
 	 * @param x 行列式
-	 * @return 结果
+	 * @return 结算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 * @see Determinant#exact(long[][])
 	 */
-	private static int calc(int[][] x) {
-		// 二阶行列式计算结果
-		if (x.length == 1)
-			return x[0][0];
-		// 定义计算结果
-		int result = 0;
-		// 获取第一行的所有元素
-		int[] firstRow = x[0];
-		for (int i = 0; i < firstRow.length; i++) {
-			// 计算元素与余子式的乘积
-			int temp = firstRow[i] * calc(getMinor(i, x));
-			// 根据公式合并相乘结果
-			if (i % 2 == 0)
-				result += temp;
-			else
-				result -= temp;
-		}
-		return result;
+	public static long determinant(long[][] x) {
+		return Determinant.exact(x);
 	}
 
 	/**
-	 * <p>获取余子式。
+	 * <p>n阶行列式的计算。
+	 * 
+	 * <p>
+	 * 采用列主元 LU 分解进行计算，结果可能含有舍入误差。
 	 *
-	 * @param c 排除的列
 	 * @param x 行列式
-	 * @return 余子式
+	 * @return 结算结果
+	 * @exception MathIllegalArgumentException 如果参数不是一个行列式
+	 * @see Determinant#lu(double[][])
 	 */
-	private static int[][] getMinor(int c, int[][] x) {
-		// 余子式的阶数
-		final int order = x.length - 1;
-		// 余子式为一阶
-		if (order == 0)
-			return x;
-		// 定义余子式
-		int[][] minor = new int[order][order];
-		// 排除某一列的元素，并给余子式赋值
-		for (int i = 1; i < x.length; i++)
-			for (int j = 0, k = 0, n = i - 1; j < x.length; j++)
-				if (j != c)
-					minor[n][k++] = x[i][j];
-		return minor;
+	public static double determinant(double[][] x) {
+		return Determinant.lu(x);
 	}
 
+	/**
+	 * <p>
+	 * 计算不含变量的表达式，使用 {@link MathContext#DECIMAL128} 的精度。
+	 * 
+	 * <p>
+	 * 支持 {@code + - * / ^}、括号与一元负号，表达式的解析结果会被缓存。
+	 * 
+	 * @param exp 表达式
+	 * @return 计算结果
+	 * @exception MathParseException 如果表达式的格式不正确
+	 * @see CompiledExpression
+	 */
 	public static BigDecimal eval(String exp) {
-		int i = exp.indexOf('+');
-		Node prev = new ValNode(exp.substring(0, i));
-		Node next = new ValNode(exp.substring(i + 1));
-		return new AddNode(prev, next).eval();
+		return eval(exp, MathContext.DECIMAL128);
+	}
+
+	/**
+	 * 使用指定的精度计算不含变量的表达式。
+	 * 
+	 * @param exp 表达式
+	 * @param mc  运算使用的精度与舍入模式
+	 * @return 计算结果
+	 * @exception MathParseException 如果表达式的格式不正确
+	 */
+	public static BigDecimal eval(String exp, MathContext mc) {
+		return compile(exp).eval(mc);
+	}
+
+	/**
+	 * 使用指定的精度与变量取值计算表达式。
+	 * 
+	 * @param exp      表达式
+	 * @param mc       运算使用的精度与舍入模式
+	 * @param bindings 变量名与变量值的映射
+	 * @return 计算结果
+	 * @exception MathParseException 如果表达式的格式不正确
+	 * @exception MathIllegalArgumentException 如果有变量没有赋值
+	 */
+	public static BigDecimal eval(String exp, MathContext mc, Map<String, ? extends BigDecimal> bindings) {
+		return compile(exp).eval(mc, bindings);
+	}
+
+	/**
+	 * <p>
+	 * 解析表达式，需要反复求值的表达式应当只解析一次，之后使用返回的对象求值。
+	 * 
+	 * @param exp 表达式
+	 * @return 解析之后的表达式
+	 * @exception MathParseException 如果表达式的格式不正确
+	 * @see CompiledExpression#compile(String)
+	 */
+	public static CompiledExpression compile(String exp) {
+		return CompiledExpression.compile(exp);
 	}
 	
 }
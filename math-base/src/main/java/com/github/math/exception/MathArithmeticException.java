@@ -25,6 +25,7 @@ public class MathArithmeticException extends ArithmeticException {
 	}
 
 	public MathArithmeticException(String msg) {
+		super(msg);
 	}
 	
 }
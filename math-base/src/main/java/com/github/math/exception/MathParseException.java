@@ -18,7 +18,18 @@ package com.github.math.exception;
 
 public class MathParseException extends RuntimeException {
 
+	private final int errorIndex;
+
 	public MathParseException(String source, int errorIndex) {
+		super("无法解析 \"" + source + "\"，错误位置：" + errorIndex);
+		this.errorIndex = errorIndex;
+	}
+
+	/**
+	 * @return 解析出错的位置
+	 */
+	public int getErrorIndex() {
+		return errorIndex;
 	}
 
 	// The serialVersionUID of the class MathParseException.
@@ -24,4 +24,8 @@ public class NumberOverbrimException extends MathArithmeticException {
 	public NumberOverbrimException() {
 	}
 
+	public NumberOverbrimException(String from, String to) {
+		super(from + " -> " + to);
+	}
+
 }
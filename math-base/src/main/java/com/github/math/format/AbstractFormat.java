@@ -18,11 +18,21 @@ package com.github.math.format;
 
 import com.github.math.exception.MathParseException;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.text.FieldPosition;
 import java.text.ParsePosition;
 
 /**
+ * <p>
+ * 格式化与解析的基类。
+ * 
+ * <p>
+ * 格式化的核心方法是 {@link #format(Object, Appendable)}，可以直接写入任何 {@link Appendable}，
+ * 例如重复使用的 {@link StringBuilder} 或者 {@link java.io.Writer}，不创建中间字符串。
+ * {@link #format(Object)} 与 {@link #format(Object, StringBuilder)} 使用非同步的 {@link StringBuilder}，
+ * 与 {@link java.text.Format} 兼容的 {@link #format(Object, StringBuffer, FieldPosition)} 也委托给核心方法。
  * 
  * @author 王帅
  * 
@@ -38,15 +48,101 @@ public abstract class AbstractFormat<T> implements Serializable {
 	}
 	
 	public final String format(T obj) {
-        return format(obj, new StringBuffer(), new FieldPosition(0)).toString();
-    }
+		return format(obj, new StringBuilder()).toString();
+	}
+	
+	/**
+	 * 把对象格式化之后追加到 {@code toAppendTo} 中。
+	 * 
+	 * @param  obj        对象
+	 * @param  toAppendTo 追加到的字符序列
+	 * @return            {@code toAppendTo}
+	 */
+	public final StringBuilder format(T obj, StringBuilder toAppendTo) {
+		try {
+			format(obj, (Appendable) toAppendTo);
+		} catch (IOException e) {
+			// StringBuilder 不会抛出 IOException
+			throw new UncheckedIOException(e);
+		}
+		return toAppendTo;
+	}
 	
-	public abstract StringBuffer format(T obj, 
+	/**
+	 * 把对象格式化之后追加到 {@code toAppendTo} 中，{@code pos} 被忽略。
+	 * 
+	 * @param  obj        对象
+	 * @param  toAppendTo 追加到的字符序列
+	 * @param  pos        字段的位置
+	 * @return            {@code toAppendTo}
+	 */
+	public StringBuffer format(T obj, 
 					StringBuffer toAppendTo, 
-					FieldPosition pos);
+					FieldPosition pos) {
+		pos.setBeginIndex(0);
+		pos.setEndIndex(0);
+		try {
+			format(obj, (Appendable) toAppendTo);
+		} catch (IOException e) {
+			// StringBuffer 不会抛出 IOException
+			throw new UncheckedIOException(e);
+		}
+		return toAppendTo;
+	}
+	
+	/**
+	 * 把对象格式化之后写入 {@code out}。
+	 * 
+	 * @param  obj 对象
+	 * @param  out 写入的目标
+	 * @throws IOException 如果 {@code out} 抛出 I/O 异常
+	 */
+	public abstract void format(T obj, Appendable out) throws IOException;
 
+	/**
+	 * 不创建字符串地写入一个十进制整数。
+	 * 
+	 * @param  out   写入的目标
+	 * @param  value 整数
+	 * @return       {@code out}
+	 * @throws IOException 如果 {@code out} 抛出 I/O 异常
+	 */
+	protected static Appendable appendInt(Appendable out, int value) throws IOException {
+		if (value < 0) {
+			if (value == Integer.MIN_VALUE) {
+				return out.append("-2147483648");
+			}
+			out.append('-');
+			value = -value;
+		}
+		int p = 1;
+		while (p <= value / 10) {
+			p *= 10;
+		}
+		for (; p > 0; p /= 10) {
+			out.append((char) ('0' + value / p % 10));
+		}
+		return out;
+	}
+	
+	/**
+	 * 解析整个字符串，结尾的空白会被忽略。
+	 * 
+	 * @param  source 字符串
+	 * @return        解析的结果
+	 * @exception MathParseException 如果格式不正确，或者解析之后还有其它字符
+	 */
 	public final T parse(String source) throws MathParseException {
-		return parse(source, new ParsePosition(0));
+		final ParsePosition pos = new ParsePosition(0);
+		final T result = parse(source, pos);
+		int index = pos.getIndex();
+		while (index < source.length() && Character.isWhitespace(source.charAt(index))) {
+			index++;
+		}
+		if (index != source.length()) {
+			throw new MathParseException(source, index);
+		}
+		return result;
 	}
 
 	public abstract T parse(String source, ParsePosition pos) throws MathParseException;
@@ -17,10 +17,11 @@
 package com.github.math.node;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 
 /**
  * <p>
- * 介绍信息
+ * 加法节点。
  *
  * @author 王帅
  * @since 1.0
@@ -32,8 +33,18 @@ public class AddNode extends Node {
     }
 
     @Override
-    public BigDecimal eval() {
-        return prev.eval().add(next.eval());
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+        return prev.eval(values, mc).add(next.eval(values, mc), mc);
+    }
+
+    @Override
+    public double eval(double[] values) {
+        return prev.eval(values) + next.eval(values);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + prev + " + " + next + ")";
     }
 
 }
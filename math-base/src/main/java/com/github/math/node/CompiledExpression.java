@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathParseException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 解析之后的表达式。表达式只解析一次，之后可以使用不同的变量取值与 {@link MathContext}
+ * 反复求值，而不需要再次解析。
+ *
+ * <p>
+ * 变量在解析时就被分配了下标（按照在表达式中第一次出现的顺序），
+ * 调用 {@link #eval(MathContext, BigDecimal...)} 时按照下标传入变量的值，
+ * 求值过程中没有任何按名称的查找。
+ *
+ * <p>
+ * 此类的实例是不可变的，可以被多个线程同时使用。{@link #compile(String)}
+ * 会缓存解析结果，同一个表达式字符串只会被解析一次。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public final class CompiledExpression {
+
+    /**
+     * 缓存的最大容量，超出时清空缓存。
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Map<String, CompiledExpression> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final Node node;
+    private final List<String> variables;
+
+    private volatile DoubleEvaluator doubleEvaluator;
+    private volatile DecimalEvaluator decimalEvaluator;
+
+    private CompiledExpression(String source, Node node, List<String> variables) {
+        this.source = source;
+        this.node = node;
+        this.variables = variables;
+    }
+
+    /**
+     * 解析表达式，解析结果会被缓存。
+     *
+     * @param source 表达式
+     * @return 解析之后的表达式
+     * @exception MathParseException 如果表达式的格式不正确
+     */
+    public static CompiledExpression compile(String source) {
+        CompiledExpression exp = CACHE.get(source);
+        if (exp == null) {
+            exp = parse(source);
+            if (CACHE.size() >= CACHE_SIZE)
+                CACHE.clear();
+            CACHE.putIfAbsent(source, exp);
+        }
+        return exp;
+    }
+
+    /**
+     * 解析表达式，不使用缓存。
+     *
+     * @param source 表达式
+     * @return 解析之后的表达式
+     * @exception MathParseException 如果表达式的格式不正确
+     */
+    public static CompiledExpression parse(String source) {
+        final List<String> variables = new ArrayList<>();
+        final Node node = new NodeParser(source, variables).parse();
+        return new CompiledExpression(source, node, Collections.unmodifiableList(variables));
+    }
+
+    /**
+     * @return 语法树的根节点
+     */
+    public Node getNode() {
+        return node;
+    }
+
+    /**
+     * @return 按下标排列的变量名
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * 获取变量的下标。
+     *
+     * @param name 变量名
+     * @return 下标，如果表达式不含此变量则返回 {@code -1}
+     */
+    public int indexOf(String name) {
+        return variables.indexOf(name);
+    }
+
+    /**
+     * 对表达式求值。
+     *
+     * @param mc     运算使用的精度与舍入模式
+     * @param values 变量的取值，按变量的下标排列
+     * @return 计算结果
+     * @exception MathIllegalArgumentException 如果变量的取值个数与变量个数不同，或含有 {@code null}
+     */
+    public BigDecimal eval(MathContext mc, BigDecimal... values) {
+        if (values.length != variables.size())
+            throw new MathIllegalArgumentException("需要 " + variables.size() + " 个变量的值，实际为 " + values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null)
+                throw new MathIllegalArgumentException("变量 " + variables.get(i) + " 没有赋值");
+        }
+        return node.eval(values, mc);
+    }
+
+    /**
+     * 按变量名对表达式求值。
+     *
+     * @param mc       运算使用的精度与舍入模式
+     * @param bindings 变量名与变量值的映射
+     * @return 计算结果
+     * @exception MathIllegalArgumentException 如果有变量没有赋值
+     */
+    public BigDecimal eval(MathContext mc, Map<String, ? extends BigDecimal> bindings) {
+        final BigDecimal[] values = new BigDecimal[variables.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = bindings.get(variables.get(i));
+        }
+        return eval(mc, values);
+    }
+
+    /**
+     * 获取以 {@code double} 计算的求值器，第一次调用时将语法树编译为字节码。
+     *
+     * @return 求值器
+     * @see NodeCompiler#compileDouble(Node)
+     */
+    public DoubleEvaluator toDoubleEvaluator() {
+        DoubleEvaluator evaluator = doubleEvaluator;
+        if (evaluator == null)
+            doubleEvaluator = evaluator = NodeCompiler.compileDouble(node);
+        return evaluator;
+    }
+
+    /**
+     * 获取以 {@link BigDecimal} 计算的求值器，第一次调用时将语法树编译为字节码。
+     *
+     * @return 求值器
+     * @see NodeCompiler#compileDecimal(Node)
+     */
+    public DecimalEvaluator toDecimalEvaluator() {
+        DecimalEvaluator evaluator = decimalEvaluator;
+        if (evaluator == null)
+            decimalEvaluator = evaluator = NodeCompiler.compileDecimal(node);
+        return evaluator;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+}
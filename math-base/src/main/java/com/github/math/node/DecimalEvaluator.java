@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * 以 {@link BigDecimal} 计算表达式的求值器。
+ *
+ * @author 王帅
+ * @since 1.0
+ * @see NodeCompiler#compileDecimal(Node)
+ */
+@FunctionalInterface
+public interface DecimalEvaluator {
+
+    /**
+     * 对表达式求值。
+     *
+     * @param values 变量的取值，按变量的下标排列
+     * @param mc     运算使用的精度与舍入模式
+     * @return 计算结果
+     */
+    BigDecimal eval(BigDecimal[] values, MathContext mc);
+
+}
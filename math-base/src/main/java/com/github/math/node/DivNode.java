@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import com.github.math.exception.MathZeroException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * 除法节点。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public class DivNode extends Node {
+
+    public DivNode(Node prev, Node next) {
+        super(prev, next);
+    }
+
+    @Override
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+        return divide(prev.eval(values, mc), next.eval(values, mc), mc);
+    }
+
+    /**
+     * 与 {@code double} 的除法相同，除数为零时结果为无穷大或 {@code NaN}。
+     */
+    @Override
+    public double eval(double[] values) {
+        return prev.eval(values) / next.eval(values);
+    }
+
+    static BigDecimal divide(BigDecimal dividend, BigDecimal divisor, MathContext mc) {
+        if (divisor.signum() == 0)
+            throw new MathZeroException("除数不能为零");
+        return dividend.divide(divisor, mc);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + prev + " / " + next + ")";
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+/**
+ * <p>
+ * 以 {@code double} 计算表达式的求值器。
+ *
+ * @author 王帅
+ * @since 1.0
+ * @see NodeCompiler#compileDouble(Node)
+ */
+@FunctionalInterface
+public interface DoubleEvaluator {
+
+    /**
+     * 对表达式求值。
+     *
+     * @param values 变量的取值，按变量的下标排列
+     * @return 计算结果
+     */
+    double eval(double[] values);
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * 取负节点，只有左操作数。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public class NegNode extends Node {
+
+    public NegNode(Node prev) {
+        super(prev, null);
+    }
+
+    @Override
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+        return prev.eval(values, mc).negate(mc);
+    }
+
+    @Override
+    public double eval(double[] values) {
+        return -prev.eval(values);
+    }
+
+    @Override
+    public String toString() {
+        return "(-" + prev + ")";
+    }
+
+}
@@ -17,16 +17,28 @@
 package com.github.math.node;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 
 /**
  * <p>
- * 介绍信息
+ * 表达式语法树的节点，{@code prev} 与 {@code next} 分别为左、右操作数。
+ *
+ * <p>
+ * 节点是不可变的，同一棵语法树可以被多个线程同时求值。变量通过下标从参数数组中取值，
+ * 因此求值时不需要再按名称查找。需要反复求值时，可以使用 {@link NodeCompiler}
+ * 将语法树编译为字节码，避免逐个节点的虚方法调用。
  *
  * @author 王帅
  * @since 1.0
+ * @see CompiledExpression
  */
 public abstract class Node {
 
+    /**
+     * 不含任何变量的取值数组。
+     */
+    static final BigDecimal[] NO_VALUES = {};
+
     protected final Node prev;
     protected final Node next;
 
@@ -35,6 +47,30 @@ public abstract class Node {
         this.next = next;
     }
 
-    public abstract BigDecimal eval();
+    /**
+     * 使用 {@link MathContext#DECIMAL128} 对不含变量的语法树求值。
+     *
+     * @return 计算结果
+     */
+    public BigDecimal eval() {
+        return eval(NO_VALUES, MathContext.DECIMAL128);
+    }
+
+    /**
+     * 对语法树求值。
+     *
+     * @param values 变量的取值，按变量的下标排列
+     * @param mc     运算使用的精度与舍入模式
+     * @return 计算结果
+     */
+    public abstract BigDecimal eval(BigDecimal[] values, MathContext mc);
+
+    /**
+     * 使用 {@code double} 对语法树求值，结果可能含有舍入误差。
+     *
+     * @param values 变量的取值，按变量的下标排列
+     * @return 计算结果
+     */
+    public abstract double eval(double[] values);
 
 }
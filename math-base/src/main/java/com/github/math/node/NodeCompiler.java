@@ -0,0 +1,582 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * 将表达式语法树编译为字节码的编译器。
+ *
+ * <p>
+ * 解释执行时，每个节点都需要一次虚方法调用，而且调用点通常是多态的，节点较多时开销很大。
+ * 此类为每棵语法树生成一个类，整棵树被展开为一个方法中的直线代码，
+ * 求值时除了接口调用本身之外没有任何逐节点的分派。
+ *
+ * <p>
+ * 在 Java 15 及以上的版本中，生成的类以隐藏类（hidden class）的形式定义，
+ * 不再使用时可以被卸载；在更早的版本中使用 {@link Lookup#defineClass(byte[])}。
+ * 如果运行环境不允许定义类，或者语法树中含有无法编译的节点，则退回到解释执行，
+ * 返回的求值器与直接调用 {@link Node#eval(double[])} 或
+ * {@link Node#eval(BigDecimal[], java.math.MathContext)} 的结果完全相同。
+ *
+ * <p>
+ * 将系统属性 {@value #ENABLED_PROPERTY} 设置为 {@code false} 可以禁用字节码生成。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public final class NodeCompiler {
+
+    /**
+     * 控制是否生成字节码的系统属性。
+     */
+    public static final String ENABLED_PROPERTY = "com.github.math.node.compile";
+
+    private static final String PACKAGE = "com/github/math/node/";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String BIG_DECIMAL = "java/math/BigDecimal";
+    private static final String CONSTANTS = "[Ljava/math/BigDecimal;";
+    private static final String DECIMAL_EVAL = "([Ljava/math/BigDecimal;Ljava/math/MathContext;)Ljava/math/BigDecimal;";
+    private static final String DECIMAL_BINARY = "(Ljava/math/BigDecimal;Ljava/math/MathContext;)Ljava/math/BigDecimal;";
+    private static final String DECIMAL_STATIC = "(Ljava/math/BigDecimal;Ljava/math/BigDecimal;Ljava/math/MathContext;)Ljava/math/BigDecimal;";
+
+    private static final int MAX_CODE_LENGTH = 65535;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final Method DEFINE_HIDDEN;
+    private static final Object HIDDEN_OPTIONS;
+
+    static {
+        Method method;
+        Object options;
+        try {
+            final Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            options = Array.newInstance(option, 0);
+            method = Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, options.getClass());
+        } catch (ReflectiveOperationException e) {
+            // Java 15 之前的版本没有隐藏类
+            method = null;
+            options = null;
+        }
+        DEFINE_HIDDEN = method;
+        HIDDEN_OPTIONS = options;
+    }
+
+    /**
+     * 是否可以生成字节码，定义类失败一次之后不再尝试。
+     */
+    private static volatile boolean available =
+            !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+
+    private NodeCompiler() {}
+
+    /**
+     * 当前环境是否可以生成字节码。
+     *
+     * @return 如果返回 {@code false}，所有的求值器都以解释的方式执行
+     */
+    public static boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 将语法树编译为以 {@code double} 计算的求值器。
+     *
+     * <p>
+     * 生成的代码不检查取值数组的长度，传入的数组长度不足时抛出
+     * {@link ArrayIndexOutOfBoundsException}。
+     *
+     * @param node 语法树
+     * @return 求值器
+     */
+    public static DoubleEvaluator compileDouble(Node node) {
+        final Object evaluator = compile(node, false);
+        return evaluator != null ? (DoubleEvaluator) evaluator : node::eval;
+    }
+
+    /**
+     * 将语法树编译为以 {@link BigDecimal} 计算的求值器。
+     *
+     * <p>
+     * 生成的代码不检查取值数组的长度，传入的数组长度不足时抛出
+     * {@link ArrayIndexOutOfBoundsException}。
+     *
+     * @param node 语法树
+     * @return 求值器
+     */
+    public static DecimalEvaluator compileDecimal(Node node) {
+        final Object evaluator = compile(node, true);
+        return evaluator != null ? (DecimalEvaluator) evaluator : node::eval;
+    }
+
+    /**
+     * @return 生成的求值器，无法生成时返回 {@code null}
+     */
+    private static Object compile(Node node, boolean decimal) {
+        if (!available)
+            return null;
+        final Generator generator = new Generator(decimal);
+        final byte[] bytes = generator.generate(node);
+        if (bytes == null)
+            return null;
+        try {
+            return define(bytes).getDeclaredConstructor(BigDecimal[].class)
+                    .newInstance((Object) generator.constants());
+        } catch (ReflectiveOperationException | LinkageError | SecurityException | UnsupportedOperationException e) {
+            available = false;
+            return null;
+        }
+    }
+
+    private static Class<?> define(byte[] bytes) throws ReflectiveOperationException {
+        final Lookup lookup = MethodHandles.lookup();
+        if (DEFINE_HIDDEN != null)
+            return ((Lookup) DEFINE_HIDDEN.invoke(lookup, bytes, true, HIDDEN_OPTIONS)).lookupClass();
+        return lookup.defineClass(bytes);
+    }
+
+    /**
+     * 生成一个实现 {@link DoubleEvaluator} 或 {@link DecimalEvaluator} 的类。
+     *
+     * <p>
+     * 生成的代码中没有跳转指令，因此不需要 {@code StackMapTable}。
+     * {@link BigDecimal} 常量通过构造方法传入并保存在字段 {@code constants} 中，
+     * {@code double} 常量直接保存在常量池中。
+     *
+     * <p>
+     * HotSpot 不会编译超过 8000 字节的方法（{@code -XX:HugeMethodLimit}），
+     * 因此节点数超过 {@link #SPLIT} 的子树会被生成为单独的私有方法。
+     */
+    private static final class Generator {
+
+        /**
+         * 子树的节点数超过此值时生成单独的方法。
+         */
+        private static final int SPLIT = 256;
+
+        private final boolean decimal;
+        private final String descriptor;
+        private final ConstantPool pool = new ConstantPool();
+        private final List<BigDecimal> constants = new ArrayList<>();
+        private final List<MethodCode> helpers = new ArrayList<>();
+        private final Map<Node, Integer> sizes = new IdentityHashMap<>();
+        private String name;
+        private int field;
+        private MethodCode current = new MethodCode();
+
+        Generator(boolean decimal) {
+            this.decimal = decimal;
+            this.descriptor = decimal ? DECIMAL_EVAL : "([D)D";
+        }
+
+        BigDecimal[] constants() {
+            return constants.toArray(new BigDecimal[0]);
+        }
+
+        /**
+         * @return 类文件，如果语法树无法编译则返回 {@code null}
+         */
+        byte[] generate(Node root) {
+            name = PACKAGE + "GeneratedEvaluator" + COUNTER.incrementAndGet();
+            final int thisClass = pool.classRef(name);
+            final int superClass = pool.classRef(OBJECT);
+            final int evaluator = pool.classRef(PACKAGE + (decimal ? "DecimalEvaluator" : "DoubleEvaluator"));
+            field = pool.fieldRef(name, "constants", CONSTANTS);
+
+            // 构造方法
+            final int init = pool.methodRef(OBJECT, "<init>", "()V");
+            final ByteVector ctor = new ByteVector();
+            ctor.putByte(0x2a).putByte(0xb7).putShort(init)
+                    .putByte(0x2a).putByte(0x2b).putByte(0xb5).putShort(field)
+                    .putByte(0xb1);
+
+            // 求值方法
+            final MethodCode eval = current;
+            if (!emitMethod(root))
+                return null;
+
+            // 常量池必须在写出之前完整
+            final int codeName = pool.utf8("Code");
+            final int fieldName = pool.utf8("constants");
+            final int fieldDesc = pool.utf8(CONSTANTS);
+            final int initName = pool.utf8("<init>");
+            final int initDesc = pool.utf8("(" + CONSTANTS + ")V");
+            final int evalName = pool.utf8("eval");
+            final int evalDesc = pool.utf8(descriptor);
+            final int[] helperNames = new int[helpers.size()];
+            for (int i = 0; i < helperNames.length; i++) {
+                helperNames[i] = pool.utf8("m" + i);
+            }
+            if (pool.size() > 0xffff)
+                return null;
+
+            final ByteVector out = new ByteVector();
+            out.putInt(0xcafebabe).putShort(0).putShort(55);
+            out.putShort(pool.size()).putBytes(pool.bytes());
+            out.putShort(0x0030).putShort(thisClass).putShort(superClass);
+            out.putShort(1).putShort(evaluator);
+            // private final BigDecimal[] constants;
+            out.putShort(1).putShort(0x0012).putShort(fieldName).putShort(fieldDesc).putShort(0);
+            out.putShort(2 + helpers.size());
+            method(out, 0x0001, initName, initDesc, codeName, 2, 2, ctor);
+            method(out, 0x0001, evalName, evalDesc, codeName, eval.maxStack, locals(), eval.code);
+            for (int i = 0; i < helperNames.length; i++) {
+                final MethodCode helper = helpers.get(i);
+                method(out, 0x0002, helperNames[i], evalDesc, codeName, helper.maxStack, locals(), helper.code);
+            }
+            out.putShort(0);
+            return out.toByteArray();
+        }
+
+        private int locals() {
+            return decimal ? 3 : 2;
+        }
+
+        private static void method(ByteVector out, int access, int name, int desc, int codeName,
+                                   int stack, int locals, ByteVector body) {
+            out.putShort(access).putShort(name).putShort(desc).putShort(1);
+            out.putShort(codeName).putInt(12 + body.length());
+            out.putShort(stack).putShort(locals).putInt(body.length()).putBytes(body.toByteArray());
+            out.putShort(0).putShort(0);
+        }
+
+        /**
+         * 在当前方法中生成计算节点并返回结果的指令。
+         */
+        private boolean emitMethod(Node node) {
+            if (!emit(node))
+                return false;
+            current.code.putByte(decimal ? 0xb0 : 0xaf);
+            return current.code.length() <= MAX_CODE_LENGTH;
+        }
+
+        /**
+         * 生成计算子节点的指令，节点数较多的子树生成为单独的方法并在此处调用。
+         */
+        private boolean emitChild(Node node) {
+            if (size(node) <= SPLIT)
+                return emit(node);
+            final MethodCode caller = current;
+            final int index = helpers.size();
+            current = new MethodCode();
+            helpers.add(current);
+            final boolean emitted = emitMethod(node);
+            current = caller;
+            if (!emitted)
+                return false;
+            op(0x2a, 1);
+            op(0x2b, 1);
+            if (decimal)
+                op(0x2c, 1);
+            invoke(0xb7, name, "m" + index, descriptor, decimal ? -2 : 0);
+            return true;
+        }
+
+        /**
+         * 子树在当前方法中占用的节点数，已经生成为单独方法的子树只算作一个节点。
+         */
+        private int size(Node node) {
+            Integer size = sizes.get(node);
+            if (size == null) {
+                size = 1 + weight(node.prev) + weight(node.next);
+                sizes.put(node, size);
+            }
+            return size;
+        }
+
+        private int weight(Node child) {
+            if (child == null)
+                return 0;
+            final int size = size(child);
+            return size > SPLIT ? 1 : size;
+        }
+
+        /**
+         * 生成计算节点的指令，计算结果留在操作数栈顶。
+         *
+         * @return 如果节点无法编译则返回 {@code false}
+         */
+        private boolean emit(Node node) {
+            if (node instanceof ValNode) {
+                final BigDecimal value = ((ValNode) node).getValue();
+                if (decimal) {
+                    op(0x2a, 1);
+                    current.code.putByte(0xb4).putShort(field);
+                    pushInt(constants.size());
+                    constants.add(value);
+                    op(0x32, -1);
+                } else {
+                    current.code.putByte(0x14).putShort(pool.doubleConst(value.doubleValue()));
+                    stack(2);
+                }
+                return true;
+            }
+            if (node instanceof VarNode) {
+                op(0x2b, 1);
+                pushInt(((VarNode) node).getIndex());
+                if (decimal)
+                    op(0x32, -1);
+                else
+                    op(0x31, 0);
+                return true;
+            }
+            if (node instanceof NegNode) {
+                if (!emitChild(node.prev))
+                    return false;
+                if (decimal) {
+                    op(0x2c, 1);
+                    invoke(0xb6, BIG_DECIMAL, "negate", "(Ljava/math/MathContext;)Ljava/math/BigDecimal;", -1);
+                } else {
+                    op(0x77, 0);
+                }
+                return true;
+            }
+            if (node instanceof PowNode && decimal && ((PowNode) node).isConstant()) {
+                if (!emitChild(node.prev))
+                    return false;
+                pushInt(((PowNode) node).getExponent());
+                op(0x2c, 1);
+                invoke(0xb6, BIG_DECIMAL, "pow", "(ILjava/math/MathContext;)Ljava/math/BigDecimal;", -2);
+                return true;
+            }
+            if (!(node instanceof AddNode || node instanceof SubNode || node instanceof MulNode
+                    || node instanceof DivNode || node instanceof PowNode))
+                return false;
+            if (!emitChild(node.prev) || !emitChild(node.next))
+                return false;
+            if (decimal) {
+                op(0x2c, 1);
+                if (node instanceof AddNode)
+                    invoke(0xb6, BIG_DECIMAL, "add", DECIMAL_BINARY, -2);
+                else if (node instanceof SubNode)
+                    invoke(0xb6, BIG_DECIMAL, "subtract", DECIMAL_BINARY, -2);
+                else if (node instanceof MulNode)
+                    invoke(0xb6, BIG_DECIMAL, "multiply", DECIMAL_BINARY, -2);
+                else if (node instanceof DivNode)
+                    invoke(0xb8, PACKAGE + "DivNode", "divide", DECIMAL_STATIC, -2);
+                else
+                    invoke(0xb8, PACKAGE + "PowNode", "pow", DECIMAL_STATIC, -2);
+            } else {
+                if (node instanceof AddNode)
+                    op(0x63, -2);
+                else if (node instanceof SubNode)
+                    op(0x67, -2);
+                else if (node instanceof MulNode)
+                    op(0x6b, -2);
+                else if (node instanceof DivNode)
+                    op(0x6f, -2);
+                else
+                    invoke(0xb8, "java/lang/Math", "pow", "(DD)D", -2);
+            }
+            return true;
+        }
+
+        private void pushInt(int value) {
+            final ByteVector code = current.code;
+            if (value >= -1 && value <= 5)
+                code.putByte(0x03 + value);
+            else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+                code.putByte(0x10).putByte(value);
+            else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+                code.putByte(0x11).putShort(value);
+            else
+                code.putByte(0x13).putShort(pool.intConst(value));
+            stack(1);
+        }
+
+        private void invoke(int opcode, String owner, String name, String desc, int delta) {
+            current.code.putByte(opcode).putShort(pool.methodRef(owner, name, desc));
+            stack(delta);
+        }
+
+        private void op(int opcode, int delta) {
+            current.code.putByte(opcode);
+            stack(delta);
+        }
+
+        private void stack(int delta) {
+            current.depth += delta;
+            current.maxStack = Math.max(current.maxStack, current.depth);
+        }
+
+    }
+
+    /**
+     * 一个方法的字节码及其操作数栈的深度。
+     */
+    private static final class MethodCode {
+
+        final ByteVector code = new ByteVector();
+        int depth;
+        int maxStack;
+
+    }
+
+    /**
+     * 类文件的常量池，相同的常量只会添加一次。
+     */
+    private static final class ConstantPool {
+
+        private final ByteVector bytes = new ByteVector();
+        private final Map<String, Integer> index = new HashMap<>();
+        private int size = 1;
+
+        int size() {
+            return size;
+        }
+
+        byte[] bytes() {
+            return bytes.toByteArray();
+        }
+
+        int utf8(String value) {
+            final Integer i = index.get("U" + value);
+            if (i != null)
+                return i;
+            final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+            bytes.putByte(1).putShort(data.length).putBytes(data);
+            return add("U" + value, 1);
+        }
+
+        int classRef(String name) {
+            final Integer i = index.get("C" + name);
+            if (i != null)
+                return i;
+            final int utf8 = utf8(name);
+            bytes.putByte(7).putShort(utf8);
+            return add("C" + name, 1);
+        }
+
+        int fieldRef(String owner, String name, String desc) {
+            return memberRef(9, owner, name, desc);
+        }
+
+        int methodRef(String owner, String name, String desc) {
+            return memberRef(10, owner, name, desc);
+        }
+
+        int intConst(int value) {
+            final Integer i = index.get("I" + value);
+            if (i != null)
+                return i;
+            bytes.putByte(3).putInt(value);
+            return add("I" + value, 1);
+        }
+
+        int doubleConst(double value) {
+            final long bits = Double.doubleToRawLongBits(value);
+            final Integer i = index.get("D" + bits);
+            if (i != null)
+                return i;
+            bytes.putByte(6).putInt((int) (bits >>> 32)).putInt((int) bits);
+            // double 常量占用两个位置
+            return add("D" + bits, 2);
+        }
+
+        private int memberRef(int tag, String owner, String name, String desc) {
+            final String key = tag + owner + "." + name + desc;
+            final Integer i = index.get(key);
+            if (i != null)
+                return i;
+            final int clazz = classRef(owner);
+            final int nameAndType = nameAndType(name, desc);
+            bytes.putByte(tag).putShort(clazz).putShort(nameAndType);
+            return add(key, 1);
+        }
+
+        private int nameAndType(String name, String desc) {
+            final String key = "N" + name + desc;
+            final Integer i = index.get(key);
+            if (i != null)
+                return i;
+            final int n = utf8(name);
+            final int d = utf8(desc);
+            bytes.putByte(12).putShort(n).putShort(d);
+            return add(key, 1);
+        }
+
+        private int add(String key, int slots) {
+            final int i = size;
+            index.put(key, i);
+            size += slots;
+            return i;
+        }
+
+    }
+
+    /**
+     * 可自动扩容的字节数组，以大端序写入。
+     */
+    private static final class ByteVector {
+
+        private byte[] data = new byte[256];
+        private int length;
+
+        int length() {
+            return length;
+        }
+
+        ByteVector putByte(int b) {
+            ensure(1);
+            data[length++] = (byte) b;
+            return this;
+        }
+
+        ByteVector putShort(int s) {
+            ensure(2);
+            data[length++] = (byte) (s >>> 8);
+            data[length++] = (byte) s;
+            return this;
+        }
+
+        ByteVector putInt(int i) {
+            return putShort(i >>> 16).putShort(i);
+        }
+
+        ByteVector putBytes(byte[] b) {
+            ensure(b.length);
+            System.arraycopy(b, 0, data, length, b.length);
+            length += b.length;
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+
+        private void ensure(int n) {
+            if (length + n > data.length)
+                data = Arrays.copyOf(data, Math.max(data.length << 1, length + n));
+        }
+
+    }
+
+}
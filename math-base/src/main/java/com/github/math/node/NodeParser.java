@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import com.github.math.exception.MathParseException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * <p>
+ * 使用优先级爬升法（precedence climbing）将表达式解析为语法树。
+ *
+ * <p>
+ * 支持 {@code + - * / ^}、括号、一元负号与变量。{@code ^} 的优先级最高且为右结合，
+ * 一元负号的优先级介于乘除与乘方之间，因此 {@code -2^2} 的值为 {@code -4}。
+ * 变量名由字母、数字与下划线组成，且不能以数字开头。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+final class NodeParser {
+
+    private static final int ADDITIVE = 1;
+    private static final int MULTIPLICATIVE = 2;
+    private static final int UNARY = 3;
+    private static final int POWER = 4;
+
+    private final String source;
+    private final List<String> variables;
+    private int pos;
+
+    /**
+     * @param source    表达式
+     * @param variables 用于收集变量名的列表，变量的下标即其在列表中的位置
+     */
+    NodeParser(String source, List<String> variables) {
+        this.source = source;
+        this.variables = variables;
+    }
+
+    Node parse() {
+        final Node node = parseExpression(ADDITIVE);
+        skipWhitespace();
+        if (pos < source.length())
+            throw error();
+        return node;
+    }
+
+    private Node parseExpression(int min) {
+        Node lhs = parseUnary();
+        for (;;) {
+            skipWhitespace();
+            if (pos >= source.length())
+                return lhs;
+            final char op = source.charAt(pos);
+            final int prec = precedence(op);
+            if (prec < min)
+                return lhs;
+            pos++;
+            // 乘方为右结合，其余运算为左结合
+            final Node rhs = parseExpression(op == '^' ? prec : prec + 1);
+            lhs = create(op, lhs, rhs);
+        }
+    }
+
+    private Node parseUnary() {
+        skipWhitespace();
+        if (pos < source.length()) {
+            final char c = source.charAt(pos);
+            if (c == '-') {
+                pos++;
+                return new NegNode(parseExpression(UNARY));
+            }
+            if (c == '+') {
+                pos++;
+                return parseExpression(UNARY);
+            }
+        }
+        return parsePrimary();
+    }
+
+    private Node parsePrimary() {
+        if (pos >= source.length())
+            throw error();
+        final char c = source.charAt(pos);
+        if (c == '(') {
+            pos++;
+            final Node node = parseExpression(ADDITIVE);
+            skipWhitespace();
+            if (pos >= source.length() || source.charAt(pos) != ')')
+                throw error();
+            pos++;
+            return node;
+        }
+        if (isDigit(c) || c == '.')
+            return parseNumber();
+        if (Character.isLetter(c) || c == '_')
+            return parseVariable();
+        throw error();
+    }
+
+    private Node parseNumber() {
+        final int start = pos;
+        while (pos < source.length() && isDigit(source.charAt(pos)))
+            pos++;
+        if (pos < source.length() && source.charAt(pos) == '.') {
+            pos++;
+            while (pos < source.length() && isDigit(source.charAt(pos)))
+                pos++;
+        }
+        // 只有一个小数点
+        if (pos - start == 1 && source.charAt(start) == '.') {
+            pos = start;
+            throw error();
+        }
+        return new ValNode(new BigDecimal(source.substring(start, pos)));
+    }
+
+    private Node parseVariable() {
+        final int start = pos;
+        while (pos < source.length()) {
+            final char c = source.charAt(pos);
+            if (!Character.isLetterOrDigit(c) && c != '_')
+                break;
+            pos++;
+        }
+        final String name = source.substring(start, pos);
+        int index = variables.indexOf(name);
+        if (index < 0) {
+            index = variables.size();
+            variables.add(name);
+        }
+        return new VarNode(name, index);
+    }
+
+    private static Node create(char op, Node lhs, Node rhs) {
+        switch (op) {
+            case '+':
+                return new AddNode(lhs, rhs);
+            case '-':
+                return new SubNode(lhs, rhs);
+            case '*':
+                return new MulNode(lhs, rhs);
+            case '/':
+                return new DivNode(lhs, rhs);
+            default:
+                return new PowNode(lhs, rhs);
+        }
+    }
+
+    private static int precedence(char op) {
+        switch (op) {
+            case '+':
+            case '-':
+                return ADDITIVE;
+            case '*':
+            case '/':
+                return MULTIPLICATIVE;
+            case '^':
+                return POWER;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void skipWhitespace() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos)))
+            pos++;
+    }
+
+    private MathParseException error() {
+        return new MathParseException(source, pos);
+    }
+
+}
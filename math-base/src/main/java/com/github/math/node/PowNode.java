@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import com.github.math.exception.MathArithmeticException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * 乘方节点。以 {@link BigDecimal} 求值时指数必须是 {@code int} 范围内的整数，
+ * 以 {@code double} 求值时指数可以是任意的数。
+ *
+ * <p>
+ * 指数为 {@code int} 范围内的整数常数时，在构造节点时就将其转换为 {@code int}，求值时不再计算指数；
+ * 其它的常数指数（例如 {@code x^0.5}）在以 {@link BigDecimal} 求值时才检查。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public class PowNode extends Node {
+
+    private final boolean constant;
+    private final int exponent;
+
+    public PowNode(Node prev, Node next) {
+        super(prev, next);
+        final Integer e = next instanceof ValNode ? intValue(((ValNode) next).getValue()) : null;
+        this.constant = e != null;
+        this.exponent = constant ? e : 0;
+    }
+
+    @Override
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+        if (constant)
+            return prev.eval(values, mc).pow(exponent, mc);
+        return pow(prev.eval(values, mc), next.eval(values, mc), mc);
+    }
+
+    /**
+     * 使用 {@link Math#pow(double, double)} 计算，指数可以不是整数。
+     */
+    @Override
+    public double eval(double[] values) {
+        return Math.pow(prev.eval(values), next.eval(values));
+    }
+
+    boolean isConstant() {
+        return constant;
+    }
+
+    int getExponent() {
+        return exponent;
+    }
+
+    static BigDecimal pow(BigDecimal base, BigDecimal e, MathContext mc) {
+        return base.pow(toInt(e), mc);
+    }
+
+    /**
+     * @return {@code e} 的 {@code int} 值，不是 {@code int} 范围内的整数时返回 {@code null}
+     */
+    private static Integer intValue(BigDecimal e) {
+        try {
+            return e.intValueExact();
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    private static int toInt(BigDecimal e) {
+        try {
+            return e.intValueExact();
+        } catch (ArithmeticException ex) {
+            throw new MathArithmeticException("指数必须是 int 范围内的整数：" + e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "(" + prev + " ^ " + next + ")";
+    }
+
+}
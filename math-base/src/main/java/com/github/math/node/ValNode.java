@@ -17,10 +17,11 @@
 package com.github.math.node;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 
 /**
  * <p>
- * 介绍信息
+ * 常数节点。
  *
  * @author 王帅
  * @since 1.0
@@ -28,15 +29,35 @@ import java.math.BigDecimal;
 public class ValNode extends Node {
 
     private final BigDecimal value;
+    private final double doubleValue;
 
     public ValNode(String value) {
+        this(new BigDecimal(value));
+    }
+
+    public ValNode(BigDecimal value) {
         super(null, null);
-        this.value = new BigDecimal(value);
+        this.value = value;
+        this.doubleValue = value.doubleValue();
     }
 
     @Override
-    public BigDecimal eval() {
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
         return value;
     }
 
+    @Override
+    public double eval(double[] values) {
+        return doubleValue;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
 }
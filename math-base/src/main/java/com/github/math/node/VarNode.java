@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.node;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * 变量节点，求值时按下标从取值数组中读取变量的值。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public class VarNode extends Node {
+
+    private final String name;
+    private final int index;
+
+    public VarNode(String name, int index) {
+        super(null, null);
+        this.name = name;
+        this.index = index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+        return values[index];
+    }
+
+    @Override
+    public double eval(double[] values) {
+        return values[index];
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
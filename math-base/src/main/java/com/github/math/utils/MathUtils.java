@@ -38,6 +38,116 @@ public final class MathUtils {
         return (int) m;
 	}
 	
+	public static long addAndCheck(long x, long y) {
+		final long s = x + y;
+		// 两个加数的符号相同而和的符号不同时溢出
+		if (((x ^ s) & (y ^ s)) < 0L) {
+			throw new MathArithmeticException();
+		}
+		return s;
+	}
+	
+	public static long mulAndCheck(long x, long y) {
+		final long hi = Math.multiplyHigh(x, y);
+		final long lo = x * y;
+		// 128 位乘积的高 64 位必须是低 64 位的符号扩展
+		if (hi != (lo >> 63)) {
+			throw new MathArithmeticException();
+		}
+		return lo;
+	}
+	
+	/**
+	 * 使用平方求幂计算 {@code x} 的 {@code e} 次方，结果超出 {@code long} 的范围时抛出异常。
+	 * 
+	 * @param x 底数
+	 * @param e 指数，不能为负数
+	 * @return  计算结果
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 * @exception MathIllegalArgumentException 如果指数为负数
+	 */
+	public static long powAndCheck(long x, int e) {
+		if (e < 0) {
+			throw new MathIllegalArgumentException("指数不能为负数");
+		}
+		long r = 1L;
+		for (;;) {
+			if ((e & 1) != 0) {
+				r = mulAndCheck(r, x);
+			}
+			e >>>= 1;
+			if (e == 0) {
+				return r;
+			}
+			// 最后一次平方的结果不会被使用，因此只在还有剩余的位时平方
+			x = mulAndCheck(x, x);
+		}
+	}
+	
+	/**
+	 * 使用平方求幂计算 {@code x} 的 {@code e} 次方，结果超出 {@code int} 的范围时抛出异常。
+	 * 
+	 * @param x 底数
+	 * @param e 指数，不能为负数
+	 * @return  计算结果
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围
+	 * @exception MathIllegalArgumentException 如果指数为负数
+	 */
+	public static int powAndCheck(int x, int e) {
+		final long r = powAndCheck((long) x, e);
+		if ((int) r != r) {
+			throw new MathArithmeticException();
+		}
+		return (int) r;
+	}
+	
+	/**
+	 * 计算 {@code a * b mod m}，乘积以 128 位整数表示，不会溢出。
+	 * 
+	 * @param a 第一个因数，满足 {@code 0 <= a < m}
+	 * @param b 第二个因数，满足 {@code 0 <= b < m}
+	 * @param m 模，必须为正数
+	 * @return  {@code a * b mod m}
+	 */
+	public static long mulMod(long a, long b, long m) {
+		if (((a | b) >>> 31) == 0L) {
+			return a * b % m;
+		}
+		// a * b < m^2，因此高 64 位小于 m，可以作为第一个余数
+		long r = Math.multiplyHigh(a, b);
+		final long lo = a * b;
+		// r < m，每次移入 m 的前导零个数那么多位都不会超出无符号 64 位的范围
+		final int k = Long.numberOfLeadingZeros(m);
+		for (int shift = Long.SIZE; shift > 0;) {
+			final int n = Math.min(k, shift);
+			shift -= n;
+			r = Long.remainderUnsigned((r << n) | ((lo >>> shift) & ((1L << n) - 1L)), m);
+		}
+		return r;
+	}
+	
+	/**
+	 * 使用平方求幂计算 {@code x^e mod m}。
+	 * 
+	 * @param x 底数，满足 {@code 0 <= x < m}
+	 * @param e 指数，不能为负数
+	 * @param m 模，必须为正数
+	 * @return  {@code x^e mod m}
+	 */
+	public static long powMod(long x, long e, long m) {
+		long r = 1L % m;
+		while (e != 0L) {
+			if ((e & 1L) != 0L) {
+				r = mulMod(r, x, m);
+			}
+			e >>>= 1;
+			if (e != 0L) {
+				x = mulMod(x, x, m);
+			}
+		}
+		return r;
+	}
+	
 	
 	public static void notNaN(float x) {
 		if (Float.isNaN(x)) {
@@ -64,6 +174,12 @@ public final class MathUtils {
 		}
 	}
 	
+	public static void notZero(long x, String message) {
+		if (x == 0L) {
+			throw new MathZeroException(message);
+		}
+	}
+	
 	public static void notZero(double num, String message) {
 		if (SuperMath.signum(num) == 0) {
 			throw new MathZeroException(message);
@@ -10,5 +10,6 @@ module math.base {
 	exports com.github.math.utils;
     exports com.github.math.format;
 	exports com.github.math.exception;
+	exports com.github.math.node;
 
 }
\ No newline at end of file
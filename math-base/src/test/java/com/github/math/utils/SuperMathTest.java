@@ -16,9 +16,31 @@
 
 package com.github.math.utils;
 
+import com.github.math.Determinant;
 import com.github.math.SuperMath;
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathParseException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.node.CompiledExpression;
+import com.github.math.node.DecimalEvaluator;
+import com.github.math.node.DoubleEvaluator;
+import com.github.math.node.Node;
+import com.github.math.node.NodeCompiler;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 /**
  * <p>
  * 介绍信息
@@ -43,21 +65,208 @@ class SuperMathTest {
                 {1, 0, 5, 2}
         };
         System.out.println(SuperMath.determinant(x));
+        assertEquals(-3130, SuperMath.determinant(x));
+        assertEquals(-3130.0, SuperMath.determinant(new double[][] {
+                {12, 2, 4, 8},
+                {3, 25, 8, 3},
+                {2, 3, 6, 5},
+                {1, 0, 5, 2}
+        }), 1e-9);
+        assertEquals(-1, SuperMath.determinant(new int[][] {{0, 1}, {1, 0}}));
+        assertEquals(0, SuperMath.determinant(new int[][] {{1, 2}, {2, 4}}));
+        assertEquals(7, SuperMath.determinant(new int[][] {{7}}));
+    }
+
+    @Test
+    void determinantLarge() {
+        final int[][] x = {
+                {1, -5, 3, -8, -7, 8, -6, 2, 9, -8, 7, -3},
+                {-8, -7, 4, 4, -7, -2, -7, 8, 4, -8, 9, -6},
+                {-2, 9, -8, 9, 9, 3, -8, -2, -8, 8, -5, 0},
+                {4, -5, 8, -6, 9, 0, 8, -4, -6, 9, 9, -3},
+                {2, -6, 8, -7, 9, -8, -3, 6, 8, 4, 1, 5},
+                {9, 5, 2, 0, -2, -4, -2, -7, 9, 0, 7, 6},
+                {1, 5, 0, -7, -6, 7, 4, -4, 1, -5, 6, 4},
+                {-8, -7, 8, 9, 1, 1, 2, 6, 9, 5, -7, -7},
+                {-1, 6, -7, -8, 0, 9, 5, 0, 3, 2, -9, 5},
+                {2, -4, -6, 6, -8, -3, 0, -5, -2, 3, 3, 6},
+                {-7, -4, 5, 3, 8, -1, -5, 4, 8, -1, 4, 2},
+                {3, -2, -5, -7, -4, -5, -2, -2, -9, 6, 9, -4}
+        };
+        assertEquals(9264681292989L, Determinant.exact(x));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.determinant(x));
+
+        // 工作数组可以重复使用，且不会修改原行列式
+        final long[][] work = new long[12][12];
+        final int[] first = x[0].clone();
+        assertEquals(9264681292989L, Determinant.exact(x, work));
+        assertEquals(9264681292989L, Determinant.exact(x, work));
+        assertArrayEquals(first, x[0]);
+    }
+
+    @Test
+    void determinantOverflow() {
+        // 中间结果溢出，但结果在 long 的范围之内
+        final long t = 1_000_000_000_000L;
+        assertEquals(1L, SuperMath.determinant(new long[][] {{t, t - 1}, {t + 1, t}}));
+
+        final long[][] x = {
+                {3037000499L, 1, 2},
+                {5, 3037000499L, 7},
+                {11, 13, 3037000499L}
+        };
+        assertEquals(new BigInteger("28011385460385661289869192824"), Determinant.big(x));
+        assertThrows(MathArithmeticException.class, () -> Determinant.exact(x));
     }
 
     @Test
     void gcd() {
         System.out.println(SuperMath.gcd(2, 6));
+        assertEquals(2, SuperMath.gcd(2, 6));
+        assertEquals(6, SuperMath.gcd(-12, 18));
+        assertEquals(7, SuperMath.gcd(0, -7));
+        assertEquals(1, SuperMath.gcd(1, Integer.MAX_VALUE));
+        assertEquals(1 << 30, SuperMath.gcd(Integer.MIN_VALUE, 1 << 30));
+        assertEquals(2, SuperMath.gcd(Integer.MIN_VALUE, 6));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.gcd(Integer.MIN_VALUE, 0));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.gcd(Integer.MIN_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void gcdLong() {
+        assertEquals(1L, SuperMath.gcd(1L, Long.MAX_VALUE));
+        assertEquals(1L << 40, SuperMath.gcd(3L << 40, -(5L << 41)));
+        assertEquals(BigInteger.valueOf(1L << 62), SuperMath.gcd(BigInteger.ZERO, BigInteger.valueOf(1L << 62)));
+        BigInteger big = BigInteger.TEN.pow(30);
+        assertEquals(big, SuperMath.gcd(big.multiply(BigInteger.valueOf(3)), big.shiftLeft(1)));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.gcd(Long.MIN_VALUE, 0L));
     }
 
     @Test
     void lcm() {
         System.out.println(SuperMath.lcm(3, 1));
+        assertEquals(3, SuperMath.lcm(3, 1));
+        assertEquals(12, SuperMath.lcm(-4, 6));
+        assertEquals(0, SuperMath.lcm(0, 6));
+    }
+
+    @Test
+    void lcmExact() {
+        assertEquals(1 << 30, SuperMath.lcmExact(1 << 30, 1 << 29));
+        assertEquals(Integer.MAX_VALUE, SuperMath.lcmExact(Integer.MAX_VALUE, -1));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.lcmExact(65537, 65539));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.lcmExact(Integer.MIN_VALUE, -1));
+        assertEquals(Long.MAX_VALUE, SuperMath.lcmExact(Long.MAX_VALUE, 7L));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.lcmExact(Long.MAX_VALUE, 2L));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.lcmExact(Long.MIN_VALUE, 1L));
     }
 
     @Test
     void eval() {
         System.out.println(SuperMath.eval("21+12"));
+        assertEquals(new BigDecimal("33"), SuperMath.eval("21+12"));
+        assertEquals(new BigDecimal("14"), SuperMath.eval("2 + 3 * 4"));
+        assertEquals(new BigDecimal("20"), SuperMath.eval("(2 + 3) * 4"));
+        assertEquals(new BigDecimal("-4"), SuperMath.eval("-2^2"));
+        assertEquals(new BigDecimal("512"), SuperMath.eval("2^3^2"));
+        assertEquals(new BigDecimal("0.125"), SuperMath.eval("2^-3"));
+        assertEquals(new BigDecimal("3"), SuperMath.eval("10 - 4 - 3"));
+        assertEquals(new BigDecimal("2.5"), SuperMath.eval("10 / 2 / 2"));
+        assertEquals(new BigDecimal("0.3333"), SuperMath.eval("1/3", new MathContext(4)));
+
+        assertThrows(MathParseException.class, () -> SuperMath.eval("1 +"));
+        assertThrows(MathParseException.class, () -> SuperMath.eval("(1 + 2"));
+        assertThrows(MathParseException.class, () -> SuperMath.eval("1 2"));
+        assertEquals(2, assertThrows(MathParseException.class, () -> SuperMath.eval("1 $ 2")).getErrorIndex());
+        assertThrows(MathZeroException.class, () -> SuperMath.eval("1 / (2 - 2)"));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.eval("2 ^ 0.5"));
+
+        // 非整数的常数指数只在以 BigDecimal 求值时才是错误
+        final CompiledExpression sqrt = CompiledExpression.parse("x ^ 0.5");
+        assertEquals(3.0, sqrt.getNode().eval(new double[] {9.0}));
+        assertEquals(3.0, sqrt.toDoubleEvaluator().eval(new double[] {9.0}));
+        assertThrows(MathArithmeticException.class, () -> sqrt.eval(MathContext.DECIMAL64, new BigDecimal(9)));
+        assertThrows(MathArithmeticException.class, () -> sqrt.toDecimalEvaluator()
+                .eval(new BigDecimal[] {new BigDecimal(9)}, MathContext.DECIMAL64));
+    }
+
+    @Test
+    void compile() {
+        final CompiledExpression exp = SuperMath.compile("a * x^2 + b*x - c");
+        assertEquals(Arrays.asList("a", "x", "b", "c"), exp.getVariables());
+        assertEquals(1, exp.indexOf("x"));
+        assertEquals(-1, exp.indexOf("y"));
+        assertEquals(new BigDecimal("13"), exp.eval(MathContext.DECIMAL64,
+                BigDecimal.ONE, new BigDecimal(3), new BigDecimal(2), new BigDecimal(2)));
+        assertEquals(new BigDecimal("1.5"), exp.eval(MathContext.DECIMAL64,
+                Map.of("a", BigDecimal.ZERO, "x", BigDecimal.ONE, "b", new BigDecimal("2.5"), "c", BigDecimal.ONE)));
+
+        // 解析结果被缓存
+        assertSame(exp, SuperMath.compile("a * x^2 + b*x - c"));
+        assertEquals(new BigDecimal("7"), SuperMath.eval("x + y", MathContext.DECIMAL32,
+                Map.of("x", new BigDecimal(3), "y", new BigDecimal(4))));
+
+        assertThrows(MathIllegalArgumentException.class, () -> exp.eval(MathContext.DECIMAL64, BigDecimal.ONE));
+        assertThrows(MathIllegalArgumentException.class, () -> SuperMath.eval("x + 1", MathContext.DECIMAL32, Map.of()));
+    }
+
+    @Test
+    void nodeCompiler() {
+        final String[] sources = {
+                "a * x^2 + b*x - c",
+                "-(x - 1.5) / (a + 2) ^ 3 * -b",
+                "((a + b) * (c - x) - 7) / 3 + x ^ a",
+                "1/3 + 2/3 - 0.25 * 400"
+        };
+        final MathContext mc = new MathContext(20);
+        for (String source : sources) {
+            final CompiledExpression exp = CompiledExpression.parse(source);
+            final int n = exp.getVariables().size();
+            final double[] d = new double[n];
+            final BigDecimal[] b = new BigDecimal[n];
+            for (int i = 0; i < n; i++) {
+                d[i] = i + 2;
+                b[i] = BigDecimal.valueOf(i + 2);
+            }
+            final DoubleEvaluator de = exp.toDoubleEvaluator();
+            final DecimalEvaluator be = exp.toDecimalEvaluator();
+            assertSame(de, exp.toDoubleEvaluator());
+            assertTrue(de.getClass().getName().contains("GeneratedEvaluator"));
+            assertTrue(be.getClass().getName().contains("GeneratedEvaluator"));
+            assertEquals(exp.getNode().eval(d), de.eval(d), source);
+            assertEquals(exp.getNode().eval(b, mc), be.eval(b, mc), source);
+        }
+        assertThrows(MathZeroException.class, () -> SuperMath.compile("1 / (x - x)").toDecimalEvaluator()
+                .eval(new BigDecimal[] {BigDecimal.ONE}, mc));
+        assertThrows(MathArithmeticException.class, () -> SuperMath.compile("2 ^ x").toDecimalEvaluator()
+                .eval(new BigDecimal[] {new BigDecimal("0.5")}, mc));
+        assertTrue(NodeCompiler.isAvailable());
+
+        // 节点较多时拆分为多个方法
+        final StringBuilder sum = new StringBuilder("x");
+        for (int i = 1; i < 1000; i++) {
+            sum.append(i % 3 == 0 ? " - x * " : " + x / ").append(i);
+        }
+        final CompiledExpression large = CompiledExpression.parse(sum.toString());
+        final BigDecimal[] x = {new BigDecimal("1.5")};
+        assertEquals(large.getNode().eval(x, mc), large.toDecimalEvaluator().eval(x, mc));
+        assertEquals(large.getNode().eval(new double[] {1.5}), large.toDoubleEvaluator().eval(new double[] {1.5}));
+        assertTrue(large.toDecimalEvaluator().getClass().getName().contains("GeneratedEvaluator"));
+
+        // 无法编译的节点退回到解释执行
+        final Node custom = new Node(null, null) {
+            @Override
+            public BigDecimal eval(BigDecimal[] values, MathContext mc) {
+                return BigDecimal.TEN;
+            }
+
+            @Override
+            public double eval(double[] values) {
+                return 10;
+            }
+        };
+        assertEquals(10.0, NodeCompiler.compileDouble(custom).eval(new double[0]));
+        assertEquals(BigDecimal.TEN, NodeCompiler.compileDecimal(custom).eval(new BigDecimal[0], mc));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.number.decimal.CirculatingDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link CirculatingDecimal#periodLength()} 与 {@link CirculatingDecimal#digitAt(long)} 的基准测试。
+ *
+ * <p>
+ * 分母为质数时循环节的长度可以达到分母减一，逐位做除法需要与循环节长度成正比的时间。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CirculatingDecimalBenchmark {
+
+	/** 分母，循环节的长度分别为 9999942、333333312 与 41666661000000192 */
+	@Param({"9999943", "999999937", "999999866000004473"})
+	public long denominator;
+
+	private CirculatingDecimal decimal;
+
+	@Setup
+	public void setup() {
+		decimal = CirculatingDecimal.valueOf(1, denominator);
+	}
+
+	/** 每次都创建新的实例，避免使用缓存的结果 */
+	@Benchmark
+	public long periodLength() {
+		return CirculatingDecimal.valueOf(1, denominator).periodLength();
+	}
+
+	@Benchmark
+	public int digitAt() {
+		return decimal.digitAt(1000000L);
+	}
+
+}
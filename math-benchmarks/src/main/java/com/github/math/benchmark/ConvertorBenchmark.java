@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.convertor.Convertor;
+import com.github.math.convertor.unit.Length;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link Convertor#convert(double)} 的基准测试。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConvertorBenchmark {
+
+	private Convertor<Length> convertor;
+	private Length[] units;
+	private double quantity;
+	private int index;
+
+	@Setup
+	public void setup() {
+		convertor = new Convertor<>(Length.KILOMETER, Length.MILE);
+		units     = Length.values();
+		quantity  = 42.195;
+	}
+
+	@Benchmark
+	public double convert() {
+		return convertor.convert(quantity);
+	}
+
+	@Benchmark
+	public double convertStatic() {
+		int i = index = (index + 1) % units.length;
+		return Convertor.convert(units[i], Length.METER, quantity);
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.expression.DenseUnivariatePolynomial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link DenseUnivariatePolynomial} 的乘法与求值的基准测试。
+ *
+ * <p>
+ * 批量求值在 {@value #POINTS} 个点上比较逐点求值与四路秦九韶内核。
+ *
+ * <p>
+ * 两个因式的次数都为 {@link #degree}，系数为固定种子生成的 {@link #bits} 位随机整数。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DensePolynomialBenchmark {
+
+	private static final int POINTS = 1 << 16;
+
+	/** 多项式的次数 */
+	@Param({"100", "1000", "10000"})
+	public int degree;
+
+	/** 系数的位数 */
+	@Param({"20"})
+	public int bits;
+
+	private DenseUnivariatePolynomial left;
+	private DenseUnivariatePolynomial right;
+	private BigInteger point;
+	private double[] points;
+	private double[] values;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		left  = polynomial(random);
+		right = polynomial(random);
+		point = BigInteger.valueOf(3L);
+		points = new double[POINTS];
+		values = new double[POINTS];
+		for (int i = 0; i < POINTS; i++) {
+			points[i] = random.nextDouble() * 2 - 1;
+		}
+	}
+
+	private DenseUnivariatePolynomial polynomial(Random random) {
+		BigInteger[] c = new BigInteger[degree + 1];
+		for (int i = 0; i <= degree; i++) {
+			c[i] = new BigInteger(bits, random).subtract(BigInteger.ONE.shiftLeft(bits - 1));
+		}
+		return new DenseUnivariatePolynomial('x', c);
+	}
+
+	@Benchmark
+	public DenseUnivariatePolynomial multiply() {
+		return left.multiply(right);
+	}
+
+	@Benchmark
+	public double evaluate() {
+		return left.evaluate(0.5);
+	}
+
+	@Benchmark
+	public BigInteger evaluateExact() {
+		return left.evaluate(point);
+	}
+
+	@Benchmark
+	public double[] evaluateLoop() {
+		for (int i = 0; i < POINTS; i++) {
+			values[i] = left.evaluate(points[i]);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public double[] evaluateBatch() {
+		left.evaluate(points, values);
+		return values;
+	}
+
+}
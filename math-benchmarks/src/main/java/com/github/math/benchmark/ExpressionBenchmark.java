@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.SuperMath;
+import com.github.math.node.CompiledExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 表达式求值的基准测试，对比每次都解析、使用缓存的解析结果与直接使用编译结果三种方式。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExpressionBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private static final String FORMULA = "a * x^2 + b * x - c / (x + 1)";
+
+	private final MathContext mc = MathContext.DECIMAL64;
+
+	private CompiledExpression compiled;
+	private BigDecimal[][] values;
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		compiled = CompiledExpression.compile(FORMULA);
+		values = new BigDecimal[SIZE][compiled.getVariables().size()];
+		for (BigDecimal[] row : values) {
+			for (int j = 0; j < row.length; j++) {
+				row[j] = BigDecimal.valueOf(random.nextInt(2000) + 1, 2);
+			}
+		}
+	}
+
+	private BigDecimal[] next() {
+		return values[index = (index + 1) & (SIZE - 1)];
+	}
+
+	@Benchmark
+	public BigDecimal parseEveryTime() {
+		return CompiledExpression.parse(FORMULA).eval(mc, next());
+	}
+
+	@Benchmark
+	public BigDecimal cached() {
+		BigDecimal[] row = next();
+		Map<String, BigDecimal> bindings = new HashMap<>();
+		for (int i = 0; i < row.length; i++) {
+			bindings.put(compiled.getVariables().get(i), row[i]);
+		}
+		return SuperMath.eval(FORMULA, mc, bindings);
+	}
+
+	@Benchmark
+	public BigDecimal compiled() {
+		return compiled.eval(mc, next());
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.number.fraction.Fraction;
+import com.github.math.number.fraction.FractionArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link FractionArrays} 与逐个调用 {@link Fraction} 方法的批量运算对比。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FractionArraysBenchmark {
+
+	private static final int SIZE = 4096;
+
+	private Fraction[] left;
+	private Fraction[] right;
+	private Fraction[] result;
+
+	private int[] an;
+	private int[] ad;
+	private int[] bn;
+	private int[] bd;
+	private int[] rn;
+	private int[] rd;
+	private int[] cmp;
+	private int[] tn;
+	private int[] td;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		left   = new Fraction[SIZE];
+		right  = new Fraction[SIZE];
+		result = new Fraction[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			left[i]  = new Fraction(random.nextInt(2001) - 1000, random.nextInt(1000) + 1);
+			right[i] = new Fraction(random.nextInt(2001) - 1000, random.nextInt(1000) + 1);
+		}
+		an  = new int[SIZE];
+		ad  = new int[SIZE];
+		bn  = new int[SIZE];
+		bd  = new int[SIZE];
+		rn  = new int[SIZE];
+		rd  = new int[SIZE];
+		cmp = new int[SIZE];
+		FractionArrays.fromFractions(left, an, ad);
+		FractionArrays.fromFractions(right, bn, bd);
+		// 点积使用的分母都是 120 的因数，保证和不会超出 long 的范围
+		int[] dens = {2, 3, 4, 5, 6, 8, 10, 12};
+		tn = new int[SIZE];
+		td = new int[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			tn[i] = random.nextInt(21) - 10;
+			td[i] = dens[random.nextInt(dens.length)];
+		}
+	}
+
+	@Benchmark
+	public int[] compareObjects() {
+		for (int i = 0; i < SIZE; i++) {
+			cmp[i] = left[i].compareTo(right[i]);
+		}
+		return cmp;
+	}
+
+	@Benchmark
+	public int[] compareArrays() {
+		FractionArrays.compare(an, ad, bn, bd, cmp);
+		return cmp;
+	}
+
+	@Benchmark
+	public Fraction[] addObjects() {
+		for (int i = 0; i < SIZE; i++) {
+			result[i] = left[i].add(right[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int[] addArrays() {
+		FractionArrays.add(an, ad, bn, bd, rn, rd);
+		return rn;
+	}
+
+	@Benchmark
+	public Object dotArrays() {
+		return FractionArrays.dot(tn, td, tn, td);
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.number.fraction.BigFraction;
+import com.github.math.number.fraction.ContinuedFraction;
+import com.github.math.number.fraction.Fraction;
+import com.github.math.number.fraction.LongFraction;
+import com.github.math.number.fraction.MutableFraction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link Fraction}、{@link LongFraction} 与 {@link BigFraction} 四则运算与比较的基准测试。
+ *
+ * <p>
+ * 操作数由固定种子的随机数生成，分子分母都限制在较小的范围内，避免运算过程中发生溢出。
+ * {@code wide} 系列的分母有 40 位左右，交叉相乘的结果超出 {@code long} 的范围。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FractionBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private Fraction[] left;
+	private Fraction[] right;
+	private Fraction[] terms;
+	private BigFraction[] bigLeft;
+	private BigFraction[] bigRight;
+	private LongFraction[] wideLeft;
+	private LongFraction[] wideRight;
+	private BigFraction[] wideBigLeft;
+	private BigFraction[] wideBigRight;
+	private double[] measured;
+	private final MutableFraction accumulator = new MutableFraction();
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		left  = new Fraction[SIZE];
+		right = new Fraction[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			left[i]  = new Fraction(random.nextInt(2001) - 1000, random.nextInt(1000) + 1);
+			right[i] = new Fraction(random.nextInt(2001) - 1000, random.nextInt(1000) + 1);
+		}
+		bigLeft  = new BigFraction[SIZE];
+		bigRight = new BigFraction[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			bigLeft[i]  = BigFraction.valueOf(left[i].numerator(), left[i].denominator());
+			bigRight[i] = BigFraction.valueOf(right[i].numerator(), right[i].denominator());
+		}
+		wideLeft     = new LongFraction[SIZE];
+		wideRight    = new LongFraction[SIZE];
+		wideBigLeft  = new BigFraction[SIZE];
+		wideBigRight = new BigFraction[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			// 分母有公共的因子，结果的分子分母仍在 long 的范围之内
+			long g = random.nextInt(1 << 20) + 1;
+			wideLeft[i]     = LongFraction.valueOf(random.nextInt() * 16L, g * (random.nextInt(1 << 20) + 1));
+			wideRight[i]    = LongFraction.valueOf(random.nextInt() * 16L, g * (random.nextInt(1 << 20) + 1));
+			wideBigLeft[i]  = wideLeft[i].bigFractionValue();
+			wideBigRight[i] = wideRight[i].bigFractionValue();
+		}
+		// 四位有效数字的测量值
+		measured = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			measured[i] = (random.nextInt(9000) + 1000) / Math.pow(10, random.nextInt(6));
+		}
+		// 求和使用的分母都是 120 的因数，保证和不会溢出
+		int[] dens = {2, 3, 4, 5, 6, 8, 10, 12};
+		terms = new Fraction[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			terms[i] = new Fraction(random.nextInt(21) - 10, dens[random.nextInt(dens.length)]);
+		}
+	}
+
+	private int next() {
+		return index = (index + 1) & (SIZE - 1);
+	}
+
+	@Benchmark
+	public Fraction add() {
+		int i = next();
+		return left[i].add(right[i]);
+	}
+
+	@Benchmark
+	public Fraction multiply() {
+		int i = next();
+		return left[i].multiply(right[i]);
+	}
+
+	@Benchmark
+	public Fraction smallAdd() {
+		int i = next();
+		return terms[i].add(terms[(i + 1) & (SIZE - 1)]);
+	}
+
+	@Benchmark
+	public BigFraction bigAdd() {
+		int i = next();
+		return bigLeft[i].add(bigRight[i]);
+	}
+
+	@Benchmark
+	public BigFraction bigMultiply() {
+		int i = next();
+		return bigLeft[i].multiply(bigRight[i]);
+	}
+
+	@Benchmark
+	public LongFraction wideAdd() {
+		int i = next();
+		return wideLeft[i].add(wideRight[i]);
+	}
+
+	@Benchmark
+	public BigFraction wideBigAdd() {
+		int i = next();
+		return wideBigLeft[i].add(wideBigRight[i]);
+	}
+
+	@Benchmark
+	public int wideCompareTo() {
+		int i = next();
+		return wideLeft[i].compareTo(wideRight[i]);
+	}
+
+	/** 把测量值转换为分母不超过 2^20 的最佳有理逼近 */
+	@Benchmark
+	public BigFraction bestApproximation() {
+		return ContinuedFraction.valueOf(measured[next()]).bestApproximation(1 << 20);
+	}
+
+	@Benchmark
+	public int compareTo() {
+		int i = next();
+		return left[i].compareTo(right[i]);
+	}
+
+	@Benchmark
+	public Fraction sumImmutable() {
+		Fraction sum = Fraction.ZERO;
+		for (Fraction f : terms) {
+			sum = sum.add(f);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Fraction sumMutable() {
+		MutableFraction sum = accumulator.reset();
+		for (Fraction f : terms) {
+			sum.addInPlace(f);
+		}
+		return sum.toFraction();
+	}
+
+}
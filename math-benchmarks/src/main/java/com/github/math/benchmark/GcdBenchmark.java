@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.SuperMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 迭代实现的 {@link SuperMath#gcd(int, int)} 与原先递归实现的 Stein 算法的对比测试，
+ * 同时给出 {@code long} 与 {@code BigInteger} 重载的耗时作为参考。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GcdBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private int[] a;
+	private int[] b;
+	private long[] la;
+	private long[] lb;
+	private BigInteger[] ba;
+	private BigInteger[] bb;
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		a  = new int[SIZE];
+		b  = new int[SIZE];
+		la = new long[SIZE];
+		lb = new long[SIZE];
+		ba = new BigInteger[SIZE];
+		bb = new BigInteger[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			// 带有公因数的随机数，使结果不总是 1
+			int common = random.nextInt(1 << 10) + 1;
+			a[i]  = (random.nextInt(1 << 20) + 1) * common;
+			b[i]  = (random.nextInt(1 << 20) + 1) * common;
+			la[i] = (random.nextLong() >>> 24) * common;
+			lb[i] = (random.nextLong() >>> 24) * common;
+			ba[i] = BigInteger.valueOf(la[i]);
+			bb[i] = BigInteger.valueOf(lb[i]);
+		}
+	}
+
+	private int next() {
+		return index = (index + 1) & (SIZE - 1);
+	}
+
+	@Benchmark
+	public int recursiveInt() {
+		int i = next();
+		return recursive(a[i], b[i]);
+	}
+
+	@Benchmark
+	public int binaryInt() {
+		int i = next();
+		return SuperMath.gcd(a[i], b[i]);
+	}
+
+	@Benchmark
+	public long binaryLong() {
+		int i = next();
+		return SuperMath.gcd(la[i], lb[i]);
+	}
+
+	@Benchmark
+	public BigInteger bigInteger() {
+		int i = next();
+		return SuperMath.gcd(ba[i], bb[i]);
+	}
+
+	/**
+	 * 原先 {@code SuperMath#gcd(int, int)} 的递归实现，仅用于对比。
+	 */
+	static int recursive(int a, int b) {
+		a = Math.abs(a);
+		b = Math.abs(b);
+		if (a == b) {
+			return a;
+		}
+		int t;
+		if (a < b) {
+			t = a;
+			a = b;
+			b = t;
+		}
+		if (b == 0) {
+			return a;
+		}
+		boolean m = (a % 2) == 0;
+		boolean n = (b % 2) == 0;
+		if (m && n) {
+			return recursive(a >> 1, b >> 1) << 1;
+		} else if (m) {
+			return recursive(a >> 1, b);
+		} else if (n) {
+			return recursive(a, b >> 1);
+		} else {
+			return recursive(a - b, b);
+		}
+	}
+
+}
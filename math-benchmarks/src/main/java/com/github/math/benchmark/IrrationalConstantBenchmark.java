@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.number.decimal.IrrationalConstant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link IrrationalConstant} 的基准测试。
+ *
+ * <p>
+ * {@code sqrt} 每次都创建新的实例（被开方数超过共享实例的上限），从头计算；
+ * {@code cachedPi} 在已经计算出更高精度的 &pi; 之后请求较低的精度，只需要舍入保存的结果。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IrrationalConstantBenchmark {
+
+	@Param({"1000", "10000"})
+	public int digits;
+
+	private MathContext mc;
+
+	@Setup
+	public void setup() {
+		mc = new MathContext(digits);
+		IrrationalConstant.PI.bigDecimalValue(new MathContext(digits * 2));
+	}
+
+	@Benchmark
+	public BigDecimal sqrt() {
+		return IrrationalConstant.sqrt(2003L).bigDecimalValue(mc);
+	}
+
+	@Benchmark
+	public BigDecimal cachedPi() {
+		return IrrationalConstant.PI.bigDecimalValue(mc);
+	}
+
+}
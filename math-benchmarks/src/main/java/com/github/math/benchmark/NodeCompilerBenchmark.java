@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.node.CompiledExpression;
+import com.github.math.node.DecimalEvaluator;
+import com.github.math.node.DoubleEvaluator;
+import com.github.math.node.Node;
+import com.github.math.node.NodeCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 解释执行的语法树与 {@link NodeCompiler} 生成的字节码的基准测试。
+ *
+ * <p>
+ * 随机生成若干个含有约 {@code nodes} 个节点的表达式，并轮流求值，
+ * 使调用点与实际使用时一样是多态的。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NodeCompilerBenchmark {
+
+	private static final int FORMULAS = 8;
+
+	private static final String[] VARIABLES = {"a", "b", "c", "x", "y"};
+
+	/** 每个表达式的节点数 */
+	@Param({"50", "200"})
+	public int nodes;
+
+	private final MathContext mc = MathContext.DECIMAL64;
+
+	private Node[] trees;
+	private DoubleEvaluator[] doubles;
+	private DecimalEvaluator[] decimals;
+	private double[][] doubleValues;
+	private BigDecimal[][] decimalValues;
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		trees = new Node[FORMULAS];
+		doubles = new DoubleEvaluator[FORMULAS];
+		decimals = new DecimalEvaluator[FORMULAS];
+		doubleValues = new double[FORMULAS][];
+		decimalValues = new BigDecimal[FORMULAS][];
+		for (int i = 0; i < FORMULAS; i++) {
+			CompiledExpression exp = CompiledExpression.parse(formula(random, nodes));
+			trees[i] = exp.getNode();
+			doubles[i] = NodeCompiler.compileDouble(trees[i]);
+			decimals[i] = NodeCompiler.compileDecimal(trees[i]);
+			int n = exp.getVariables().size();
+			doubleValues[i] = new double[n];
+			decimalValues[i] = new BigDecimal[n];
+			for (int j = 0; j < n; j++) {
+				// 取值在 [1, 2) 之间，避免除零
+				BigDecimal v = BigDecimal.valueOf(random.nextInt(1000) + 1000, 3);
+				doubleValues[i][j] = v.doubleValue();
+				decimalValues[i][j] = v;
+			}
+		}
+	}
+
+	/**
+	 * 生成含有约 {@code size} 个节点的表达式，除数与底数都不会为零。
+	 */
+	private static String formula(Random random, int size) {
+		if (size <= 1) {
+			return random.nextBoolean()
+					? VARIABLES[random.nextInt(VARIABLES.length)]
+					: Integer.toString(random.nextInt(9) + 1);
+		}
+		int left = (size - 3) / 2;
+		String l = formula(random, left);
+		String r = formula(random, size - 3 - left);
+		switch (random.nextInt(4)) {
+			case 0:
+				return "(" + l + " + " + r + ")";
+			case 1:
+				return "(" + l + " - " + r + " + 100)";
+			case 2:
+				return "(" + l + " * " + r + " / 100)";
+			default:
+				return "(" + l + " / (1 + " + r + " ^ 2))";
+		}
+	}
+
+	private int next() {
+		return index = (index + 1) & (FORMULAS - 1);
+	}
+
+	@Benchmark
+	public double interpretedDouble() {
+		int i = next();
+		return trees[i].eval(doubleValues[i]);
+	}
+
+	@Benchmark
+	public double compiledDouble() {
+		int i = next();
+		return doubles[i].eval(doubleValues[i]);
+	}
+
+	@Benchmark
+	public BigDecimal interpretedDecimal() {
+		int i = next();
+		return trees[i].eval(decimalValues[i], mc);
+	}
+
+	@Benchmark
+	public BigDecimal compiledDecimal() {
+		int i = next();
+		return decimals[i].eval(decimalValues[i], mc);
+	}
+
+}
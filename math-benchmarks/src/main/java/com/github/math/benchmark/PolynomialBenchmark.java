@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.expression.Monomial;
+import com.github.math.expression.Polynomial;
+import com.github.math.expression.format.PolynomialFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link Polynomial#plus(Polynomial)}、{@link Polynomial#multiply(Polynomial)} 与
+ * {@link PolynomialFormat#parse(String)}、{@link PolynomialFormat#format(Object, StringBuilder)} 的基准测试。
+ *
+ * <p>
+ * 每个多项式含有 {@link #terms} 个关于 {@code x}、{@code y} 的单项式，系数与指数由固定种子的随机数生成。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PolynomialBenchmark {
+
+	/** 多项式的项数 */
+	@Param({"8", "32", "128", "512"})
+	public int terms;
+
+	private Polynomial left;
+	private Polynomial right;
+	private String source;
+	private PolynomialFormat format;
+	private StringBuilder out;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		left  = polynomial(random);
+		right = polynomial(random);
+		source = left.toString();
+		format = new PolynomialFormat();
+		out    = new StringBuilder();
+	}
+
+	private Polynomial polynomial(Random random) {
+		Monomial[] monomials = new Monomial[terms];
+		for (int i = 0; i < terms; i++) {
+			Map<Character, Integer> letter = new TreeMap<>();
+			letter.put('x', random.nextInt(16) + 1);
+			letter.put('y', random.nextInt(16) + 1);
+			monomials[i] = new Monomial(random.nextInt(199) - 99, letter);
+		}
+		return new Polynomial(monomials);
+	}
+
+	@Benchmark
+	public Polynomial plus() {
+		return left.plus(right);
+	}
+
+	@Benchmark
+	public Polynomial multiply() {
+		return left.multiply(right);
+	}
+
+	@Benchmark
+	public Polynomial parse() {
+		return format.parse(source);
+	}
+
+	/** 写入重复使用的缓冲区 */
+	@Benchmark
+	public StringBuilder format() {
+		out.setLength(0);
+		return format.format(left, out);
+	}
+
+	@Benchmark
+	public String formatString() {
+		return format.format(left);
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.equation.quadratic.QuadraticEquation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link QuadraticEquation#root()} 的基准测试。
+ *
+ * <p>
+ * 由于方程会缓存已经计算过的根，每次调用前都会通过 {@link QuadraticEquation#reset(double, double, double)}
+ * 重置方程的系数，因此测得的时间包含系数检查与判别式的计算。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QuadraticEquationBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private double[][] coefficient;
+	private QuadraticEquation equation;
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		coefficient = new double[SIZE][3];
+		for (double[] c : coefficient) {
+			c[0] = random.nextInt(20) + 1;
+			c[1] = random.nextInt(201) - 100;
+			c[2] = random.nextInt(201) - 100;
+		}
+		equation = new QuadraticEquation(1, 0, 0);
+	}
+
+	@Benchmark
+	public double[] root() {
+		double[] c = coefficient[index = (index + 1) & (SIZE - 1)];
+		equation.reset(c[0], c[1], c[2]);
+		return equation.root();
+	}
+
+}
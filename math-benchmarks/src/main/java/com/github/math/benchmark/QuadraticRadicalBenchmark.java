@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.number.radical.QuadraticRadical;
+import com.github.math.number.radical.QuadraticRadicalCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link QuadraticRadicalCalculator#multiply(QuadraticRadicalCalculator)} 与
+ * {@link QuadraticRadicalCalculator#pow(int)} 的基准测试。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QuadraticRadicalBenchmark {
+
+	private QuadraticRadicalCalculator left;
+	private QuadraticRadicalCalculator right;
+
+	@Setup
+	public void setup() {
+		// 2√2+√3+1
+		left  = QuadraticRadicalCalculator.of(QuadraticRadical.sqrt(8),
+											  QuadraticRadical.sqrt(3),
+											  QuadraticRadical.ONE);
+		// 3√5-√6+2
+		right = QuadraticRadicalCalculator.of(QuadraticRadical.sqrt(45),
+											  QuadraticRadical.sqrt(6).negate(),
+											  QuadraticRadical.TWO);
+	}
+
+	@Benchmark
+	public QuadraticRadicalCalculator multiply() {
+		return left.multiply(right);
+	}
+
+	@Benchmark
+	public QuadraticRadicalCalculator pow(Exponent state) {
+		return left.pow(state.exponent);
+	}
+
+	/**
+	 * 乘方运算的指数。
+	 */
+	@State(Scope.Thread)
+	public static class Exponent {
+
+		@Param({"2", "4", "8"})
+		public int exponent;
+
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.benchmark;
+
+import com.github.math.Determinant;
+import com.github.math.SuperMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link SuperMath#gcd(int, int)} 与 {@link Determinant} 的基准测试。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SuperMathBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private int[] a;
+	private int[] b;
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		a = new int[SIZE];
+		b = new int[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			a[i] = random.nextInt(1 << 16) + 1;
+			b[i] = random.nextInt(1 << 16) + 1;
+		}
+	}
+
+	@Benchmark
+	public int gcd() {
+		int i = index = (index + 1) & (SIZE - 1);
+		return SuperMath.gcd(a[i], b[i]);
+	}
+
+	@Benchmark
+	public long determinant(Matrix state) {
+		return Determinant.exact(state.matrix);
+	}
+
+	@Benchmark
+	public long determinantWork(Matrix state) {
+		return Determinant.exact(state.matrix, state.work);
+	}
+
+	@Benchmark
+	public double determinantLu(Matrix state) {
+		return Determinant.lu(state.real);
+	}
+
+	/**
+	 * 按阶数生成的行列式，元素取值范围为 [-9, 9]。
+	 */
+	@State(Scope.Thread)
+	public static class Matrix {
+
+		/** 行列式的阶数 */
+		@Param({"3", "5", "8", "12"})
+		public int order;
+
+		int[][] matrix;
+		long[][] work;
+		double[][] real;
+
+		@Setup
+		public void setup() {
+			Random random = new Random(42L);
+			matrix = new int[order][order];
+			for (int[] row : matrix) {
+				for (int j = 0; j < order; j++) {
+					row[j] = random.nextInt(19) - 9;
+				}
+			}
+			work = new long[order][order];
+			real = new double[order][order];
+			for (int i = 0; i < order; i++) {
+				for (int j = 0; j < order; j++) {
+					real[i][j] = matrix[i][j];
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * <p>基于 JMH 的性能基准测试，覆盖各模块中的热点运算。
+ *
+ * <p>打包后通过以下命令运行（{@code -prof gc} 用于统计每次操作的内存分配）：
+ * <blockquote><pre>
+ * mvn -B package -pl math-benchmarks -am
+ * java -jar math-benchmarks/target/benchmarks.jar -prof gc -rf json
+ * </pre></blockquote>
+ * 也可以通过正则表达式只运行部分基准，例如 {@code java -jar benchmarks.jar Fraction}。
+ *
+ * @author 王帅
+ */
+package com.github.math.benchmark;
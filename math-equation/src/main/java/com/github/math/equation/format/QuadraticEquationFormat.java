@@ -20,6 +20,7 @@ import com.github.math.equation.quadratic.QuadraticEquation;
 import com.github.math.exception.MathParseException;
 import com.github.math.format.AbstractFormat;
 
+import java.io.IOException;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
@@ -35,6 +36,13 @@ public class QuadraticEquationFormat extends AbstractFormat<QuadraticEquation> {
 
 	private NumberFormat coefficientFormat;
 	
+	/**
+	 * 格式化系数时重复使用的缓冲区，{@link NumberFormat} 只能写入 {@link StringBuffer}。
+	 */
+	private transient StringBuffer buffer;
+	
+	private transient FieldPosition field;
+	
 	public QuadraticEquationFormat() {
 		this(NumberFormat.getNumberInstance());
 	}
@@ -55,12 +63,53 @@ public class QuadraticEquationFormat extends AbstractFormat<QuadraticEquation> {
 		this.coefficientFormat = coefficientFormat;
 	}
 
+	/**
+	 * 格式化一元二次方程，例如 {@code 2x²-3x+1=0}。系数为0的一次项与常数项省略，
+	 * 与 {@code MonomialFormat} 相同，二次项与一次项的系数 1 与 -1 只写出符号。
+	 */
 	@Override
-	public StringBuffer format(QuadraticEquation obj, 
-							   StringBuffer toAppendTo, 
-							   FieldPosition pos) {
-		// TODO 自动生成的方法存根
-		return null;
+	public void format(QuadraticEquation obj, Appendable out) throws IOException {
+		final double[] coefficient = obj.coefficient();
+		appendUnitCoefficient(out, coefficient[0], false).append("x²");
+		if (coefficient[1] != 0.0) {
+			appendUnitCoefficient(out, coefficient[1], true).append('x');
+		}
+		if (coefficient[2] != 0.0) {
+			appendCoefficient(out, coefficient[2], true);
+		}
+		out.append("=0");
+	}
+	
+	/**
+	 * 写入含有未知数的项的系数，系数为 1 或 -1 时只写出符号。
+	 */
+	private Appendable appendUnitCoefficient(Appendable out, double value, boolean sign) 
+			throws IOException {
+		if (value == 1.0) {
+			return sign ? out.append('+') : out;
+		}
+		if (value == -1.0) {
+			return out.append('-');
+		}
+		return appendCoefficient(out, value, sign);
+	}
+	
+	/**
+	 * 写入一个系数，{@code sign} 为 {@code true} 时正数前写出加号。
+	 */
+	private Appendable appendCoefficient(Appendable out, double value, boolean sign) 
+			throws IOException {
+		StringBuffer b = buffer;
+		if (b == null) {
+			buffer = b = new StringBuffer();
+			field  = new FieldPosition(0);
+		}
+		b.setLength(0);
+		if (sign && value > 0.0) {
+			b.append('+');
+		}
+		coefficientFormat.format(value, b, field);
+		return out.append(b);
 	}
 	
 	@Override
@@ -19,6 +19,11 @@ package com.github.math.equation.format;
 import com.github.math.equation.quadratic.QuadraticEquation;
 import org.junit.jupiter.api.Test;
 
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * <p>
  * 介绍信息
@@ -34,4 +39,14 @@ class QuadraticEquationTest {
         System.out.println(equation.delta());
     }
 
-}
\ No newline at end of file
+    @Test
+    void format() {
+        QuadraticEquationFormat format = new QuadraticEquationFormat(NumberFormat.getNumberInstance(Locale.ROOT));
+        assertEquals("-2x²+3x+9=0", format.format(new QuadraticEquation(-2, 3, 9)));
+        assertEquals("x²-1.5x=0", format.format(new QuadraticEquation(1, -1.5, 0)));
+        assertEquals("-x²+x-1=0", format.format(new QuadraticEquation(-1, 1, -1)));
+        assertEquals("2x²-x+1=0", format.format(new QuadraticEquation(2, -1, 1)));
+        assertEquals("4x²-1=0", format.format(new QuadraticEquation(4, 0, -1)));
+    }
+
+}
@@ -0,0 +1,812 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.number.fraction.BigFraction;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * 整系数的稠密一元多项式 a<sub>0</sub> + a<sub>1</sub>x + ... + a<sub>n</sub>x<sup>n</sup>。
+ * 
+ * <p>
+ * 系数按次数从低到高保存在数组中。所有系数都在 {@code long} 的范围内时使用 {@code long[]}，
+ * 否则使用 {@code BigInteger[]}。乘法按较小因式的项数选择算法：
+ * <ul>
+ * <li>少于 {@value #KARATSUBA_THRESHOLD} 项时使用逐项相乘；
+ * <li>少于 {@value #NTT_THRESHOLD} 项时使用 Karatsuba 算法；
+ * <li>其余情况使用数论变换（NTT）：在一至三个形如 c&middot;2<sup>k</sup> + 1 的素数下分别做卷积，
+ * 	   再用中国剩余定理（Garner 算法）还原系数，素数的个数由系数的上界决定。
+ * </ul>
+ * 积的系数都在 {@code long} 的范围内时，逐项相乘与 Karatsuba 算法直接使用 {@code long} 运算：
+ * 运算在模 2<sup>64</sup> 下是精确的，而结果本身没有溢出，所以中间结果的溢出不影响结果。
+ * 
+ * <p>
+ * 此类的实例是不可变的。
+ * 
+ * @author 王帅
+ * @see    Polynomial
+ */
+public final class DenseUnivariatePolynomial implements Serializable {
+
+	// The serialVersionUID of the class DenseUnivariatePolynomial.
+	private static final long serialVersionUID = -1964071390958513017L;
+	
+	/**
+	 * 较小的因式不少于此项数时使用 Karatsuba 算法。
+	 */
+	static final int KARATSUBA_THRESHOLD = 32;
+	
+	/**
+	 * 较小的因式不少于此项数时使用数论变换。
+	 */
+	static final int NTT_THRESHOLD = 4096;
+	
+	/**
+	 * 数论变换使用的素数，原根都为 3，从大到小排列。
+	 */
+	private static final long[] PRIMES = {998244353L, 469762049L, 167772161L};
+	
+	/**
+	 * 数论变换的最大长度，受 998244353 = 119 &middot; 2<sup>23</sup> + 1 的限制。
+	 */
+	private static final int MAX_NTT_LENGTH = 1 << 23;
+	
+	private static final long[] EMPTY = new long[0];
+	
+	/**
+	 * 字母。
+	 */
+	private final char variable;
+	
+	/**
+	 * 系数，{@code coefficients[i]} 为 x<sup>i</sup> 的系数；系数超出 {@code long} 的范围时为 {@code null}。
+	 */
+	private final long[] coefficients;
+	
+	/**
+	 * 系数超出 {@code long} 的范围时使用，否则为 {@code null}。
+	 */
+	private final BigInteger[] big;
+	
+	/**
+	 * 
+	 * @param variable     字母
+	 * @param coefficients 系数，{@code coefficients[i]} 为 x<sup>i</sup> 的系数
+	 */
+	public DenseUnivariatePolynomial(char variable, long... coefficients) {
+		this(variable, trim(coefficients.clone()), null);
+	}
+	
+	/**
+	 * 
+	 * @param variable     字母
+	 * @param coefficients 系数，{@code coefficients[i]} 为 x<sup>i</sup> 的系数
+	 */
+	public DenseUnivariatePolynomial(char variable, BigInteger... coefficients) {
+		this(variable, null, coefficients.clone());
+	}
+	
+	private DenseUnivariatePolynomial(char variable, long[] coefficients, BigInteger[] big) {
+		if (big != null) {
+			// 所有系数都在 long 的范围内时改用 long[]，保证表示方式唯一
+			int n = big.length;
+			while (n > 0 && big[n - 1].signum() == 0) {
+				n--;
+			}
+			boolean small = true;
+			for (int i = 0; i < n && small; i++) {
+				small = big[i].bitLength() < Long.SIZE;
+			}
+			if (small) {
+				coefficients = new long[n];
+				for (int i = 0; i < n; i++) {
+					coefficients[i] = big[i].longValue();
+				}
+				big = null;
+			} else if (n != big.length) {
+				big = Arrays.copyOf(big, n);
+			}
+		}
+		this.variable	  = variable;
+		this.coefficients = coefficients;
+		this.big		  = big;
+	}
+	
+	/**
+	 * 由 {@code BigInteger} 系数创建，参数数组会被直接使用。
+	 */
+	private static DenseUnivariatePolynomial of(char variable, BigInteger[] c) {
+		return new DenseUnivariatePolynomial(variable, null, c);
+	}
+	
+	/**
+	 * 去掉最高次的零系数。
+	 */
+	private static long[] trim(long[] c) {
+		int n = c.length;
+		while (n > 0 && c[n - 1] == 0L) {
+			n--;
+		}
+		return n == c.length ? c : Arrays.copyOf(c, n);
+	}
+	
+	/**
+	 * 将一元的 {@link Polynomial} 转换为稠密多项式，常数多项式的字母为 {@code x}。
+	 * 
+	 * @param  p 多项式
+	 * @return   稠密多项式
+	 * @exception MathIllegalArgumentException 如果多项式含有多个字母
+	 */
+	public static DenseUnivariatePolynomial valueOf(Polynomial p) {
+		char variable = 0;
+		int degree = 0;
+		for (Monomial m : p) {
+			final Powers letter = m.letter;
+			if (letter.size() > 1 || letter.size() == 1 && variable != 0 && letter.variableAt(0) != variable) {
+				throw new MathIllegalArgumentException("不是一元多项式：" + p);
+			}
+			if (letter.size() == 1) {
+				variable = letter.variableAt(0);
+				degree	 = Math.max(degree, letter.exponentAt(0));
+			}
+		}
+		final long[] c = new long[p.isEmpty() ? 0 : degree + 1];
+		for (Monomial m : p) {
+			c[m.letter.degree()] += m.coefficient;
+		}
+		return new DenseUnivariatePolynomial(variable == 0 ? 'x' : variable, trim(c), null);
+	}
+	
+	/**
+	 * 转换为 {@link Polynomial}。
+	 * 
+	 * @return 多项式
+	 * @exception MathArithmeticException 如果某个系数超出 {@code int} 的范围
+	 */
+	public Polynomial toPolynomial() {
+		final Polynomial p = new Polynomial();
+		final int n = size();
+		for (int i = 0; i < n; i++) {
+			final BigInteger c = getCoefficient(i);
+			if (c.signum() == 0) {
+				continue;
+			}
+			if (c.bitLength() >= Integer.SIZE) {
+				throw new MathArithmeticException("系数 " + c + " 超出 int 的范围");
+			}
+			final TreeMap<Character, Integer> letter = new TreeMap<>();
+			letter.put(variable, i);
+			p.add(new Monomial(c.intValue(), letter));
+		}
+		return p;
+	}
+	
+	public char getVariable() {
+		return variable;
+	}
+	
+	/**
+	 * @return 多项式的次数，零多项式的次数为 {@code -1}
+	 */
+	public int degree() {
+		return size() - 1;
+	}
+	
+	private int size() {
+		return coefficients != null ? coefficients.length : big.length;
+	}
+	
+	/**
+	 * @param  i 次数
+	 * @return   x<sup>i</sup> 的系数
+	 */
+	public BigInteger getCoefficient(int i) {
+		if (i < 0 || i >= size()) {
+			return BigInteger.ZERO;
+		}
+		return coefficients != null ? BigInteger.valueOf(coefficients[i]) : big[i];
+	}
+	
+	private BigInteger[] toBig() {
+		if (big != null) {
+			return big;
+		}
+		final BigInteger[] r = new BigInteger[coefficients.length];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = BigInteger.valueOf(coefficients[i]);
+		}
+		return r;
+	}
+	
+	/**
+	 * 两个多项式的字母必须相同，常数多项式可以与任何字母的多项式运算。
+	 */
+	private char variable(DenseUnivariatePolynomial val) {
+		if (variable == val.variable || val.size() <= 1) {
+			return variable;
+		}
+		if (size() <= 1) {
+			return val.variable;
+		}
+		throw new MathIllegalArgumentException("字母不同：" + variable + ", " + val.variable);
+	}
+	
+	public DenseUnivariatePolynomial negate() {
+		final BigInteger[] c = toBig().clone();
+		for (int i = 0; i < c.length; i++) {
+			c[i] = c[i].negate();
+		}
+		return of(variable, c);
+	}
+	
+	public DenseUnivariatePolynomial add(DenseUnivariatePolynomial val) {
+		final char v = variable(val);
+		final int n = Math.max(size(), val.size());
+		if (coefficients != null && val.coefficients != null) {
+			final long[] r = Arrays.copyOf(coefficients, n);
+			boolean overflow = false;
+			for (int i = 0; i < val.coefficients.length; i++) {
+				final long s = r[i] + val.coefficients[i];
+				// 两个加数的符号相同而和的符号不同时溢出
+				overflow |= ((r[i] ^ s) & (val.coefficients[i] ^ s)) < 0;
+				r[i] = s;
+			}
+			if (!overflow) {
+				return new DenseUnivariatePolynomial(v, trim(r), null);
+			}
+		}
+		final BigInteger[] r = new BigInteger[n];
+		for (int i = 0; i < n; i++) {
+			r[i] = getCoefficient(i).add(val.getCoefficient(i));
+		}
+		return of(v, r);
+	}
+	
+	public DenseUnivariatePolynomial subtract(DenseUnivariatePolynomial val) {
+		return add(val.negate());
+	}
+	
+	/**
+	 * 两个多项式相乘，算法的选择见类的说明。
+	 * 
+	 * @param  val 另一个多项式
+	 * @return     积
+	 */
+	public DenseUnivariatePolynomial multiply(DenseUnivariatePolynomial val) {
+		final char v = variable(val);
+		final int n = size();
+		final int m = val.size();
+		if (n == 0 || m == 0) {
+			return new DenseUnivariatePolynomial(v, EMPTY, null);
+		}
+		final int min = Math.min(n, m);
+		final int length = n + m - 1;
+		
+		if (coefficients != null && val.coefficients != null) {
+			// 积的系数的绝对值小于 2^bound
+			final int bound = bits(coefficients) + bits(val.coefficients) 
+					+ (Integer.SIZE - Integer.numberOfLeadingZeros(min));
+			if (min >= NTT_THRESHOLD && length <= MAX_NTT_LENGTH && bound <= 84) {
+				return ntt(v, coefficients, val.coefficients, bound);
+			}
+			if (bound < Long.SIZE) {
+				return new DenseUnivariatePolynomial(v, trim(multiply(coefficients, val.coefficients)), null);
+			}
+		}
+		return of(v, multiply(toBig(), val.toBig()));
+	}
+	
+	/**
+	 * @return 系数的绝对值的最大位数
+	 */
+	private static int bits(long[] c) {
+		long or = 0L;
+		for (long x : c) {
+			// x ^ (x >> 63) 为 |x| 或 |x| - 1，位数至多少一位，因此再加一位
+			or |= x ^ (x >> 63);
+		}
+		return Long.SIZE - Long.numberOfLeadingZeros(or) + 1;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// long 系数的逐项相乘与 Karatsuba 算法（模 2^64 精确）
+	// --------------------------------------------------------------------------------
+	
+	static long[] multiply(long[] a, long[] b) {
+		final long[] r = new long[a.length + b.length - 1];
+		if (a.length < b.length) {
+			final long[] t = a;
+			a = b;
+			b = t;
+		}
+		final int m = b.length;
+		if (m < KARATSUBA_THRESHOLD) {
+			schoolbook(a, 0, a.length, b, 0, m, r, 0);
+			return r;
+		}
+		// 较长的因式按较短因式的长度分块，每块都是等长的 Karatsuba 乘法
+		for (int off = 0; off < a.length; off += m) {
+			final int len = Math.min(m, a.length - off);
+			if (len == m) {
+				karatsuba(a, off, b, 0, m, r, off);
+			} else {
+				schoolbookOrKaratsuba(b, 0, m, a, off, len, r, off);
+			}
+		}
+		return r;
+	}
+	
+	private static void schoolbookOrKaratsuba(long[] a, int ao, int n, long[] b, int bo, int m, long[] r, int ro) {
+		if (m < KARATSUBA_THRESHOLD) {
+			schoolbook(a, ao, n, b, bo, m, r, ro);
+			return;
+		}
+		final long[] part = multiply(Arrays.copyOfRange(a, ao, ao + n), Arrays.copyOfRange(b, bo, bo + m));
+		for (int i = 0; i < part.length; i++) {
+			r[ro + i] += part[i];
+		}
+	}
+	
+	/**
+	 * r[ro, ro + n + m - 1) += a[ao, ao + n) * b[bo, bo + m)
+	 */
+	private static void schoolbook(long[] a, int ao, int n, long[] b, int bo, int m, long[] r, int ro) {
+		for (int i = 0; i < n; i++) {
+			final long x = a[ao + i];
+			if (x == 0L) {
+				continue;
+			}
+			for (int j = 0; j < m; j++) {
+				r[ro + i + j] += x * b[bo + j];
+			}
+		}
+	}
+	
+	/**
+	 * r[ro, ro + 2n - 1) += a[ao, ao + n) * b[bo, bo + n)
+	 */
+	private static void karatsuba(long[] a, int ao, long[] b, int bo, int n, long[] r, int ro) {
+		if (n < KARATSUBA_THRESHOLD) {
+			schoolbook(a, ao, n, b, bo, n, r, ro);
+			return;
+		}
+		final int h = n >>> 1;
+		final int k = n - h;
+		final long[] z0 = new long[2 * h - 1];
+		final long[] z1 = new long[2 * k - 1];
+		final long[] z2 = new long[2 * k - 1];
+		karatsuba(a, ao, b, bo, h, z0, 0);
+		karatsuba(a, ao + h, b, bo + h, k, z2, 0);
+		
+		// z1 = (a0 + a1)(b0 + b1) - z0 - z2
+		final long[] sa = new long[k];
+		final long[] sb = new long[k];
+		for (int i = 0; i < k; i++) {
+			sa[i] = a[ao + h + i] + (i < h ? a[ao + i] : 0L);
+			sb[i] = b[bo + h + i] + (i < h ? b[bo + i] : 0L);
+		}
+		karatsuba(sa, 0, sb, 0, k, z1, 0);
+		for (int i = 0; i < z0.length; i++) {
+			r[ro + i] += z0[i];
+			z1[i] -= z0[i];
+		}
+		for (int i = 0; i < z2.length; i++) {
+			r[ro + 2 * h + i] += z2[i];
+			z1[i] -= z2[i];
+		}
+		for (int i = 0; i < z1.length; i++) {
+			r[ro + h + i] += z1[i];
+		}
+	}
+	
+	// --------------------------------------------------------------------------------
+	// BigInteger 系数的逐项相乘与 Karatsuba 算法
+	// --------------------------------------------------------------------------------
+	
+	static BigInteger[] multiply(BigInteger[] a, BigInteger[] b) {
+		final BigInteger[] r = new BigInteger[a.length + b.length - 1];
+		Arrays.fill(r, BigInteger.ZERO);
+		if (a.length < b.length) {
+			final BigInteger[] t = a;
+			a = b;
+			b = t;
+		}
+		final int m = b.length;
+		for (int off = 0; off < a.length; off += m) {
+			final int len = Math.min(m, a.length - off);
+			if (len == m) {
+				karatsuba(a, off, b, 0, m, r, off);
+			} else {
+				final BigInteger[] part = multiply(b, Arrays.copyOfRange(a, off, off + len));
+				for (int i = 0; i < part.length; i++) {
+					r[off + i] = r[off + i].add(part[i]);
+				}
+			}
+		}
+		return r;
+	}
+	
+	/**
+	 * r[ro, ro + 2n - 1) += a[ao, ao + n) * b[bo, bo + n)
+	 */
+	private static void karatsuba(BigInteger[] a, int ao, BigInteger[] b, int bo, int n, BigInteger[] r, int ro) {
+		if (n < KARATSUBA_THRESHOLD) {
+			for (int i = 0; i < n; i++) {
+				final BigInteger x = a[ao + i];
+				if (x.signum() == 0) {
+					continue;
+				}
+				for (int j = 0; j < n; j++) {
+					r[ro + i + j] = r[ro + i + j].add(x.multiply(b[bo + j]));
+				}
+			}
+			return;
+		}
+		final int h = n >>> 1;
+		final int k = n - h;
+		final BigInteger[] z0 = zeros(2 * h - 1);
+		final BigInteger[] z1 = zeros(2 * k - 1);
+		final BigInteger[] z2 = zeros(2 * k - 1);
+		karatsuba(a, ao, b, bo, h, z0, 0);
+		karatsuba(a, ao + h, b, bo + h, k, z2, 0);
+		
+		final BigInteger[] sa = new BigInteger[k];
+		final BigInteger[] sb = new BigInteger[k];
+		for (int i = 0; i < k; i++) {
+			sa[i] = i < h ? a[ao + h + i].add(a[ao + i]) : a[ao + h + i];
+			sb[i] = i < h ? b[bo + h + i].add(b[bo + i]) : b[bo + h + i];
+		}
+		karatsuba(sa, 0, sb, 0, k, z1, 0);
+		for (int i = 0; i < z0.length; i++) {
+			r[ro + i] = r[ro + i].add(z0[i]);
+			z1[i] = z1[i].subtract(z0[i]);
+		}
+		for (int i = 0; i < z2.length; i++) {
+			r[ro + 2 * h + i] = r[ro + 2 * h + i].add(z2[i]);
+			z1[i] = z1[i].subtract(z2[i]);
+		}
+		for (int i = 0; i < z1.length; i++) {
+			r[ro + h + i] = r[ro + h + i].add(z1[i]);
+		}
+	}
+	
+	private static BigInteger[] zeros(int n) {
+		final BigInteger[] r = new BigInteger[n];
+		Arrays.fill(r, BigInteger.ZERO);
+		return r;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// 数论变换
+	// --------------------------------------------------------------------------------
+	
+	/**
+	 * 用数论变换计算积，积的系数的绝对值小于 2<sup>bound</sup>（{@code bound} 不大于 84）。
+	 */
+	private static DenseUnivariatePolynomial ntt(char v, long[] a, long[] b, int bound) {
+		final int length = a.length + b.length - 1;
+		final int size = Integer.highestOneBit(length - 1) << 1;
+		// 素数之积必须大于 2^(bound + 1)，才能区分正负
+		final int k = bound + 1 < 29 ? 1 : bound + 1 < 58 ? 2 : 3;
+		final long[][] residues = new long[k][];
+		for (int t = 0; t < k; t++) {
+			residues[t] = convolution(a, b, size, PRIMES[t]);
+		}
+		
+		final long p0 = PRIMES[0];
+		if (k == 1) {
+			final long[] r = new long[length];
+			for (int i = 0; i < length; i++) {
+				final long x = residues[0][i];
+				r[i] = x > p0 >>> 1 ? x - p0 : x;
+			}
+			return new DenseUnivariatePolynomial(v, trim(r), null);
+		}
+		final long p1 = PRIMES[1];
+		final long inv01 = pow(p0 % p1, p1 - 2, p1);
+		if (k == 2) {
+			// Garner：x = r0 + p0 * t1，0 <= x < p0 * p1 < 2^63
+			final long m = p0 * p1;
+			final long[] r = new long[length];
+			for (int i = 0; i < length; i++) {
+				final long r0 = residues[0][i];
+				final long t1 = Math.floorMod(residues[1][i] - r0, p1) * inv01 % p1;
+				final long x = r0 + p0 * t1;
+				r[i] = x > m >>> 1 ? x - m : x;
+			}
+			return new DenseUnivariatePolynomial(v, trim(r), null);
+		}
+		
+		// Garner：x = r0 + p0 * t1 + p0 * p1 * t2，0 <= x < p0 * p1 * p2
+		final long p2 = PRIMES[2];
+		final long inv02 = pow(p0 % p2, p2 - 2, p2);
+		final long inv12 = pow(p1 % p2, p2 - 2, p2);
+		final long m01 = p0 * p1;
+		final long[] t1 = new long[length];
+		final long[] t2 = new long[length];
+		for (int i = 0; i < length; i++) {
+			final long r0 = residues[0][i];
+			t1[i] = Math.floorMod(residues[1][i] - r0, p1) * inv01 % p1;
+			final long u = Math.floorMod(residues[2][i] - r0, p2) * inv02 % p2;
+			t2[i] = Math.floorMod(u - t1[i] % p2, p2) * inv12 % p2;
+		}
+		if (bound < Long.SIZE - 1) {
+			// 结果在 long 的范围内：t2 大于 p2 / 2 时结果为负数，按模 2^64 的运算减去 p0 * p1 * p2
+			final long m = m01 * p2;
+			final long[] r = new long[length];
+			for (int i = 0; i < length; i++) {
+				final long x = residues[0][i] + p0 * t1[i] + m01 * t2[i];
+				r[i] = t2[i] > p2 >>> 1 ? x - m : x;
+			}
+			return new DenseUnivariatePolynomial(v, trim(r), null);
+		}
+		final BigInteger m = BigInteger.valueOf(m01).multiply(BigInteger.valueOf(p2));
+		final BigInteger half = m.shiftRight(1);
+		final BigInteger[] r = new BigInteger[length];
+		for (int i = 0; i < length; i++) {
+			final BigInteger x = BigInteger.valueOf(t2[i]).multiply(BigInteger.valueOf(m01))
+					.add(BigInteger.valueOf(residues[0][i] + p0 * t1[i]));
+			r[i] = x.compareTo(half) > 0 ? x.subtract(m) : x;
+		}
+		return of(v, r);
+	}
+	
+	/**
+	 * 模 {@code p} 的循环卷积，返回长度为 {@code size} 的数组。
+	 */
+	private static long[] convolution(long[] a, long[] b, int size, long p) {
+		final long[] fa = new long[size];
+		final long[] fb = new long[size];
+		for (int i = 0; i < a.length; i++) {
+			fa[i] = Math.floorMod(a[i], p);
+		}
+		for (int i = 0; i < b.length; i++) {
+			fb[i] = Math.floorMod(b[i], p);
+		}
+		transform(fa, false, p);
+		transform(fb, false, p);
+		for (int i = 0; i < size; i++) {
+			fa[i] = fa[i] * fb[i] % p;
+		}
+		transform(fa, true, p);
+		return fa;
+	}
+	
+	/**
+	 * 原地的迭代数论变换，数组的长度必须为 2 的幂。
+	 */
+	private static void transform(long[] a, boolean invert, long p) {
+		final int n = a.length;
+		for (int i = 1, j = 0; i < n; i++) {
+			int bit = n >>> 1;
+			for (; (j & bit) != 0; bit >>>= 1) {
+				j ^= bit;
+			}
+			j ^= bit;
+			if (i < j) {
+				final long t = a[i];
+				a[i] = a[j];
+				a[j] = t;
+			}
+		}
+		final long[] w = new long[n >>> 1];
+		for (int len = 2; len <= n; len <<= 1) {
+			final int half = len >>> 1;
+			long root = pow(3, (p - 1) / len, p);
+			if (invert) {
+				root = pow(root, p - 2, p);
+			}
+			w[0] = 1L;
+			for (int j = 1; j < half; j++) {
+				w[j] = w[j - 1] * root % p;
+			}
+			for (int i = 0; i < n; i += len) {
+				for (int j = 0; j < half; j++) {
+					final long u = a[i + j];
+					final long x = a[i + j + half] * w[j] % p;
+					final long s = u + x;
+					final long d = u - x;
+					a[i + j]		= s >= p ? s - p : s;
+					a[i + j + half] = d < 0 ? d + p : d;
+				}
+			}
+		}
+		if (invert) {
+			final long inv = pow(n, p - 2, p);
+			for (int i = 0; i < n; i++) {
+				a[i] = a[i] * inv % p;
+			}
+		}
+	}
+	
+	private static long pow(long base, long e, long p) {
+		long r = 1L;
+		base %= p;
+		while (e > 0) {
+			if ((e & 1L) != 0) {
+				r = r * base % p;
+			}
+			base = base * base % p;
+			e >>= 1;
+		}
+		return r;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// 求值
+	// --------------------------------------------------------------------------------
+	
+	/**
+	 * 用秦九韶（Horner）算法求值。
+	 * 
+	 * @param  x 字母的值
+	 * @return   多项式的值
+	 */
+	public double evaluate(double x) {
+		double r = 0.0;
+		if (coefficients != null) {
+			for (int i = coefficients.length - 1; i >= 0; i--) {
+				r = r * x + coefficients[i];
+			}
+		} else {
+			for (int i = big.length - 1; i >= 0; i--) {
+				r = r * x + big[i].doubleValue();
+			}
+		}
+		return r;
+	}
+	
+	/**
+	 * 用秦九韶（Horner）算法精确求值。
+	 * 
+	 * @param  x 字母的值
+	 * @return   多项式的值
+	 */
+	public BigInteger evaluate(BigInteger x) {
+		BigInteger r = BigInteger.ZERO;
+		for (int i = size() - 1; i >= 0; i--) {
+			r = r.multiply(x).add(getCoefficient(i));
+		}
+		return r;
+	}
+
+	/**
+	 * 精确求值。设 x = p/q，先用整数的秦九韶算法计算齐次化的
+	 * a<sub>n</sub>p<sup>n</sup> + a<sub>n-1</sub>p<sup>n-1</sup>q + ... + a<sub>0</sub>q<sup>n</sup>，
+	 * 最后除以 q<sup>n</sup> 并约分一次，避免每一步都求最大公约数。
+	 *
+	 * @param  x 字母的值
+	 * @return   多项式的值
+	 */
+	public BigFraction evaluate(BigFraction x) {
+		final int n = degree();
+		if (n < 0) {
+			return BigFraction.ZERO;
+		}
+		final BigInteger p = x.getNumerator();
+		final BigInteger q = x.getDenominator();
+		BigInteger r = getCoefficient(n);
+		BigInteger qk = BigInteger.ONE;
+		for (int i = n - 1; i >= 0; i--) {
+			qk = qk.multiply(q);
+			r = r.multiply(p).add(getCoefficient(i).multiply(qk));
+		}
+		return BigFraction.valueOf(r, qk);
+	}
+
+	/**
+	 * 用秦九韶（Horner）算法精确求值，整系数多项式在有限小数处的值仍是有限小数，不需要舍入。
+	 *
+	 * @param  x 字母的值
+	 * @return   多项式的值
+	 */
+	public BigDecimal evaluate(BigDecimal x) {
+		BigDecimal r = BigDecimal.ZERO;
+		for (int i = size() - 1; i >= 0; i--) {
+			r = r.multiply(x).add(new BigDecimal(getCoefficient(i)));
+		}
+		return r;
+	}
+
+	/**
+	 * 批量求值：{@code result[i] = p(x[i])}，使用四路并行的秦九韶算法，点数较多时分块并行计算，
+	 * 求值过程中不创建对象。
+	 *
+	 * @param x      字母的值
+	 * @param result 多项式的值，可以与 {@code x} 是同一个数组
+	 * @exception MathIllegalArgumentException 如果两个数组的长度不同
+	 */
+	public void evaluate(double[] x, double[] result) {
+		if (x.length != result.length) {
+			throw new MathIllegalArgumentException("数组的长度不同：" + x.length + ", " + result.length);
+		}
+		final int n = size();
+		final double[] c = new double[Math.max(n, 1)];
+		for (int i = 0; i < n; i++) {
+			c[i] = coefficients != null ? coefficients[i] : big[i].doubleValue();
+		}
+		Horner.evaluate(c, x, result);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 31 + variable;
+		for (int i = 0; i < size(); i++) {
+			h = 31 * h + (coefficients != null ? Long.hashCode(coefficients[i]) : big[i].hashCode());
+		}
+		return h;
+	}
+	
+	/**
+	 * 字母与系数都相同时相等。运算时常数可以与任何字母的多项式一起计算，但字母不同的常数并不相等，
+	 * 与 {@link #hashCode()} 一致。
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof DenseUnivariatePolynomial))
+			return false;
+		final DenseUnivariatePolynomial other = (DenseUnivariatePolynomial) obj;
+		// 系数的表示方式是唯一的：都在 long 的范围内时一定使用 long[]，另一个数组为 null
+		return variable == other.variable 
+				&& Arrays.equals(coefficients, other.coefficients) 
+				&& Arrays.equals(big, other.big);
+	}
+	
+	/**
+	 * 按降幂排列，例如 {@code 3x^2-x+1}。
+	 */
+	@Override
+	public String toString() {
+		final int n = size();
+		if (n == 0) {
+			return "0";
+		}
+		final StringBuilder buf = new StringBuilder();
+		for (int i = n - 1; i >= 0; i--) {
+			final BigInteger c = getCoefficient(i);
+			if (c.signum() == 0) {
+				continue;
+			}
+			if (c.signum() < 0) {
+				buf.append('-');
+			} else if (buf.length() > 0) {
+				buf.append('+');
+			}
+			if (i == 0 || !BigInteger.ONE.equals(c.abs())) {
+				buf.append(c.abs());
+			}
+			if (i > 0) {
+				buf.append(variable);
+				if (i > 1) {
+					buf.append('^').append(i);
+				}
+			}
+		}
+		return buf.toString();
+	}
+	
+}
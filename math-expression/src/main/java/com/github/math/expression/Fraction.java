@@ -17,11 +17,24 @@
 package com.github.math.expression;
 
 import com.github.math.exception.MathZeroException;
-import com.github.math.factorization.Factorization;
+import com.github.math.factorization.Factorizer;
+import com.github.math.number.fraction.BigFraction;
 
 import java.io.Serializable;
 
 /**
+ * <p>
+ * 分式（有理式），分子与分母都是整系数多项式。
+ * 
+ * <p>
+ * 分式的运算是惰性的：加、减、乘、除只按定义组合分子与分母，不约分；
+ * 约去分子与分母的最大公因式（{@link Factorizer#gcd(SparsePolynomial, SparsePolynomial)}）
+ * 推迟到第一次读取分子、分母，比较或者转换为字符串时才进行，结果会被保存下来。
+ * 因此 {@code a/b + c/d - e/f} 这样的连续运算只在最后约分一次。约分之后分母的首项系数为正，
+ * 已经约分的分式参与运算时使用约分之后的分子与分母。
+ * 
+ * <p>
+ * 分子与分母在内部保存为不可变的 {@link SparsePolynomial}，此类的实例是不可变的。
  * 
  * @author 王帅
  *
@@ -31,63 +44,130 @@ public class Fraction implements Expression<Fraction>, Serializable {
 	// The serialVersionUID of the class Fraction.
 	private static final long serialVersionUID = -4048933378577174465L;
 	
+	private static final MonomialOrder ORDER = MonomialOrder.LEX;
+	
 	/**
-	 * 分式的分子。
+	 * 分式的分子，可能没有约分。
 	 */
-	private final Polynomial numerator;
+	private final SparsePolynomial numerator;
 	
 	/**
-	 * 分式的分母。
+	 * 分式的分母，可能没有约分，不为零。
 	 */
-	private final Polynomial denominator;
+	private final SparsePolynomial denominator;
+	
+	/**
+	 * 约分之后的分式，第一次使用时计算；已经约分时为本身。
+	 */
+	private transient volatile Fraction reduced;
 	
 	/**
 	 * 
-	 * @param num 9
-	 * @param den 6
+	 * @param num 分子
+	 * @param den 分母
+	 * @exception MathZeroException 如果分母为零
 	 */
 	public Fraction(Polynomial num, Polynomial den) {
-		
-		if (den.equals(Polynomial.ZERO)) {
+		this(SparsePolynomial.valueOf(num, ORDER), SparsePolynomial.valueOf(den, ORDER));
+	}
+	
+	/**
+	 * 
+	 * @param num 分子
+	 */
+	public Fraction(Polynomial num) {
+		this(SparsePolynomial.valueOf(num, ORDER), SparsePolynomial.valueOf(BigFraction.ONE, ORDER));
+	}
+	
+	private Fraction(SparsePolynomial num, SparsePolynomial den) {
+		if (den.isZero()) {
 			throw new MathZeroException("LocalizedFormats.DENOMINATOR");
 		}
-		
-		Factorization facNum = new Factorization(num);
-		Factorization facDen = new Factorization(den);
-		
-		num = facNum.getFactor();
-		den = facDen.getFactor();
-
-		Monomial monNum = facNum.getCommonFactor();
-		Monomial monDen = facDen.getCommonFactor();
-		
-		Monomial m = monNum.intersection(monDen);
-		
-		monNum = monNum.perfDivide(m);
-		monDen = monDen.perfDivide(m);
-		
-		this.numerator 	 = num.multiply(monNum);
-		this.denominator = den.multiply(monDen);
-		
+		this.numerator	 = num.withOrder(ORDER);
+		this.denominator = den.withOrder(ORDER);
+	}
+	
+	/**
+	 * 约分：约去分子与分母的最大公因式，使分母的首项系数为正。
+	 */
+	private Fraction reduce() {
+		Fraction r = reduced;
+		if (r == null) {
+			final SparsePolynomial g = Factorizer.gcd(numerator, denominator);
+			SparsePolynomial num = numerator.divideExact(g);
+			SparsePolynomial den = denominator.divideExact(g);
+			if (den.leadingCoefficient().signum() < 0) {
+				num = num.negate();
+				den = den.negate();
+			}
+			if (num.equals(numerator) && den.equals(denominator)) {
+				r = this;
+			} else {
+				r = new Fraction(num, den);
+				r.reduced = r;
+			}
+			reduced = r;
+		}
+		return r;
+	}
+	
+	/**
+	 * @return 参与运算的分式：已经约分时使用约分的结果，否则使用本身
+	 */
+	private Fraction operand() {
+		final Fraction r = reduced;
+		return r == null ? this : r;
+	}
+	
+	/**
+	 * 约分之后的分子。连续的乘法会使系数迅速增大，系数超出 {@code int} 的范围时使用 {@link #numerator()}。
+	 * 
+	 * @return 约分之后的分子
+	 * @exception com.github.math.exception.MathArithmeticException 如果某一项的系数不是 {@code int} 范围内的整数
+	 */
+	public Polynomial getNumerator() {
+		return numerator().toPolynomial();
+	}
+	
+	/**
+	 * 约分之后的分母。连续的乘法会使系数迅速增大，系数超出 {@code int} 的范围时使用 {@link #denominator()}。
+	 * 
+	 * @return 约分之后的分母，首项系数为正
+	 * @exception com.github.math.exception.MathArithmeticException 如果某一项的系数不是 {@code int} 范围内的整数
+	 */
+	public Polynomial getDenominator() {
+		return denominator().toPolynomial();
+	}
+	
+	/**
+	 * @return 约分之后的分子，系数没有范围的限制
+	 */
+	public SparsePolynomial numerator() {
+		return reduce().numerator;
+	}
+	
+	/**
+	 * @return 约分之后的分母，首项系数为正，系数没有范围的限制
+	 */
+	public SparsePolynomial denominator() {
+		return reduce().denominator;
 	}
 	
 	@Override
 	public String toString() {
-		if (this.numerator.isEmpty()) {
-			return "0";
-		} else if (this.denominator.toString().equals("1")) {
-			return this.numerator.toString();
+		final Fraction r = reduce();
+		if (r.denominator.isConstant() && BigFraction.ONE.equals(r.denominator.leadingCoefficient())) {
+			return r.numerator.toString();
 		}
-		return numerator + " / " + denominator;
+		return r.numerator + " / " + r.denominator;
 	}
 
-
-
 	@Override
 	public int hashCode() {
+		final Fraction r = reduce();
 		int result = 1;
-		result = 31 * result + ((denominator == null) ? 0 : denominator.hashCode());
-		result = 31 * result + ((numerator == null) ? 0 : numerator.hashCode());
+		result = 31 * result + r.denominator.hashCode();
+		result = 31 * result + r.numerator.hashCode();
 		return result;
 	}
 
@@ -102,50 +182,78 @@ public class Fraction implements Expression<Fraction>, Serializable {
 		if (!(obj instanceof Fraction)) {
 			return false;
 		}
-		final Fraction other = (Fraction) obj;
-		if (!denominator.equals(other.denominator)) {
+		final Fraction a = reduce();
+		final Fraction b = ((Fraction) obj).reduce();
+		if (!a.denominator.equals(b.denominator)) {
 			return false;
 		}
-		if (!numerator.equals(other.numerator)) {
+		if (!a.numerator.equals(b.numerator)) {
 			return false;
 		}
 		return true;
 	}
 
+	/**
+	 * a/b + c/d：分母相同时为 (a + c)/b，否则为 (ad + bc)/bd，不约分。
+	 */
 	@Override
 	public Fraction plus(final Fraction t) {
-		// TODO 自动生成的方法存根
-		return null;
+		return addOrSubtract(t, false);
 	}
 
 	@Override
 	public Fraction subtract(final Fraction a) {
-		// TODO 自动生成的方法存根
-		return null;
+		return addOrSubtract(a, true);
+	}
+	
+	private Fraction addOrSubtract(Fraction val, boolean subtract) {
+		final Fraction x = operand();
+		final Fraction y = val.operand();
+		if (x.denominator.equals(y.denominator)) {
+			final SparsePolynomial num = subtract ? x.numerator.subtract(y.numerator) : x.numerator.add(y.numerator);
+			return new Fraction(num, x.denominator);
+		}
+		final SparsePolynomial ad = x.numerator.multiply(y.denominator);
+		final SparsePolynomial bc = x.denominator.multiply(y.numerator);
+		return new Fraction(subtract ? ad.subtract(bc) : ad.add(bc), x.denominator.multiply(y.denominator));
 	}
 
 	@Override
 	public Fraction multiply(final Fraction a) {
-		// TODO 自动生成的方法存根
-		return null;
+		final Fraction x = operand();
+		final Fraction y = a.operand();
+		return new Fraction(x.numerator.multiply(y.numerator), x.denominator.multiply(y.denominator));
 	}
 
+	/**
+	 * 
+	 * @exception MathZeroException 如果除数为零
+	 */
 	@Override
 	public Fraction divide(final Fraction a) {
-		// TODO 自动生成的方法存根
-		return null;
+		final Fraction x = operand();
+		final Fraction y = a.operand();
+		return new Fraction(x.numerator.multiply(y.denominator), x.denominator.multiply(y.numerator));
 	}
 
 	@Override
 	public Fraction negate() {
-		// TODO 自动生成的方法存根
-		return null;
+		final Fraction x = operand();
+		final Fraction r = new Fraction(x.numerator.negate(), x.denominator);
+		if (x.reduced == x) {
+			r.reduced = r;
+		}
+		return r;
 	}
 
+	/**
+	 * 
+	 * @exception MathZeroException 如果分式为零
+	 */
 	@Override
 	public Fraction reciprocal() {
-		// TODO 自动生成的方法存根
-		return null;
+		final Fraction x = operand();
+		return new Fraction(x.denominator, x.numerator);
 	}
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * 用秦九韶（Horner）算法对一元多项式批量求值的内核。
+ * 
+ * <p>
+ * 系数按次数从低到高排列。每次同时计算四个点的值，四条乘加链互不依赖，可以充分利用处理器的流水线；
+ * 求值过程中不创建任何对象。计算量（点数与项数之积）不小于 {@value #PARALLEL_THRESHOLD} 时，
+ * 把输入按块二分，在 {@link ForkJoinPool#commonPool()} 中并行计算。
+ * 
+ * @author 王帅
+ */
+final class Horner {
+	
+	/**
+	 * 计算量不小于此值时并行计算。
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 16;
+	
+	private Horner() {
+	}
+	
+	/**
+	 * 计算 {@code result[i] = p(x[i])}。
+	 * 
+	 * @param c      系数，{@code c[k]} 为 x<sup>k</sup> 的系数，长度至少为 1
+	 * @param x      自变量的值
+	 * @param result 多项式的值，可以与 {@code x} 是同一个数组
+	 */
+	static void evaluate(double[] c, double[] x, double[] result) {
+		if ((long) x.length * c.length < PARALLEL_THRESHOLD) {
+			evaluate(c, x, result, 0, x.length);
+		} else {
+			ForkJoinPool.commonPool().invoke(new EvaluateTask(c, x, result, 0, x.length));
+		}
+	}
+	
+	/**
+	 * 计算 {@code result[i] = p(x[i])}，{@code from <= i < to}。
+	 */
+	static void evaluate(double[] c, double[] x, double[] result, int from, int to) {
+		final int n = c.length - 1;
+		final double lead = c[n];
+		int i = from;
+		for (; i + 3 < to; i += 4) {
+			final double x0 = x[i];
+			final double x1 = x[i + 1];
+			final double x2 = x[i + 2];
+			final double x3 = x[i + 3];
+			double r0 = lead, r1 = lead, r2 = lead, r3 = lead;
+			for (int k = n - 1; k >= 0; k--) {
+				final double a = c[k];
+				r0 = r0 * x0 + a;
+				r1 = r1 * x1 + a;
+				r2 = r2 * x2 + a;
+				r3 = r3 * x3 + a;
+			}
+			result[i]	  = r0;
+			result[i + 1] = r1;
+			result[i + 2] = r2;
+			result[i + 3] = r3;
+		}
+		for (; i < to; i++) {
+			final double x0 = x[i];
+			double r0 = lead;
+			for (int k = n - 1; k >= 0; k--) {
+				r0 = r0 * x0 + c[k];
+			}
+			result[i] = r0;
+		}
+	}
+	
+	/**
+	 * 并行求值的子任务，计算 {@code x[from, to)} 处的值。
+	 */
+	private static final class EvaluateTask extends RecursiveAction {
+		
+		// The serialVersionUID of the class EvaluateTask.
+		private static final long serialVersionUID = -2753614930582170416L;
+		
+		private final double[] c;
+		private final double[] x;
+		private final double[] result;
+		private final int from;
+		private final int to;
+		
+		EvaluateTask(double[] c, double[] x, double[] result, int from, int to) {
+			this.c		= c;
+			this.x		= x;
+			this.result = result;
+			this.from	= from;
+			this.to		= to;
+		}
+		
+		@Override
+		protected void compute() {
+			final int n = to - from;
+			// 少于八个点时按四的倍数二分会得到空的一半
+			if (n < 8 || (long) n * c.length < PARALLEL_THRESHOLD) {
+				evaluate(c, x, result, from, to);
+				return;
+			}
+			// 按四的倍数二分，使每块都能完整地使用四路内核
+			final int mid = from + ((n >>> 1) & ~3);
+			invokeAll(new EvaluateTask(c, x, result, from, mid), 
+					new EvaluateTask(c, x, result, mid, to));
+		}
+		
+	}
+	
+}
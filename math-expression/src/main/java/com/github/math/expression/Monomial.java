@@ -28,10 +28,13 @@
  */
 package com.github.math.expression;
 
+import com.github.math.SuperMath;
 import com.github.math.number.Signum;
 
 import java.io.Serializable;
-import java.util.*;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -39,6 +42,16 @@ import java.util.Map.Entry;
  * {@code Monomial}类提供单项式的相关操作。
  * <strong>数或字母的积，像这样式子叫做单项式（monomial）</strong>。
  * 
+ * <p>
+ * 字母及其指数保存在打包的指数向量 {@link Powers} 中，相乘是指数向量相加，比较与判断相等都是
+ * 基本类型的比较。字符串形式在第一次调用 {@link #toString()} 时才创建。
+ * 
+ * <p>
+ * 此类的实例是不可变的：所有运算都只读取 {@code final} 字段，或者使用局部的下标归并两个指数向量，
+ * 不修改任何共享的状态，因此同一个实例（例如 {@link #ONE}）可以在多个线程中同时使用，无需同步。
+ * {@link #toString()} 的延迟初始化可能被多个线程重复执行，但每次的结果都相同，而 {@code String}
+ * 本身可以安全地发布。
+ * 
  * @author 	王帅
  * @see		Expression
  * @see		Polynomial
@@ -49,18 +62,13 @@ public final class Monomial implements 	Signum,
 		Serializable {
 	
 	// The serialVersionUID of the class Monomial.
-	private static final long serialVersionUID = 5062871850762579006L;
+	private static final long serialVersionUID = -3208127463850275315L;
 	
 	/**
 	 * 单项式的系数（{@code int}类型）。
 	 */
 	final int coefficient;
 	
-	/**
-	 * 单项式的次数（degree of a monomial）。
-	 */
-	private final int degree;
-
 	/**
 	 * 单项式的符号函数（也可提说是{@link #coefficient}的符号函数）。
 	 */
@@ -69,17 +77,12 @@ public final class Monomial implements 	Signum,
 	/**
 	 * 单项式的字母以及字母的指数。
 	 */
-	final TreeMap<Character, Integer> letter;
+	final Powers letter;
 	
 	/**
-	 * {@code Monomial}的字符串形式。
+	 * {@code Monomial}的字符串形式，延迟创建。
 	 */
-	private final String value;
-
-	/**
-	 * 全局变量，由于遍历{@link #letter}的内容。
-	 */
-	private Iterator<Entry<Character, Integer>> into;
+	private transient String value;
 
 	/**
 	 * {@code Monomial}的常量0。
@@ -91,21 +94,15 @@ public final class Monomial implements 	Signum,
 	 */
 	public static final Monomial ONE  = new Monomial(1);
 	
-	private static final HashMap<Character, Integer> EMPTY_MAP = new HashMap<>();
-	
 	/**
 	 * 
 	 * @param coefficient 单项式系数
-	 * @param letter 	      字母
+	 * @param letter 	      字母以及字母的指数，指数为零的字母会被忽略
+	 * @exception com.github.math.exception.MathIllegalArgumentException 
+	 * 			  如果指数为负数或大于 {@value Powers#MAX_EXPONENT}
 	 */
 	public Monomial(int coefficient, Map<Character, Integer> letter) {
-		this.coefficient = coefficient;
-		this.signum 	 = Integer.signum(coefficient);
-		this.letter 	 = new TreeMap<>();
-		int deg = 0;
-		// 过滤
-		this.value  = initString();
-		this.degree = deg;
+		this(coefficient, Powers.of(letter));
 	}
 	
 	public Monomial(Map<Character, Integer> letter) {
@@ -116,29 +113,46 @@ public final class Monomial implements 	Signum,
 	 * @param coefficient xishu1
 	 */
 	public Monomial(int coefficient) {
-		this(coefficient, EMPTY_MAP);
+		this(coefficient, Powers.EMPTY);
 	}
 	
-	Monomial(int coefficient, TreeMap<Character, Integer> letter) {
+	Monomial(int coefficient, Powers letter) {
 		this.coefficient = coefficient;
-		this.letter		 = letter;
-		this.into		 = letter.entrySet().iterator();
-		int deg = 0;
-		while (into.hasNext()) {
-			deg += into.next().getValue().intValue();
-		}
-		this.degree		 = deg;
 		this.signum 	 = Integer.signum(coefficient);
-		this.value		 = initString();
+		this.letter		 = letter;
 	}
 	
 	/**
 	 * 
-	 * @return letter
+	 * @return 按字母顺序遍历字母以及字母指数的迭代器（只读）
 	 */
 	public Iterator<Entry<Character, Integer>> iterator() {
-		initInto();
-		return this.into;
+		return Collections.unmodifiableMap(letter.toMap()).entrySet().iterator();
+	}
+
+	/**
+	 * @return 字母的个数
+	 */
+	public int variableCount() {
+		return letter.size();
+	}
+	
+	/**
+	 * 不创建对象地遍历字母，与 {@link #exponentAt(int)} 一起使用。
+	 * 
+	 * @param  i 索引，字母按升序排列
+	 * @return   第 {@code i} 个字母
+	 */
+	public char variableAt(int i) {
+		return letter.variableAt(i);
+	}
+	
+	/**
+	 * @param  i 索引，字母按升序排列
+	 * @return   第 {@code i} 个字母的指数
+	 */
+	public int exponentAt(int i) {
+		return letter.exponentAt(i);
 	}
 
 	@Override
@@ -152,7 +166,7 @@ public final class Monomial implements 	Signum,
 	 * @return 单项式的次数
 	 */
 	public int degree() {
-		return degree;
+		return letter.degree();
 	}
 
 	@Override
@@ -162,7 +176,11 @@ public final class Monomial implements 	Signum,
 	
 	@Override
 	public String toString() {
-		return this.value;
+		String s = value;
+		if (s == null) {
+			value = s = initString();
+		}
+		return s;
 	}
 	
 	/**
@@ -173,32 +191,13 @@ public final class Monomial implements 	Signum,
 	}
 	
 	/**
+	 * 两个单项式的公因式：系数为两个系数的最大公约数，字母为两者都含有的字母，指数取较小者。
 	 * 
 	 * @param m b
 	 * @return b
 	 */
 	public Monomial intersection(Monomial m) {
-		initInto(m);
-		HashMap<Character, Integer> value = new HashMap<>();
-		
-		Entry<Character, Integer> e;
-		Entry<Character, Integer> n;
-		
-		try {
-			while (into.hasNext()) {
-				e = into.next();
-				n = m.into.next();
-				if (e.getKey().equals(n.getKey())) {
-					int min = Math.min(e.getValue(), n.getValue());
-					value.put(e.getKey(), min);
-				}
-			}
-		} catch (NoSuchElementException nse) {
-			// do nothing here
-		}
-		
-		int gcd = 0;
-		return new Monomial(gcd, value); 
+		return new Monomial(SuperMath.gcd(coefficient, m.coefficient), letter.gcd(m.letter)); 
 	}
 	
 	private String initString() {
@@ -223,44 +222,14 @@ public final class Monomial implements 	Signum,
 				break;
 			}
 			
-			initInto();
-			Entry<Character, Integer> e = null;
-			while (into.hasNext()) {
-				e = into.next();
-				bur.append(e.getKey().charValue());
-				if (e.getValue().intValue() != 1) {
-					bur.append('^').append(e.getValue().intValue());
-				}
-			}
-			return bur.toString();
+			return letter.appendTo(bur).toString();
 		}
 		return s;
 	}
 
-	/**
-	 * 初始化两个{@code Monomial}类的迭代器（{@link #into}）。
-	 *  
-	 * @param m 另一个{@code Monomial}类
-	 */
-	private void initInto(Monomial m) {
-		initInto();
-		m.initInto();
-	}
-
-	/**
-	 * 初始化本类的迭代器（{@link #into}）。
-	 */
-	private void initInto() {
-		this.into = this.letter.entrySet().iterator();
-	}
-
 	@Override
 	public int hashCode() {
-		int result = 1;
-		final long temp = Double.doubleToLongBits(coefficient);
-		result = 31 * result  +  (int) (temp ^ (temp >>> 32));
-		result = 31 * result  +  ((letter == null) ? 0 : letter.hashCode());
-		return result;
+		return 31 * (31 + coefficient) + letter.hashCode();
 	}
 
 	@Override
@@ -289,7 +258,8 @@ public final class Monomial implements 	Signum,
 	 * <li>如果两个单项式的第一个字母不相同，则按照两个单项式第一个字母的自然顺数进行排序；
 	 * </ul>
 	 * 特殊情况判断完成后，就会比较第一个字母的指数，如果第一个字母的指数相同，则会比较第二个字母的指数，
-	 * 以此类推。如果到最后时，比较的结果显示两个单项式的字母及其指数全部相同时，则会比较两个单项式的系数。
+	 * 以此类推；如果一个单项式的字母及其指数是另一个的开头部分，字母少的在前面。如果到最后时，
+	 * 比较的结果显示两个单项式的字母及其指数全部相同时，则会比较两个单项式的系数。
 	 * 
 	 * <p>
 	 * 下面是一组比较排序后的单项式：
@@ -302,9 +272,9 @@ public final class Monomial implements 	Signum,
 	 *	2a^2c^5e^8,
 	 *	4b^6p^3q^9,
 	 *	c^6,
+	 *	1,
 	 *	3,
-	 *	8,
-	 *	1.
+	 *	8.
 	 * </pre></blockquote>
 	 * 
 	 * <p>
@@ -312,196 +282,61 @@ public final class Monomial implements 	Signum,
 	 * {@code Comparable}接口，使其可以进行<i>自然排序</i>。
 	 * 
 	 * @param o	与本类作比较的对象
-	 * @return	正数：当前对象在比较对象的前面；
-	 * 			负数：当前对象在比较对象的后；
+	 * @return	负数：当前对象在比较对象的前面；
+	 * 			正数：当前对象在比较对象的后面；
 	 * 			零：当前对象与比较对象相等
 	 */
 	@Override
 	public int compareTo(Monomial o) {
-		
-		if (this == o) {
-			return 0;
-		}
-		
-		if (o == null) {
-			return -1;
-		}
-		
-		boolean thisEmpty = this.letter.isEmpty();
-		boolean thatEmpty = o.letter.isEmpty();
-		
-		if (thisEmpty && thatEmpty) {
-			return Integer.compare(this.coefficient, o.coefficient);
-		}
-		
-		int thisSize = this.letter.size();
-		int thatSize = o.letter.size();
-		
-		if (thisEmpty | thatEmpty) {
-			return -(thisSize + thatSize);
-		}
-		
-		initInto(o);
-		return sort(this.into, o.into, o.coefficient);
-	}
-
-	/**
-	 * 遍历比较两个对象。
-	 * 
-	 * @param big	本类对象的迭代器
-	 * @param small	比较类对象的迭代器
-	 * @param c		比较类对象的系数
-	 * @return		比较后的值
-	 */
-	private int sort(Iterator<Entry<Character, Integer>> big,
-					 Iterator<Entry<Character, Integer>> small,
-					 int c) {
-		
-		Entry<Character, Integer> first = null;
-		Entry<Character, Integer> last  = null;
-		
-		int compare = 0;
-		
-		while (big.hasNext() && small.hasNext()) {
-			
-			last  = small.next();
-			first = big.next();
-			
-			// 字母相等，比较字母的指数
-			if (first.getKey().equals(last.getKey())) {
-				
-				compare = first.getValue().compareTo(last.getValue());
-				if (compare != 0) {
-					return -compare;
-				}
-				// 指数也相等，继续比较
-				continue;
-			}
-			
-			break;
-			
-		}
-		
-		compare = first.getKey().compareTo(last.getKey());
-		
+		final int compare = letter.compareTo(o.letter);
 		if (compare != 0) {
 			return compare;
 		}
-		
-		return Integer.compare(this.coefficient, c);
-		
+		return Integer.compare(coefficient, o.coefficient);
 	}
 
 	@Override
 	public Polynomial plus(Monomial val) {
-		return new Polynomial(val);
+		return new Polynomial(this, val);
 	}
 
 	@Override
 	public Polynomial subtract(Monomial val) {
-		return new Polynomial(val.negate());
+		return new Polynomial(this, val.negate());
 	}
 	
 	@Override
 	public Monomial multiply(Monomial val) {
-		
-		TreeMap<Character, Integer> map;
-		int mul = coefficient * val.coefficient;
-		
-		if (letter.isEmpty() | val.letter.isEmpty()) {
-			map = new TreeMap<>(letter);
-			map.putAll(val.letter);
-			return new Monomial(mul, map);
-		}
-		
-		initInto(val);
-		if (letter.size() > val.letter.size()) {
-			map = multiplyUtil(into, val.into);
-		} else {
-			map = multiplyUtil(val.into, into);
-		}
-		return new Monomial(mul, map);
-	}
-	
-	private TreeMap<Character,Integer> multiplyUtil(
-			Iterator<Entry<Character,Integer>> big,
-			Iterator<Entry<Character, Integer>> small) {
-		
-		final TreeMap<Character, Integer> map = new TreeMap<>();
-		
-		Entry<Character, Integer> e = null;
-		Entry<Character, Integer> n = null;
-		
-		Top: while (big.hasNext()) {
-			 	e = big.next();
-				while (small.hasNext()) {
-					n = small.next();
-					if (e.getKey().equals(n.getKey())) {
-						map.put(e.getKey(), e.getValue() + n.getValue());
-					} else {
-						map.put(e.getKey(), e.getValue());
-						map.put(n.getKey(), n.getValue());
-					}
-					continue Top;
-				}
-				map.put(e.getKey(), e.getValue());
-			}
-		
-		return map;
+		return new Monomial(coefficient * val.coefficient, letter.multiply(val.letter));
 	}
 	
 	/**
+	 * 单项式整除。
 	 * 
 	 * @param m b
 	 * @return b
+	 * @exception com.github.math.exception.MathArithmeticException 如果 {@code m} 中的字母不能整除本单项式
 	 */
 	public Monomial perfDivide(Monomial m) {
-		HashMap<Character, Integer> value = new HashMap<>();
-		initInto(m);
-		Entry<Character, Integer> e;
-		Entry<Character, Integer> n;
-		
-		while (m.into.hasNext()) {
-			e = into.next();
-			n = m.into.next();
-			if (e.getKey().equals(n.getKey())) {
-				value.put(e.getKey(), e.getValue() - n.getValue());
-			}
-		}
-		
-		while (into.hasNext()) {
-			e = into.next();
-			value.put(e.getKey(), e.getValue());
-		}
-		return new Monomial(coefficient / m.coefficient, value); 
+		return new Monomial(coefficient / m.coefficient, letter.divide(m.letter)); 
 	}
 
+	/**
+	 * 
+	 * @exception com.github.math.exception.MathZeroException 如果除式为零
+	 */
 	@Override
 	public Fraction divide(Monomial val) {
-		// TODO 自动生成的方法存根
-		return null;
+		return new Fraction(new Polynomial(this), new Polynomial(val));
 	}
 	
+	/**
+	 * 
+	 * @exception com.github.math.exception.MathZeroException 如果单项式为零
+	 */
 	@Override
 	public Fraction reciprocal() {
-		// TODO 自动生成的方法存根
-		return null;
-	}
-	
-	class Letter implements Comparable<Letter> {
-		
-		Character key;
-		int value;
-		
-		public Letter(Character key, int value) {
-			this.key   = key;
-			this.value = value;
-		}
-
-		@Override
-		public int compareTo(Letter o) {
-			return this.key - o.key;
-		}
+		return new Fraction(Polynomial.ONE, new Polynomial(this));
 	}
 	
 }
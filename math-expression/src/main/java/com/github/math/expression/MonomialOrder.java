@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+/**
+ * <p>
+ * 单项式的序（monomial ordering），决定 {@link SparsePolynomial} 中各项的排列顺序与首项。
+ * 
+ * <p>
+ * 字母按字母表的顺序排列，即 {@code a > b > c > ...}。三种序都是与乘法相容的良序：
+ * 若 {@code u > v}，则对任意单项式 {@code w} 都有 {@code uw > vw}。
+ * 
+ * @author 王帅
+ * @see    SparsePolynomial
+ */
+public enum MonomialOrder {
+	
+	/**
+	 * 字典序（lex）：先比较第一个字母的指数，指数大的在前；相同时比较第二个字母的指数，以此类推。
+	 */
+	LEX {
+		@Override
+		int compare(int[] a, int[] b) {
+			return lex(a, b);
+		}
+	},
+	
+	/**
+	 * 分次字典序（grlex）：先比较次数，次数大的在前；次数相同时按字典序比较。
+	 */
+	GRLEX {
+		@Override
+		int compare(int[] a, int[] b) {
+			final int n = a.length - 1;
+			if (a[n] != b[n]) {
+				return Integer.compare(a[n], b[n]);
+			}
+			return lex(a, b);
+		}
+	},
+	
+	/**
+	 * 分次反字典序（grevlex）：先比较次数，次数大的在前；次数相同时从最后一个字母开始比较，
+	 * 指数小的在前。
+	 */
+	GREVLEX {
+		@Override
+		int compare(int[] a, int[] b) {
+			final int n = a.length - 1;
+			if (a[n] != b[n]) {
+				return Integer.compare(a[n], b[n]);
+			}
+			for (int i = n - 1; i >= 0; i--) {
+				if (a[i] != b[i]) {
+					return Integer.compare(b[i], a[i]);
+				}
+			}
+			return 0;
+		}
+	};
+	
+	/**
+	 * 比较两个指数向量。数组的前 {@code n} 个元素依次为各字母的指数，最后一个元素为次数（指数之和）。
+	 * 
+	 * @return 正数：{@code a} 大于 {@code b}；负数：{@code a} 小于 {@code b}；零：两者相同
+	 */
+	abstract int compare(int[] a, int[] b);
+	
+	private static int lex(int[] a, int[] b) {
+		final int n = a.length - 1;
+		for (int i = 0; i < n; i++) {
+			if (a[i] != b[i]) {
+				return Integer.compare(a[i], b[i]);
+			}
+		}
+		return 0;
+	}
+	
+}
@@ -16,10 +16,18 @@
 
 package com.github.math.expression;
 
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.number.fraction.BigFraction;
+
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * 
@@ -35,6 +43,11 @@ public final class Polynomial
 	
 	private final PolynomialSet elements;
 	
+	/**
+	 * 乘积的项数（两个多项式项数之积）不小于此值时，使用 {@link ForkJoinPool} 并行计算乘积。
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 8;
+	
 	/***/
 	public static final Polynomial ZERO = new Polynomial(Monomial.ZERO);
 	/***/
@@ -58,7 +71,7 @@ public final class Polynomial
 		this.elements.addAll(c);
 	}
 	
-	private Polynomial(PolynomialSet elements) {
+	Polynomial(PolynomialSet elements) {
 		this.elements = elements;
 	}
 	
@@ -100,6 +113,11 @@ public final class Polynomial
 		return new Polynomial(set);
 	}
 
+	@Override
+	public boolean contains(Object o) {
+		return this.elements.contains(o);
+	}
+
 	@Override
 	public Iterator<Monomial> iterator() {
 		return this.elements.iterator();
@@ -181,8 +199,23 @@ public final class Polynomial
 		return plus(val.negate());
 	}
 
+	/**
+	 * <p>
+	 * 两个多项式相乘。乘积的项数不小于 {@link #PARALLEL_THRESHOLD} 时，自动改用
+	 * {@link #parallelMultiply(Polynomial)} 计算；即使只有一个处理器，散列表合并同类项也比逐项插入快得多。
+	 */
 	@Override
 	public Polynomial multiply(Polynomial val) {
+		if ((long) size() * val.size() >= PARALLEL_THRESHOLD) {
+			return parallelMultiply(val);
+		}
+		return sequentialMultiply(val);
+	}
+	
+	/**
+	 * 逐项相乘，每个乘积都通过 {@link PolynomialSet#add(Monomial)} 合并同类项。
+	 */
+	Polynomial sequentialMultiply(Polynomial val) {
 		PolynomialSet set = new PolynomialSet(size() * val.size());
 		
 		Iterator<Monomial> i0 = iterator();
@@ -203,6 +236,31 @@ public final class Polynomial
 		return new Polynomial(set);
 	}
 	
+	/**
+	 * <p>
+	 * 在 {@link ForkJoinPool#commonPool()} 中并行计算两个多项式的积。
+	 * 
+	 * <p>
+	 * 本多项式的项被递归地二分，每个子任务把自己的部分积累加到独立的散列表中（以指数向量为键），
+	 * 合并子任务时把较小的散列表并入较大的散列表。同类项全部合并之后，才把不为零的项加入结果，
+	 * 因此 {@link PolynomialSet#add(Monomial)} 的调用次数只与结果的项数有关。
+	 * 
+	 * @param val 另一个多项式
+	 * @return    两个多项式的积
+	 */
+	Polynomial parallelMultiply(Polynomial val) {
+		final Monomial[] left  = elements.toArray(new Monomial[0]);
+		final Monomial[] right = val.elements.toArray(new Monomial[0]);
+		final HashMap<Powers, int[]> terms = 
+				ForkJoinPool.commonPool().invoke(new MultiplyTask(left, right, 0, left.length));
+		
+		PolynomialSet set = new PolynomialSet(terms.size());
+		for (Map.Entry<Powers, int[]> e : terms.entrySet()) {
+			set.add(new Monomial(e.getValue()[0], e.getKey()));
+		}
+		return new Polynomial(set);
+	}
+	
 	/**
 	 * 
 	 * @param m n
@@ -217,15 +275,172 @@ public final class Polynomial
 		return new Polynomial(set);
 	}
 	
+	/**
+	 * 求多项式在给定点的值。
+	 * 
+	 * @param  values 每个字母的值
+	 * @return        多项式的值
+	 * @exception MathIllegalArgumentException 如果缺少某个字母的值
+	 */
+	public double evaluate(Map<Character, Double> values) {
+		double r = 0.0;
+		for (Monomial m : elements) {
+			double t = m.coefficient;
+			final Powers letter = m.letter;
+			for (int i = 0; i < letter.size(); i++) {
+				t *= Math.pow(value(values, letter.variableAt(i)), letter.exponentAt(i));
+			}
+			r += t;
+		}
+		return r;
+	}
+	
+	/**
+	 * 精确地求多项式在给定点的值。
+	 * 
+	 * @param  values 每个字母的值
+	 * @return        多项式的值
+	 * @exception MathIllegalArgumentException 如果缺少某个字母的值
+	 */
+	public BigFraction evaluateExact(Map<Character, BigFraction> values) {
+		BigFraction r = BigFraction.ZERO;
+		for (Monomial m : elements) {
+			BigFraction t = BigFraction.valueOf(m.coefficient);
+			final Powers letter = m.letter;
+			for (int i = 0; i < letter.size(); i++) {
+				t = t.multiply(value(values, letter.variableAt(i)).pow(letter.exponentAt(i)));
+			}
+			r = r.add(t);
+		}
+		return r;
+	}
+	
+	/**
+	 * 精确地求多项式在给定点的值，整系数多项式在有限小数处的值仍是有限小数，不需要舍入。
+	 * 
+	 * @param  values 每个字母的值
+	 * @return        多项式的值
+	 * @exception MathIllegalArgumentException 如果缺少某个字母的值
+	 */
+	public BigDecimal evaluateDecimal(Map<Character, BigDecimal> values) {
+		BigDecimal r = BigDecimal.ZERO;
+		for (Monomial m : elements) {
+			BigDecimal t = BigDecimal.valueOf(m.coefficient);
+			final Powers letter = m.letter;
+			for (int i = 0; i < letter.size(); i++) {
+				t = t.multiply(value(values, letter.variableAt(i)).pow(letter.exponentAt(i)));
+			}
+			r = r.add(t);
+		}
+		return r;
+	}
+	
+	private static <T> T value(Map<Character, T> values, char variable) {
+		final T v = values.get(variable);
+		if (v == null) {
+			throw new MathIllegalArgumentException("缺少字母 " + variable + " 的值");
+		}
+		return v;
+	}
+	
+	/**
+	 * 对一元多项式批量求值：{@code result[i] = p(x[i])}。多项式先转换为稠密的系数数组，
+	 * 再用四路并行的秦九韶算法计算，点数较多时分块并行计算，求值过程中不创建对象。
+	 * 
+	 * @param x      字母的值
+	 * @param result 多项式的值，可以与 {@code x} 是同一个数组
+	 * @exception MathIllegalArgumentException 如果多项式含有多个字母，或者两个数组的长度不同
+	 * @see DenseUnivariatePolynomial#evaluate(double[], double[])
+	 */
+	public void evaluate(double[] x, double[] result) {
+		DenseUnivariatePolynomial.valueOf(this).evaluate(x, result);
+	}
+	
+	/**
+	 * 
+	 * @exception com.github.math.exception.MathZeroException 如果除式为零
+	 */
 	@Override
 	public Fraction divide(Polynomial val) {
-		return null;
+		return new Fraction(this, val);
 	}
 	
+	/**
+	 * 
+	 * @exception com.github.math.exception.MathZeroException 如果多项式为零
+	 */
 	@Override
 	public Fraction reciprocal() {
-		// TODO 自动生成的方法存根
-		return null;
+		return new Fraction(ONE, this);
+	}
+
+	/**
+	 * 并行乘法的子任务，计算 {@code left[from, to)} 与 {@code right} 中每一项的积，
+	 * 按指数向量累加系数。
+	 */
+	private static final class MultiplyTask 
+		extends RecursiveTask<HashMap<Powers, int[]>> {
+		
+		// The serialVersionUID of the class MultiplyTask.
+		private static final long serialVersionUID = 3620816406291532716L;
+		
+		/**
+		 * 子任务至多计算的乘积项数，超过时继续二分。
+		 */
+		private static final int LEAF_SIZE = 1 << 10;
+		
+		private final Monomial[] left;
+		private final Monomial[] right;
+		private final int from;
+		private final int to;
+		
+		MultiplyTask(Monomial[] left, Monomial[] right, int from, int to) {
+			this.left  = left;
+			this.right = right;
+			this.from  = from;
+			this.to    = to;
+		}
+		
+		@Override
+		protected HashMap<Powers, int[]> compute() {
+			final int n = to - from;
+			if (n == 1 || (long) n * right.length <= LEAF_SIZE) {
+				return multiply();
+			}
+			final int mid = (from + to) >>> 1;
+			final MultiplyTask fork = new MultiplyTask(left, right, from, mid);
+			fork.fork();
+			HashMap<Powers, int[]> a = new MultiplyTask(left, right, mid, to).compute();
+			HashMap<Powers, int[]> b = fork.join();
+			if (a.size() < b.size()) {
+				final HashMap<Powers, int[]> t = a;
+				a = b;
+				b = t;
+			}
+			for (Map.Entry<Powers, int[]> e : b.entrySet()) {
+				final int[] c = a.putIfAbsent(e.getKey(), e.getValue());
+				if (c != null) {
+					c[0] += e.getValue()[0];
+				}
+			}
+			return a;
+		}
+		
+		private HashMap<Powers, int[]> multiply() {
+			final HashMap<Powers, int[]> terms = new HashMap<>();
+			for (int i = from; i < to; i++) {
+				final Monomial m0 = left[i];
+				for (Monomial m1 : right) {
+					final int c = m0.coefficient * m1.coefficient;
+					if (c != 0) {
+						terms.computeIfAbsent(m0.letter.multiply(m1.letter), 
+								k -> new int[1])[0] += c;
+					}
+				}
+			}
+			return terms;
+		}
+		
 	}
 
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * 单项式与多项式的单遍解析器。
+ * 
+ * <p>
+ * 解析器直接扫描 {@link CharSequence}，不创建任何中间字符串：系数与指数在扫描时累加为整数，
+ * 每一项的字母与指数打包在一个可重用的数组中，排序合并之后直接创建单项式，再加入多项式的项表（同类项随即合并）。
+ * 接受的格式为：
+ * <blockquote><pre>
+ * 多项式 = [+|-] 项 { (+|-) 项 }
+ * 项     = 系数 [字母部分] | 字母部分
+ * 字母部分 = 字母 [^ 指数] { 字母 [^ 指数] }
+ * </pre></blockquote>
+ * 系数与指数是十进制的非负整数，记号之间可以有空白，例如 {@code 3x^2y - 2 xy + 1}。
+ * 设置了系数的格式时（见 {@link #setCoefficientFormat(NumberFormat)}），以数字开始的系数改由该格式解析，
+ * 例如带有分组符号的 {@code 1,234x}，解析的结果必须是 {@code int} 范围内的整数。
+ * 同一项中重复的字母会合并（{@code aa} 即 {@code a^2}），指数为零的字母会被忽略，系数为零的项会被丢弃。
+ * 
+ * <p>
+ * 与 {@link java.text.Format} 相同，解析从 {@link ParsePosition#getIndex()} 开始，遇到不能继续的字符时停止，
+ * 并把索引设置为最后一个记号之后的位置；出错时索引保持不变，错误位置（出错的字符的索引）保存在
+ * {@link ParsePosition#getErrorIndex()} 中，并返回 {@code null}。
+ * 
+ * <p>
+ * 解析器可以重复使用，但不是线程安全的。
+ * 
+ * @author 王帅
+ */
+public final class PolynomialParser {
+	
+	/**
+	 * 当前项中打包的字母与指数，格式同 {@link Powers}。
+	 */
+	private int[] letters = new int[8];
+	
+	private int size;
+	
+	/**
+	 * 当前项的系数。
+	 */
+	private int coefficient;
+	
+	/**
+	 * 系数的格式，为 {@code null} 时系数按十进制数字直接累加。
+	 */
+	private NumberFormat coefficientFormat;
+	
+	/**
+	 * 交给 {@link #coefficientFormat} 解析的字符串，只在设置了系数的格式时使用。
+	 */
+	private String text;
+	
+	private final ParsePosition position = new ParsePosition(0);
+	
+	/**
+	 * 创建按十进制数字解析系数的解析器。
+	 */
+	public PolynomialParser() {
+	}
+	
+	/**
+	 * 创建用指定的格式解析系数的解析器。
+	 * 
+	 * @param coefficientFormat 系数的格式，为 {@code null} 时按十进制数字解析
+	 */
+	public PolynomialParser(NumberFormat coefficientFormat) {
+		this.coefficientFormat = coefficientFormat;
+	}
+	
+	/**
+	 * @return 系数的格式，可能为 {@code null}
+	 */
+	public NumberFormat getCoefficientFormat() {
+		return coefficientFormat;
+	}
+	
+	/**
+	 * @param coefficientFormat 系数的格式，为 {@code null} 时按十进制数字解析
+	 */
+	public void setCoefficientFormat(NumberFormat coefficientFormat) {
+		this.coefficientFormat = coefficientFormat;
+	}
+	
+	/**
+	 * 解析多项式。
+	 * 
+	 * @param  source 字符序列
+	 * @param  pos    解析的位置
+	 * @return        多项式，出错时返回 {@code null}
+	 */
+	public Polynomial parsePolynomial(CharSequence source, ParsePosition pos) {
+		final int n = source.length();
+		final PolynomialSet set = new PolynomialSet();
+		text = coefficientFormat == null ? null : source.toString();
+		int i = skip(source, pos.getIndex(), n);
+		int end = -1;
+		while (true) {
+			int sign = 1;
+			if (i < n && (source.charAt(i) == '+' || source.charAt(i) == '-')) {
+				sign = source.charAt(i) == '-' ? -1 : 1;
+				i = skip(source, i + 1, n);
+			} else if (end >= 0) {
+				break;
+			}
+			end = term(source, i, n, sign, pos);
+			if (end < 0) {
+				return null;
+			}
+			if (coefficient != 0) {
+				set.add(new Monomial(coefficient, Powers.of(letters, size)));
+			}
+			i = skip(source, end, n);
+		}
+		pos.setIndex(end);
+		return new Polynomial(set);
+	}
+	
+	/**
+	 * 解析单项式，可以带有正负号。
+	 * 
+	 * @param  source 字符序列
+	 * @param  pos    解析的位置
+	 * @return        单项式，出错时返回 {@code null}
+	 */
+	public Monomial parseMonomial(CharSequence source, ParsePosition pos) {
+		final int n = source.length();
+		text = coefficientFormat == null ? null : source.toString();
+		int i = skip(source, pos.getIndex(), n);
+		int sign = 1;
+		if (i < n && (source.charAt(i) == '+' || source.charAt(i) == '-')) {
+			sign = source.charAt(i) == '-' ? -1 : 1;
+			i = skip(source, i + 1, n);
+		}
+		final int end = term(source, i, n, sign, pos);
+		if (end < 0) {
+			return null;
+		}
+		pos.setIndex(end);
+		return coefficient == 0 ? Monomial.ZERO : new Monomial(coefficient, Powers.of(letters, size));
+	}
+	
+	/**
+	 * 解析一项，结果保存在 {@link #coefficient} 与 {@link #letters} 中。
+	 * 
+	 * @return 最后一个记号之后的位置，出错时返回 {@code -1}
+	 */
+	private int term(CharSequence source, int i, int n, int sign, ParsePosition pos) {
+		final int start = i;
+		size = 0;
+		long c = 1L;
+		boolean empty = true;
+		int end = i;
+		
+		if (i < n && isDigit(source.charAt(i)) && coefficientFormat != null) {
+			position.setIndex(i);
+			position.setErrorIndex(-1);
+			final Number num = coefficientFormat.parse(text, position);
+			if (num == null) {
+				return error(pos, start);
+			}
+			c = num.longValue();
+			if (c != num.doubleValue() || c < 0L || c > 1L << 31) {
+				return error(pos, start);
+			}
+			i = position.getIndex();
+			empty = false;
+			end = i;
+			i = skip(source, i, n);
+		} else if (i < n && isDigit(source.charAt(i))) {
+			c = 0L;
+			do {
+				c = c * 10 + (source.charAt(i++) - '0');
+				if (c > 1L << 31) {
+					return error(pos, start);
+				}
+			} while (i < n && isDigit(source.charAt(i)));
+			empty = false;
+			end = i;
+			i = skip(source, i, n);
+		}
+		
+		while (i < n && Character.isLetter(source.charAt(i))) {
+			final char variable = source.charAt(i);
+			final int at = i;
+			int exp = 1;
+			end = ++i;
+			i = skip(source, i, n);
+			if (i < n && source.charAt(i) == '^') {
+				i = skip(source, i + 1, n);
+				if (i == n || !isDigit(source.charAt(i))) {
+					return error(pos, i);
+				}
+				final int digits = i;
+				exp = 0;
+				do {
+					exp = exp * 10 + (source.charAt(i++) - '0');
+					if (exp > Powers.MAX_EXPONENT) {
+						return error(pos, digits);
+					}
+				} while (i < n && isDigit(source.charAt(i)));
+				end = i;
+				i = skip(source, i, n);
+			}
+			if (!put(variable, exp)) {
+				return error(pos, at);
+			}
+			empty = false;
+		}
+		
+		if (empty) {
+			return error(pos, start);
+		}
+		c *= sign;
+		if (c > Integer.MAX_VALUE) {
+			return error(pos, start);
+		}
+		coefficient = (int) c;
+		normalize();
+		return end;
+	}
+	
+	/**
+	 * 把字母与指数加入当前项，与已有的相同字母合并。
+	 * 
+	 * @return 合并之后的指数是否在范围内
+	 */
+	private boolean put(char variable, int exp) {
+		for (int k = 0; k < size; k++) {
+			if (letters[k] >>> 16 == variable) {
+				final int sum = (letters[k] & Powers.MAX_EXPONENT) + exp;
+				if (sum > Powers.MAX_EXPONENT) {
+					return false;
+				}
+				letters[k] = variable << 16 | sum;
+				return true;
+			}
+		}
+		if (size == letters.length) {
+			letters = Arrays.copyOf(letters, size << 1);
+		}
+		letters[size++] = variable << 16 | exp;
+		return true;
+	}
+	
+	/**
+	 * 去掉指数为零的字母，并按字母升序排列（插入排序，项中的字母通常很少）。
+	 */
+	private void normalize() {
+		int k = 0;
+		for (int j = 0; j < size; j++) {
+			final int p = letters[j];
+			if ((p & Powers.MAX_EXPONENT) == 0) {
+				continue;
+			}
+			int t = k++;
+			while (t > 0 && letters[t - 1] >>> 16 > p >>> 16) {
+				letters[t] = letters[t - 1];
+				t--;
+			}
+			letters[t] = p;
+		}
+		size = k;
+	}
+	
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+	
+	private static int skip(CharSequence source, int i, int n) {
+		while (i < n && Character.isWhitespace(source.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+	
+	private static int error(ParsePosition pos, int index) {
+		pos.setErrorIndex(index);
+		return -1;
+	}
+	
+}
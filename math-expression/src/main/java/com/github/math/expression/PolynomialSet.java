@@ -16,88 +16,81 @@
 
 package com.github.math.expression;
 
-import com.github.math.SuperMath;
-
-import java.util.ArrayList;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.ListIterator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
+ * <p>
+ * 多项式中单项式的集合。单项式以指数向量（{@link Powers}）为键保存在散列表中，添加单项式与合并同类项的
+ * 均摊时间复杂度为 O(1)。
  * 
- * 
+ * <p>
+ * 按降幂排列的有序视图（见 {@link Monomial#compareTo(Monomial)}）在第一次
+ * 遍历或按下标访问时才创建，修改集合后失效。
  * 
  * @author 王帅
  */
-class PolynomialSet extends ArrayList<Monomial> {
+class PolynomialSet extends AbstractCollection<Monomial> implements Serializable {
 
-	// The serialVersionUID of the class null.
-	private static final long serialVersionUID = 704784437016891818L;
+	// The serialVersionUID of the class PolynomialSet.
+	private static final long serialVersionUID = -2384096525624651813L;
+	
+	/**
+	 * 指数向量到单项式的映射，不含系数为零的单项式。
+	 */
+	private final HashMap<Powers, Monomial> terms;
+	
+	/**
+	 * 按降幂排列的有序视图，为 {@code null} 时需要重新创建。使用 {@code volatile} 保证
+	 * 多个线程同时遍历同一个（不再修改的）多项式时，看到的是完整的数组。
+	 */
+	private transient volatile Monomial[] sorted;
 	
 	public PolynomialSet() {
-		super(30);
+		this(30);
 	}
 	
 	public PolynomialSet(int size) {
-		super(size);
+		this.terms = new HashMap<>(Math.min(Math.max(size, 16), 1 << 16) * 4 / 3);
 	}
 	
 	/**
-	 * 添加根式元素（忽略检查是否可以相加与排序）。
+	 * 添加单项式（忽略检查是否可以相加），调用者必须保证集合中没有同类项。
 	 * 
 	 * @param e 需要添加的元素
 	 */
 	public void addIgnoreCheck(Monomial e) {
-		super.add(e);
+		terms.put(e.letter, e);
+		sorted = null;
 	}
 	
+	/**
+	 * 添加单项式，如果集合中有同类项则合并，合并后系数为零的单项式会被移除。
+	 * 
+	 * @param  e 需要添加的元素
+	 * @return   如果 {@code e} 的系数为零则返回 {@code false}
+	 */
 	@Override
 	public boolean add(Monomial e) {
 		if (e.signum == 0) {
 			return false;
 		}
-		if (isEmpty()) {
-			return super.add(e);
-		}
-		
-		final ListIterator<Monomial> it = listIterator();
-		Monomial m;
-		int compare = 0;
-		int index = 0;
-		while (it.hasNext()) {
-			m = it.next();
-			
-			if (m.letter.isEmpty() && e.letter.isEmpty()) {
-				return add(m, e, it);
-			}
-			
-			if (m.letter.equals(e.letter)) {
-				return add(m, e, it);
-			}
-			
-			compare = e.compareTo(m);
-			
-			if (compare > 0) {
-				index++;
-			}
-			
-		}
-		
-		if (index == size()) {
-			return super.add(e);
-		}
-		
-		super.add(index, e);
+		terms.merge(e.letter, e, PolynomialSet::merge);
+		sorted = null;
 		return true;
 	}
 	
-	public boolean add(Monomial m, Monomial e, ListIterator<Monomial> it) {
-		int c = e.coefficient + m.coefficient;
-		if (SuperMath.signum(c) != 0) {
-			it.set(new Monomial(c, e.letter));
-			return true;
-		} 
-		it.remove();
-		return true;
+	/**
+	 * 合并同类项，系数之和为零时返回 {@code null}，从而移除该项。
+	 */
+	private static Monomial merge(Monomial m, Monomial e) {
+		final int c = m.coefficient + e.coefficient;
+		return c == 0 ? null : new Monomial(c, m.letter);
 	}
 	
 	public boolean addAll(Monomial... c) {
@@ -116,7 +109,110 @@ class PolynomialSet extends ArrayList<Monomial> {
 	}
 	
 	public boolean addAllIgnoreCheck(Collection<? extends Monomial> c) {
-		return super.addAll(c);
+		for (Monomial m : c) {
+			addIgnoreCheck(m);
+		}
+		return true;
+	}
+	
+	/**
+	 * 按降幂的顺序返回第 {@code index} 个单项式。
+	 * 
+	 * @param  index 下标
+	 * @return       单项式
+	 */
+	public Monomial get(int index) {
+		return view()[index];
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof Monomial)) {
+			return false;
+		}
+		final Monomial m = (Monomial) o;
+		return m.equals(terms.get(m.letter));
+	}
+	
+	@Override
+	public int size() {
+		return terms.size();
+	}
+	
+	@Override
+	public void clear() {
+		terms.clear();
+		sorted = null;
+	}
+	
+	/**
+	 * 按降幂的顺序遍历单项式。
+	 */
+	@Override
+	public Iterator<Monomial> iterator() {
+		final Monomial[] view = view();
+		return new Iterator<Monomial>() {
+			
+			private int cursor;
+			private Monomial last;
+			
+			@Override
+			public boolean hasNext() {
+				return cursor < view.length;
+			}
+			
+			@Override
+			public Monomial next() {
+				if (cursor >= view.length) {
+					throw new NoSuchElementException();
+				}
+				return last = view[cursor++];
+			}
+			
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				terms.remove(last.letter);
+				sorted = null;
+				last = null;
+			}
+		};
+	}
+	
+	@Override
+	public Object[] toArray() {
+		return view().clone();
+	}
+	
+	/**
+	 * 返回有序视图，必要时重新创建。
+	 */
+	private Monomial[] view() {
+		Monomial[] view = sorted;
+		if (view == null) {
+			view = terms.values().toArray(new Monomial[0]);
+			Arrays.sort(view);
+			sorted = view;
+		}
+		return view;
+	}
+	
+	@Override
+	public int hashCode() {
+		return terms.hashCode();
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PolynomialSet)) {
+			return false;
+		}
+		return terms.equals(((PolynomialSet) obj).terms);
 	}
 	
 }
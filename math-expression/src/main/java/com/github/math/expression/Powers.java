@@ -0,0 +1,332 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * 单项式中的字母及其指数（指数向量）。
+ * 
+ * <p>
+ * 每个字母与它的指数打包为一个 {@code int}：高 16 位为字母，低 16 位为指数（1 至 {@value #MAX_EXPONENT}），
+ * 数组按字母升序排列，不含指数为零的字母。因此相乘是两个有序数组的归并，比较与判断相等都是基本类型的比较。
+ * 此类的实例是不可变的，可以在多个线程中共享。
+ * 
+ * @author 王帅
+ * @see    Monomial
+ */
+final class Powers implements Comparable<Powers>, Serializable {
+
+	// The serialVersionUID of the class Powers.
+	private static final long serialVersionUID = -5170369637186040528L;
+	
+	/**
+	 * 字母的最大指数。
+	 */
+	static final int MAX_EXPONENT = 0xFFFF;
+	
+	/**
+	 * 不含字母的指数向量。
+	 */
+	static final Powers EMPTY = new Powers(new int[0]);
+	
+	/**
+	 * 打包的字母与指数，按字母升序排列。
+	 */
+	private final int[] packed;
+	
+	/**
+	 * 指数之和，即单项式的次数。
+	 */
+	private final int degree;
+	
+	private final int hash;
+	
+	private Powers(int[] packed) {
+		int deg = 0;
+		for (int p : packed) {
+			deg += exponent(p);
+		}
+		this.packed = packed;
+		this.degree = deg;
+		this.hash	= Arrays.hashCode(packed);
+	}
+	
+	/**
+	 * 由字母及其指数创建指数向量，指数为零的字母会被忽略。
+	 * 
+	 * @param  letter 字母以及字母的指数
+	 * @return        指数向量
+	 * @exception MathIllegalArgumentException 如果指数为负数或大于 {@value #MAX_EXPONENT}
+	 */
+	static Powers of(Map<Character, Integer> letter) {
+		int[] p = new int[letter.size()];
+		int n = 0;
+		for (Entry<Character, Integer> e : letter.entrySet()) {
+			final int exp = e.getValue().intValue();
+			if (exp != 0) {
+				p[n++] = pack(e.getKey().charValue(), exp);
+			}
+		}
+		if (n == 0) {
+			return EMPTY;
+		}
+		if (n != p.length) {
+			p = Arrays.copyOf(p, n);
+		}
+		if (!(letter instanceof TreeMap) || ((TreeMap<Character, Integer>) letter).comparator() != null) {
+			// 翻转符号位之后按无符号数排序，即按字母升序
+			for (int i = 0; i < n; i++) {
+				p[i] ^= Integer.MIN_VALUE;
+			}
+			Arrays.sort(p);
+			for (int i = 0; i < n; i++) {
+				p[i] ^= Integer.MIN_VALUE;
+			}
+		}
+		return new Powers(p);
+	}
+	
+	/**
+	 * 由打包数组的前 {@code n} 个元素创建指数向量，数组会被复制。
+	 * 
+	 * @param  packed 打包的字母与指数，按字母升序排列，字母互不相同，指数在 1 至 {@value #MAX_EXPONENT} 之间
+	 * @param  n      元素个数
+	 * @return        指数向量
+	 */
+	static Powers of(int[] packed, int n) {
+		return n == 0 ? EMPTY : new Powers(Arrays.copyOf(packed, n));
+	}
+	
+	private static int pack(char variable, int exponent) {
+		if (exponent < 0 || exponent > MAX_EXPONENT) {
+			throw new MathIllegalArgumentException("字母 " + variable + " 的指数超出范围：" + exponent);
+		}
+		return variable << 16 | exponent;
+	}
+	
+	private static char variable(int p) {
+		return (char) (p >>> 16);
+	}
+	
+	private static int exponent(int p) {
+		return p & MAX_EXPONENT;
+	}
+	
+	/**
+	 * @return 字母的个数
+	 */
+	int size() {
+		return packed.length;
+	}
+	
+	boolean isEmpty() {
+		return packed.length == 0;
+	}
+	
+	/**
+	 * @return 第 {@code i} 个字母
+	 */
+	char variableAt(int i) {
+		return variable(packed[i]);
+	}
+	
+	/**
+	 * @return 第 {@code i} 个字母的指数
+	 */
+	int exponentAt(int i) {
+		return exponent(packed[i]);
+	}
+	
+	/**
+	 * @return 指数之和
+	 */
+	int degree() {
+		return degree;
+	}
+	
+	/**
+	 * 两个指数向量相加（单项式相乘），相同字母的指数相加。
+	 * 
+	 * @exception MathArithmeticException 如果指数之和大于 {@value #MAX_EXPONENT}
+	 */
+	Powers multiply(Powers o) {
+		if (o.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return o;
+		}
+		final int[] a = packed;
+		final int[] b = o.packed;
+		final int[] r = new int[a.length + b.length];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			final int va = a[i] >>> 16;
+			final int vb = b[j] >>> 16;
+			if (va == vb) {
+				final int exp = exponent(a[i]) + exponent(b[j]);
+				if (exp > MAX_EXPONENT) {
+					throw new MathArithmeticException("字母 " + (char) va + " 的指数超出范围：" + exp);
+				}
+				r[k++] = a[i++] + exponent(b[j++]);
+			} else if (va < vb) {
+				r[k++] = a[i++];
+			} else {
+				r[k++] = b[j++];
+			}
+		}
+		while (i < a.length) {
+			r[k++] = a[i++];
+		}
+		while (j < b.length) {
+			r[k++] = b[j++];
+		}
+		return new Powers(k == r.length ? r : Arrays.copyOf(r, k));
+	}
+	
+	/**
+	 * 两个指数向量相减（单项式整除），{@code o} 中的每个字母都必须在本向量中出现且指数不大于本向量中的指数。
+	 * 
+	 * @exception MathArithmeticException 如果不能整除
+	 */
+	Powers divide(Powers o) {
+		if (o.isEmpty()) {
+			return this;
+		}
+		final int[] a = packed;
+		final int[] b = o.packed;
+		final int[] r = new int[a.length];
+		int i = 0, k = 0;
+		for (int q : b) {
+			while (i < a.length && a[i] >>> 16 < q >>> 16) {
+				r[k++] = a[i++];
+			}
+			if (i == a.length || a[i] >>> 16 != q >>> 16 || exponent(a[i]) < exponent(q)) {
+				throw new MathArithmeticException(this + " 不能被 " + o + " 整除");
+			}
+			if (exponent(a[i]) != exponent(q)) {
+				r[k++] = a[i] - exponent(q);
+			}
+			i++;
+		}
+		while (i < a.length) {
+			r[k++] = a[i++];
+		}
+		return k == 0 ? EMPTY : new Powers(k == r.length ? r : Arrays.copyOf(r, k));
+	}
+	
+	/**
+	 * 两个指数向量的公因式：两者都含有的字母，指数取较小者。
+	 */
+	Powers gcd(Powers o) {
+		final int[] a = packed;
+		final int[] b = o.packed;
+		final int[] r = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			final int va = a[i] >>> 16;
+			final int vb = b[j] >>> 16;
+			if (va == vb) {
+				r[k++] = Math.min(a[i++], b[j++]);
+			} else if (va < vb) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return k == 0 ? EMPTY : new Powers(k == r.length ? r : Arrays.copyOf(r, k));
+	}
+	
+	/**
+	 * @return 字母以及字母的指数
+	 */
+	TreeMap<Character, Integer> toMap() {
+		final TreeMap<Character, Integer> map = new TreeMap<>();
+		for (int p : packed) {
+			map.put(variable(p), exponent(p));
+		}
+		return map;
+	}
+	
+	/**
+	 * 将字母及其指数追加到 {@code buf}，指数为 1 时省略。
+	 */
+	StringBuilder appendTo(StringBuilder buf) {
+		for (int p : packed) {
+			buf.append(variable(p));
+			if (exponent(p) != 1) {
+				buf.append('^').append(exponent(p));
+			}
+		}
+		return buf;
+	}
+	
+	/**
+	 * <p>
+	 * 按<b>降幂</b>的顺序比较：先比较第一个字母，字母小的在前；字母相同时指数大的在前，以此类推。
+	 * 一个向量是另一个的前缀时，字母少的在前；不含字母的向量在最后。
+	 * 
+	 * @return 负数：本向量在前；正数：{@code o} 在前；零：字母及其指数全部相同
+	 */
+	@Override
+	public int compareTo(Powers o) {
+		final int[] a = packed;
+		final int[] b = o.packed;
+		if (a.length == 0 || b.length == 0) {
+			return Integer.compare(b.length, a.length);
+		}
+		final int n = Math.min(a.length, b.length);
+		for (int i = 0; i < n; i++) {
+			if (a[i] != b[i]) {
+				final int va = a[i] >>> 16;
+				final int vb = b[i] >>> 16;
+				return va != vb ? Integer.compare(va, vb) : Integer.compare(exponent(b[i]), exponent(a[i]));
+			}
+		}
+		return Integer.compare(a.length, b.length);
+	}
+	
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof Powers))
+			return false;
+		final Powers other = (Powers) obj;
+		return hash == other.hash && Arrays.equals(packed, other.packed);
+	}
+	
+	@Override
+	public String toString() {
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+}
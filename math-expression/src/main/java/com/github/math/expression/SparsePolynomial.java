@@ -0,0 +1,1027 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.number.fraction.BigFraction;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * 稀疏的多元多项式，系数为有理数（{@link BigFraction}）。
+ * 
+ * <p>
+ * 多项式只保存系数不为零的项，各项按指定的单项式的序（{@link MonomialOrder}）降序排列，
+ * 第一项即为首项。每一项的指数向量是一个 {@code int} 数组，依次为字母表中每个字母的指数，
+ * 最后一个元素为该项的次数，因此分次的序无需重新求和。
+ * 
+ * <p>
+ * 乘法与带余除法都采用 Johnson 的堆算法：部分积按降序从一个二叉堆中依次取出并立即合并，
+ * 堆的大小只与较小的因式（除法中为商）的项数有关，不需要为全部的部分积分配中间结果。
+ * 
+ * <p>
+ * 此类的实例是不可变的。
+ * 
+ * @author 王帅
+ * @see    MonomialOrder
+ * @see    Polynomial
+ */
+public final class SparsePolynomial implements Serializable {
+
+	// The serialVersionUID of the class SparsePolynomial.
+	private static final long serialVersionUID = 2905467262184473208L;
+	
+	private static final char[] NO_VARIABLES = new char[0];
+	
+	private static final int[][] NO_TERMS = new int[0][];
+	
+	private static final BigFraction[] NO_COEFFICIENTS = new BigFraction[0];
+	
+	/**
+	 * 字母表，按字母升序排列，不含在所有项中指数都为零的字母。
+	 */
+	private final char[] variables;
+	
+	/**
+	 * 单项式的序。
+	 */
+	private final MonomialOrder order;
+	
+	/**
+	 * 各项的指数向量，按 {@link #order} 降序排列。
+	 */
+	private final int[][] exponents;
+	
+	/**
+	 * 各项的系数，都不为零。
+	 */
+	private final BigFraction[] coefficients;
+	
+	private SparsePolynomial(char[] variables, MonomialOrder order, 
+							 int[][] exponents, BigFraction[] coefficients) {
+		this.variables	  = variables;
+		this.order		  = order;
+		this.exponents	  = exponents;
+		this.coefficients = coefficients;
+	}
+	
+	/**
+	 * 零多项式。
+	 * 
+	 * @param  order 单项式的序
+	 * @return       零多项式
+	 */
+	public static SparsePolynomial zero(MonomialOrder order) {
+		return new SparsePolynomial(NO_VARIABLES, order, NO_TERMS, NO_COEFFICIENTS);
+	}
+	
+	/**
+	 * 常数多项式。
+	 * 
+	 * @param  c     常数
+	 * @param  order 单项式的序
+	 * @return       常数多项式
+	 */
+	public static SparsePolynomial valueOf(BigFraction c, MonomialOrder order) {
+		if (c.signum() == 0) {
+			return zero(order);
+		}
+		return new SparsePolynomial(NO_VARIABLES, order, new int[][] {{0}}, new BigFraction[] {c});
+	}
+	
+	/**
+	 * 将 {@link Polynomial} 转换为稀疏多项式。
+	 * 
+	 * @param  p     多项式
+	 * @param  order 单项式的序
+	 * @return       稀疏多项式
+	 */
+	public static SparsePolynomial valueOf(Polynomial p, MonomialOrder order) {
+		final BitSet letters = new BitSet();
+		for (Monomial m : p) {
+			for (int i = 0; i < m.letter.size(); i++) {
+				letters.set(m.letter.variableAt(i));
+			}
+		}
+		final char[] vars = new char[letters.cardinality()];
+		for (int c = letters.nextSetBit(0), i = 0; c >= 0; c = letters.nextSetBit(c + 1)) {
+			vars[i++] = (char) c;
+		}
+		
+		final int n = p.size();
+		final int[][] exps = new int[n][];
+		final BigFraction[] coefs = new BigFraction[n];
+		int k = 0;
+		for (Monomial m : p) {
+			final int[] e = new int[vars.length + 1];
+			for (int i = 0; i < m.letter.size(); i++) {
+				e[Arrays.binarySearch(vars, m.letter.variableAt(i))] = m.letter.exponentAt(i);
+			}
+			e[vars.length] = m.letter.degree();
+			exps[k] = e;
+			coefs[k++] = BigFraction.valueOf(m.coefficient);
+		}
+		return sort(vars, order, exps, coefs, k);
+	}
+	
+	/**
+	 * 排序并合并相同的项，去掉系数为零的项。
+	 */
+	private static SparsePolynomial sort(char[] vars, MonomialOrder order, 
+										 int[][] exps, BigFraction[] coefs, int n) {
+		final Integer[] index = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			index[i] = i;
+		}
+		Arrays.sort(index, (i, j) -> order.compare(exps[j], exps[i]));
+		
+		final ArrayList<int[]> e = new ArrayList<>(n);
+		final ArrayList<BigFraction> c = new ArrayList<>(n);
+		int i = 0;
+		while (i < n) {
+			final int[] mono = exps[index[i]];
+			BigFraction sum = coefs[index[i++]];
+			while (i < n && order.compare(exps[index[i]], mono) == 0) {
+				sum = sum.add(coefs[index[i++]]);
+			}
+			if (sum.signum() != 0) {
+				e.add(mono);
+				c.add(sum);
+			}
+		}
+		return of(vars, order, e, c);
+	}
+	
+	/**
+	 * 由已经按降序排列、系数都不为零的项创建多项式，去掉未使用的字母。
+	 */
+	private static SparsePolynomial of(char[] vars, MonomialOrder order, 
+									   ArrayList<int[]> e, ArrayList<BigFraction> c) {
+		final int n = vars.length;
+		final boolean[] used = new boolean[n];
+		int count = 0;
+		for (int[] mono : e) {
+			for (int i = 0; i < n; i++) {
+				if (mono[i] != 0 && !used[i]) {
+					used[i] = true;
+					count++;
+				}
+			}
+		}
+		final int[][] exps = e.toArray(NO_TERMS);
+		if (count != n) {
+			final char[] v = new char[count];
+			for (int i = 0, k = 0; i < n; i++) {
+				if (used[i]) {
+					v[k++] = vars[i];
+				}
+			}
+			for (int t = 0; t < exps.length; t++) {
+				final int[] r = new int[count + 1];
+				for (int i = 0, k = 0; i < n; i++) {
+					if (used[i]) {
+						r[k++] = exps[t][i];
+					}
+				}
+				r[count] = exps[t][n];
+				exps[t] = r;
+			}
+			vars = v;
+		}
+		return new SparsePolynomial(vars, order, exps, c.toArray(NO_COEFFICIENTS));
+	}
+	
+	/**
+	 * 两个字母表的并集。
+	 */
+	private static char[] union(char[] a, char[] b) {
+		if (Arrays.equals(a, b)) {
+			return a;
+		}
+		final char[] r = new char[a.length + b.length];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] == b[j]) {
+				r[k++] = a[i++];
+				j++;
+			} else if (a[i] < b[j]) {
+				r[k++] = a[i++];
+			} else {
+				r[k++] = b[j++];
+			}
+		}
+		while (i < a.length) {
+			r[k++] = a[i++];
+		}
+		while (j < b.length) {
+			r[k++] = b[j++];
+		}
+		return Arrays.copyOf(r, k);
+	}
+	
+	/**
+	 * 将各项的指数向量映射到更大的字母表 {@code vars} 上。
+	 */
+	private int[][] align(char[] vars) {
+		if (vars == variables || Arrays.equals(vars, variables)) {
+			return exponents;
+		}
+		final int[] map = new int[variables.length];
+		for (int i = 0; i < map.length; i++) {
+			map[i] = Arrays.binarySearch(vars, variables[i]);
+		}
+		final int[][] r = new int[exponents.length][];
+		for (int t = 0; t < r.length; t++) {
+			final int[] e = new int[vars.length + 1];
+			for (int i = 0; i < map.length; i++) {
+				e[map[i]] = exponents[t][i];
+			}
+			e[vars.length] = exponents[t][variables.length];
+			r[t] = e;
+		}
+		return r;
+	}
+	
+	/**
+	 * 采用本多项式的序。
+	 */
+	private SparsePolynomial sameOrder(SparsePolynomial o) {
+		return o.order == order ? o : o.withOrder(order);
+	}
+	
+	/**
+	 * 按另一种单项式的序重新排列各项。
+	 * 
+	 * @param  order 单项式的序
+	 * @return       相等的多项式
+	 */
+	public SparsePolynomial withOrder(MonomialOrder order) {
+		if (order == this.order) {
+			return this;
+		}
+		return sort(variables, order, exponents.clone(), coefficients, exponents.length);
+	}
+	
+	public MonomialOrder getOrder() {
+		return order;
+	}
+	
+	/**
+	 * @return 项数
+	 */
+	public int size() {
+		return coefficients.length;
+	}
+	
+	public boolean isZero() {
+		return coefficients.length == 0;
+	}
+	
+	/**
+	 * @return 多项式的次数，零多项式的次数为 {@code -1}
+	 */
+	public int degree() {
+		int deg = -1;
+		for (int[] e : exponents) {
+			deg = Math.max(deg, e[variables.length]);
+		}
+		return deg;
+	}
+	
+	/**
+	 * @return 首项的系数，零多项式返回零
+	 */
+	public BigFraction leadingCoefficient() {
+		return isZero() ? BigFraction.ZERO : coefficients[0];
+	}
+	
+	/**
+	 * @return 首项（系数与单项式），零多项式返回零多项式
+	 */
+	public SparsePolynomial leadingTerm() {
+		if (size() <= 1) {
+			return this;
+		}
+		return new SparsePolynomial(variables, order, 
+				new int[][] {exponents[0]}, new BigFraction[] {coefficients[0]}).trim();
+	}
+	
+	/**
+	 * @return 出现在多项式中的字母，按升序排列
+	 */
+	public char[] getVariables() {
+		return variables.clone();
+	}
+
+	/**
+	 * @return 是否为常数（包括零）
+	 */
+	public boolean isConstant() {
+		return variables.length == 0;
+	}
+
+	/**
+	 * @param  variable 字母
+	 * @return          关于该字母的次数，零多项式的次数为 {@code -1}
+	 */
+	public int degree(char variable) {
+		if (isZero()) {
+			return -1;
+		}
+		final int i = Arrays.binarySearch(variables, variable);
+		int deg = 0;
+		if (i >= 0) {
+			for (int[] e : exponents) {
+				deg = Math.max(deg, e[i]);
+			}
+		}
+		return deg;
+	}
+
+	/**
+	 * 把多项式看作关于 {@code variable} 的一元多项式，返回 {@code variable}<sup>k</sup> 的系数，
+	 * 它是关于其余字母的多项式。
+	 *
+	 * @param  variable 字母
+	 * @param  k        次数
+	 * @return          系数
+	 */
+	public SparsePolynomial coefficient(char variable, int k) {
+		final int i = Arrays.binarySearch(variables, variable);
+		if (i < 0) {
+			return k == 0 ? this : zero(order);
+		}
+		final int n = variables.length;
+		final ArrayList<int[]> e = new ArrayList<>();
+		final ArrayList<BigFraction> c = new ArrayList<>();
+		for (int t = 0; t < exponents.length; t++) {
+			if (exponents[t][i] == k) {
+				// 这些项都除以同一个单项式，单项式的序与乘法相容，因此仍按降序排列
+				final int[] r = exponents[t].clone();
+				r[i] = 0;
+				r[n] -= k;
+				e.add(r);
+				c.add(coefficients[t]);
+			}
+		}
+		return of(variables, order, e, c);
+	}
+
+	/**
+	 * 乘以 {@code variable}<sup>k</sup>。
+	 *
+	 * @param  variable 字母
+	 * @param  k        次数，不小于零
+	 * @return          积
+	 */
+	public SparsePolynomial shift(char variable, int k) {
+		if (k == 0 || isZero()) {
+			return this;
+		}
+		final char[] vars = union(variables, new char[] {variable});
+		final int[][] e = align(vars);
+		final int i = Arrays.binarySearch(vars, variable);
+		final int[][] r = new int[e.length][];
+		for (int t = 0; t < r.length; t++) {
+			r[t] = e[t].clone();
+			r[t][i] += k;
+			r[t][vars.length] += k;
+		}
+		return new SparsePolynomial(vars, order, r, coefficients);
+	}
+
+	/**
+	 * 对 {@code variable} 求偏导数。
+	 *
+	 * @param  variable 字母
+	 * @return          偏导数
+	 */
+	public SparsePolynomial derivative(char variable) {
+		final int i = Arrays.binarySearch(variables, variable);
+		if (i < 0) {
+			return zero(order);
+		}
+		final int n = variables.length;
+		final ArrayList<int[]> e = new ArrayList<>();
+		final ArrayList<BigFraction> c = new ArrayList<>();
+		for (int t = 0; t < exponents.length; t++) {
+			final int k = exponents[t][i];
+			if (k > 0) {
+				final int[] r = exponents[t].clone();
+				r[i]--;
+				r[n]--;
+				e.add(r);
+				c.add(coefficients[t].multiply(k));
+			}
+		}
+		return of(variables, order, e, c);
+	}
+
+	/**
+	 * 多项式的容度：各项系数的分子的最大公约数除以分母的最小公倍数，总是非负的。
+	 * 多项式除以容度之后是系数互素的整系数多项式（本原多项式）。
+	 *
+	 * @return 容度，零多项式返回零
+	 */
+	public BigFraction content() {
+		BigInteger num = BigInteger.ZERO;
+		BigInteger den = BigInteger.ONE;
+		for (BigFraction c : coefficients) {
+			num = num.gcd(c.getNumerator());
+			final BigInteger d = c.getDenominator();
+			den = den.divide(den.gcd(d)).multiply(d);
+		}
+		return BigFraction.valueOf(num, den);
+	}
+
+	private SparsePolynomial trim() {
+		final ArrayList<int[]> e = new ArrayList<>(Arrays.asList(exponents));
+		final ArrayList<BigFraction> c = new ArrayList<>(Arrays.asList(coefficients));
+		return of(variables, order, e, c);
+	}
+	
+	public SparsePolynomial negate() {
+		final BigFraction[] c = new BigFraction[coefficients.length];
+		for (int i = 0; i < c.length; i++) {
+			c[i] = coefficients[i].negate();
+		}
+		return new SparsePolynomial(variables, order, exponents, c);
+	}
+	
+	public SparsePolynomial add(SparsePolynomial val) {
+		return addOrSubtract(sameOrder(val), false);
+	}
+	
+	public SparsePolynomial subtract(SparsePolynomial val) {
+		return addOrSubtract(sameOrder(val), true);
+	}
+	
+	private SparsePolynomial addOrSubtract(SparsePolynomial val, boolean subtract) {
+		final char[] vars = union(variables, val.variables);
+		final int[][] a = align(vars);
+		final int[][] b = val.align(vars);
+		final BigFraction[] ac = coefficients;
+		final BigFraction[] bc = val.coefficients;
+		
+		final ArrayList<int[]> e = new ArrayList<>(a.length + b.length);
+		final ArrayList<BigFraction> c = new ArrayList<>(a.length + b.length);
+		int i = 0, j = 0;
+		while (i < a.length || j < b.length) {
+			final int compare = i == a.length ? -1 : j == b.length ? 1 : order.compare(a[i], b[j]);
+			if (compare > 0) {
+				e.add(a[i]);
+				c.add(ac[i++]);
+			} else if (compare < 0) {
+				e.add(b[j]);
+				c.add(subtract ? bc[j++].negate() : bc[j++]);
+			} else {
+				final BigFraction sum = subtract ? ac[i].subtract(bc[j]) : ac[i].add(bc[j]);
+				if (sum.signum() != 0) {
+					e.add(a[i]);
+					c.add(sum);
+				}
+				i++;
+				j++;
+			}
+		}
+		return of(vars, order, e, c);
+	}
+	
+	/**
+	 * 乘以常数。
+	 * 
+	 * @param  c 常数
+	 * @return   积
+	 */
+	public SparsePolynomial multiply(BigFraction c) {
+		if (c.signum() == 0) {
+			return zero(order);
+		}
+		final BigFraction[] r = new BigFraction[coefficients.length];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = coefficients[i].multiply(c);
+		}
+		return new SparsePolynomial(variables, order, exponents, r);
+	}
+	
+	/**
+	 * <p>
+	 * 两个多项式相乘（Johnson 的堆算法）。
+	 * 
+	 * <p>
+	 * 设项数较少的因式为 f，另一个为 g。堆中为 f 的每一项保存一个游标 (i, j)，表示部分积
+	 * f<sub>i</sub>g<sub>j</sub>；每次取出最大的部分积并合并所有相同的单项式，然后把游标移动到
+	 * g<sub>j+1</sub>。因为单项式的序与乘法相容，积的各项按降序产生，不需要再排序。
+	 * 时间复杂度为 O(nm log n)，额外空间为 O(n)。
+	 * 
+	 * @param  val 另一个多项式
+	 * @return     积
+	 */
+	public SparsePolynomial multiply(SparsePolynomial val) {
+		val = sameOrder(val);
+		if (isZero() || val.isZero()) {
+			return zero(order);
+		}
+		final SparsePolynomial f = size() <= val.size() ? this : val;
+		final SparsePolynomial g = f == this ? val : this;
+		final char[] vars = union(variables, val.variables);
+		final int[][] fe = f.align(vars);
+		final int[][] ge = g.align(vars);
+		final BigFraction[] fc = f.coefficients;
+		final BigFraction[] gc = g.coefficients;
+		
+		// 系数都是 long 范围内的整数时，先用 long 累加，溢出后才改用 BigFraction
+		final long[] fl = longValues(fc);
+		final long[] gl = fl == null ? null : longValues(gc);
+		
+		final Heap heap = new Heap(order, fe.length);
+		for (int i = 0; i < fe.length; i++) {
+			heap.push(0, i, 0, add(fe[i], ge[0]));
+		}
+		
+		final ArrayList<int[]> e = new ArrayList<>();
+		final ArrayList<BigFraction> c = new ArrayList<>();
+		while (!heap.isEmpty()) {
+			final int[] mono = heap.top();
+			BigFraction sum = gl == null ? BigFraction.ZERO : null;
+			long acc = 0L;
+			while (!heap.isEmpty() && order.compare(heap.top(), mono) == 0) {
+				final int i = heap.topRow();
+				final int j = heap.topColumn();
+				if (sum == null) {
+					try {
+						acc = Math.addExact(acc, Math.multiplyExact(fl[i], gl[j]));
+					} catch (ArithmeticException ex) {
+						sum = BigFraction.valueOf(acc).add(fc[i].multiply(gc[j]));
+					}
+				} else {
+					sum = sum.add(fc[i].multiply(gc[j]));
+				}
+				// 游标移动到下一列，相当于先取出再放入，但只需要一次下沉
+				if (j + 1 < ge.length) {
+					heap.replaceTop(0, i, j + 1, add(fe[i], ge[j + 1]));
+				} else {
+					heap.pop();
+				}
+			}
+			if (sum == null) {
+				if (acc != 0L) {
+					e.add(mono);
+					c.add(BigFraction.valueOf(acc));
+				}
+			} else if (sum.signum() != 0) {
+				e.add(mono);
+				c.add(sum);
+			}
+		}
+		return of(vars, order, e, c);
+	}
+	
+	/**
+	 * <p>
+	 * 多元多项式的带余除法：求 q<sub>1</sub>, ..., q<sub>s</sub> 与 r，使
+	 * <blockquote>
+	 * 本多项式 = q<sub>1</sub>g<sub>1</sub> + ... + q<sub>s</sub>g<sub>s</sub> + r，
+	 * </blockquote>
+	 * 并且 r 的每一项都不能被任何 g<sub>k</sub> 的首项整除。
+	 * 
+	 * <p>
+	 * 被除式的各项依次与堆中已经求出的 q<sub>k,i</sub>g<sub>k,j</sub>（j &ge; 1）合并，
+	 * 得到当前最大的项；若它能被某个除式的首项整除（按参数的顺序尝试），则得到商的一项，
+	 * 并把它与该除式第二项的积放入堆中；否则该项进入余式。堆的大小不超过商的项数。
+	 * 
+	 * <p>
+	 * 只有一个除式时，结果与一元多项式的长除法相同；有多个除式时，结果依赖于除式的顺序。
+	 * 
+	 * @param  divisors 除式
+	 * @return          商与余式
+	 * @exception MathIllegalArgumentException 如果没有除式
+	 * @exception MathZeroException            如果某个除式为零
+	 */
+	public Division divide(SparsePolynomial... divisors) {
+		if (divisors.length == 0) {
+			throw new MathIllegalArgumentException("缺少除式");
+		}
+		final int s = divisors.length;
+		char[] vars = variables;
+		final SparsePolynomial[] g = new SparsePolynomial[s];
+		for (int d = 0; d < s; d++) {
+			if (divisors[d].isZero()) {
+				throw new MathZeroException();
+			}
+			g[d] = sameOrder(divisors[d]);
+			vars = union(vars, g[d].variables);
+		}
+		final int n = vars.length;
+		final int[][] fe = align(vars);
+		final BigFraction[] fc = coefficients;
+		final int[][][] ge = new int[s][][];
+		for (int d = 0; d < s; d++) {
+			ge[d] = g[d].align(vars);
+		}
+		
+		@SuppressWarnings("unchecked")
+		final ArrayList<int[]>[] qe = new ArrayList[s];
+		@SuppressWarnings("unchecked")
+		final ArrayList<BigFraction>[] qc = new ArrayList[s];
+		for (int d = 0; d < s; d++) {
+			qe[d] = new ArrayList<>();
+			qc[d] = new ArrayList<>();
+		}
+		final ArrayList<int[]> re = new ArrayList<>();
+		final ArrayList<BigFraction> rc = new ArrayList<>();
+		
+		final Heap heap = new Heap(order, 16);
+		int k = 0;
+		while (k < fe.length || !heap.isEmpty()) {
+			final int[] mono;
+			BigFraction sum;
+			if (heap.isEmpty() || k < fe.length && order.compare(fe[k], heap.top()) >= 0) {
+				mono = fe[k];
+				sum = fc[k++];
+			} else {
+				mono = heap.top();
+				sum = BigFraction.ZERO;
+			}
+			while (!heap.isEmpty() && order.compare(heap.top(), mono) == 0) {
+				final int d = heap.topDivisor();
+				final int i = heap.topRow();
+				final int j = heap.topColumn();
+				sum = sum.subtract(qc[d].get(i).multiply(g[d].coefficients[j]));
+				if (j + 1 < ge[d].length) {
+					heap.replaceTop(d, i, j + 1, add(qe[d].get(i), ge[d][j + 1]));
+				} else {
+					heap.pop();
+				}
+			}
+			if (sum.signum() == 0) {
+				continue;
+			}
+			
+			boolean divided = false;
+			for (int d = 0; d < s; d++) {
+				final int[] lead = ge[d][0];
+				if (divides(lead, mono, n)) {
+					final int[] q = new int[n + 1];
+					for (int i = 0; i <= n; i++) {
+						q[i] = mono[i] - lead[i];
+					}
+					final int row = qe[d].size();
+					qe[d].add(q);
+					qc[d].add(sum.divide(g[d].coefficients[0]));
+					if (ge[d].length > 1) {
+						heap.push(d, row, 1, add(q, ge[d][1]));
+					}
+					divided = true;
+					break;
+				}
+			}
+			if (!divided) {
+				re.add(mono);
+				rc.add(sum);
+			}
+		}
+		
+		final SparsePolynomial[] quotients = new SparsePolynomial[s];
+		for (int d = 0; d < s; d++) {
+			quotients[d] = of(vars, order, qe[d], qc[d]);
+		}
+		return new Division(quotients, of(vars, order, re, rc));
+	}
+	
+	/**
+	 * 整除。
+	 * 
+	 * @param  divisor 除式
+	 * @return         商
+	 * @exception MathArithmeticException 如果余式不为零
+	 * @exception MathZeroException       如果除式为零
+	 */
+	public SparsePolynomial divideExact(SparsePolynomial divisor) {
+		final Division division = divide(divisor);
+		if (!division.remainder.isZero()) {
+			throw new MathArithmeticException("(" + this + ") 不能被 (" + divisor + ") 整除");
+		}
+		return division.quotients[0];
+	}
+	
+	/**
+	 * 用 {@link #divide(SparsePolynomial...)} 约化本多项式，只返回余式。
+	 * 
+	 * @param  divisors 除式
+	 * @return          余式
+	 */
+	public SparsePolynomial remainder(SparsePolynomial... divisors) {
+		return divide(divisors).remainder;
+	}
+	
+	/**
+	 * 转换为 {@link Polynomial}。
+	 * 
+	 * @return 多项式
+	 * @exception MathArithmeticException 如果某一项的系数不是 {@code int} 范围内的整数
+	 */
+	public Polynomial toPolynomial() {
+		final Polynomial p = new Polynomial();
+		for (int t = 0; t < exponents.length; t++) {
+			final BigFraction c = coefficients[t];
+			if (!BigInteger.ONE.equals(c.getDenominator()) || c.getNumerator().bitLength() >= Integer.SIZE) {
+				throw new MathArithmeticException("系数 " + c + " 不是 int 范围内的整数");
+			}
+			final TreeMap<Character, Integer> letter = new TreeMap<>();
+			for (int i = 0; i < variables.length; i++) {
+				if (exponents[t][i] != 0) {
+					letter.put(variables[i], exponents[t][i]);
+				}
+			}
+			p.add(new Monomial(c.intValue(), letter));
+		}
+		return p;
+	}
+	
+	/**
+	 * @return 系数的 {@code long} 值，如果某个系数不是 {@code long} 范围内的整数则返回 {@code null}
+	 */
+	private static long[] longValues(BigFraction[] c) {
+		final long[] r = new long[c.length];
+		for (int i = 0; i < r.length; i++) {
+			if (!BigInteger.ONE.equals(c[i].getDenominator()) || c[i].getNumerator().bitLength() >= Long.SIZE) {
+				return null;
+			}
+			r[i] = c[i].longValue();
+		}
+		return r;
+	}
+	
+	private static int[] add(int[] a, int[] b) {
+		final int[] r = new int[a.length];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = a[i] + b[i];
+		}
+		return r;
+	}
+	
+	/**
+	 * @return 单项式 {@code a} 能否整除单项式 {@code b}
+	 */
+	private static boolean divides(int[] a, int[] b, int n) {
+		if (a[n] > b[n]) {
+			return false;
+		}
+		for (int i = 0; i < n; i++) {
+			if (a[i] > b[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	@Override
+	public int hashCode() {
+		// 与项的顺序无关，因此与单项式的序无关
+		int hash = 0;
+		for (int t = 0; t < exponents.length; t++) {
+			int h = 1;
+			for (int i = 0; i < variables.length; i++) {
+				if (exponents[t][i] != 0) {
+					h = 31 * h + (variables[i] << 16 | exponents[t][i]);
+				}
+			}
+			hash += 31 * h + coefficients[t].hashCode();
+		}
+		return hash;
+	}
+	
+	/**
+	 * 两个多项式的各项都相同时相等，与单项式的序无关。
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof SparsePolynomial))
+			return false;
+		final SparsePolynomial other = sameOrder((SparsePolynomial) obj);
+		if (!Arrays.equals(variables, other.variables))
+			return false;
+		return Arrays.deepEquals(exponents, other.exponents) 
+				&& Arrays.equals(coefficients, other.coefficients);
+	}
+	
+	/**
+	 * 按降序排列各项，非整数的系数用括号括起来，例如 {@code x^2-(1/2)xy+3}。
+	 */
+	@Override
+	public String toString() {
+		if (isZero()) {
+			return "0";
+		}
+		final StringBuilder buf = new StringBuilder();
+		for (int t = 0; t < exponents.length; t++) {
+			final BigFraction c = coefficients[t];
+			final BigInteger num = c.getNumerator();
+			final BigInteger den = c.getDenominator();
+			final boolean constant = exponents[t][variables.length] == 0;
+			if (c.signum() < 0) {
+				buf.append('-');
+			} else if (t > 0) {
+				buf.append('+');
+			}
+			if (!BigInteger.ONE.equals(den)) {
+				buf.append(constant ? "" : "(").append(num.abs()).append('/').append(den)
+				   .append(constant ? "" : ")");
+			} else if (constant || !BigInteger.ONE.equals(num.abs())) {
+				buf.append(num.abs());
+			}
+			for (int i = 0; i < variables.length; i++) {
+				final int e = exponents[t][i];
+				if (e != 0) {
+					buf.append(variables[i]);
+					if (e != 1) {
+						buf.append('^').append(e);
+					}
+				}
+			}
+		}
+		return buf.toString();
+	}
+	
+	/**
+	 * 带余除法的结果。
+	 * 
+	 * @see SparsePolynomial#divide(SparsePolynomial...)
+	 */
+	public static final class Division implements Serializable {
+		
+		// The serialVersionUID of the class Division.
+		private static final long serialVersionUID = -7283311904632615098L;
+		
+		private final SparsePolynomial[] quotients;
+		private final SparsePolynomial remainder;
+		
+		Division(SparsePolynomial[] quotients, SparsePolynomial remainder) {
+			this.quotients = quotients;
+			this.remainder = remainder;
+		}
+		
+		/**
+		 * @return 第一个除式的商
+		 */
+		public SparsePolynomial getQuotient() {
+			return quotients[0];
+		}
+		
+		/**
+		 * @param  index 除式的下标
+		 * @return       该除式的商
+		 */
+		public SparsePolynomial getQuotient(int index) {
+			return quotients[index];
+		}
+		
+		public SparsePolynomial getRemainder() {
+			return remainder;
+		}
+		
+		@Override
+		public String toString() {
+			return Arrays.toString(quotients) + ", " + remainder;
+		}
+		
+	}
+	
+	/**
+	 * 按单项式的序排列的二叉最大堆，每个元素为部分积的单项式及其来源（除式、行、列）。
+	 */
+	private static final class Heap {
+		
+		private final MonomialOrder order;
+		private int[][] monomials;
+		private int[] divisor;
+		private int[] row;
+		private int[] column;
+		private int size;
+		
+		Heap(MonomialOrder order, int capacity) {
+			this.order	   = order;
+			this.monomials = new int[capacity][];
+			this.divisor   = new int[capacity];
+			this.row	   = new int[capacity];
+			this.column	   = new int[capacity];
+		}
+		
+		boolean isEmpty() {
+			return size == 0;
+		}
+		
+		int[] top() {
+			return monomials[0];
+		}
+		
+		int topDivisor() {
+			return divisor[0];
+		}
+		
+		int topRow() {
+			return row[0];
+		}
+		
+		int topColumn() {
+			return column[0];
+		}
+		
+		void push(int d, int i, int j, int[] mono) {
+			if (size == monomials.length) {
+				final int capacity = Math.max(16, size * 2);
+				monomials = Arrays.copyOf(monomials, capacity);
+				divisor   = Arrays.copyOf(divisor, capacity);
+				row		  = Arrays.copyOf(row, capacity);
+				column	  = Arrays.copyOf(column, capacity);
+			}
+			int k = size++;
+			while (k > 0) {
+				final int parent = (k - 1) >>> 1;
+				if (order.compare(mono, monomials[parent]) <= 0) {
+					break;
+				}
+				move(parent, k);
+				k = parent;
+			}
+			set(k, d, i, j, mono);
+		}
+		
+		void pop() {
+			final int last = --size;
+			final int[] mono = monomials[last];
+			monomials[last] = null;
+			if (last > 0) {
+				siftDown(divisor[last], row[last], column[last], mono);
+			}
+		}
+		
+		/**
+		 * 用新元素替换堆顶的元素。
+		 */
+		void replaceTop(int d, int i, int j, int[] mono) {
+			siftDown(d, i, j, mono);
+		}
+		
+		private void siftDown(int d, int i, int j, int[] mono) {
+			final int n = size;
+			int k = 0;
+			while (true) {
+				int child = 2 * k + 1;
+				if (child >= n) {
+					break;
+				}
+				if (child + 1 < n && order.compare(monomials[child + 1], monomials[child]) > 0) {
+					child++;
+				}
+				if (order.compare(mono, monomials[child]) >= 0) {
+					break;
+				}
+				move(child, k);
+				k = child;
+			}
+			set(k, d, i, j, mono);
+		}
+		
+		private void move(int from, int to) {
+			monomials[to] = monomials[from];
+			divisor[to]	  = divisor[from];
+			row[to]		  = row[from];
+			column[to]	  = column[from];
+		}
+		
+		private void set(int k, int d, int i, int j, int[] mono) {
+			monomials[k] = mono;
+			divisor[k]	 = d;
+			row[k]		 = i;
+			column[k]	 = j;
+		}
+		
+	}
+
+}
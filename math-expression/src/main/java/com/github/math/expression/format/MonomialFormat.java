@@ -18,14 +18,13 @@ package com.github.math.expression.format;
 
 import com.github.math.exception.MathParseException;
 import com.github.math.expression.Monomial;
+import com.github.math.expression.PolynomialParser;
 import com.github.math.format.AbstractFormat;
 
+import java.io.IOException;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
 
 /**
  * 
@@ -40,6 +39,18 @@ public final class MonomialFormat extends AbstractFormat<Monomial> {
 	
 	NumberFormat coefficientFormat;
 	
+	/**
+	 * 解析器，第一次解析时创建。
+	 */
+	private transient PolynomialParser parser;
+	
+	/**
+	 * 格式化系数时重复使用的缓冲区，{@link NumberFormat} 只能写入 {@link StringBuffer}。
+	 */
+	private transient StringBuffer buffer;
+	
+	private transient FieldPosition field;
+	
 	public MonomialFormat() {
 		this(NumberFormat.getNumberInstance());
 	}
@@ -65,183 +76,77 @@ public final class MonomialFormat extends AbstractFormat<Monomial> {
 		this.coefficientFormat = coefficientFormat;
 	}
 
+	/**
+	 * 格式化单项式，例如 {@code -3x^2y}。字母部分不为空时，系数 1 与 -1 只写出符号。
+	 */
 	@Override
-	public StringBuffer format(Monomial monomial, 
-							   StringBuffer toAppendTo, 
-							   FieldPosition pos) {
-		
-		pos.setBeginIndex(0);
-		pos.setEndIndex(0);
-		
-		coefficientFormat.format(monomial.coefficient(), toAppendTo, pos);
-		
-		String s = toAppendTo.toString();
-		
-		switch (s) {
-		case "1":
-			toAppendTo.deleteCharAt(0);
-			break;
-		case "-1":
-			toAppendTo.deleteCharAt(1);
-			break;
-		}
-		
-		
-		Iterator<Map.Entry<Character, Integer>> it = monomial.iterator();
-		Map.Entry<Character, Integer> e;
-		
-		while (it.hasNext()) {
-			e = it.next();
-			toAppendTo.append(e.getKey().charValue());
-			if (e.getValue() != 1) {
-				toAppendTo.append('^').append(e.getValue().intValue());
-			}
-		}
-			
-		return toAppendTo;
-	}
-
-	@Override
-	public Monomial parse(String source, ParsePosition pos) {
-		parseAndIgnoreWhitespace(source, pos);
-		final int coefficient;
-		Number num = coefficientFormat.parse(source, pos);
-		
-		if (num == null) {
-			
-			int start = pos.getIndex();
-			switch (source.charAt(0)) {
-			case '-':
-				// -abc
-				coefficient = -1;
-				pos.setIndex(start + 1);
-				break;
-			case '+':
-				// +abc
-				coefficient = 1;
-				pos.setIndex(start + 1);
-				break;
-			default:
-				// abc
-				coefficient = 1;
-				break;
+	public void format(Monomial monomial, Appendable out) throws IOException {
+		final int c = monomial.coefficient();
+		final int n = monomial.variableCount();
+		if (n > 0 && (c == 1 || c == -1)) {
+			if (c < 0) {
+				out.append('-');
 			}
-			
 		} else {
-			coefficient = num.intValue();
-		}
-		
-		// 0abc
-		if (coefficient == 0) {
-			return Monomial.ZERO;
-		}
-		
-		HashMap<Character, Integer> letter = new HashMap<>();
-		putLetter(source, pos, letter);
-		
-		if (pos.getIndex() == 0) {
-			throw new MathParseException(source, pos.getErrorIndex());
+			final StringBuffer b = buffer();
+			coefficientFormat.format(c, b, field);
+			out.append(b);
 		}
-		
-		pos.setIndex(source.length() - 1);
-		return new Monomial(coefficient, letter);
-	}
-	
-	private void putLetter(String source, 
-						   ParsePosition pos, 
-						   HashMap<Character, Integer> letter) {
-		
-		int index = pos.getIndex();
-		
-        final int n = source.length();
-        
-        char c;
-        char next;
-        while (index < n) {
-			
-        	c = source.charAt(index++);
-        	
-        	// 1.3^abc, *bf, 10+bc
-			if (!Character.isLetter(c)) {
-				error(pos, index);
-				break;
-			}
-        	
-			if (index < n) {
-				
-				next = source.charAt(index);
-				
-				// 1.2abc, abc
-				if (next != '^') {
-					put(c, 1, letter);
-					continue;
-				}
-				
-				pos.setIndex(index + 1);
-				int i = initIndex(source, pos);
-				
-				// exception
-				if (pos.getIndex() == 0) {
-					break;
-				}
-				
-				// a^0bc
-				if (i == 0) {
-					index += 2;
-					continue;
-				}
-				
-				// 1.2a^23bc, a^2bc
-				put(c, i, letter);
-				index = pos.getIndex();
-				continue;
+		for (int i = 0; i < n; i++) {
+			out.append(monomial.variableAt(i));
+			final int e = monomial.exponentAt(i);
+			if (e != 1) {
+				appendInt(out.append('^'), e);
 			}
-			
-			put(c, 1, letter);
-			pos.setIndex(index);
-			break;
 		}
 	}
 	
-	private void put(char c, int add, HashMap<Character, Integer> letter) {
-		if (letter.containsKey(c)) {
-			letter.put(c, letter.get(c) + add);
-		} else {
-			letter.put(c, add);
+	/**
+	 * @return 清空之后的系数缓冲区
+	 */
+	private StringBuffer buffer() {
+		StringBuffer b = buffer;
+		if (b == null) {
+			buffer = b = new StringBuffer();
+			field  = new FieldPosition(0);
 		}
+		b.setLength(0);
+		return b;
+	}
+
+	/**
+	 * 解析单项式，格式见 {@link PolynomialParser}，系数由 {@link #getCoefficientFormat()} 解析。
+	 * 
+	 * @exception MathParseException 如果格式不正确，异常中保存出错的字符的索引
+	 */
+	@Override
+	public Monomial parse(String source, ParsePosition pos) {
+		return parse((CharSequence) source, pos);
 	}
 	
-	private void error(ParsePosition pos, int index) {
-		pos.setIndex(0);
-		pos.setErrorIndex(index - 1);
+	/**
+	 * 不创建中间字符串地解析单项式，格式见 {@link PolynomialParser}。
+	 * 
+	 * @param  source 字符序列
+	 * @param  pos    解析的位置，解析之后为最后一个记号之后的位置
+	 * @return        单项式
+	 * @exception MathParseException 如果格式不正确，异常中保存出错的字符的索引
+	 */
+	public Monomial parse(CharSequence source, ParsePosition pos) {
+		final Monomial m = parser().parseMonomial(source, pos);
+		if (m == null) {
+			throw new MathParseException(source.toString(), pos.getErrorIndex());
+		}
+		return m;
 	}
 	
-	private int initIndex(String source, ParsePosition pos) {
-		int index = pos.getIndex();
-		final int n = source.length();
-		
-		char c;
-		
-		do {
-			if (n == index) {
-				index++;
-				break;
-			}
-			c = source.charAt(index++);
-		} while (Character.isDigit(c));
-		
-		--index;
-		
-		// abc^
-		if (pos.getIndex() == index) {
-			error(pos, index);
-			return -1;
+	PolynomialParser parser() {
+		PolynomialParser p = parser;
+		if (p == null) {
+			parser = p = new PolynomialParser();
 		}
-		
-		final String num = source.substring(pos.getIndex(), index);
-		
-		pos.setIndex(index);
-		return Integer.parseInt(num);
+		p.setCoefficientFormat(coefficientFormat);
+		return p;
 	}
 
 }
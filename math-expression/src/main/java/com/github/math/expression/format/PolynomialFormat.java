@@ -17,14 +17,15 @@
 package com.github.math.expression.format;
 
 
+import com.github.math.exception.MathParseException;
 import com.github.math.expression.Monomial;
+import com.github.math.expression.PolynomialParser;
 import com.github.math.expression.Polynomial;
 import com.github.math.format.AbstractFormat;
 
-import java.text.FieldPosition;
+import java.io.IOException;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
-import java.util.Iterator;
 
 /**
  * BigFractionFormat
@@ -74,35 +75,49 @@ public final class PolynomialFormat extends AbstractFormat<Polynomial> {
 		return null;
 	}
 
+	/**
+	 * 格式化多项式，例如 {@code 3x^2y-2xy+1}，零多项式为 {@code 0}。
+	 */
 	@Override
-	public StringBuffer format(Polynomial obj, 
-							   StringBuffer toAppendTo, 
-							   FieldPosition pos) {
-		
-		Iterator<Monomial> it = obj.iterator();
-		
-		Monomial m;
-		while (it.hasNext()) {
-			m = it.next();
-			monomialFormat.format(m, toAppendTo, pos);
+	public void format(Polynomial obj, Appendable out) throws IOException {
+		if (obj.isEmpty()) {
+			out.append('0');
+			return;
+		}
+		boolean first = true;
+		for (Monomial m : obj) {
+			if (!first && m.signum() > 0) {
+				out.append('+');
+			}
+			monomialFormat.format(m, out);
+			first = false;
 		}
-		
-		return toAppendTo;
 	}
 
+	/**
+	 * 解析多项式，格式见 {@link PolynomialParser}，系数由 {@link #getCoefficientFormat()} 解析。
+	 * 
+	 * @exception MathParseException 如果格式不正确，异常中保存出错的字符的索引
+	 */
 	@Override
 	public Polynomial parse(String source, ParsePosition pos) {
-		String[] text = source.replaceAll(" ", "")
-				.replaceAll("-", "+-").split("[+]");
-		Monomial[] value = new Monomial[text.length];
-		
-		for (int i = 0; i < value.length; i++) {
-			value[i] = monomialFormat.parse(text[i], pos);
-			pos.setIndex(0);
+		return parse((CharSequence) source, pos);
+	}
+	
+	/**
+	 * 单遍、不创建中间字符串地解析多项式，格式见 {@link PolynomialParser}。
+	 * 
+	 * @param  source 字符序列
+	 * @param  pos    解析的位置，解析之后为最后一个记号之后的位置
+	 * @return        多项式
+	 * @exception MathParseException 如果格式不正确，异常中保存出错的字符的索引
+	 */
+	public Polynomial parse(CharSequence source, ParsePosition pos) {
+		final Polynomial p = monomialFormat.parser().parsePolynomial(source, pos);
+		if (p == null) {
+			throw new MathParseException(source.toString(), pos.getErrorIndex());
 		}
-		
-		pos.setIndex(source.length() - 1);
-		return new Polynomial(value);
+		return p;
 	}
 
 }
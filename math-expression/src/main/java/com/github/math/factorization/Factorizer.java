@@ -0,0 +1,351 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.factorization;
+
+import com.github.math.expression.MonomialOrder;
+import com.github.math.expression.Polynomial;
+import com.github.math.expression.SparsePolynomial;
+import com.github.math.number.fraction.BigFraction;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 整系数多元多项式的最大公因式与无平方分解。
+ * 
+ * <p>
+ * 最大公因式采用递归的子结式余式序列（subresultant PRS）算法：选定一个主字母，把多项式看作关于主字母的
+ * 一元多项式，其系数是关于其余字母的多项式。两个多项式的容度（各系数的最大公因式）递归地求最大公因式，
+ * 本原部分用子结式余式序列求最大公因式。子结式余式序列在每一步都除以已知的公因子，
+ * 系数的规模只随次数线性增长，不会像普通的伪余式序列那样指数膨胀。
+ * 
+ * <p>
+ * 无平方分解采用 Yun 算法：f = r<sub>0</sub>r<sub>1</sub>r<sub>2</sub><sup>2</sup>r<sub>3</sub><sup>3</sup>...，
+ * 其中 r<sub>0</sub> 为常数，其余 r<sub>i</sub> 是两两互素、没有平方因式的多项式（可能为 1）。
+ * 
+ * <p>
+ * 最大公因式的首项系数总是正的，并且包含两个多项式的系数的最大公约数。{@link #gcd(Polynomial, Polynomial)} 与
+ * {@link #squareFree(Polynomial)} 的结果按多项式缓存，缓存的键是不可变的 {@link SparsePolynomial}，
+ * 与项的排列顺序无关。
+ * 
+ * @author 王帅
+ * @see    PerfectSquare
+ * @see    SquareDifference
+ */
+public final class Factorizer {
+	
+	/**
+	 * 内部使用的单项式的序。
+	 */
+	private static final MonomialOrder ORDER = MonomialOrder.LEX;
+	
+	private static final SparsePolynomial ONE = SparsePolynomial.valueOf(BigFraction.ONE, ORDER);
+	
+	/**
+	 * 缓存的最大容量，超出时清空缓存。
+	 */
+	private static final int CACHE_SIZE = 1024;
+	
+	private static final Map<Pair, SparsePolynomial> GCD_CACHE = new ConcurrentHashMap<>();
+	
+	private static final Map<SparsePolynomial, SparsePolynomial[]> SQUARE_FREE_CACHE = new ConcurrentHashMap<>();
+	
+	private Factorizer() {
+	}
+	
+	/**
+	 * 两个多项式的最大公因式。
+	 * 
+	 * @param  a 多项式
+	 * @param  b 多项式
+	 * @return   最大公因式，首项系数为正；两个多项式都为零时返回零
+	 */
+	public static Polynomial gcd(Polynomial a, Polynomial b) {
+		return gcd(SparsePolynomial.valueOf(a, ORDER), SparsePolynomial.valueOf(b, ORDER)).toPolynomial();
+	}
+	
+	/**
+	 * 两个整系数多项式的最大公因式，结果会被缓存。
+	 * 
+	 * @param  a 多项式
+	 * @param  b 多项式
+	 * @return   最大公因式，首项系数为正；两个多项式都为零时返回零
+	 */
+	public static SparsePolynomial gcd(SparsePolynomial a, SparsePolynomial b) {
+		final Pair key = new Pair(a.withOrder(ORDER), b.withOrder(ORDER));
+		SparsePolynomial g = GCD_CACHE.get(key);
+		if (g == null) {
+			g = gcdImpl(key.a, key.b);
+			if (GCD_CACHE.size() >= CACHE_SIZE)
+				GCD_CACHE.clear();
+			GCD_CACHE.putIfAbsent(key, g);
+		}
+		return positive(g.withOrder(a.getOrder()));
+	}
+	
+	/**
+	 * 无平方分解。
+	 * 
+	 * @param  p 多项式
+	 * @return   数组 r，p = r[0] &middot; r[1] &middot; r[2]<sup>2</sup> &middot; r[3]<sup>3</sup>...，
+	 * 			 r[0] 为常数，其余元素两两互素且没有平方因式，最后一个元素不为 1
+	 */
+	public static Polynomial[] squareFree(Polynomial p) {
+		final SparsePolynomial[] s = squareFree(SparsePolynomial.valueOf(p, ORDER));
+		final Polynomial[] r = new Polynomial[s.length];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = s[i].toPolynomial();
+		}
+		return r;
+	}
+	
+	/**
+	 * 整系数多项式的无平方分解，结果会被缓存。
+	 * 
+	 * @param  p 多项式
+	 * @return   见 {@link #squareFree(Polynomial)}
+	 */
+	public static SparsePolynomial[] squareFree(SparsePolynomial p) {
+		final SparsePolynomial key = p.withOrder(ORDER);
+		SparsePolynomial[] r = SQUARE_FREE_CACHE.get(key);
+		if (r == null) {
+			r = squareFreeImpl(key);
+			if (SQUARE_FREE_CACHE.size() >= CACHE_SIZE)
+				SQUARE_FREE_CACHE.clear();
+			SQUARE_FREE_CACHE.putIfAbsent(key, r);
+		}
+		final SparsePolynomial[] copy = new SparsePolynomial[r.length];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = r[i].withOrder(p.getOrder());
+		}
+		return copy;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// 最大公因式
+	// --------------------------------------------------------------------------------
+	
+	private static SparsePolynomial gcdImpl(SparsePolynomial a, SparsePolynomial b) {
+		if (a.isZero()) {
+			return positive(b);
+		}
+		if (b.isZero() || a.equals(b)) {
+			return positive(a);
+		}
+		if (a.isConstant() || b.isConstant()) {
+			return constant(gcd(a.content(), b.content()));
+		}
+		// 只出现在一个多项式中的字母不影响最大公因式：gcd(a, b) = gcd(cont(a), b)
+		final char u = a.getVariables()[0];
+		if (b.degree(u) == 0) {
+			return gcdImpl(content(a, u), b);
+		}
+		final char w = b.getVariables()[0];
+		if (a.degree(w) == 0) {
+			return gcdImpl(a, content(b, w));
+		}
+		final SparsePolynomial ca = content(a, u);
+		final SparsePolynomial cb = content(b, u);
+		final SparsePolynomial c = gcdImpl(ca, cb);
+		final SparsePolynomial g = subresultant(a.divideExact(ca), b.divideExact(cb), u);
+		return c.multiply(g);
+	}
+	
+	/**
+	 * 两个本原多项式（关于 {@code v}）的最大公因式，两个多项式关于 {@code v} 的次数都不小于 1。
+	 */
+	private static SparsePolynomial subresultant(SparsePolynomial a, SparsePolynomial b, char v) {
+		if (a.degree(v) < b.degree(v)) {
+			final SparsePolynomial t = a;
+			a = b;
+			b = t;
+		}
+		SparsePolynomial g = ONE;
+		SparsePolynomial h = ONE;
+		while (true) {
+			final int d = a.degree(v) - b.degree(v);
+			final SparsePolynomial r = pseudoRemainder(a, b, v);
+			if (r.isZero()) {
+				break;
+			}
+			if (r.degree(v) == 0) {
+				return ONE;
+			}
+			a = b;
+			b = r.divideExact(g.multiply(pow(h, d)));
+			g = a.coefficient(v, a.degree(v));
+			if (d == 1) {
+				h = g;
+			} else if (d > 1) {
+				h = pow(g, d).divideExact(pow(h, d - 1));
+			}
+		}
+		return positive(b.divideExact(content(b, v)));
+	}
+	
+	/**
+	 * 伪余式：lc(b)<sup>deg(a) - deg(b) + 1</sup> &middot; a 除以 b 的余式（关于 {@code v}）。
+	 */
+	private static SparsePolynomial pseudoRemainder(SparsePolynomial a, SparsePolynomial b, char v) {
+		final int db = b.degree(v);
+		final SparsePolynomial lead = b.coefficient(v, db);
+		int e = a.degree(v) - db + 1;
+		SparsePolynomial r = a;
+		int dr;
+		while (!r.isZero() && (dr = r.degree(v)) >= db) {
+			final SparsePolynomial t = b.multiply(r.coefficient(v, dr)).shift(v, dr - db);
+			r = r.multiply(lead).subtract(t);
+			e--;
+		}
+		return e > 0 ? r.multiply(pow(lead, e)) : r;
+	}
+	
+	/**
+	 * 关于 {@code v} 的容度：各系数（关于其余字母的多项式）的最大公因式。
+	 */
+	private static SparsePolynomial content(SparsePolynomial p, char v) {
+		SparsePolynomial g = null;
+		for (int k = p.degree(v); k >= 0; k--) {
+			final SparsePolynomial c = p.coefficient(v, k);
+			if (c.isZero()) {
+				continue;
+			}
+			g = g == null ? positive(c) : gcdImpl(g, c);
+			if (g.isConstant() && BigFraction.ONE.equals(g.leadingCoefficient())) {
+				break;
+			}
+		}
+		return g;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// 无平方分解
+	// --------------------------------------------------------------------------------
+	
+	private static SparsePolynomial[] squareFreeImpl(SparsePolynomial p) {
+		if (p.isConstant()) {
+			return new SparsePolynomial[] {p};
+		}
+		final char v = p.getVariables()[0];
+		final SparsePolynomial content = content(p, v);
+		final SparsePolynomial f = p.divideExact(content);
+		
+		// Yun 算法：a 为重数是 i 的因式之积
+		final SparsePolynomial[] yun = new SparsePolynomial[f.degree(v) + 1];
+		final SparsePolynomial df = f.derivative(v);
+		final SparsePolynomial g = gcdImpl(f, df);
+		SparsePolynomial b = f.divideExact(g);
+		SparsePolynomial d = df.divideExact(g).subtract(b.derivative(v));
+		int n = 0;
+		for (int i = 1; b.degree(v) > 0; i++) {
+			final SparsePolynomial a = gcdImpl(b, d);
+			yun[i] = a;
+			n = i;
+			b = b.divideExact(a);
+			d = d.divideExact(a).subtract(b.derivative(v));
+		}
+		
+		// 容度与 v 无关，递归分解后按重数合并
+		final SparsePolynomial[] rest = squareFreeImpl(content);
+		final SparsePolynomial[] r = new SparsePolynomial[Math.max(n + 1, rest.length)];
+		SparsePolynomial product = ONE;
+		for (int i = 1; i < r.length; i++) {
+			r[i] = ONE;
+			if (i <= n && yun[i] != null) {
+				r[i] = r[i].multiply(yun[i]);
+			}
+			if (i < rest.length) {
+				r[i] = r[i].multiply(rest[i]);
+			}
+			product = product.multiply(pow(r[i], i));
+		}
+		r[0] = p.divideExact(product);
+		return r;
+	}
+	
+	// --------------------------------------------------------------------------------
+	// 辅助方法
+	// --------------------------------------------------------------------------------
+	
+	private static SparsePolynomial pow(SparsePolynomial p, int e) {
+		SparsePolynomial r = ONE;
+		while (e > 0) {
+			if ((e & 1) != 0) {
+				r = r.multiply(p);
+			}
+			e >>= 1;
+			if (e > 0) {
+				p = p.multiply(p);
+			}
+		}
+		return r;
+	}
+	
+	/**
+	 * 使首项系数为正。
+	 */
+	private static SparsePolynomial positive(SparsePolynomial p) {
+		return p.leadingCoefficient().signum() < 0 ? p.negate() : p;
+	}
+	
+	private static SparsePolynomial constant(BigFraction c) {
+		return SparsePolynomial.valueOf(c, ORDER);
+	}
+	
+	/**
+	 * 两个非负有理数的最大公约数：分子的最大公约数除以分母的最小公倍数。
+	 */
+	private static BigFraction gcd(BigFraction a, BigFraction b) {
+		final BigInteger da = a.getDenominator();
+		final BigInteger db = b.getDenominator();
+		return BigFraction.valueOf(a.getNumerator().gcd(b.getNumerator()), 
+				da.divide(da.gcd(db)).multiply(db));
+	}
+	
+	/**
+	 * 最大公因式缓存的键，与两个多项式的顺序无关。
+	 */
+	private static final class Pair {
+		
+		final SparsePolynomial a;
+		final SparsePolynomial b;
+		
+		Pair(SparsePolynomial a, SparsePolynomial b) {
+			this.a = a;
+			this.b = b;
+		}
+		
+		@Override
+		public int hashCode() {
+			return a.hashCode() + b.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Pair))
+				return false;
+			final Pair other = (Pair) obj;
+			return a.equals(other.a) && b.equals(other.b) || a.equals(other.b) && b.equals(other.a);
+		}
+		
+	}
+	
+}
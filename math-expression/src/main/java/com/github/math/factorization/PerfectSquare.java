@@ -16,33 +16,118 @@
 
 package com.github.math.factorization;
 
-
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.expression.MonomialOrder;
 import com.github.math.expression.Polynomial;
+import com.github.math.expression.SparsePolynomial;
+import com.github.math.number.fraction.BigFraction;
 
 import java.io.Serializable;
-
+import java.math.BigInteger;
 
 /**
+ * <p>
+ * 完全平方式 p = q<sup>2</sup>。
+ * 
+ * <p>
+ * 由无平方分解（{@link Factorizer#squareFree(SparsePolynomial)}）识别：p 是完全平方式当且仅当
+ * 常数因子是有理数的平方，并且所有奇数重数的因式都为 1，此时 q 为常数因子的平方根与各因式的 i/2 次幂之积。
+ * 因此不只是 a<sup>2</sup> &plusmn; 2ab + b<sup>2</sup>，任意多项式的平方都能识别。
  * 
  * @author 王帅
- *
  */
 public final class PerfectSquare implements Serializable {
 	
 	// The serialVersionUID of the class PerfectSquare.
 	private static final long serialVersionUID = 209062094212659606L;
-	@SuppressWarnings("unused")
+	
 	private final Polynomial factor;
+	
+	private final Polynomial root;
 
 	/**
 	 * 
-	 * @param factor 9
+	 * @param factor 完全平方式
+	 * @exception MathIllegalArgumentException 如果多项式不是完全平方式
 	 */
 	public PerfectSquare(final Polynomial factor) {
-//		if (factor.size() < 3) {
-//			throw new MathCheckException(factor + "不能分解！");
-//		}
+		final SparsePolynomial r = root(SparsePolynomial.valueOf(factor, MonomialOrder.LEX));
+		if (r == null) {
+			throw new MathIllegalArgumentException(factor + "不能分解！");
+		}
 		this.factor = factor;
+		this.root	= r.toPolynomial();
+	}
+	
+	/**
+	 * @param  p 多项式
+	 * @return   多项式是否为完全平方式（零不是完全平方式）
+	 */
+	public static boolean isPerfectSquare(Polynomial p) {
+		return root(SparsePolynomial.valueOf(p, MonomialOrder.LEX)) != null;
+	}
+	
+	/**
+	 * @return 首项系数为正的平方根，如果多项式不是完全平方式则返回 {@code null}
+	 */
+	static SparsePolynomial root(SparsePolynomial p) {
+		if (p.isZero()) {
+			return null;
+		}
+		final SparsePolynomial[] r = Factorizer.squareFree(p);
+		final BigFraction c = r[0].leadingCoefficient();
+		if (c.signum() < 0) {
+			return null;
+		}
+		final BigInteger num = c.getNumerator().sqrt();
+		final BigInteger den = c.getDenominator().sqrt();
+		if (!num.multiply(num).equals(c.getNumerator()) || !den.multiply(den).equals(c.getDenominator())) {
+			return null;
+		}
+		SparsePolynomial root = SparsePolynomial.valueOf(BigFraction.valueOf(num, den), p.getOrder());
+		for (int i = 1; i < r.length; i++) {
+			if (r[i].isConstant()) {
+				continue;
+			}
+			if ((i & 1) != 0) {
+				return null;
+			}
+			for (int k = 0; k < i >>> 1; k++) {
+				root = root.multiply(r[i]);
+			}
+		}
+		return root;
+	}
+	
+	public Polynomial getFactor() {
+		return this.factor;
+	}
+	
+	/**
+	 * @return 首项系数为正的平方根
+	 */
+	public Polynomial getRoot() {
+		return this.root;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 + root.hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) 
+			return true;
+		if (!(obj instanceof PerfectSquare)) 
+			return false;
+		final PerfectSquare other = (PerfectSquare) obj;
+		return root.equals(other.root);
+	}
+	
+	@Override
+	public String toString() {
+		return "(" + root + ")^2";
 	}
 
 }
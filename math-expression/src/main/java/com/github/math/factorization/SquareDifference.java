@@ -16,32 +16,105 @@
 
 package com.github.math.factorization;
 
+import com.github.math.exception.MathIllegalArgumentException;
 import com.github.math.expression.Monomial;
+import com.github.math.expression.MonomialOrder;
 import com.github.math.expression.Polynomial;
+import com.github.math.expression.SparsePolynomial;
 
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
+ * <p>
+ * 平方差 p = a<sup>2</sup> - b<sup>2</sup> = (a + b)(a - b)。
+ * 
+ * <p>
+ * 依次尝试把某个系数为负、绝对值是完全平方的项当作 -b<sup>2</sup>，检查其余部分是否为完全平方式；
+ * 然后再尝试把某个系数为正的完全平方项当作 a<sup>2</sup>。因此除了 x<sup>2</sup> - 4y<sup>2</sup>，
+ * 也能识别 x<sup>2</sup> + 2xy + y<sup>2</sup> - z<sup>2</sup> 这样的形式。
  * 
  * @author 王帅
- *
+ * @see    PerfectSquare
  */
 public final class SquareDifference implements Serializable {
 
 	// The serialVersionUID of the class SquareDifference.
 	private static final long serialVersionUID = 3287313904536463482L;
-	private Monomial frist;
-	private Monomial last;
+	
+	private final Polynomial first;
+	
+	private final Polynomial last;
 
 	/***
 	 * 
-	 * @param factor 9
+	 * @param factor 平方差
+	 * @exception MathIllegalArgumentException 如果多项式不是平方差
 	 */
 	public SquareDifference(final Polynomial factor) {
+		final SparsePolynomial p = SparsePolynomial.valueOf(factor, MonomialOrder.LEX);
+		for (int sign = -1; sign <= 1; sign += 2) {
+			for (Monomial m : factor) {
+				if (m.signum() != sign) {
+					continue;
+				}
+				final Monomial s = sqrt(m);
+				if (s == null) {
+					continue;
+				}
+				final SparsePolynomial square = SparsePolynomial.valueOf(new Polynomial(s.multiply(s)), MonomialOrder.LEX);
+				// sign < 0: p = r^2 - s^2；sign > 0: p = s^2 - r^2
+				final SparsePolynomial rest = sign < 0 ? p.add(square) : square.subtract(p);
+				final SparsePolynomial r = PerfectSquare.root(rest);
+				if (r != null) {
+					this.first = sign < 0 ? r.toPolynomial() : new Polynomial(s);
+					this.last  = sign < 0 ? new Polynomial(s) : r.toPolynomial();
+					return;
+				}
+			}
+		}
+		throw new MathIllegalArgumentException(factor + "不能分解！");
+	}
+	
+	/**
+	 * @return 单项式的绝对值的平方根，如果不是完全平方则返回 {@code null}
+	 */
+	private static Monomial sqrt(Monomial m) {
+		final BigInteger c = BigInteger.valueOf(m.coefficient()).abs();
+		final BigInteger root = c.sqrt();
+		if (!root.multiply(root).equals(c)) {
+			return null;
+		}
+		final TreeMap<Character, Integer> letter = new TreeMap<>();
+		final Iterator<Entry<Character, Integer>> it = m.iterator();
+		while (it.hasNext()) {
+			final Entry<Character, Integer> e = it.next();
+			if ((e.getValue() & 1) != 0) {
+				return null;
+			}
+			letter.put(e.getKey(), e.getValue() >>> 1);
+		}
+		return new Monomial(root.intValueExact(), letter);
+	}
+	
+	public Polynomial getFirst() {
+		return this.first;
+	}
+	
+	public Polynomial getLast() {
+		return this.last;
 	}
 	
 	public String result() {
-		return "(" + frist + " + " + last + ")(" + frist + "-" + last + ")";
+		return "(" + first.plus(last) + ")(" + first.subtract(last) + ")";
+	}
+	
+	@Override
+	public String toString() {
+		return result();
 	}
 
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.number.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.github.math.expression.Polynomials.monomial;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class DenseUnivariatePolynomialTest {
+
+    private static BigInteger[] random(Random random, int size, int bits) {
+        BigInteger[] c = new BigInteger[size];
+        for (int i = 0; i < size; i++) {
+            c[i] = new BigInteger(bits, random);
+            if (random.nextBoolean()) {
+                c[i] = c[i].negate();
+            }
+        }
+        return c;
+    }
+
+    private static BigInteger[] schoolbook(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] r = new BigInteger[a.length + b.length - 1];
+        Arrays.fill(r, BigInteger.ZERO);
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                r[i + j] = r[i + j].add(a[i].multiply(b[j]));
+            }
+        }
+        return r;
+    }
+
+    @Test
+    void multiply() {
+        Random random = new Random(42L);
+        // 逐项相乘、Karatsuba、数论变换（一至三个素数）以及 BigInteger 系数
+        int[][] cases = {
+                {10, 17, 20}, {100, 130, 20}, {700, 90, 30}, {3000, 2500, 62},
+                {5000, 4500, 6}, {4200, 4100, 10}, {4100, 4100, 22}, {4096, 4200, 30},
+                {300, 400, 100}
+        };
+        for (int[] c : cases) {
+            BigInteger[] a = random(random, c[0], c[2]);
+            BigInteger[] b = random(random, c[1], c[2]);
+            DenseUnivariatePolynomial expected = new DenseUnivariatePolynomial('x', schoolbook(a, b));
+            DenseUnivariatePolynomial actual = new DenseUnivariatePolynomial('x', a)
+                    .multiply(new DenseUnivariatePolynomial('x', b));
+            assertEquals(expected, actual, c[0] + "x" + c[1] + ", " + c[2] + " bits");
+        }
+    }
+
+    @Test
+    void arithmetic() {
+        DenseUnivariatePolynomial p = new DenseUnivariatePolynomial('x', 1, -1, 3);
+        DenseUnivariatePolynomial q = new DenseUnivariatePolynomial('x', -1, 1, -3);
+        assertEquals("3x^2-x+1", p.toString());
+        assertEquals("0", p.add(q).toString());
+        assertEquals(-1, p.add(q).degree());
+        assertEquals(q, p.negate());
+        assertEquals(new DenseUnivariatePolynomial('x', 2, -2, 6), p.subtract(q));
+
+        // long 溢出时改用 BigInteger
+        DenseUnivariatePolynomial max = new DenseUnivariatePolynomial('x', Long.MAX_VALUE);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), max.add(max).getCoefficient(0));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), max.multiply(max).getCoefficient(0));
+        assertThrows(MathIllegalArgumentException.class, () -> p.add(new DenseUnivariatePolynomial('y', 1, 1)));
+    }
+
+    @Test
+    void evaluate() {
+        DenseUnivariatePolynomial p = new DenseUnivariatePolynomial('x', 1, -1, 3);
+        assertEquals(11.0, p.evaluate(2.0));
+        assertEquals(BigInteger.valueOf(3 * 100 - 10 + 1), p.evaluate(BigInteger.TEN));
+        // 3/4 - 1/2 + 1 = 5/4
+        assertEquals(BigFraction.valueOf(5, 4), p.evaluate(BigFraction.valueOf(1, 2)));
+        assertEquals(new BigDecimal("0.930"), p.evaluate(new BigDecimal("0.1")));
+        assertEquals(BigFraction.ZERO, new DenseUnivariatePolynomial('x', new long[0]).evaluate(BigFraction.ONE));
+
+        // 点数与项数之积超过并行阈值，并且点数不是 4 的倍数
+        Random random = new Random(42L);
+        long[] c = new long[40];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = random.nextInt(19) - 9;
+        }
+        DenseUnivariatePolynomial q = new DenseUnivariatePolynomial('x', c);
+        double[] x = new double[10007];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextDouble() * 2 - 1;
+        }
+        double[] result = new double[x.length];
+        q.evaluate(x, result);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(q.evaluate(x[i]), result[i]);
+        }
+        q.evaluate(x, x);
+        assertArrayEquals(result, x);
+        assertThrows(MathIllegalArgumentException.class, () -> q.evaluate(x, new double[1]));
+
+        // 项数很多而点数只有 5 到 7 个时，计算量超过阈值，但块不能再二分
+        long[] d = new long[14000];
+        d[0] = 1;
+        d[d.length - 1] = 1;
+        DenseUnivariatePolynomial r = new DenseUnivariatePolynomial('x', d);
+        for (int n = 5; n <= 7; n++) {
+            double[] y = new double[n];
+            Arrays.fill(y, 0.5);
+            y[0] = 1.0;
+            y[n - 1] = -1.0;
+            double[] values = new double[n];
+            r.evaluate(y, values);
+            for (int i = 0; i < n; i++) {
+                assertEquals(r.evaluate(y[i]), values[i]);
+            }
+        }
+    }
+
+    @Test
+    void polynomial() {
+        Polynomial p = new Polynomial(monomial(3, "y2"), monomial(-1, "y"), monomial(1, ""));
+        DenseUnivariatePolynomial d = DenseUnivariatePolynomial.valueOf(p);
+        assertEquals('y', d.getVariable());
+        assertEquals("3y^2-y+1", d.toString());
+        assertEquals(p, d.toPolynomial());
+        assertEquals(p.multiply(p), d.multiply(d).toPolynomial());
+        assertThrows(MathIllegalArgumentException.class,
+                () -> DenseUnivariatePolynomial.valueOf(new Polynomial(monomial(1, "xy"))));
+    }
+
+    @Test
+    void equality() {
+        DenseUnivariatePolynomial x = new DenseUnivariatePolynomial('x', 1, 1);
+        DenseUnivariatePolynomial y = new DenseUnivariatePolynomial('y', 1, 1);
+        assertNotEquals(x, y);
+        assertNotEquals(y, x);
+        assertEquals(x, new DenseUnivariatePolynomial('x', BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO));
+        assertEquals(x.hashCode(), new DenseUnivariatePolynomial('x', BigInteger.ONE, BigInteger.ONE).hashCode());
+
+        // 字母不同的常数不相等，相等的常数散列码相同
+        DenseUnivariatePolynomial five = new DenseUnivariatePolynomial('x', 5);
+        assertNotEquals(five, new DenseUnivariatePolynomial('y', 5));
+        assertEquals(five, new DenseUnivariatePolynomial('x', BigInteger.valueOf(5)));
+        assertEquals(five.hashCode(), new DenseUnivariatePolynomial('x', BigInteger.valueOf(5)).hashCode());
+
+        BigInteger large = BigInteger.ONE.shiftLeft(80);
+        DenseUnivariatePolynomial big = new DenseUnivariatePolynomial('x', large, BigInteger.ONE);
+        assertNotEquals(big, new DenseUnivariatePolynomial('y', large, BigInteger.ONE));
+        assertNotEquals(big, x);
+        assertNotEquals(x, big);
+        assertEquals(big.hashCode(), new DenseUnivariatePolynomial('x', large, BigInteger.ONE).hashCode());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.number.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import static com.github.math.expression.Polynomials.monomial;
+import static com.github.math.expression.Polynomials.poly;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class FractionTest {
+
+    /** x + 1 */
+    private final Polynomial x1 = poly(monomial(1, "x"), monomial(1, ""));
+    /** x - 1 */
+    private final Polynomial xm1 = poly(monomial(1, "x"), monomial(-1, ""));
+
+    @Test
+    void arithmetic() {
+        Fraction a = new Fraction(Polynomial.ONE, x1);
+        Fraction b = new Fraction(Polynomial.ONE, xm1);
+        // 1/(x+1) + 1/(x-1) = 2x/(x^2-1)
+        Fraction sum = a.plus(b);
+        assertEquals(new Fraction(poly(monomial(2, "x")), poly(monomial(1, "x2"), monomial(-1, ""))), sum);
+        // 1/(x+1) - 1/(x-1) = -2/(x^2-1)
+        assertEquals(new Fraction(poly(monomial(-2, "")), x1.multiply(xm1)), a.subtract(b));
+        // (1/(x+1)) * ((x+1)/(x-1)) = 1/(x-1)
+        assertEquals(b, a.multiply(new Fraction(x1, xm1)));
+        assertEquals(new Fraction(xm1, x1), a.divide(b));
+        assertEquals(new Fraction(x1), a.reciprocal());
+        assertEquals(new Fraction(poly(monomial(-1, "")), x1), a.negate());
+        assertEquals(new Fraction(new Polynomial()), a.subtract(a));
+        assertEquals("0", a.subtract(a).toString());
+    }
+
+    @Test
+    void chain() {
+        // x/(x+1) + 1/(x+1) - x/(x-1) = 1 - x/(x-1) = -1/(x-1)
+        Fraction x = new Fraction(poly(monomial(1, "x")), x1);
+        Fraction r = x.plus(new Fraction(Polynomial.ONE, x1)).subtract(new Fraction(poly(monomial(1, "x")), xm1));
+        assertEquals(poly(monomial(-1, "")), r.getNumerator());
+        assertEquals(xm1, r.getDenominator());
+        assertEquals(r.hashCode(), new Fraction(Polynomial.ONE, poly(monomial(-1, "x"), monomial(1, ""))).hashCode());
+    }
+
+    @Test
+    void normalize() {
+        // 分母的首项系数为正
+        Fraction f = new Fraction(poly(monomial(2, "xy")), poly(monomial(-4, "x2")));
+        assertEquals(poly(monomial(-1, "y")), f.getNumerator());
+        assertEquals(poly(monomial(2, "x")), f.getDenominator());
+        assertEquals("-y / 2x", f.toString());
+        assertEquals("x+1", new Fraction(x1.multiply(xm1), xm1).toString());
+    }
+
+    @Test
+    void largeCoefficients() {
+        // ((1000x+1)/(x-1))^4 的分子的系数超出 int 的范围
+        Fraction f = new Fraction(poly(monomial(1000, "x"), monomial(1, "")), xm1);
+        Fraction p = f.multiply(f).multiply(f).multiply(f);
+        assertEquals("1000000000000x^4+4000000000x^3+6000000x^2+4000x+1 / x^4-4x^3+6x^2-4x+1", p.toString());
+        assertEquals(BigFraction.valueOf(1000000000000L), p.numerator().leadingCoefficient());
+        assertEquals(xm1.multiply(xm1).multiply(xm1).multiply(xm1), p.getDenominator());
+        assertThrows(MathArithmeticException.class, p::getNumerator);
+    }
+
+    @Test
+    void divide() {
+        assertEquals(new Fraction(Polynomial.ONE, xm1), x1.divide(x1.multiply(xm1)));
+        assertEquals(new Fraction(Polynomial.ONE, x1), x1.reciprocal());
+        assertEquals(new Fraction(poly(monomial(1, "x")), poly(monomial(2, "y"))),
+                monomial(2, "x2").divide(monomial(4, "xy")));
+        assertThrows(MathZeroException.class, () -> new Fraction(x1, new Polynomial()));
+        assertThrows(MathZeroException.class, () -> new Fraction(new Polynomial(), x1).reciprocal());
+        assertThrows(MathZeroException.class, () -> monomial(0, "").reciprocal());
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.math.expression.Polynomials.monomial;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class MonomialTest {
+
+    @Test
+    void packed() {
+        Monomial m = monomial(-3, "x2y");
+        assertEquals("-3x^2y", m.toString());
+        assertEquals(3, m.degree());
+        assertEquals("-x", monomial(-1, "x").toString());
+        assertEquals("0", Monomial.ZERO.toString());
+        assertEquals("6x^3y^2z", m.multiply(monomial(-2, "xyz")).toString());
+        assertEquals(monomial(5, "ab"), monomial(5, "ba"));
+        assertNotEquals(monomial(5, "ab"), monomial(5, "ab2"));
+        assertEquals(monomial(5, "ab").hashCode(), monomial(5, "ba").hashCode());
+
+        assertEquals(monomial(-1, "x"), m.perfDivide(monomial(3, "xy")));
+        assertThrows(MathArithmeticException.class, () -> m.perfDivide(monomial(1, "z")));
+        assertThrows(MathArithmeticException.class, () -> m.perfDivide(monomial(1, "y2")));
+        assertEquals(monomial(3, "x2"), m.intersection(monomial(6, "x3z")));
+
+        Map<Character, Integer> negative = new TreeMap<>();
+        negative.put('x', -1);
+        assertThrows(MathIllegalArgumentException.class, () -> new Monomial(1, negative));
+    }
+
+    @Test
+    void compareTo() {
+        Monomial[] expected = {
+                monomial(1, "a9"),
+                monomial(7, "a9b6c4"),
+                monomial(6, "a6do2"),
+                monomial(9, "a6do2"),
+                monomial(5, "a2b3"),
+                monomial(2, "a2c5e8"),
+                monomial(4, "b6p3q9"),
+                monomial(1, "c6"),
+                new Monomial(1),
+                new Monomial(3),
+                new Monomial(8),
+        };
+        Monomial[] sorted = expected.clone();
+        for (int i = sorted.length - 1; i > 0; i--) {
+            Monomial t = sorted[i];
+            sorted[i] = sorted[(i * 7) % (i + 1)];
+            sorted[(i * 7) % (i + 1)] = t;
+        }
+        Arrays.sort(sorted);
+        assertArrayEquals(expected, sorted);
+    }
+
+    /**
+     * 多个线程同时对共享的常量与单项式做比较、相乘、求公因式、整除与格式化，
+     * 每次的结果都必须与单线程计算的结果相同。
+     */
+    @Test
+    void concurrent() throws Exception {
+        final Monomial[] shared = {
+                Monomial.ONE, Monomial.ZERO, monomial(2, "x2y"), monomial(-3, "xy3z"),
+                monomial(6, "a9b6c4"), monomial(1, "x"), monomial(4, "y2z2"), new Monomial(7),
+        };
+        final int n = shared.length;
+        final int[][] compare = new int[n][n];
+        final Monomial[][] product = new Monomial[n][n];
+        final Monomial[][] common = new Monomial[n][n];
+        final String[][] text = new String[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                compare[i][j] = shared[i].compareTo(shared[j]);
+                product[i][j] = shared[i].multiply(shared[j]);
+                common[i][j] = shared[i].intersection(shared[j]);
+                text[i][j] = product[i][j].toString();
+            }
+        }
+
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    int checked = 0;
+                    for (int k = 0; k < 20_000; k++) {
+                        int i = (k * 7 + seed) % n;
+                        int j = (k * 3 + seed * 5) % n;
+                        Monomial p = shared[i].multiply(shared[j]);
+                        if (shared[i].compareTo(shared[j]) != compare[i][j]
+                                || !p.equals(product[i][j])
+                                || p.hashCode() != product[i][j].hashCode()
+                                || !shared[i].intersection(shared[j]).equals(common[i][j])
+                                || !p.toString().equals(text[i][j])
+                                || !shared[i].toString().equals(shared[i].toString())) {
+                            throw new AssertionError(shared[i] + ", " + shared[j]);
+                        }
+                        if (shared[j].signum() != 0 && !p.perfDivide(shared[j]).letter.equals(shared[i].letter)) {
+                            throw new AssertionError(p + " / " + shared[j]);
+                        }
+                        checked++;
+                    }
+                    return checked;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> f : futures) {
+                assertEquals(20_000, f.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.number.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class PolynomialTest {
+
+    private static Monomial monomial(int coefficient, int x, int y) {
+        Map<Character, Integer> letter = new TreeMap<>();
+        letter.put('x', x);
+        letter.put('y', y);
+        return new Monomial(coefficient, letter);
+    }
+
+    private static Polynomial polynomial(Random random, int terms) {
+        Polynomial p = new Polynomial();
+        for (int i = 0; i < terms; i++) {
+            p.add(monomial(random.nextInt(19) - 9, random.nextInt(8), random.nextInt(8)));
+        }
+        return p;
+    }
+
+    @Test
+    void multiplyLetter() {
+        assertEquals("2x^2y^3", monomial(2, 1, 1).multiply(monomial(1, 1, 2)).toString());
+        assertEquals("-3x", monomial(-3, 1, 0).toString());
+    }
+
+    @Test
+    void likeTerms() {
+        Polynomial p = new Polynomial(monomial(1, 0, 2), monomial(1, 2, 0), monomial(3, 1, 1));
+        assertEquals("x^2+3xy+y^2", p.toString());
+        p.add(monomial(-1, 1, 1));
+        assertEquals("x^2+2xy+y^2", p.toString());
+        assertEquals(p, new Polynomial(monomial(1, 1, 0), monomial(1, 0, 1))
+                .multiply(new Polynomial(monomial(1, 1, 0), monomial(1, 0, 1))));
+        assertTrue(p.contains(monomial(2, 1, 1)));
+        assertFalse(p.contains(monomial(3, 1, 1)));
+
+        p.add(monomial(-2, 1, 1));
+        assertEquals(2, p.size());
+        assertEquals("x^2+y^2", p.toString());
+        p.add(new Monomial(-5));
+        assertEquals("x^2+y^2-5", p.toString());
+        p.remove(monomial(1, 2, 0));
+        assertEquals("y^2-5", p.toString());
+    }
+
+    @Test
+    void parallelMultiply() {
+        Random random = new Random(42L);
+        Polynomial left  = polynomial(random, 80);
+        Polynomial right = polynomial(random, 80);
+        assertTrue((long) left.size() * right.size() >= 1000);
+
+        Polynomial expected = left.sequentialMultiply(right);
+        Polynomial actual   = left.parallelMultiply(right);
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+
+        // (x - y)(x + y) = x^2 - y^2
+        Polynomial a = new Polynomial(monomial(1, 1, 0), monomial(-1, 0, 1));
+        Polynomial b = new Polynomial(monomial(1, 1, 0), monomial(1, 0, 1));
+        assertEquals(a.sequentialMultiply(b), a.parallelMultiply(b));
+        assertEquals("x^2-y^2", a.parallelMultiply(b).toString());
+    }
+
+    @Test
+    void evaluate() {
+        // 2x^3y - 3xy^2 + 5
+        Polynomial p = new Polynomial(monomial(2, 3, 1), monomial(-3, 1, 2), monomial(5, 0, 0));
+        Map<Character, Double> values = new TreeMap<>();
+        values.put('x', 2.0);
+        values.put('y', -1.0);
+        assertEquals(2 * 8 * -1 - 3 * 2 + 5, p.evaluate(values));
+
+        Map<Character, BigFraction> fractions = new TreeMap<>();
+        fractions.put('x', BigFraction.valueOf(1, 2));
+        fractions.put('y', BigFraction.valueOf(-2, 3));
+        // 2/8 * -2/3 - 3/2 * 4/9 + 5 = -1/6 - 2/3 + 5 = 25/6
+        assertEquals(BigFraction.valueOf(25, 6), p.evaluateExact(fractions));
+
+        Map<Character, BigDecimal> decimals = new TreeMap<>();
+        decimals.put('x', new BigDecimal("0.1"));
+        decimals.put('y', new BigDecimal("3"));
+        // 2 * 0.001 * 3 - 3 * 0.1 * 9 + 5 = 2.306
+        assertEquals(0, new BigDecimal("2.306").compareTo(p.evaluateDecimal(decimals)));
+
+        values.remove('y');
+        assertThrows(MathIllegalArgumentException.class, () -> p.evaluate(values));
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * 测试中创建单项式与多项式的工具方法。
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+public final class Polynomials {
+
+    private Polynomials() {
+    }
+
+    /**
+     * 按 "a9b6" 的形式创建单项式，字母后面的数字为指数。
+     */
+    public static Monomial monomial(int coefficient, String letters) {
+        Map<Character, Integer> letter = new TreeMap<>();
+        for (int i = 0; i < letters.length(); ) {
+            char c = letters.charAt(i++);
+            int j = i;
+            while (j < letters.length() && Character.isDigit(letters.charAt(j))) {
+                j++;
+            }
+            letter.merge(c, j == i ? 1 : Integer.parseInt(letters.substring(i, j)), Integer::sum);
+            i = j;
+        }
+        return new Monomial(coefficient, letter);
+    }
+
+    /**
+     * 由各项创建多项式。
+     */
+    public static Polynomial poly(Monomial... terms) {
+        return new Polynomial(terms);
+    }
+
+}
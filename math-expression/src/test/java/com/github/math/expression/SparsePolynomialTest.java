@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.number.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.github.math.expression.Polynomials.monomial;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class SparsePolynomialTest {
+
+    private static SparsePolynomial sparse(MonomialOrder order, Monomial... monomials) {
+        return SparsePolynomial.valueOf(new Polynomial(monomials), order);
+    }
+
+    private static Polynomial random(Random random, int terms) {
+        Polynomial p = new Polynomial();
+        for (int i = 0; i < terms; i++) {
+            p.add(monomial(random.nextInt(19) - 9,
+                    "x" + random.nextInt(6) + "y" + random.nextInt(6) + "z" + random.nextInt(3)));
+        }
+        return p;
+    }
+
+    @Test
+    void orders() {
+        Monomial a = monomial(1, "xy5z2");
+        Monomial b = monomial(1, "x4yz3");
+        Monomial c = monomial(1, "x2");
+        assertEquals("x^4yz^3+x^2+xy^5z^2", sparse(MonomialOrder.LEX, a, b, c).toString());
+        assertEquals("x^4yz^3+xy^5z^2+x^2", sparse(MonomialOrder.GRLEX, a, b, c).toString());
+        assertEquals("xy^5z^2+x^4yz^3+x^2", sparse(MonomialOrder.GREVLEX, a, b, c).toString());
+        SparsePolynomial lex = sparse(MonomialOrder.LEX, a, c);
+        assertEquals("x^2+xy^5z^2", lex.toString());
+        assertEquals(lex, lex.withOrder(MonomialOrder.GRLEX));
+        assertEquals(lex.hashCode(), lex.withOrder(MonomialOrder.GREVLEX).hashCode());
+    }
+
+    @Test
+    void multiply() {
+        SparsePolynomial p = sparse(MonomialOrder.LEX, monomial(1, "x"), monomial(-1, "y"));
+        SparsePolynomial q = sparse(MonomialOrder.LEX, monomial(1, "x"), monomial(1, "y"));
+        assertEquals("x^2-y^2", p.multiply(q).toString());
+        assertEquals("2x", p.add(q).toString());
+        assertEquals("-2y", p.subtract(q).toString());
+        assertTrue(p.subtract(p).isZero());
+
+        Random random = new Random(42L);
+        for (MonomialOrder order : MonomialOrder.values()) {
+            Polynomial left = random(random, 40);
+            Polynomial right = random(random, 30);
+            assertEquals(SparsePolynomial.valueOf(left.multiply(right), order),
+                    SparsePolynomial.valueOf(left, order).multiply(SparsePolynomial.valueOf(right, order)));
+            assertEquals(left.multiply(right),
+                    SparsePolynomial.valueOf(left, order).multiply(SparsePolynomial.valueOf(right, order)).toPolynomial());
+        }
+    }
+
+    @Test
+    void divide() {
+        // x^2y + xy^2 + y^2 = (x + y)(xy - 1) + 1 * (y^2 - 1) + (x + y + 1)
+        SparsePolynomial f = sparse(MonomialOrder.LEX, monomial(1, "x2y"), monomial(1, "xy2"), monomial(1, "y2"));
+        SparsePolynomial g1 = sparse(MonomialOrder.LEX, monomial(1, "xy"), new Monomial(-1));
+        SparsePolynomial g2 = sparse(MonomialOrder.LEX, monomial(1, "y2"), new Monomial(-1));
+        SparsePolynomial.Division division = f.divide(g1, g2);
+        assertEquals("x+y", division.getQuotient(0).toString());
+        assertEquals("1", division.getQuotient(1).toString());
+        assertEquals("x+y+1", division.getRemainder().toString());
+
+        // (x^2 - 1) / (2x + 2) = (1/2)x - 1/2
+        SparsePolynomial h = sparse(MonomialOrder.GRLEX, monomial(1, "x2"), new Monomial(-1));
+        SparsePolynomial k = sparse(MonomialOrder.GRLEX, monomial(2, "x"), new Monomial(2));
+        assertEquals("(1/2)x-1/2", h.divideExact(k).toString());
+        assertThrows(MathArithmeticException.class, () -> k.divideExact(h));
+        assertThrows(MathZeroException.class, () -> h.divide(SparsePolynomial.zero(MonomialOrder.LEX)));
+
+        Random random = new Random(7L);
+        for (MonomialOrder order : MonomialOrder.values()) {
+            SparsePolynomial a = SparsePolynomial.valueOf(random(random, 30), order);
+            SparsePolynomial b = SparsePolynomial.valueOf(random(random, 10), order);
+            SparsePolynomial c = SparsePolynomial.valueOf(random(random, 5), order);
+            assertEquals(a, a.multiply(b).divideExact(b));
+
+            SparsePolynomial.Division d = a.divide(b, c);
+            assertEquals(a, d.getQuotient(0).multiply(b).add(d.getQuotient(1).multiply(c)).add(d.getRemainder()));
+        }
+        assertEquals(SparsePolynomial.valueOf(BigFraction.valueOf(3, 2), MonomialOrder.LEX).toString(), "3/2");
+    }
+
+}
@@ -16,9 +16,16 @@
 
 package com.github.math.expression.format;
 
+import com.github.math.exception.MathParseException;
 import com.github.math.expression.Monomial;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParsePosition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 /**
  * <p>
  * 介绍信息
@@ -32,7 +39,40 @@ class MonomialFormatTest {
     void parse() {
         MonomialFormat format = new MonomialFormat();
         Monomial monomial = format.parse("23a");
-        System.out.println(monomial.coefficient());
+        assertEquals(23, monomial.coefficient());
+        assertEquals("-x^2y^3", format.parse(" - x^2 y y^2").toString());
+        assertEquals("a^2", format.parse("a^0aa").toString());
+        assertEquals(Monomial.ZERO, format.parse("0abc"));
+        assertEquals(Integer.MIN_VALUE, format.parse("-2147483648").coefficient());
+
+        // 解析到不能继续的字符为止
+        ParsePosition pos = new ParsePosition(1);
+        assertEquals("3b", format.parse("(3b)", pos).toString());
+        assertEquals(3, pos.getIndex());
+    }
+
+    @Test
+    void errors() {
+        MonomialFormat format = new MonomialFormat();
+        assertEquals(2, assertThrows(MathParseException.class, () -> format.parse("a^")).getErrorIndex());
+        assertEquals(0, assertThrows(MathParseException.class, () -> format.parse("*a")).getErrorIndex());
+        assertEquals(0, assertThrows(MathParseException.class, () -> format.parse("2147483648a")).getErrorIndex());
+        assertEquals(3, assertThrows(MathParseException.class, () -> format.parse("3x^65536")).getErrorIndex());
+        assertEquals(2, assertThrows(MathParseException.class, () -> format.parse("2x*y")).getErrorIndex());
+    }
+
+    @Test
+    void format() {
+        MonomialFormat format = new MonomialFormat();
+        assertEquals("-3x^2y", format.format(format.parse("-3yx^2")));
+        assertEquals("-x^12", format.format(format.parse("-x^12")));
+        assertEquals("1", format.format(new Monomial(1)));
+        assertEquals("-1", format.format(new Monomial(-1)));
+        assertEquals("0", format.format(Monomial.ZERO));
+
+        StringBuilder out = new StringBuilder("=");
+        assertSame(out, format.format(format.parse("ab^10"), out));
+        assertEquals("=ab^10", out.toString());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.expression.format;
+
+import com.github.math.exception.MathParseException;
+import com.github.math.expression.Monomial;
+import com.github.math.expression.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class PolynomialFormatTest {
+
+    private final PolynomialFormat format = new PolynomialFormat();
+    private final MonomialFormat monomial = new MonomialFormat();
+
+    @Test
+    void parse() {
+        Polynomial p = format.parse("3x^2y - 2 xy + 1");
+        assertEquals(new Polynomial(monomial.parse("3x^2y"), monomial.parse("-2xy"), monomial.parse("1")), p);
+        assertEquals(3, p.size());
+
+        // 同类项合并，抵消的项被去掉
+        assertEquals(new Polynomial(monomial.parse("2a")), format.parse("a + b + a - b"));
+        assertEquals(0, format.parse("x - x").size());
+        assertEquals(new Polynomial(monomial.parse("-x")), format.parse("-x"));
+
+        StringBuilder source = new StringBuilder("f(x) = x^2 - 1;");
+        ParsePosition pos = new ParsePosition(7);
+        Polynomial q = format.parse(source, pos);
+        assertEquals(new Polynomial(monomial.parse("x^2"), new Monomial(-1)), q);
+        assertEquals(14, pos.getIndex());
+    }
+
+    @Test
+    void errors() {
+        assertEquals(4, assertThrows(MathParseException.class, () -> format.parse("x + ")).getErrorIndex());
+        assertEquals(4, assertThrows(MathParseException.class, () -> format.parse("x - * y")).getErrorIndex());
+        assertEquals(6, assertThrows(MathParseException.class, () -> format.parse("1 + a^b")).getErrorIndex());
+
+        ParsePosition pos = new ParsePosition(0);
+        assertThrows(MathParseException.class, () -> format.parse("x^", pos));
+        assertEquals(0, pos.getIndex());
+        assertEquals(2, pos.getErrorIndex());
+
+        // 整个字符串都必须被解析
+        assertEquals(2, assertThrows(MathParseException.class, () -> format.parse("2x*y")).getErrorIndex());
+        assertEquals(new Polynomial(monomial.parse("2x")), format.parse("2x "));
+        // 系数不是整数
+        assertEquals(0, assertThrows(MathParseException.class, () -> format.parse("1.5x")).getErrorIndex());
+    }
+
+    @Test
+    void format() {
+        assertEquals("3x^2y-2xy+1", format.format(format.parse("1 - 2xy + 3x^2y")));
+        assertEquals("-x+y", format.format(format.parse("-x + y")));
+        assertEquals("0", format.format(new Polynomial()));
+
+        StringBuilder out = new StringBuilder();
+        format.format(format.parse("a - 1"), out).append(" = 0");
+        assertEquals("a-1 = 0", out.toString());
+    }
+
+    @Test
+    void roundTrip() {
+        // 系数的格式带有分组符号时，解析也使用同一个格式
+        PolynomialFormat us = new PolynomialFormat(NumberFormat.getNumberInstance(Locale.US));
+        Polynomial p = us.parse("1234x^2-5y");
+        assertEquals("1,234x^2-5y", us.format(p));
+        assertEquals(p, us.parse(us.format(p)));
+        assertEquals(p, us.parse("1,234x^2 - 5y"));
+
+        Polynomial q = us.parse("2147483647a^3b - 1000000c + 1");
+        assertEquals(q, us.parse(us.format(q)));
+    }
+
+}
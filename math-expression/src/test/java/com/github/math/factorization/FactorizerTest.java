@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.factorization;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.expression.Fraction;
+import com.github.math.expression.MonomialOrder;
+import com.github.math.expression.Polynomial;
+import com.github.math.expression.SparsePolynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.github.math.expression.Polynomials.monomial;
+import static com.github.math.expression.Polynomials.poly;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class FactorizerTest {
+
+    private static Polynomial pow(Polynomial p, int e) {
+        Polynomial r = Polynomial.ONE;
+        for (int i = 0; i < e; i++) {
+            r = r.multiply(p);
+        }
+        return r;
+    }
+
+    @Test
+    void gcd() {
+        Polynomial xy = poly(monomial(1, "x"), monomial(1, "y"));
+        Polynomial xmy = poly(monomial(1, "x"), monomial(-1, "y"));
+        Polynomial a = pow(xy, 2).multiply(xmy);
+        Polynomial b = xy.multiply(pow(xmy, 3)).multiply(poly(monomial(-2, "")));
+        assertEquals(xy.multiply(xmy), Factorizer.gcd(a, b));
+
+        // 6x^2 - 6 与 4x + 4 的最大公因式为 2x + 2
+        Polynomial c = poly(monomial(6, "x2"), monomial(-6, ""));
+        Polynomial d = poly(monomial(4, "x"), monomial(4, ""));
+        assertEquals(poly(monomial(2, "x"), monomial(2, "")), Factorizer.gcd(c, d));
+        assertEquals(poly(monomial(2, "")), Factorizer.gcd(c, poly(monomial(4, "x"), monomial(2, ""))));
+        assertEquals(poly(monomial(1, "x")), Factorizer.gcd(new Polynomial(), poly(monomial(-1, "x"))));
+        assertEquals(poly(monomial(1, "xy")), Factorizer.gcd(poly(monomial(3, "x2y")), poly(monomial(2, "xy3"), monomial(1, "xyz"))));
+    }
+
+    @Test
+    void randomGcd() {
+        Random random = new Random(42L);
+        for (int t = 0; t < 20; t++) {
+            SparsePolynomial g = random(random, 3);
+            SparsePolynomial a = random(random, 4).multiply(g);
+            SparsePolynomial b = random(random, 4).multiply(g);
+            SparsePolynomial r = Factorizer.gcd(a, b);
+            // 结果是公因式，并且是 g 的倍式
+            SparsePolynomial u = a.divideExact(r);
+            SparsePolynomial v = b.divideExact(r);
+            r.divideExact(g);
+            assertTrue(r.leadingCoefficient().signum() > 0);
+            // 余因式互质，因此结果是最大的公因式
+            assertTrue(Factorizer.gcd(u, v).isConstant());
+            assertTrue(r.degree() >= g.degree());
+        }
+    }
+
+    private static SparsePolynomial random(Random random, int terms) {
+        Polynomial p = new Polynomial();
+        while (p.isEmpty()) {
+            for (int i = 0; i < terms; i++) {
+                p.add(monomial(random.nextInt(9) - 4,
+                        "x" + random.nextInt(3) + "y" + random.nextInt(3) + "z" + random.nextInt(2)));
+            }
+        }
+        return SparsePolynomial.valueOf(p, MonomialOrder.GRLEX);
+    }
+
+    @Test
+    void squareFree() {
+        // -3(x + 1)(x - y)^2(y + 2)^3
+        Polynomial x1 = poly(monomial(1, "x"), monomial(1, ""));
+        Polynomial xy = poly(monomial(1, "x"), monomial(-1, "y"));
+        Polynomial y2 = poly(monomial(1, "y"), monomial(2, ""));
+        Polynomial p = poly(monomial(-3, "")).multiply(x1).multiply(pow(xy, 2)).multiply(pow(y2, 3));
+        Polynomial[] r = Factorizer.squareFree(p);
+        assertEquals(4, r.length);
+        assertEquals(poly(monomial(-3, "")), r[0]);
+        assertEquals(x1, r[1]);
+        assertEquals(xy, r[2]);
+        assertEquals(y2, r[3]);
+
+        assertEquals(1, Factorizer.squareFree(poly(monomial(5, ""))).length);
+    }
+
+    @Test
+    void perfectSquare() {
+        PerfectSquare s = new PerfectSquare(poly(monomial(1, "x2"), monomial(2, "xy"), monomial(1, "y2")));
+        assertEquals(poly(monomial(1, "x"), monomial(1, "y")), s.getRoot());
+        s = new PerfectSquare(poly(monomial(4, "x2"), monomial(-12, "x"), monomial(9, "")));
+        assertEquals(poly(monomial(2, "x"), monomial(-3, "")), s.getRoot());
+        assertTrue(PerfectSquare.isPerfectSquare(poly(monomial(9, "x4y2"))));
+        assertFalse(PerfectSquare.isPerfectSquare(poly(monomial(1, "x2"), monomial(1, ""))));
+        assertFalse(PerfectSquare.isPerfectSquare(poly(monomial(-1, "x2"))));
+        assertThrows(MathIllegalArgumentException.class, () -> new PerfectSquare(poly(monomial(2, "x2"))));
+    }
+
+    @Test
+    void squareDifference() {
+        SquareDifference d = new SquareDifference(poly(monomial(1, "x2"), monomial(-4, "y2")));
+        assertEquals(poly(monomial(1, "x")), d.getFirst());
+        assertEquals(poly(monomial(2, "y")), d.getLast());
+
+        d = new SquareDifference(poly(monomial(1, "x2"), monomial(2, "xy"), monomial(1, "y2"), monomial(-1, "z2")));
+        assertEquals(poly(monomial(1, "x"), monomial(1, "y")), d.getFirst());
+        assertEquals(poly(monomial(1, "z")), d.getLast());
+
+        d = new SquareDifference(poly(monomial(1, ""), monomial(-1, "x2")));
+        assertEquals(poly(monomial(1, "")), d.getFirst());
+        assertEquals(poly(monomial(1, "x")), d.getLast());
+        assertThrows(MathIllegalArgumentException.class, () -> new SquareDifference(poly(monomial(1, "x2"), monomial(1, "y2"))));
+    }
+
+    @Test
+    void fraction() {
+        // (x^2 - 1) / (x^2 + 2x + 1) = (x - 1) / (x + 1)
+        Fraction f = new Fraction(poly(monomial(1, "x2"), monomial(-1, "")),
+                poly(monomial(1, "x2"), monomial(2, "x"), monomial(1, "")));
+        assertEquals(new Fraction(poly(monomial(1, "x"), monomial(-1, "")), poly(monomial(1, "x"), monomial(1, ""))), f);
+        assertEquals(new Fraction(poly(monomial(1, "y")), poly(monomial(2, ""))),
+                new Fraction(poly(monomial(2, "xy")), poly(monomial(4, "x"))));
+    }
+
+}
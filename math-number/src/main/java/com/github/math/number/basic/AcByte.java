@@ -16,10 +16,13 @@
 
 package com.github.math.number.basic;
 
+import com.github.math.exception.MathArithmeticException;
 import com.github.math.exception.NumberOverbrimException;
 import com.github.math.number.RationalNumber;
 import com.github.math.number.decimal.Decimal;
+import com.github.math.number.fraction.BigFraction;
 import com.github.math.number.fraction.Fraction;
+import com.github.math.utils.MathUtils;
 
 /**
  * 
@@ -38,7 +41,7 @@ public final class AcByte extends RationalNumber<AcByte> {
 	
 	public static final byte ONE = 1;
 	
-    private byte value;
+    private final byte value;
 
     public AcByte(byte value) {
         this.value = value;
@@ -52,27 +55,84 @@ public final class AcByte extends RationalNumber<AcByte> {
         this.value = Byte.parseByte(s, 10);
     }
 
-	private AcByte(int value) {
-		if (value > Byte.MAX_VALUE)
-			throw new NumberOverbrimException(AcInteger.INTEGER, AcByte.BYTE);
-		if (value < Byte.MIN_VALUE)
-			throw new NumberOverbrimException(AcInteger.INTEGER, AcByte.BYTE);
-		this.value = (byte) value;
+	/**
+	 * <p>
+	 * 返回指定值对应的实例，与 {@link Byte#valueOf(byte)} 类似，
+	 * 所有的 {@code byte} 值都会被缓存。
+	 * 
+	 * @param value 数值
+	 * @return      实例
+	 */
+	public static AcByte valueOf(byte value) {
+		return Cache.CACHE[value - Cache.LOW];
+	}
+	
+	/**
+	 * 检查运算结果是否在 {@code byte} 的范围之内，并返回对应的实例。
+	 */
+	private static AcByte of(int value) {
+		if (value > Byte.MAX_VALUE || value < Byte.MIN_VALUE)
+			throw new NumberOverbrimException(AcInteger.INTEGER, BYTE);
+		return valueOf((byte) value);
+	}
+	
+	private static final class Cache {
+		
+		static final int LOW  = -128;
+		static final int HIGH = 127;
+		
+		static final AcByte[] CACHE = new AcByte[HIGH - LOW + 1];
+		
+		static {
+			for (int i = 0; i < CACHE.length; i++) {
+				CACHE[i] = new AcByte((byte) (LOW + i));
+			}
+		}
+		
 	}
 	
 	public static AcByte decode(String nm) throws NumberFormatException {
 		int ret = Integer.decode(nm);
-		return new AcByte(ret);
+		return of(ret);
 	}
 
 	@Override
 	public AcByte abs() {
-		return (value < 0) ? new AcByte(-value) : this;
+		return (value < 0) ? of(-value) : this;
 	}
 
+	/**
+	 * 使用平方求幂精确地计算幂。负指数只在 {@code this} 为 {@code 1} 或 {@code -1} 时有整数结果。
+	 * 
+	 * @exception MathArithmeticException 如果结果超出 {@code byte} 的范围或不是整数
+	 * @see #powExact(int)
+	 */
 	@Override
 	public AcByte pow(int e) {
-		return new AcByte((byte) Math.pow(value, e));
+		if (e < 0) {
+			if (value == 1 || value == -1) {
+				return of((e & 1) == 0 ? 1 : value);
+			}
+			throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+		}
+		return of(MathUtils.powAndCheck((int) value, e));
+	}
+	
+	/**
+	 * 精确地计算幂，指数为负数或结果超出 {@code byte} 的范围时返回分数。
+	 * 
+	 * @param e 指数
+	 * @return  {@code this}<sup>e</sup>
+	 */
+	public RationalNumber<?> powExact(int e) {
+		if (e >= 0) {
+			try {
+				return pow(e);
+			} catch (MathArithmeticException ex) {
+				// 溢出，改用 BigFraction
+			}
+		}
+		return BigFraction.valueOf(value).pow(e);
 	}
 
 	@Override
@@ -87,53 +147,53 @@ public final class AcByte extends RationalNumber<AcByte> {
 
 	@Override
 	public AcByte negate() {
-		return new AcByte(-value);
+		return of(-value);
 	}
 
 	@Override
 	public Fraction reciprocal() {
-		return new Fraction(ONE, value);
+		return Fraction.valueOf(ONE, value);
 	}
 
 	@Override
 	public AcByte add(AcByte val) {
-		return new AcByte(value + val.value);
+		return of(value + val.value);
 	}
 
 	@Override
 	public AcByte add(int i) {
-		return new AcByte(value + i);
+		return of(value + i);
 	}
 	
 	@Override
 	public AcByte subtract(AcByte val) {
-		return new AcByte(value - val.value);
+		return of(value - val.value);
 	}
 
 	@Override
 	public AcByte subtract(int i) {
-		return new AcByte(value - i);
+		return of(value - i);
 	}
 
 
 	@Override
 	public AcByte multiply(AcByte val) {
-		return new AcByte(value - val.value);
+		return of(value * val.value);
 	}
 
 	@Override
 	public AcByte multiply(int i) {
-		return new AcByte(value * i);
+		return of(value * i);
 	}
 	
 	@Override
 	public Fraction divide(AcByte val) {
-		return new Fraction(value, val.value);
+		return Fraction.valueOf(value, val.value);
 	}
 
 	@Override
 	public Fraction divide(int i) {
-		return new Fraction(value, i);
+		return Fraction.valueOf(value, i);
 	}
 
 	@Override
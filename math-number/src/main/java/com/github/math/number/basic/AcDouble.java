@@ -55,7 +55,7 @@ public final class AcDouble extends RationalNumber<AcDouble> {
 
 	@Override
 	public AcDouble pow(int e) {
-		return new AcDouble((int) Math.pow(value, e));
+		return new AcDouble(Math.pow(value, e));
 	}
 
 	@Override
@@ -54,7 +54,7 @@ public final class AcFloat extends RationalNumber<AcFloat> {
 
 	@Override
 	public AcFloat pow(int e) {
-		return new AcFloat((int) Math.pow(value, e));
+		return new AcFloat((float) Math.pow(value, e));
 	}
 
 	@Override
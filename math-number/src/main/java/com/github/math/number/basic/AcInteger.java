@@ -16,9 +16,12 @@
 
 package com.github.math.number.basic;
 
+import com.github.math.exception.MathArithmeticException;
 import com.github.math.number.RationalNumber;
 import com.github.math.number.decimal.Decimal;
+import com.github.math.number.fraction.BigFraction;
 import com.github.math.number.fraction.Fraction;
+import com.github.math.utils.MathUtils;
 
 /**
  * 
@@ -36,7 +39,7 @@ public final class AcInteger extends RationalNumber<AcInteger> {
 	public static final String INTEGER = "int";
 	public static final int ONE = 1;
 	
-    private int value;
+    private final int value;
 
     public AcInteger(int value) {
         this.value = value;
@@ -49,15 +52,74 @@ public final class AcInteger extends RationalNumber<AcInteger> {
     public AcInteger(String s) throws NumberFormatException {
         this.value = Integer.parseInt(s, 10);
     }
+
+	/**
+	 * <p>
+	 * 返回指定值对应的实例，与 {@link Integer#valueOf(int)} 类似，
+	 * {@code -128} 到 {@code 127} 之间的值会被缓存。
+	 * 
+	 * @param value 数值
+	 * @return      实例
+	 */
+	public static AcInteger valueOf(int value) {
+		if (value >= Cache.LOW && value <= Cache.HIGH) {
+			return Cache.CACHE[value - Cache.LOW];
+		}
+		return new AcInteger(value);
+	}
+	
+	private static final class Cache {
+		
+		static final int LOW  = -128;
+		static final int HIGH = 127;
+		
+		static final AcInteger[] CACHE = new AcInteger[HIGH - LOW + 1];
+		
+		static {
+			for (int i = 0; i < CACHE.length; i++) {
+				CACHE[i] = new AcInteger(LOW + i);
+			}
+		}
+		
+	}
     
 	@Override
 	public AcInteger abs() {
-		return (value < 0) ? new AcInteger(-value) : this;
+		return (value < 0) ? valueOf(-value) : this;
 	}
 
+	/**
+	 * 使用平方求幂精确地计算幂。负指数只在 {@code this} 为 {@code 1} 或 {@code -1} 时有整数结果。
+	 * 
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围或不是整数
+	 * @see #powExact(int)
+	 */
 	@Override
 	public AcInteger pow(int e) {
-		return new AcInteger((int) Math.pow(value, e));
+		if (e < 0) {
+			if (value == 1 || value == -1) {
+				return valueOf((e & 1) == 0 ? 1 : value);
+			}
+			throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+		}
+		return valueOf(MathUtils.powAndCheck(value, e));
+	}
+	
+	/**
+	 * 精确地计算幂，指数为负数或结果超出 {@code int} 的范围时返回分数。
+	 * 
+	 * @param e 指数
+	 * @return  {@code this}<sup>e</sup>
+	 */
+	public RationalNumber<?> powExact(int e) {
+		if (e >= 0) {
+			try {
+				return pow(e);
+			} catch (MathArithmeticException ex) {
+				// 溢出，改用 BigFraction
+			}
+		}
+		return BigFraction.valueOf(value).pow(e);
 	}
 
 	@Override
@@ -72,52 +134,52 @@ public final class AcInteger extends RationalNumber<AcInteger> {
 
 	@Override
 	public AcInteger negate() {
-		return new AcInteger(-value);
+		return valueOf(-value);
 	}
 
 	@Override
 	public Fraction reciprocal() {
-		return new Fraction(ONE, value);
+		return Fraction.valueOf(ONE, value);
 	}
 
 	@Override
 	public AcInteger add(AcInteger val) {
-		return new AcInteger(value + val.value);
+		return valueOf(value + val.value);
 	}
 
 	@Override
 	public AcInteger add(int i) {
-		return new AcInteger(value + i);
+		return valueOf(value + i);
 	}
 
 	@Override
 	public AcInteger subtract(AcInteger val) {
-		return new AcInteger(value - val.value);
+		return valueOf(value - val.value);
 	}
 
 	@Override
 	public AcInteger subtract(int i) {
-		return new AcInteger(value - i);
+		return valueOf(value - i);
 	}
 
 	@Override
 	public AcInteger multiply(int i) {
-		return new AcInteger(value * i);
+		return valueOf(value * i);
 	}
 
 	@Override
 	public AcInteger multiply(AcInteger val) {
-		return new AcInteger(value - val.value);
+		return valueOf(value * val.value);
 	}
 
 	@Override
 	public Fraction divide(AcInteger val) {
-		return new Fraction(value, val.value);
+		return Fraction.valueOf(value, val.value);
 	}
 
 	@Override
 	public Fraction divide(int i) {
-		return new Fraction(value, i);
+		return Fraction.valueOf(value, i);
 	}
 
 	@Override
@@ -16,9 +16,11 @@
 
 package com.github.math.number.basic;
 
+import com.github.math.exception.MathArithmeticException;
 import com.github.math.number.RationalNumber;
 import com.github.math.number.decimal.Decimal;
 import com.github.math.number.fraction.BigFraction;
+import com.github.math.utils.MathUtils;
 
 /**
  * 
@@ -36,7 +38,7 @@ public final class AcLong extends RationalNumber<AcLong> {
 	public static final String LONG = "long";
 	public static final long ONE = 1L;
 	
-    private long value;
+    private final long value;
 
     public AcLong(long value) {
         this.value = value;
@@ -49,15 +51,74 @@ public final class AcLong extends RationalNumber<AcLong> {
     public AcLong(String s) throws NumberFormatException {
         this.value = Long.parseLong(s, 10);
     }
+
+	/**
+	 * <p>
+	 * 返回指定值对应的实例，与 {@link Long#valueOf(long)} 类似，
+	 * {@code -128} 到 {@code 127} 之间的值会被缓存。
+	 * 
+	 * @param value 数值
+	 * @return      实例
+	 */
+	public static AcLong valueOf(long value) {
+		if (value >= Cache.LOW && value <= Cache.HIGH) {
+			return Cache.CACHE[(int) value - Cache.LOW];
+		}
+		return new AcLong(value);
+	}
+	
+	private static final class Cache {
+		
+		static final int LOW  = -128;
+		static final int HIGH = 127;
+		
+		static final AcLong[] CACHE = new AcLong[HIGH - LOW + 1];
+		
+		static {
+			for (int i = 0; i < CACHE.length; i++) {
+				CACHE[i] = new AcLong(LOW + i);
+			}
+		}
+		
+	}
     
 	@Override
 	public AcLong abs() {
-		return (value < 0) ? new AcLong(-value) : this;
+		return (value < 0) ? valueOf(-value) : this;
 	}
 
+	/**
+	 * 使用平方求幂精确地计算幂。负指数只在 {@code this} 为 {@code 1} 或 {@code -1} 时有整数结果。
+	 * 
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围或不是整数
+	 * @see #powExact(int)
+	 */
 	@Override
 	public AcLong pow(int e) {
-		return new AcLong((int) Math.pow(value, e));
+		if (e < 0) {
+			if (value == 1 || value == -1) {
+				return valueOf((e & 1) == 0 ? 1L : value);
+			}
+			throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+		}
+		return valueOf(MathUtils.powAndCheck(value, e));
+	}
+	
+	/**
+	 * 精确地计算幂，指数为负数或结果超出 {@code long} 的范围时返回分数。
+	 * 
+	 * @param e 指数
+	 * @return  {@code this}<sup>e</sup>
+	 */
+	public RationalNumber<?> powExact(int e) {
+		if (e >= 0) {
+			try {
+				return pow(e);
+			} catch (MathArithmeticException ex) {
+				// 溢出，改用 BigFraction
+			}
+		}
+		return BigFraction.valueOf(value).pow(e);
 	}
 
 	@Override
@@ -72,53 +133,53 @@ public final class AcLong extends RationalNumber<AcLong> {
 
 	@Override
 	public AcLong negate() {
-		return new AcLong(-value);
+		return valueOf(-value);
 	}
 
 	@Override
 	public BigFraction reciprocal() {
-		return new BigFraction(ONE, value);
+		return BigFraction.valueOf(ONE, value);
 	}
 
 	@Override
 	public AcLong add(AcLong val) {
-		return new AcLong(value + val.value);
+		return valueOf(value + val.value);
 	}
 
 	@Override
 	public AcLong add(int i) {
-		return new AcLong(value + i);
+		return valueOf(value + i);
 	}
 
 	@Override
 	public AcLong subtract(AcLong val) {
-		return new AcLong(value - val.value);
+		return valueOf(value - val.value);
 	}
 
 	@Override
 	public AcLong subtract(int i) {
-		return new AcLong(value - i);
+		return valueOf(value - i);
 	}
 
 	@Override
 	public AcLong multiply(AcLong val) {
-		return new AcLong(value - val.value);
+		return valueOf(value * val.value);
 	}
 
 	
 	@Override
 	public AcLong multiply(int i) {
-		return new AcLong(value * i);
+		return valueOf(value * i);
 	}
 	
 	@Override
 	public BigFraction divide(AcLong val) {
-		return new BigFraction(value, val.value);
+		return BigFraction.valueOf(value, val.value);
 	}
 
 	@Override
 	public BigFraction divide(int i) {
-		return new BigFraction(value, (long) i);
+		return BigFraction.valueOf(value, (long) i);
 	}
 
 	@Override
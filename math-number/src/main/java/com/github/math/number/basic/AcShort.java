@@ -16,10 +16,13 @@
 
 package com.github.math.number.basic;
 
+import com.github.math.exception.MathArithmeticException;
 import com.github.math.exception.NumberOverbrimException;
 import com.github.math.number.RationalNumber;
 import com.github.math.number.decimal.Decimal;
+import com.github.math.number.fraction.BigFraction;
 import com.github.math.number.fraction.Fraction;
+import com.github.math.utils.MathUtils;
 
 /**
  * 
@@ -37,7 +40,7 @@ public final class AcShort extends RationalNumber<AcShort> {
 	public static final String SHORT = "short";
 	public static final int ONE = 1;
 	
-    private short value;
+    private final short value;
 
     public AcShort(short value) {
         this.value = value;
@@ -51,22 +54,82 @@ public final class AcShort extends RationalNumber<AcShort> {
         this.value = Short.parseShort(s, 10);
     }
     
-	private AcShort(int value) {
-		if (value > Short.MAX_VALUE)
-			throw new NumberOverbrimException(AcInteger.INTEGER, AcByte.BYTE);
-		if (value < Short.MIN_VALUE)
-			throw new NumberOverbrimException(AcInteger.INTEGER, AcByte.BYTE);
-		this.value = (short) value;
+	/**
+	 * <p>
+	 * 返回指定值对应的实例，与 {@link Short#valueOf(short)} 类似，
+	 * {@code -128} 到 {@code 127} 之间的值会被缓存。
+	 * 
+	 * @param value 数值
+	 * @return      实例
+	 */
+	public static AcShort valueOf(short value) {
+		if (value >= Cache.LOW && value <= Cache.HIGH) {
+			return Cache.CACHE[value - Cache.LOW];
+		}
+		return new AcShort(value);
+	}
+	
+	/**
+	 * 检查运算结果是否在 {@code short} 的范围之内，并返回对应的实例。
+	 */
+	private static AcShort of(int value) {
+		if (value > Short.MAX_VALUE || value < Short.MIN_VALUE)
+			throw new NumberOverbrimException(AcInteger.INTEGER, SHORT);
+		return valueOf((short) value);
+	}
+	
+	private static final class Cache {
+		
+		static final int LOW  = -128;
+		static final int HIGH = 127;
+		
+		static final AcShort[] CACHE = new AcShort[HIGH - LOW + 1];
+		
+		static {
+			for (int i = 0; i < CACHE.length; i++) {
+				CACHE[i] = new AcShort((short) (LOW + i));
+			}
+		}
+		
 	}
 
 	@Override
 	public AcShort abs() {
-		return (value < 0) ? new AcShort(-value) : this;
+		return (value < 0) ? of(-value) : this;
 	}
 
+	/**
+	 * 使用平方求幂精确地计算幂。负指数只在 {@code this} 为 {@code 1} 或 {@code -1} 时有整数结果。
+	 * 
+	 * @exception MathArithmeticException 如果结果超出 {@code short} 的范围或不是整数
+	 * @see #powExact(int)
+	 */
 	@Override
 	public AcShort pow(int e) {
-		return new AcShort((int) Math.pow(value, e));
+		if (e < 0) {
+			if (value == 1 || value == -1) {
+				return of((e & 1) == 0 ? 1 : value);
+			}
+			throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+		}
+		return of(MathUtils.powAndCheck((int) value, e));
+	}
+	
+	/**
+	 * 精确地计算幂，指数为负数或结果超出 {@code short} 的范围时返回分数。
+	 * 
+	 * @param e 指数
+	 * @return  {@code this}<sup>e</sup>
+	 */
+	public RationalNumber<?> powExact(int e) {
+		if (e >= 0) {
+			try {
+				return pow(e);
+			} catch (MathArithmeticException ex) {
+				// 溢出，改用 BigFraction
+			}
+		}
+		return BigFraction.valueOf(value).pow(e);
 	}
 
 	@Override
@@ -81,53 +144,53 @@ public final class AcShort extends RationalNumber<AcShort> {
 
 	@Override
 	public AcShort negate() {
-		return new AcShort(-value);
+		return of(-value);
 	}
 
 	@Override
 	public Fraction reciprocal() {
-		return new Fraction(ONE, value);
+		return Fraction.valueOf(ONE, value);
 	}
 
 	@Override
 	public AcShort add(AcShort val) {
-		return new AcShort(value + val.value);
+		return of(value + val.value);
 	}
 
 	@Override
 	public AcShort add(int i) {
-		return new AcShort(value + i);
+		return of(value + i);
 	}
 
 	@Override
 	public AcShort subtract(AcShort val) {
-		return new AcShort(value +- val.value);
+		return of(value - val.value);
 	}
 
 	@Override
 	public AcShort subtract(int i) {
-		return new AcShort(value - i);
+		return of(value - i);
 	}
 
 
 	@Override
 	public AcShort multiply(AcShort val) {
-		return new AcShort(value - val.value);
+		return of(value * val.value);
 	}
 	
 	@Override
 	public AcShort multiply(int i) {
-		return new AcShort(value * i);
+		return of(value * i);
 	}
 
 	@Override
 	public Fraction divide(AcShort val) {
-		return new Fraction(value, val.value);
+		return Fraction.valueOf(value, val.value);
 	}
 
 	@Override
 	public Fraction divide(int i) {
-		return new Fraction(value, i);
+		return Fraction.valueOf(value, i);
 	}
 
 	@Override
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>
+ * 用二分法（binary splitting）求级数
+ * S = &sum; a(k) / b(k) &middot; p(0)p(1)&hellip;p(k) / (q(0)q(1)&hellip;q(k))
+ * 的部分和，其中 a、b、p、q 都是整数。
+ * 
+ * <p>
+ * 对区间 [l, r) 中的项定义 P = &prod;p、Q = &prod;q、B = &prod;b，以及使
+ * T / (BQ) 等于这些项的和的整数 T，两个相邻区间的结果合并为
+ * P = P<sub>1</sub>P<sub>2</sub>、Q = Q<sub>1</sub>Q<sub>2</sub>、B = B<sub>1</sub>B<sub>2</sub>、
+ * T = B<sub>2</sub>Q<sub>2</sub>T<sub>1</sub> + B<sub>1</sub>P<sub>1</sub>T<sub>2</sub>。
+ * 把区间不断二分，参与乘法的整数的位数大致相同，可以充分利用 {@link BigInteger} 的快速乘法。
+ * 
+ * <p>
+ * 生成器保存前 n 项的 P、Q、B、T。需要更多的项时只计算 [n, m) 的部分，再与保存的结果合并，
+ * 不重新计算前面的项。项数不小于 {@value #PARALLEL_THRESHOLD} 时，在 {@link ForkJoinPool#commonPool()}
+ * 中并行计算两半；位数较大时，合并所需的几次乘法也并行计算。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+abstract class BinarySplitting extends DigitGenerator {
+	
+	/**
+	 * 区间的项数不小于此值时，并行计算两半。
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 9;
+	
+	/**
+	 * 两个 T 的位数之和不小于此值时，合并时的乘法并行计算。
+	 */
+	static final int PARALLEL_BITS = 1 << 16;
+	
+	/** 已经求和的项数 */
+	private long terms;
+	
+	/** 前 {@code terms} 项的结果 */
+	private Sum sum;
+	
+	/**
+	 * 返回使截断误差小于 10<sup>-scale</sup> 的一半所需的项数，随 {@code scale} 单调不减。
+	 * 
+	 * @param  scale 小数点之后的位数
+	 * @return       项数
+	 */
+	abstract long terms(int scale);
+	
+	abstract BigInteger a(long k);
+	
+	abstract BigInteger b(long k);
+	
+	abstract BigInteger p(long k);
+	
+	abstract BigInteger q(long k);
+	
+	/**
+	 * 由部分和计算误差小于 10<sup>-scale</sup> 的近似值，截断误差已经小于 10<sup>-scale</sup> 的一半。
+	 * 
+	 * @param  sum   部分和
+	 * @param  scale 小数点之后的位数
+	 * @return       近似值
+	 */
+	abstract BigDecimal value(Sum sum, int scale);
+	
+	@Override
+	final BigDecimal extend(int scale) {
+		final long n = terms(scale);
+		if (n > terms) {
+			final Sum tail = n - terms < PARALLEL_THRESHOLD ? split(terms, n) 
+					: ForkJoinPool.commonPool().invoke(new SplitTask(this, terms, n));
+			sum   = sum == null ? tail : combine(sum, tail);
+			terms = n;
+		}
+		return value(sum, scale);
+	}
+	
+	/**
+	 * 计算 [l, r) 中的项。
+	 */
+	final Sum split(long l, long r) {
+		if (r - l == 1L) {
+			final BigInteger p = p(l);
+			return new Sum(p, q(l), b(l), multiply(a(l), p));
+		}
+		final long mid = (l + r) >>> 1;
+		return combine(split(l, mid), split(mid, r));
+	}
+	
+	/**
+	 * <p>
+	 * 返回 n &middot; 10<sup>s</sup> / (d<sub>1</sub>d<sub>2</sub>) 的整数近似值，误差小于 2，
+	 * 要求 n / (d<sub>1</sub>d<sub>2</sub>) 小于 2<sup>32</sup>。
+	 *
+	 * <p>
+	 * 部分和的位数通常是结果的数倍，先把除数的每个因子截断到比 10<sup>s</sup> 多 64 位，被除数右移相同的位数，
+	 * 除法与乘法都只需要与结果相当的位数，截断引入的误差远小于 1。
+	 */
+	static BigInteger divide(BigInteger n, BigInteger d1, BigInteger d2, int s) {
+		final BigInteger scale = BigInteger.TEN.pow(s);
+		final int        bits  = scale.bitLength() + 64;
+		final int        k1    = Math.max(d1.bitLength() - bits, 0);
+		final int        k2    = Math.max(d2.bitLength() - bits, 0);
+		return n.shiftRight(k1 + k2).multiply(scale)
+				.divide(multiply(d1.shiftRight(k1), d2.shiftRight(k2)));
+	}
+
+	/**
+	 * 合并 [l, m) 与 [m, r) 的结果。
+	 */
+	static Sum combine(Sum x, Sum y) {
+		if (x.t.bitLength() + y.t.bitLength() < PARALLEL_BITS) {
+			return new Sum(multiply(x.p, y.p), multiply(x.q, y.q), multiply(x.b, y.b), 
+					multiply(multiply(y.b, y.q), x.t).add(multiply(multiply(x.b, x.p), y.t)));
+		}
+		final ForkJoinTask<BigInteger> p  = ForkJoinTask.adapt(() -> multiply(x.p, y.p)).fork();
+		final ForkJoinTask<BigInteger> q  = ForkJoinTask.adapt(() -> multiply(x.q, y.q)).fork();
+		final ForkJoinTask<BigInteger> b  = ForkJoinTask.adapt(() -> multiply(x.b, y.b)).fork();
+		final ForkJoinTask<BigInteger> t1 = ForkJoinTask.adapt(() -> multiply(multiply(y.b, y.q), x.t)).fork();
+		final BigInteger t2 = multiply(multiply(x.b, x.p), y.t);
+		return new Sum(p.join(), q.join(), b.join(), t1.join().add(t2));
+	}
+	
+	/**
+	 * 级数中的 p、b 常常都是 1，此时不需要做乘法。
+	 */
+	private static BigInteger multiply(BigInteger x, BigInteger y) {
+		if (x.equals(BigInteger.ONE)) {
+			return y;
+		}
+		return y.equals(BigInteger.ONE) ? x : x.multiply(y);
+	}
+	
+	/**
+	 * 一个区间的 P、Q、B、T。
+	 */
+	static final class Sum {
+		
+		final BigInteger p;
+		final BigInteger q;
+		final BigInteger b;
+		final BigInteger t;
+		
+		Sum(BigInteger p, BigInteger q, BigInteger b, BigInteger t) {
+			this.p = p;
+			this.q = q;
+			this.b = b;
+			this.t = t;
+		}
+		
+	}
+	
+	/**
+	 * 并行地计算一个区间的任务。
+	 */
+	private static final class SplitTask extends RecursiveTask<Sum> {
+		
+		// The serialVersionUID of the class SplitTask.
+		private static final long serialVersionUID = 5349177398062618823L;
+		
+		private final BinarySplitting series;
+		private final long l;
+		private final long r;
+		
+		SplitTask(BinarySplitting series, long l, long r) {
+			this.series = series;
+			this.l      = l;
+			this.r      = r;
+		}
+		
+		@Override
+		protected Sum compute() {
+			if (r - l < PARALLEL_THRESHOLD) {
+				return series.split(l, r);
+			}
+			final long mid = (l + r) >>> 1;
+			final SplitTask fork = new SplitTask(series, l, mid);
+			fork.fork();
+			final Sum right = new SplitTask(series, mid, r).compute();
+			return combine(fork.join(), right);
+		}
+		
+	}
+
+}
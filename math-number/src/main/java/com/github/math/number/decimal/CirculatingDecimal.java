@@ -16,15 +16,492 @@
 
 package com.github.math.number.decimal;
 
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathParseException;
 import com.github.math.number.RationalNumber;
+import com.github.math.number.fraction.BigFraction;
+import com.github.math.number.fraction.Fraction;
+import com.github.math.number.fraction.Fractional;
+import com.github.math.utils.MathUtils;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
- * 循环小数
+ * <p>
+ * 循环小数，例如 {@code 1/6 = 0.1(6)}，括号中的部分为循环节，括号之前的小数部分为不循环的部分。
+ * 有限小数看作循环节长度为零的循环小数。
+ * 
+ * <p>
+ * 值以约分的 {@link BigFraction} 保存。分母去掉因子 2 与 5 之后剩下 m，不循环部分的长度是因子 2 与 5
+ * 的个数中较大的一个，循环节的长度是 10 模 m 的乘法阶，分解 m 与 &lambda;(m) 的质因数之后计算，
+ * 不需要逐位做除法，因此循环节长达数百万位时也很快。m 必须在 {@code long} 的范围之内。
+ * 
+ * <p>
+ * {@link #digits()} 与 {@link #digitAt(long)} 逐位地计算小数部分，不保存整个展开式；
+ * {@link #toString()}、{@link #repetend()} 等方法则会创建长度与循环节相同的字符串。
+ * 
  * @author 王帅
- *
  */
-public abstract class CirculatingDecimal 
-	extends RationalNumber<CirculatingDecimal> implements Decimal {
-	// The serialVersionUID of the class RecurringDecimal.
+public final class CirculatingDecimal 
+	extends RationalNumber<CirculatingDecimal> implements Decimal, Fractional {
+	// The serialVersionUID of the class CirculatingDecimal.
 	private static final long serialVersionUID = -8953862469392450037L;
+	
+	private static final BigInteger FIVE = BigInteger.valueOf(5L);
+	
+	/** 循环小数的值 */
+	private final BigFraction value;
+	
+	/** 不循环部分的长度与循环节的长度，第一次使用时计算 */
+	private transient volatile long[] shape;
+	
+	private CirculatingDecimal(BigFraction value) {
+		this.value = Objects.requireNonNull(value, "LocalizedFormats.FRACTION");
+	}
+	
+	/**
+	 * 返回与指定分数相等的循环小数。
+	 * 
+	 * @param value 分数
+	 * @return      循环小数
+	 */
+	public static CirculatingDecimal valueOf(BigFraction value) {
+		return new CirculatingDecimal(value);
+	}
+	
+	/**
+	 * 返回与指定分数相等的循环小数。
+	 * 
+	 * @param value 分数
+	 * @return      循环小数
+	 */
+	public static CirculatingDecimal valueOf(Fraction value) {
+		return new CirculatingDecimal(BigFraction.valueOf(value.numerator(), value.denominator()));
+	}
+	
+	/**
+	 * 返回与 {@code num / den} 相等的循环小数。
+	 * 
+	 * @param num 分子
+	 * @param den 分母
+	 * @return    循环小数
+	 */
+	public static CirculatingDecimal valueOf(long num, long den) {
+		return new CirculatingDecimal(BigFraction.valueOf(num, den));
+	}
+	
+	/**
+	 * <p>
+	 * 解析 {@link #toString()} 的格式，例如 {@code -12.3(45)}、{@code 0.(3)}、{@code 1.25}、{@code 7}。
+	 * 
+	 * <p>
+	 * 整数部分为 I、不循环部分为长度为 s 的 P、循环节为长度为 r 的 R 时，
+	 * 值为 ((I&middot;10<sup>s</sup> + P)(10<sup>r</sup> - 1) + R) / (10<sup>s</sup>(10<sup>r</sup> - 1))。
+	 * 
+	 * @param  source 字符串
+	 * @return        循环小数
+	 * @exception MathParseException 如果格式不正确，异常中保存出错的字符的索引
+	 */
+	public static CirculatingDecimal valueOf(String source) {
+		final int n = source.length();
+		int i = 0;
+		final boolean negative = i < n && source.charAt(i) == '-';
+		if (negative) {
+			i++;
+		}
+		final int intStart = i;
+		i = skipDigits(source, i);
+		if (i == intStart) {
+			throw new MathParseException(source, i);
+		}
+		final BigInteger integer = new BigInteger(source.substring(intStart, i));
+		BigInteger pre    = BigInteger.ZERO;
+		BigInteger rep    = BigInteger.ZERO;
+		int        preLen = 0;
+		int        repLen = 0;
+		if (i < n) {
+			if (source.charAt(i) != '.') {
+				throw new MathParseException(source, i);
+			}
+			final int preStart = ++i;
+			i = skipDigits(source, i);
+			preLen = i - preStart;
+			if (preLen > 0) {
+				pre = new BigInteger(source.substring(preStart, i));
+			}
+			if (i < n) {
+				if (source.charAt(i) != '(') {
+					throw new MathParseException(source, i);
+				}
+				final int repStart = ++i;
+				i = skipDigits(source, i);
+				repLen = i - repStart;
+				if (repLen == 0 || i >= n || source.charAt(i) != ')') {
+					throw new MathParseException(source, i);
+				}
+				rep = new BigInteger(source.substring(repStart, i));
+				if (++i < n) {
+					throw new MathParseException(source, i);
+				}
+			} else if (preLen == 0) {
+				throw new MathParseException(source, i);
+			}
+		}
+		BigInteger num = integer.multiply(BigInteger.TEN.pow(preLen)).add(pre);
+		BigInteger den = BigInteger.TEN.pow(preLen);
+		if (repLen > 0) {
+			final BigInteger nines = BigInteger.TEN.pow(repLen).subtract(BigInteger.ONE);
+			num = num.multiply(nines).add(rep);
+			den = den.multiply(nines);
+		}
+		return new CirculatingDecimal(BigFraction.valueOf(negative ? num.negate() : num, den));
+	}
+	
+	private static int skipDigits(String source, int i) {
+		while (i < source.length() && source.charAt(i) >= '0' && source.charAt(i) <= '9') {
+			i++;
+		}
+		return i;
+	}
+	
+	/**
+	 * 返回与循环小数相等的分数。
+	 * 
+	 * @return 分数
+	 */
+	public BigFraction bigFractionValue() {
+		return value;
+	}
+	
+	/**
+	 * 返回 {@code {不循环部分的长度, 循环节的长度}}。
+	 */
+	private long[] shape() {
+		long[] s = shape;
+		if (s == null) {
+			BigInteger m = value.getDenominator();
+			// 因子 2 的个数
+			final int twos = m.getLowestSetBit();
+			m = m.shiftRight(twos);
+			// 因子 5 的个数
+			int fives = 0;
+			for (BigInteger[] qr = m.divideAndRemainder(FIVE); qr[1].signum() == 0; qr = m.divideAndRemainder(FIVE)) {
+				m = qr[0];
+				fives++;
+			}
+			final long period;
+			if (m.equals(BigInteger.ONE)) {
+				period = 0L;
+			} else if (m.bitLength() < Long.SIZE) {
+				period = DecimalPeriod.order(m.longValue());
+			} else {
+				throw new MathArithmeticException("分母太大，无法计算循环节的长度：" + value.getDenominator());
+			}
+			shape = s = new long[] {Math.max(twos, fives), period};
+		}
+		return s;
+	}
+	
+	/**
+	 * 返回小数部分中不循环的部分的长度，例如 {@code 0.1(6)} 为 1。
+	 * 
+	 * @return 不循环部分的长度
+	 */
+	public int preperiodLength() {
+		return (int) shape()[0];
+	}
+	
+	/**
+	 * 返回循环节的长度，有限小数为 0。
+	 * 
+	 * @return 循环节的长度
+	 * @exception MathArithmeticException 如果分母去掉因子 2 与 5 之后超出 {@code long} 的范围
+	 */
+	public long periodLength() {
+		return shape()[1];
+	}
+	
+	/**
+	 * 是否为有限小数。
+	 * 
+	 * @return 如果循环节的长度为 0 则返回 {@code true}
+	 */
+	public boolean isTerminating() {
+		return periodLength() == 0L;
+	}
+	
+	/**
+	 * 返回绝对值的整数部分。
+	 * 
+	 * @return 整数部分
+	 */
+	public BigInteger integerPart() {
+		return value.getNumerator().abs().divide(value.getDenominator());
+	}
+	
+	/**
+	 * <p>
+	 * 按顺序返回绝对值的小数部分的各位数字，是一个无限的流，有限小数在最后一位之后都是 0。
+	 * 
+	 * <p>
+	 * 每一位只需要一次乘法与一次除法，只保存当前的余数，因此可以用 {@link IntStream#limit(long)}
+	 * 取出任意多位而不占用额外的内存。
+	 * 
+	 * @return 小数部分的数字
+	 */
+	public IntStream digits() {
+		final BigInteger den = value.getDenominator();
+		final BigInteger rem = value.getNumerator().abs().mod(den);
+		final Spliterator.OfInt spliterator;
+		if (den.bitLength() < Long.SIZE - 4) {
+			// 余数乘以 10 不会超出 long 的范围
+			final long d = den.longValue();
+			spliterator = new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+				
+				private long r = rem.longValue();
+				
+				@Override
+				public boolean tryAdvance(IntConsumer action) {
+					r *= 10L;
+					action.accept((int) (r / d));
+					r %= d;
+					return true;
+				}
+			};
+		} else {
+			spliterator = new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+				
+				private BigInteger r = rem;
+				
+				@Override
+				public boolean tryAdvance(IntConsumer action) {
+					final BigInteger[] qr = r.multiply(BigInteger.TEN).divideAndRemainder(den);
+					action.accept(qr[0].intValue());
+					r = qr[1];
+					return true;
+				}
+			};
+		}
+		return StreamSupport.intStream(spliterator, false);
+	}
+	
+	/**
+	 * 返回绝对值的小数部分的第 {@code index} 位数字，第一位的索引为 1。
+	 * 使用 10<sup>index - 1</sup> 模分母的余数直接计算，与 {@code index} 的对数成正比。
+	 * 
+	 * @param  index 索引
+	 * @return       数字
+	 * @exception MathIllegalArgumentException 如果 {@code index < 1}
+	 */
+	public int digitAt(long index) {
+		if (index < 1L) {
+			throw new MathIllegalArgumentException("LocalizedFormats.NOT_POSITIVE");
+		}
+		final BigInteger den = value.getDenominator();
+		final BigInteger rem = value.getNumerator().abs().mod(den);
+		if (den.bitLength() < Long.SIZE - 4) {
+			final long d = den.longValue();
+			final long r = MathUtils.mulMod(rem.longValue(), MathUtils.powMod(10L % d, index - 1L, d), d);
+			return (int) (r * 10L / d);
+		}
+		final BigInteger r = rem.multiply(BigInteger.TEN.modPow(BigInteger.valueOf(index - 1L), den)).mod(den);
+		return r.multiply(BigInteger.TEN).divide(den).intValue();
+	}
+	
+	/**
+	 * 返回小数部分中不循环的部分，例如 {@code 0.1(6)} 为 {@code "1"}。
+	 * 
+	 * @return 不循环的部分
+	 */
+	public String preperiod() {
+		return digitString(0L, preperiodLength());
+	}
+	
+	/**
+	 * 返回循环节，例如 {@code 0.1(6)} 为 {@code "6"}，有限小数为空字符串。
+	 * 
+	 * @return 循环节
+	 * @exception MathArithmeticException 如果循环节太长，无法保存在字符串中
+	 */
+	public String repetend() {
+		return digitString(preperiodLength(), periodLength());
+	}
+	
+	private String digitString(long skip, long length) {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new MathArithmeticException("循环节太长：" + length);
+		}
+		final StringBuilder sb = new StringBuilder((int) length);
+		digits().skip(skip).limit(length).forEach(d -> sb.append((char) ('0' + d)));
+		return sb.toString();
+	}
+	
+	/**
+	 * 返回循环小数的字符串形式，例如 {@code -12.3(45)}，有限小数没有括号，整数没有小数点。
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		if (value.signum() < 0) {
+			sb.append('-');
+		}
+		sb.append(integerPart());
+		final String pre = preperiod();
+		final String rep = repetend();
+		if (!pre.isEmpty() || !rep.isEmpty()) {
+			sb.append('.').append(pre);
+			if (!rep.isEmpty()) {
+				sb.append('(').append(rep).append(')');
+			}
+		}
+		return sb.toString();
+	}
+	
+	@Override
+	public CirculatingDecimal abs() {
+		return value.signum() >= 0 ? this : negate();
+	}
+
+	@Override
+	public CirculatingDecimal pow(int e) {
+		return new CirculatingDecimal(value.pow(e));
+	}
+
+	@Override
+	public CirculatingDecimal min(CirculatingDecimal val) {
+		return compareTo(val) <= 0 ? this : val;
+	}
+
+	@Override
+	public CirculatingDecimal max(CirculatingDecimal val) {
+		return compareTo(val) >= 0 ? this : val;
+	}
+
+	@Override
+	public CirculatingDecimal negate() {
+		return new CirculatingDecimal(value.negate());
+	}
+
+	@Override
+	public CirculatingDecimal reciprocal() {
+		return new CirculatingDecimal(value.reciprocal());
+	}
+
+	@Override
+	public CirculatingDecimal add(CirculatingDecimal val) {
+		return new CirculatingDecimal(value.add(val.value));
+	}
+
+	@Override
+	public CirculatingDecimal add(int i) {
+		return new CirculatingDecimal(value.add(i));
+	}
+
+	@Override
+	public CirculatingDecimal subtract(CirculatingDecimal val) {
+		return new CirculatingDecimal(value.subtract(val.value));
+	}
+
+	@Override
+	public CirculatingDecimal subtract(int i) {
+		return new CirculatingDecimal(value.subtract(i));
+	}
+
+	@Override
+	public CirculatingDecimal multiply(CirculatingDecimal val) {
+		return new CirculatingDecimal(value.multiply(val.value));
+	}
+
+	@Override
+	public CirculatingDecimal multiply(int i) {
+		return new CirculatingDecimal(value.multiply(i));
+	}
+
+	@Override
+	public CirculatingDecimal divide(CirculatingDecimal val) {
+		return new CirculatingDecimal(value.divide(val.value));
+	}
+
+	@Override
+	public CirculatingDecimal divide(int i) {
+		return new CirculatingDecimal(value.divide(i));
+	}
+
+	@Override
+	public int signum() {
+		return value.signum();
+	}
+
+	@Override
+	public int intValueExact() {
+		return (int) integerValueExact(Integer.SIZE);
+	}
+
+	@Override
+	public long longValueExact() {
+		return integerValueExact(Long.SIZE);
+	}
+	
+	/**
+	 * 返回整数值，不是整数或超出 {@code bits} 位整数的范围时抛出 {@link MathArithmeticException}。
+	 */
+	private long integerValueExact(int bits) {
+		if (!value.getDenominator().equals(BigInteger.ONE)) {
+			throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+		}
+		final BigInteger num = value.getNumerator();
+		if (num.bitLength() >= bits) {
+			throw new MathArithmeticException("LocalizedFormats.OVERFLOW");
+		}
+		return num.longValue();
+	}
+
+	@Override
+	public int intValue() {
+		return value.intValue();
+	}
+
+	@Override
+	public long longValue() {
+		return value.longValue();
+	}
+
+	@Override
+	public float floatValue() {
+		return value.floatValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		return value.doubleValue();
+	}
+
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof CirculatingDecimal) {
+			return value.equals(((CirculatingDecimal) obj).value);
+		}
+		return false;
+	}
+
+	@Override
+	public int compareTo(CirculatingDecimal o) {
+		return value.compareTo(o.value);
+	}
+
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import com.github.math.SuperMath;
+import com.github.math.utils.MathUtils;
+
+import java.util.Arrays;
+
+/**
+ * 计算循环节长度使用的数论函数：分解质因数与 10 的乘法阶。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+final class DecimalPeriod {
+	
+	private DecimalPeriod() {}
+	
+	/** 试除使用的质数的上限 */
+	private static final int TRIAL_LIMIT = 1000;
+	
+	/** 对所有 64 位整数都正确的 Miller-Rabin 底数 */
+	private static final long[] BASES = {2L, 325L, 9375L, 28178L, 450775L, 9780504L, 1795265022L};
+	
+	/**
+	 * 返回 10 模 {@code m} 的乘法阶，也就是分母为 {@code m} 的纯循环小数的循环节长度。
+	 * 阶是 Carmichael 函数 &lambda;(m) 的因数，从 &lambda;(m) 开始逐个去掉质因数。
+	 * 
+	 * @param m 与 10 互质且大于 1 的整数
+	 * @return  最小的正整数 k，使得 10<sup>k</sup> &equiv; 1 (mod m)
+	 */
+	static long order(long m) {
+		final long[] primes = factor(m);
+		long lambda = 1L;
+		for (int i = 0; i < primes.length;) {
+			final long p = primes[i];
+			// φ(p^k) = p^(k - 1) * (p - 1)
+			long phi = p - 1L;
+			while (++i < primes.length && primes[i] == p) {
+				phi *= p;
+			}
+			lambda = SuperMath.lcmExact(lambda, phi);
+		}
+		final long ten = 10L % m;
+		long order = lambda;
+		final long[] factors = factor(lambda);
+		for (int i = 0; i < factors.length; i++) {
+			if (i > 0 && factors[i] == factors[i - 1]) {
+				continue;
+			}
+			final long q = factors[i];
+			while (order % q == 0L && MathUtils.powMod(ten, order / q, m) == 1L) {
+				order /= q;
+			}
+		}
+		return order;
+	}
+	
+	/**
+	 * 分解质因数，返回从小到大排列的质因数，重复的质因数出现多次。
+	 * 
+	 * @param n 正整数
+	 * @return  质因数
+	 */
+	static long[] factor(long n) {
+		long[] result = new long[Long.SIZE];
+		int count = 0;
+		for (long p = 2L; p < TRIAL_LIMIT && p * p <= n; p += (p == 2L ? 1L : 2L)) {
+			while (n % p == 0L) {
+				result[count++] = p;
+				n /= p;
+			}
+		}
+		if (n > 1L) {
+			count = factorLarge(n, result, count);
+		}
+		result = Arrays.copyOf(result, count);
+		Arrays.sort(result);
+		return result;
+	}
+	
+	/**
+	 * 分解没有小于 {@value #TRIAL_LIMIT} 的质因数的整数。
+	 */
+	private static int factorLarge(long n, long[] result, int count) {
+		if (n < (long) TRIAL_LIMIT * TRIAL_LIMIT || isPrime(n)) {
+			result[count++] = n;
+			return count;
+		}
+		final long d = rho(n);
+		count = factorLarge(d, result, count);
+		return factorLarge(n / d, result, count);
+	}
+	
+	/**
+	 * 确定性的 Miller-Rabin 素性测试。
+	 */
+	static boolean isPrime(long n) {
+		if (n < 2L) {
+			return false;
+		}
+		if ((n & 1L) == 0L) {
+			return n == 2L;
+		}
+		final int s = Long.numberOfTrailingZeros(n - 1L);
+		final long d = (n - 1L) >> s;
+		witness:
+		for (long a : BASES) {
+			a %= n;
+			if (a == 0L) {
+				continue;
+			}
+			long x = MathUtils.powMod(a, d, n);
+			if (x == 1L || x == n - 1L) {
+				continue;
+			}
+			for (int i = 1; i < s; i++) {
+				x = MathUtils.mulMod(x, x, n);
+				if (x == n - 1L) {
+					continue witness;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Pollard &rho; 算法，返回合数 {@code n} 的一个非平凡因数。
+	 */
+	private static long rho(long n) {
+		for (long c = 1L;; c++) {
+			long x = 2L;
+			long y = 2L;
+			long d = 1L;
+			while (d == 1L) {
+				x = next(x, c, n);
+				y = next(next(y, c, n), c, n);
+				d = SuperMath.gcd(Math.abs(x - y), n);
+			}
+			if (d != n) {
+				return d;
+			}
+		}
+	}
+	
+	/**
+	 * x^2 + c mod n
+	 */
+	private static long next(long x, long c, long n) {
+		x = MathUtils.mulMod(x, x, n);
+		return x >= n - c ? x - (n - c) : x + c;
+	}
+	
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import com.github.math.exception.MathZeroException;
+import com.github.math.number.fraction.Fractional;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * <p>
+ * 由其他无限不循环小数经过一次运算得到的数，例如 &pi; + e、2&radic;3、1 / &pi;。
+ * 
+ * <p>
+ * 只保存运算与操作数，需要近似值时按照误差的传播估计操作数所需的位数，再由操作数的近似值计算。
+ * 操作数本身保存已经计算出的结果，因此重复计算只需要做一次运算。倒数与商也用这个类表示，
+ * 所以实现了 {@link Fractional}。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+final class DerivedDecimal extends InfiniteNonRecurringDecimal implements Fractional {
+	// The serialVersionUID of the class DerivedDecimal.
+	private static final long serialVersionUID = -2215843405938147526L;
+	
+	/**
+	 * 运算。
+	 */
+	enum Operation {
+		/** -x */
+		NEGATE,
+		/** x + y */
+		ADD,
+		/** x + n */
+		ADD_INT,
+		/** x - y */
+		SUBTRACT,
+		/** x * y */
+		MULTIPLY,
+		/** x * n */
+		MULTIPLY_INT,
+		/** x / n */
+		DIVIDE_INT,
+		/** x<sup>n</sup>，n 不小于 0 */
+		POW,
+		/** 1 / x */
+		RECIPROCAL
+	}
+	
+	private final Operation operation;
+	
+	private final InfiniteNonRecurringDecimal left;
+	
+	/** 两个无理数之间的运算的第二个操作数，否则为 {@code null} */
+	private final InfiniteNonRecurringDecimal right;
+	
+	/** 与整数之间的运算的整数 */
+	private final long operand;
+	
+	DerivedDecimal(Operation operation, InfiniteNonRecurringDecimal left, InfiniteNonRecurringDecimal right) {
+		this(operation, left, right, 0L);
+	}
+	
+	DerivedDecimal(Operation operation, InfiniteNonRecurringDecimal left, long operand) {
+		this(operation, left, null, operand);
+	}
+	
+	private DerivedDecimal(Operation operation, InfiniteNonRecurringDecimal left, 
+			InfiniteNonRecurringDecimal right, long operand) {
+		this.operation = operation;
+		this.left      = Objects.requireNonNull(left);
+		this.right     = right;
+		this.operand   = operand;
+	}
+	
+	@Override
+	protected BigDecimal approximate(int scale) {
+		switch (operation) {
+		case NEGATE:
+			return left.approximate(scale).negate();
+		case ADD:
+			// 两个操作数的误差都小于 2 * 10^-(scale + 1)
+			return truncate(left, scale + 1).add(truncate(right, scale + 1));
+		case SUBTRACT:
+			return truncate(left, scale + 1).subtract(truncate(right, scale + 1));
+		case ADD_INT:
+			return truncate(left, scale + 1).add(BigDecimal.valueOf(operand));
+		case MULTIPLY: {
+			// |xy - ab| <= |x||y - b| + |b||x - a| < 2(|x| + |y| + 1) * 10^-t，乘积截断到 t 位再加上 10^-t
+			final BigDecimal bound = bound(left).add(bound(right)).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(3L));
+			final int t = scale + 1 + digits(bound);
+			return truncate(left, t).multiply(truncate(right, t)).setScale(t, RoundingMode.DOWN);
+		}
+		case MULTIPLY_INT: {
+			final int t = scale + 1 + digits(BigDecimal.valueOf(operand).abs().multiply(BigDecimal.valueOf(2L)));
+			return truncate(left, t).multiply(BigDecimal.valueOf(operand));
+		}
+		case DIVIDE_INT: {
+			final int t = scale + 1;
+			return truncate(left, t).divide(BigDecimal.valueOf(operand), t, RoundingMode.DOWN);
+		}
+		case POW:
+			return power(scale);
+		default:
+			return inverse(scale);
+		}
+	}
+	
+	/**
+	 * |x<sup>n</sup> - a<sup>n</sup>| &le; n M<sup>n-1</sup> |x - a|，其中 M 不小于 |x| 与 |a|。
+	 */
+	private BigDecimal power(int scale) {
+		if (operand == 0L) {
+			return BigDecimal.ONE.setScale(scale);
+		}
+		final int        n = Math.toIntExact(operand);
+		final BigInteger m = bound(left).toBigInteger().add(BigInteger.ONE);
+		final int        t = scale + 1 + digits(new BigDecimal(m.pow(n - 1).multiply(BigInteger.valueOf(2L * n)).add(BigInteger.TWO)));
+		// 乘方的相对误差不超过结果的两个单位，结果的整数部分不超过 m^n 的位数
+		final MathContext mc = new MathContext(t + 1 + digits(new BigDecimal(m.pow(n))));
+		return truncate(left, t).pow(n, mc).setScale(t, RoundingMode.DOWN);
+	}
+	
+	/**
+	 * 先找到 |x| 的下界 L，|1/x - 1/a| = |x - a| / (|x||a|) &le; 4 * 10<sup>-t</sup> / L<sup>2</sup>。
+	 */
+	private BigDecimal inverse(int scale) {
+		BigDecimal lower = null;
+		for (int k = GUARD_DIGITS; lower == null; k <<= 1) {
+			if (k > PRECISION_LIMIT) {
+				throw new MathZeroException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+			}
+			final BigDecimal a = left.approximate(k).abs();
+			if (a.compareTo(BigDecimal.valueOf(2L).movePointLeft(k)) >= 0) {
+				lower = a.subtract(BigDecimal.ONE.movePointLeft(k));
+			}
+		}
+		final BigDecimal bound = BigDecimal.valueOf(4L).divide(lower.multiply(lower), 0, RoundingMode.UP).add(BigDecimal.ONE);
+		final int t = scale + 1 + digits(bound);
+		return BigDecimal.ONE.divide(truncate(left, t), t, RoundingMode.DOWN);
+	}
+	
+	/**
+	 * 截断到 {@code scale} 位的近似值，误差小于 2 * 10<sup>-scale</sup>。
+	 */
+	private static BigDecimal truncate(InfiniteNonRecurringDecimal x, int scale) {
+		return x.approximate(scale).setScale(scale, RoundingMode.DOWN);
+	}
+	
+	/**
+	 * 大于 |x| 的数。
+	 */
+	private static BigDecimal bound(InfiniteNonRecurringDecimal x) {
+		return x.approximate(0).abs().add(BigDecimal.ONE);
+	}
+	
+	/**
+	 * 使 {@code x < 10^n} 的最小的非负整数 n。
+	 */
+	private static int digits(BigDecimal x) {
+		return x.signum() == 0 ? 0 : Math.max(x.precision() - x.scale(), 0);
+	}
+	
+	@Override
+	public InfiniteNonRecurringDecimal negate() {
+		return operation == Operation.NEGATE ? left : super.negate();
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, left, right, operand);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof DerivedDecimal))
+			return false;
+		final DerivedDecimal other = (DerivedDecimal) obj;
+		return operation == other.operation && operand == other.operand 
+				&& left.equals(other.left) && Objects.equals(right, other.right);
+	}
+
+	/**
+	 * 返回表达式，例如 {@code π+e}、{@code (π+e)*2}。
+	 */
+	@Override
+	public String toString() {
+		final String x = operand(left);
+		switch (operation) {
+		case NEGATE:
+			return "-" + x;
+		case ADD:
+			return x + "+" + operand(right);
+		case SUBTRACT:
+			return x + "-" + operand(right);
+		case ADD_INT:
+			return operand < 0L ? x + "-" + -operand : x + "+" + operand;
+		case MULTIPLY:
+			return x + "*" + operand(right);
+		case MULTIPLY_INT:
+			return x + "*" + (operand < 0L ? "(" + operand + ")" : operand);
+		case DIVIDE_INT:
+			return x + "/" + (operand < 0L ? "(" + operand + ")" : operand);
+		case POW:
+			return x + "^" + operand;
+		default:
+			return "1/" + x;
+		}
+	}
+	
+	private static String operand(InfiniteNonRecurringDecimal x) {
+		return x instanceof DerivedDecimal ? x.toParenthesisString() : x.toString();
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import java.math.BigDecimal;
+
+/**
+ * <p>
+ * 逐步提高精度的无理数近似值的生成器。
+ * 
+ * <p>
+ * 生成器保存已经计算出的最精确的近似值，精度不超过它的请求直接返回这个值；需要更高的精度时，
+ * 由子类在已有的计算结果（级数的部分和、迭代的中间值等）的基础上继续计算，而不是从头开始。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+abstract class DigitGenerator {
+	
+	/** 已经计算出的最精确的近似值 */
+	private BigDecimal cached;
+	
+	/**
+	 * 返回误差小于 10<sup>-scale</sup> 的近似值，标度不小于 {@code scale}。
+	 * 
+	 * @param  scale 小数点之后的位数
+	 * @return       近似值
+	 */
+	final synchronized BigDecimal approximate(int scale) {
+		BigDecimal value = cached;
+		if (value == null || value.scale() < scale) {
+			cached = value = extend(scale);
+		}
+		return value;
+	}
+	
+	/**
+	 * 计算误差小于 10<sup>-scale</sup>、标度不小于 {@code scale} 的近似值，调用时已经持有生成器的锁。
+	 * 
+	 * @param  scale 小数点之后的位数，大于之前所有调用的值
+	 * @return       近似值
+	 */
+	abstract BigDecimal extend(int scale);
+
+}
@@ -16,12 +16,32 @@
 
 package com.github.math.number.decimal;
 
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathZeroException;
 import com.github.math.number.IrrationalNumber;
+import com.github.math.number.decimal.DerivedDecimal.Operation;
+import com.github.math.number.fraction.Fractional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.UnaryOperator;
 
 /**
  * 无限不循环小数(英文名：infinite non-repeating decimals )就是小数点后有无数位，
  * 但和无限循环小数不同，它没有周期性的重复，换句话说就是没有规律，所以数学上又称无限不循环小数叫
  * 做无理数（如圆周率π,它就是一个无理数）,把其他一切实数都称为有理数。
+ * 
+ * <p>
+ * 子类只需要实现 {@link #approximate(int)}，给出任意精度的近似值。由于值不可能恰好落在两个舍入结果的
+ * 分界处，{@link #bigDecimalValue(MathContext)} 先用几位额外的数字计算，如果误差范围的两端舍入的结果
+ * 不同，就把额外的位数加倍后重新计算，因此总能得到正确舍入的结果。比较大小也按同样的方式逐步提高精度。
+ * 
+ * <p>
+ * 四则运算与乘方不立即计算，而是返回保存了运算与操作数的对象，需要近似值时再由操作数的近似值计算。
+ * 运算的结果可能恰好是有理数，例如 &radic;2 &times; &radic;2 = 2、&pi; - &pi; = 0，这时无法在有限的位数之内
+ * 确定舍入的方向或符号：额外的位数超过 {@value #PRECISION_LIMIT} 位之后，舍入时把近似值看作与它最接近的
+ * 较短的小数，比较大小与求符号时看作相等或零。
  *
  * @author 王帅
  *
@@ -30,4 +50,231 @@ public abstract class InfiniteNonRecurringDecimal
 	extends IrrationalNumber<InfiniteNonRecurringDecimal> {
 	// // The serialVersionUID of the class InfiniteNonRecurringDecimal.
 	private static final long serialVersionUID = -8265450176448718248L;
+	
+	/** 转换为 {@code double} 时使用的精度，比 {@code double} 能表示的位数多几位 */
+	private static final MathContext DOUBLE = new MathContext(20, RoundingMode.HALF_EVEN);
+	
+	/** 第一次计算时额外的位数 */
+	static final int GUARD_DIGITS = 4;
+	
+	/** 逐步提高精度时额外的位数的上限，超过时把结果看作有理数 */
+	static final int PRECISION_LIMIT = 1 << 10;
+	
+	/**
+	 * 返回误差小于 10<sup>-scale</sup> 的近似值，标度不小于 {@code scale}。
+	 * 
+	 * @param  scale 小数点之后的位数
+	 * @return       近似值
+	 */
+	protected abstract BigDecimal approximate(int scale);
+	
+	/**
+	 * 返回按照 {@code mc} 正确舍入的值。
+	 * 
+	 * @param  mc 精度与舍入模式
+	 * @return    舍入的结果
+	 * @exception MathArithmeticException 如果 {@code mc} 的精度为 0，即要求精确的结果
+	 * @exception ArithmeticException     如果舍入模式为 {@link RoundingMode#UNNECESSARY}
+	 */
+	public BigDecimal bigDecimalValue(MathContext mc) {
+		if (mc.getPrecision() == 0) {
+			throw new MathArithmeticException("无限不循环小数没有精确的十进制表示");
+		}
+		// 近似值的位数减去标度，即整数部分的位数，小于 1 的数为零或负数
+		final BigDecimal v = approximate(GUARD_DIGITS);
+		return round(mc.getPrecision() - v.precision() + v.scale(), x -> x.round(mc));
+	}
+	
+	/**
+	 * 在 {@code scale} 位之后再计算若干位，误差范围的两端经过 {@code rounding} 之后相等时返回。
+	 * 保存的近似值可能比所需的精度高得多，先截断到 s 位，误差小于 2 &times; 10<sup>-s</sup>，
+	 * 之后的两次舍入只需要去掉几位。
+	 */
+	private BigDecimal round(int scale, UnaryOperator<BigDecimal> rounding) {
+		for (int guard = GUARD_DIGITS; ; guard <<= 1) {
+			final int        s     = Math.max(scale, 0) + guard;
+			final BigDecimal v     = approximate(s).setScale(s, RoundingMode.DOWN);
+			if (guard > PRECISION_LIMIT) {
+				// 值很可能恰好是位数较少的小数，误差远小于去掉的这些位
+				return rounding.apply(v.setScale(s - (guard >> 1), RoundingMode.HALF_EVEN));
+			}
+			final BigDecimal error = BigDecimal.valueOf(2L).movePointLeft(s);
+			final BigDecimal lower = rounding.apply(v.subtract(error));
+			if (lower.compareTo(rounding.apply(v.add(error))) == 0) {
+				return lower;
+			}
+		}
+	}
+	
+	@Override
+	public int signum() {
+		for (int s = GUARD_DIGITS; s <= PRECISION_LIMIT; s <<= 1) {
+			final BigDecimal v = approximate(s);
+			if (v.abs().compareTo(BigDecimal.ONE.movePointLeft(s)) >= 0) {
+				return v.signum();
+			}
+		}
+		return 0;
+	}
+	
+	/**
+	 * 逐步提高精度，直到两个近似值的差超过误差的范围。超过 {@value #PRECISION_LIMIT} 位仍然不能区分时返回 0。
+	 */
+	@Override
+	public int compareTo(InfiniteNonRecurringDecimal o) {
+		if (equals(o)) {
+			return 0;
+		}
+		for (int s = GUARD_DIGITS << 2; s <= PRECISION_LIMIT; s <<= 1) {
+			final BigDecimal d = approximate(s).subtract(o.approximate(s));
+			if (d.abs().compareTo(BigDecimal.valueOf(2L).movePointLeft(s)) >= 0) {
+				return d.signum();
+			}
+		}
+		return 0;
+	}
+	
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+	
+	@Override
+	public long longValue() {
+		return round(0, x -> x.setScale(0, RoundingMode.DOWN)).longValue();
+	}
+	
+	@Override
+	public float floatValue() {
+		return bigDecimalValue(DOUBLE).floatValue();
+	}
+	
+	@Override
+	public double doubleValue() {
+		return bigDecimalValue(DOUBLE).doubleValue();
+	}
+	
+	/**
+	 * 无理数不是整数，总是抛出异常。
+	 * 
+	 * @exception MathArithmeticException 总是抛出
+	 */
+	@Override
+	public int intValueExact() throws ArithmeticException {
+		throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+	}
+	
+	/**
+	 * 无理数不是整数，总是抛出异常。
+	 * 
+	 * @exception MathArithmeticException 总是抛出
+	 */
+	@Override
+	public long longValueExact() throws ArithmeticException {
+		throw new MathArithmeticException("LocalizedFormats.NOT_INTEGER");
+	}
+	
+	@Override
+	public InfiniteNonRecurringDecimal abs() {
+		return signum() < 0 ? negate() : this;
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal min(InfiniteNonRecurringDecimal val) {
+		return compareTo(val) <= 0 ? this : val;
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal max(InfiniteNonRecurringDecimal val) {
+		return compareTo(val) >= 0 ? this : val;
+	}
+
+	/**
+	 * 返回 {@code this}<sup>e</sup>，指数为负数时为乘方的倒数。
+	 * 
+	 * @param  e 指数
+	 * @return   乘方
+	 */
+	@Override
+	public InfiniteNonRecurringDecimal pow(int e) {
+		if (e == 1) {
+			return this;
+		}
+		if (e >= 0) {
+			return new DerivedDecimal(Operation.POW, this, e);
+		}
+		return new DerivedDecimal(Operation.RECIPROCAL, new DerivedDecimal(Operation.POW, this, -(long) e), null);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal negate() {
+		return new DerivedDecimal(Operation.NEGATE, this, null);
+	}
+
+	/**
+	 * 返回倒数。值为零时（只可能是运算的结果），计算近似值时抛出 {@link MathZeroException}。
+	 * 
+	 * @return {@code 1 / this}
+	 */
+	@Override
+	public Fractional reciprocal() {
+		return new DerivedDecimal(Operation.RECIPROCAL, this, null);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal add(InfiniteNonRecurringDecimal val) {
+		return new DerivedDecimal(Operation.ADD, this, val);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal add(int i) {
+		return i == 0 ? this : new DerivedDecimal(Operation.ADD_INT, this, i);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal subtract(InfiniteNonRecurringDecimal val) {
+		return new DerivedDecimal(Operation.SUBTRACT, this, val);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal subtract(int i) {
+		return i == 0 ? this : new DerivedDecimal(Operation.ADD_INT, this, -(long) i);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal multiply(InfiniteNonRecurringDecimal val) {
+		return new DerivedDecimal(Operation.MULTIPLY, this, val);
+	}
+
+	@Override
+	public InfiniteNonRecurringDecimal multiply(int i) {
+		return i == 1 ? this : new DerivedDecimal(Operation.MULTIPLY_INT, this, i);
+	}
+
+	/**
+	 * 返回商。除数的值为零时（只可能是运算的结果），计算近似值时抛出 {@link MathZeroException}。
+	 * 
+	 * @param  val 除数
+	 * @return     {@code this / val}
+	 */
+	@Override
+	public Fractional divide(InfiniteNonRecurringDecimal val) {
+		return new DerivedDecimal(Operation.MULTIPLY, this, new DerivedDecimal(Operation.RECIPROCAL, val, null));
+	}
+
+	/**
+	 * 返回商。
+	 * 
+	 * @param  i 除数
+	 * @return   {@code this / i}
+	 * @exception MathZeroException 如果 {@code i == 0}
+	 */
+	@Override
+	public Fractional divide(int i) {
+		if (i == 0) {
+			throw new MathZeroException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		return new DerivedDecimal(Operation.DIVIDE_INT, this, i);
+	}
+	
 }
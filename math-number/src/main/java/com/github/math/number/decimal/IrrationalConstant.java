@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathNegativeException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * 可以计算到任意精度的常见无理数：圆周率 &pi;、自然常数 e、ln 2 以及非完全平方数的平方根。
+ * 
+ * <p>
+ * &pi; 使用 Chudnovsky 公式，每一项约增加 14 位；e 使用 &sum;1/k!；ln 2 使用
+ * 2&middot;artanh(1/3) = (2/3)&sum;1/((2k+1)&middot;9<sup>k</sup>)。三个级数都用二分法求和，
+ * 项数较多时并行计算。平方根用牛顿迭代，每一步把精度提高一倍。
+ * 
+ * <p>
+ * 每个实例保存已经计算出的结果。再次请求更高的精度时，级数只计算新增的项并与保存的部分和合并，
+ * 平方根从保存的结果开始迭代，都不会从头计算；请求较低的精度时直接舍入保存的结果。
+ * 例如先后计算 &pi; 的一万位与一百万位，第二次只计算一万位没有用到的项。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+public final class IrrationalConstant extends InfiniteNonRecurringDecimal {
+	// The serialVersionUID of the class IrrationalConstant.
+	private static final long serialVersionUID = 2634901762718305391L;
+	
+	/** 保存实例的平方根的被开方数的上限 */
+	private static final long CACHE_LIMIT = 1L << 10;
+	
+	private static final ConcurrentMap<Long, IrrationalConstant> SQUARE_ROOTS = new ConcurrentHashMap<>();
+	
+	/** Chudnovsky 公式中的 &radic;10005 */
+	private static final SquareRootGenerator SQRT_10005 = new SquareRootGenerator(10005L);
+	
+	/** 圆周率 &pi; */
+	public static final IrrationalConstant PI  = new IrrationalConstant("π", 0L, new Pi());
+	
+	/** 自然常数 e */
+	public static final IrrationalConstant E   = new IrrationalConstant("e", 0L, new Euler());
+	
+	/** 2 的自然对数 */
+	public static final IrrationalConstant LN2 = new IrrationalConstant("ln2", 0L, new Ln2());
+	
+	/** 符号 */
+	private final String symbol;
+	
+	/** 平方根的被开方数，其他常数为 0 */
+	private final long radicand;
+	
+	private final transient DigitGenerator generator;
+	
+	private IrrationalConstant(String symbol, long radicand, DigitGenerator generator) {
+		this.symbol    = symbol;
+		this.radicand  = radicand;
+		this.generator = generator;
+	}
+	
+	/**
+	 * 返回 &radic;{@code radicand}。被开方数不超过 {@value #CACHE_LIMIT} 时返回同一个实例，
+	 * 共享计算出的结果。
+	 * 
+	 * @param  radicand 被开方数
+	 * @return          平方根
+	 * @exception MathNegativeException        如果被开方数为负数
+	 * @exception MathIllegalArgumentException 如果被开方数是完全平方数，平方根不是无理数
+	 */
+	public static IrrationalConstant sqrt(long radicand) {
+		if (radicand < 0L) {
+			throw new MathNegativeException("被开方数");
+		}
+		final long root = BigInteger.valueOf(radicand).sqrt().longValue();
+		if (root * root == radicand) {
+			throw new MathIllegalArgumentException("完全平方数的平方根不是无理数：" + radicand);
+		}
+		if (radicand <= CACHE_LIMIT) {
+			return SQUARE_ROOTS.computeIfAbsent(radicand, IrrationalConstant::newSquareRoot);
+		}
+		return newSquareRoot(radicand);
+	}
+	
+	private static IrrationalConstant newSquareRoot(long radicand) {
+		return new IrrationalConstant("√" + radicand, radicand, new SquareRootGenerator(radicand));
+	}
+	
+	@Override
+	protected BigDecimal approximate(int scale) {
+		return generator.approximate(scale);
+	}
+	
+	/**
+	 * 反序列化时使用共享的实例，或者重新创建生成器。
+	 */
+	private Object readResolve() {
+		if (radicand != 0L) {
+			return sqrt(radicand);
+		}
+		switch (symbol) {
+		case "π":
+			return PI;
+		case "e":
+			return E;
+		default:
+			return LN2;
+		}
+	}
+	
+	@Override
+	public int hashCode() {
+		return symbol.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj == this || obj instanceof IrrationalConstant && symbol.equals(((IrrationalConstant) obj).symbol);
+	}
+
+	/**
+	 * 返回常数的符号，例如 {@code π}、{@code √2}，数值使用 {@link #bigDecimalValue(java.math.MathContext)}。
+	 */
+	@Override
+	public String toString() {
+		return symbol;
+	}
+	
+	/**
+	 * &pi; = 426880&radic;10005 / &sum;(-1)<sup>k</sup>(6k)!(13591409 + 545140134k) / ((3k)!(k!)<sup>3</sup>640320<sup>3k</sup>)。
+	 */
+	private static final class Pi extends BinarySplitting {
+		
+		private static final BigInteger A = BigInteger.valueOf(13591409L);
+		private static final BigInteger B = BigInteger.valueOf(545140134L);
+		
+		/** 640320<sup>3</sup> / 24 */
+		private static final BigInteger C3_OVER_24 = BigInteger.valueOf(10939058860032000L);
+		
+		private static final BigInteger FACTOR = BigInteger.valueOf(426880L);
+		
+		@Override
+		long terms(int scale) {
+			// 每一项约 14.18 位
+			return scale / 14L + 3L;
+		}
+		
+		@Override
+		BigInteger a(long k) {
+			return A.add(B.multiply(BigInteger.valueOf(k)));
+		}
+		
+		@Override
+		BigInteger b(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger p(long k) {
+			if (k == 0L) {
+				return BigInteger.ONE;
+			}
+			return BigInteger.valueOf(6L * k - 5L)
+					.multiply(BigInteger.valueOf(2L * k - 1L))
+					.multiply(BigInteger.valueOf(1L - 6L * k));
+		}
+		
+		@Override
+		BigInteger q(long k) {
+			if (k == 0L) {
+				return BigInteger.ONE;
+			}
+			final BigInteger n = BigInteger.valueOf(k);
+			return n.multiply(n).multiply(n).multiply(C3_OVER_24);
+		}
+		
+		@Override
+		BigDecimal value(Sum sum, int scale) {
+			// 426880Q/T ≈ π / √10005 ≈ 0.03，它的误差乘以 √10005 ≈ 100 之后仍小于 10^-(s + 1)
+			final int        s    = scale + 2;
+			final BigInteger x    = divide(FACTOR.multiply(sum.q), sum.t, BigInteger.ONE, s + 3);
+			final BigInteger root = SQRT_10005.approximate(s + 3).setScale(s + 3, RoundingMode.DOWN).unscaledValue();
+			return new BigDecimal(x.multiply(root), 2 * s + 6).setScale(s, RoundingMode.DOWN);
+		}
+		
+	}
+	
+	/**
+	 * e = &sum;1/k!。
+	 */
+	private static final class Euler extends BinarySplitting {
+		
+		@Override
+		long terms(int scale) {
+			// 余项小于 2/n!，取 n! > 4 * 10^scale
+			final double bound = scale + Math.log10(4.0);
+			double log = 0.0;
+			long   n   = 1L;
+			while (log <= bound) {
+				log += Math.log10(++n);
+			}
+			return n + 1L;
+		}
+		
+		@Override
+		BigInteger a(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger b(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger p(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger q(long k) {
+			return k == 0L ? BigInteger.ONE : BigInteger.valueOf(k);
+		}
+		
+		@Override
+		BigDecimal value(Sum sum, int scale) {
+			final int s = scale + 1;
+			return new BigDecimal(divide(sum.t, sum.q, BigInteger.ONE, s), s);
+		}
+		
+	}
+	
+	/**
+	 * ln 2 = (2/3)&sum;1/((2k+1)&middot;9<sup>k</sup>)。
+	 */
+	private static final class Ln2 extends BinarySplitting {
+		
+		private static final BigInteger NINE  = BigInteger.valueOf(9L);
+		private static final BigInteger THREE = BigInteger.valueOf(3L);
+		
+		@Override
+		long terms(int scale) {
+			// 余项小于 9^-n
+			return (long) ((scale + 1) / Math.log10(9.0)) + 1L;
+		}
+		
+		@Override
+		BigInteger a(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger b(long k) {
+			return BigInteger.valueOf(2L * k + 1L);
+		}
+		
+		@Override
+		BigInteger p(long k) {
+			return BigInteger.ONE;
+		}
+		
+		@Override
+		BigInteger q(long k) {
+			return k == 0L ? BigInteger.ONE : NINE;
+		}
+		
+		@Override
+		BigDecimal value(Sum sum, int scale) {
+			final int s = scale + 1;
+			return new BigDecimal(divide(sum.t.shiftLeft(1), sum.b, THREE.multiply(sum.q), s), s);
+		}
+		
+	}
+
+}
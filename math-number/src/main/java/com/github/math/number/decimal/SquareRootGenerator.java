@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * 平方根的近似值，保存 &lfloor;&radic;n &middot; 10<sup>s</sup>&rfloor;。
+ * 
+ * <p>
+ * 提高精度时以已有的结果为初值做牛顿迭代，并且每一步只把精度提高一倍：精度为 s 的结果乘以
+ * 10<sup>s</sup> 之后已经有大约 s 位正确的数字，一两次迭代就能得到精度为 2s 的结果。
+ * 除法的位数逐步翻倍，总的计算量只相当于几次最终精度的除法。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+final class SquareRootGenerator extends DigitGenerator {
+	
+	/** 被开方数 */
+	private final BigInteger radicand;
+	
+	/** &lfloor;&radic;n &middot; 10<sup>scale</sup>&rfloor; */
+	private BigInteger root;
+	
+	private int scale;
+	
+	SquareRootGenerator(long radicand) {
+		this.radicand = BigInteger.valueOf(radicand);
+		this.root     = this.radicand.sqrt();
+	}
+	
+	@Override
+	BigDecimal extend(int target) {
+		BigInteger x = root;
+		int        s = scale;
+		while (s < target) {
+			final int next = (int) Math.min(target, Math.max(2L * s, s + 16L));
+			// (x + 1) * 10^(next - s) 大于 √n * 10^next，牛顿迭代从上方单调地收敛
+			x = sqrt(radicand.multiply(BigInteger.TEN.pow(2 * next)), 
+					x.add(BigInteger.ONE).multiply(BigInteger.TEN.pow(next - s)));
+			s = next;
+		}
+		root  = x;
+		scale = s;
+		return new BigDecimal(x, s);
+	}
+	
+	/**
+	 * 从大于等于 &lfloor;&radic;n&rfloor; 的初值 {@code x} 开始迭代，返回 &lfloor;&radic;n&rfloor;。
+	 */
+	private static BigInteger sqrt(BigInteger n, BigInteger x) {
+		for (;;) {
+			final BigInteger y = x.add(n.divide(x)).shiftRight(1);
+			if (y.compareTo(x) >= 0) {
+				return x;
+			}
+			x = y;
+		}
+	}
+
+}
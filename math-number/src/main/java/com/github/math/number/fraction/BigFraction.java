@@ -16,16 +16,31 @@
 
 package com.github.math.number.fraction;
 
+import com.github.math.SuperMath;
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathZeroException;
 import com.github.math.number.BigArithmetic;
 import com.github.math.number.RationalNumber;
+import com.github.math.utils.MathUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
 
 /**
+ * <p>
+ * 任意精度的分数。
  * 
+ * <p>
+ * 分子与分母在 {@code long} 的范围之内时，直接以 {@code long} 保存，
+ * 运算时使用带溢出检查的 {@code long} 运算，不创建任何 {@link BigInteger}；
+ * 只有在运算溢出时才改用 {@link BigInteger} 计算，结果重新回到 {@code long} 的范围之内时，
+ * 又会以 {@code long} 保存。
  * 
- * 
+ * <p>
+ * 分数总是约分的，且分母总是正数，因此每个值只有一种表示，可以直接比较字段。
  * 
  * @author 王帅
  */
@@ -35,199 +50,606 @@ public final class BigFraction
 	// The serialVersionUID of the class BigFraction.
 	private static final long serialVersionUID = 6946764429385049387L;
 
-	public BigFraction(long one, long value) {
-		// TODO Auto-generated constructor stub
-	}
-
+	/** 分数： "0" */
+	public static final BigFraction ZERO = new BigFraction(0L, 1L, null, null);
+
+	/** 分数： "1" */
+	public static final BigFraction ONE = new BigFraction(1L, 1L, null, null);
+
+	/** 分数： "&minus;1" */
+	public static final BigFraction MINUS_ONE = new BigFraction(-1L, 1L, null, null);
+
+	/** 分数的分子，{@link #bigNumerator} 不为 {@code null} 时无意义 */
+	private final long numerator;
+	/** 分数的分母，{@link #bigDenominator} 不为 {@code null} 时无意义 */
+	private final long denominator;
+	/** 超出 {@code long} 范围时的分子 */
+	private final BigInteger bigNumerator;
+	/** 超出 {@code long} 范围时的分母 */
+	private final BigInteger bigDenominator;
+
+	/**
+	 * <p>
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 */
+	public BigFraction(long num, long den) {
+		this(valueOf(num, den));
+	}
+
+	/**
+	 * <p>
+	 * 由指定的 {@code double} 创建一个分数，使用 {@link BigDecimal#valueOf(double)}
+	 * 得到的十进制表示，因此 {@code 0.1} 对应的是 {@code 1/10}。
+	 * 
+	 * @param value 数值
+	 * @exception com.github.math.exception.MathIllegalArgumentException 如果数值为 {@code NaN} 或无穷大
+	 */
 	public BigFraction(double value) {
-		// TODO Auto-generated constructor stub
+		this(valueOf(value));
 	}
 
+	/**
+	 * <p>
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 */
 	public BigFraction(BigInteger num, BigInteger den) {
-		// TODO Auto-generated constructor stub
+		this(valueOf(num, den));
+	}
+
+	private BigFraction(BigFraction val) {
+		this(val.numerator, val.denominator, val.bigNumerator, val.bigDenominator);
+	}
+
+	private BigFraction(long num, long den, BigInteger bigNum, BigInteger bigDen) {
+		this.numerator      = num;
+		this.denominator    = den;
+		this.bigNumerator   = bigNum;
+		this.bigDenominator = bigDen;
+	}
+
+	/**
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return    约分之后的分数
+	 */
+	public static BigFraction valueOf(long num, long den) {
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+			// 取反会溢出
+			return valueOf(BigInteger.valueOf(num), BigInteger.valueOf(den));
+		}
+		if (den < 0L) {
+			num = -num;
+			den = -den;
+		}
+		final long gcd = SuperMath.gcd(num, den);
+		return reduced(num / gcd, den / gcd);
+	}
+
+	/**
+	 * 由指定的整数创建一个分数。
+	 * 
+	 * @param num 整数
+	 * @return    分数
+	 */
+	public static BigFraction valueOf(long num) {
+		return reduced(num, 1L);
+	}
+
+	/**
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return    约分之后的分数
+	 */
+	public static BigFraction valueOf(BigInteger num, BigInteger den) {
+		if (den.signum() == 0) {
+			throw new MathZeroException("LocalizedFormats.DENOMINATOR");
+		}
+		if (den.signum() < 0) {
+			num = num.negate();
+			den = den.negate();
+		}
+		final BigInteger gcd = num.gcd(den);
+		if (!gcd.equals(BigInteger.ONE)) {
+			num = num.divide(gcd);
+			den = den.divide(gcd);
+		}
+		return reduced(num, den);
+	}
+
+	/**
+	 * 由指定的小数创建一个分数，结果与小数的值完全相等。
+	 * 
+	 * @param val 小数
+	 * @return    分数
+	 */
+	public static BigFraction valueOf(BigDecimal val) {
+		final int scale = val.scale();
+		if (scale <= 0) {
+			return reduced(val.toBigIntegerExact(), BigInteger.ONE);
+		}
+		return valueOf(val.unscaledValue(), BigInteger.TEN.pow(scale));
+	}
+
+	/**
+	 * 由指定的 {@code double} 创建一个分数。
+	 * 
+	 * @param val 数值
+	 * @return    分数
+	 * @see #BigFraction(double)
+	 */
+	public static BigFraction valueOf(double val) {
+		MathUtils.checkDouble(val, "LocalizedFormats.NAN_OR_INFINITY");
+		return valueOf(BigDecimal.valueOf(val));
+	}
+
+	/**
+	 * 创建一个已经约分且分母为正数的分数。
+	 */
+	static BigFraction reduced(long num, long den) {
+		if (num == 0L) {
+			return ZERO;
+		}
+		if (num == Long.MIN_VALUE) {
+			return new BigFraction(0L, 0L, BigInteger.valueOf(num), BigInteger.valueOf(den));
+		}
+		return new BigFraction(num, den, null, null);
+	}
+
+	/**
+	 * 创建一个已经约分且分母为正数的分数，在 {@code long} 的范围之内时以 {@code long} 保存。
+	 */
+	static BigFraction reduced(BigInteger num, BigInteger den) {
+		if (fits(num) && fits(den)) {
+			return reduced(num.longValue(), den.longValue());
+		}
+		return new BigFraction(0L, 0L, num, den);
+	}
+
+	/**
+	 * 是否在 {@code long} 的范围之内，且不是 {@link Long#MIN_VALUE}。
+	 */
+	private static boolean fits(BigInteger val) {
+		return val.bitLength() < Long.SIZE && val.longValue() != Long.MIN_VALUE;
+	}
+
+	/**
+	 * 分子与分母是否以 {@code long} 保存。
+	 * 
+	 * @return 如果以 {@code long} 保存则返回 {@code true}
+	 */
+	boolean isSmall() {
+		return bigNumerator == null;
+	}
+
+	public BigInteger getNumerator() {
+		return isSmall() ? BigInteger.valueOf(numerator) : bigNumerator;
+	}
+
+	public BigInteger getDenominator() {
+		return isSmall() ? BigInteger.valueOf(denominator) : bigDenominator;
 	}
 
 	@Override
 	public BigFraction abs() {
-		// TODO Auto-generated method stub
-		return null;
+		return signum() >= 0 ? this : negate();
 	}
 
 	@Override
 	public BigFraction pow(int e) {
-		// TODO Auto-generated method stub
-		return null;
+		if (e == 0) {
+			return ONE;
+		}
+		if (e < 0) {
+			if (e == Integer.MIN_VALUE) {
+				return pow(e / 2).pow(2);
+			}
+			return reciprocal().pow(-e);
+		}
+		// 分子与分母互质，因此它们的幂也互质，不需要约分
+		if (isSmall()) {
+			try {
+				return reduced(MathUtils.powAndCheck(numerator, e), MathUtils.powAndCheck(denominator, e));
+			} catch (ArithmeticException ex) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return reduced(getNumerator().pow(e), getDenominator().pow(e));
+	}
+
+	@Override
+	public BigFraction pow(BigInteger val) {
+		if (val.bitLength() < Integer.SIZE) {
+			return pow(val.intValue());
+		}
+		// 只有 0 与 ±1 的幂可以表示
+		if (isSmall() && denominator == 1L && (numerator == 0L || numerator == 1L || numerator == -1L)) {
+			if (numerator == 0L && val.signum() < 0) {
+				throw new MathZeroException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+			}
+			return numerator == -1L && !val.testBit(0) ? ONE : this;
+		}
+		throw new MathArithmeticException("指数太大：" + val);
+	}
+
+	@Override
+	public BigFraction pow(long lng) {
+		if (lng == (int) lng) {
+			return pow((int) lng);
+		}
+		return pow(BigInteger.valueOf(lng));
 	}
 
 	@Override
 	public BigFraction min(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		return this.compareTo(val) < 0 ? this : val;
 	}
 
 	@Override
 	public BigFraction max(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		return this.compareTo(val) > 0 ? this : val;
 	}
 
 	@Override
 	public BigFraction negate() {
-		// TODO Auto-generated method stub
-		return null;
+		if (isSmall()) {
+			return reduced(-numerator, denominator);
+		}
+		return reduced(bigNumerator.negate(), bigDenominator);
 	}
 
 	@Override
-	public Fractional reciprocal() {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction reciprocal() {
+		final int signum = signum();
+		if (signum == 0) {
+			throw new MathZeroException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		if (isSmall()) {
+			return signum > 0 ? reduced(denominator, numerator) : reduced(-denominator, -numerator);
+		}
+		return signum > 0 ? reduced(bigDenominator, bigNumerator)
+						  : reduced(bigDenominator.negate(), bigNumerator.negate());
 	}
 
 	@Override
 	public BigFraction add(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.signum() == 0) {
+			return this;
+		}
+		if (signum() == 0) {
+			return val;
+		}
+		if (isSmall() && val.isSmall()) {
+			try {
+				return add(numerator, denominator, val.numerator, val.denominator);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return add(getNumerator(), getDenominator(), val.getNumerator(), val.getDenominator());
 	}
 
 	@Override
 	public BigFraction add(int i) {
-		// TODO Auto-generated method stub
-		return null;
+		return add((long) i);
+	}
+
+	@Override
+	public BigFraction add(long lng) {
+		if (isSmall()) {
+			try {
+				// gcd(a + ib, b) = gcd(a, b) = 1，不需要约分
+				return reduced(Math.addExact(numerator, Math.multiplyExact(lng, denominator)), denominator);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return addBig(BigInteger.valueOf(lng));
+	}
+
+	@Override
+	public BigFraction add(BigInteger val) {
+		return fits(val) ? add(val.longValue()) : addBig(val);
+	}
+
+	private BigFraction addBig(BigInteger val) {
+		final BigInteger den = getDenominator();
+		return reduced(getNumerator().add(val.multiply(den)), den);
 	}
 
 	@Override
 	public BigFraction subtract(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.signum() == 0) {
+			return this;
+		}
+		if (signum() == 0) {
+			return val.negate();
+		}
+		if (isSmall() && val.isSmall()) {
+			try {
+				// 以 long 保存的分子不是 Long#MIN_VALUE，取反不会溢出
+				return add(numerator, denominator, -val.numerator, val.denominator);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return add(getNumerator(), getDenominator(), val.getNumerator().negate(), val.getDenominator());
 	}
 
 	@Override
 	public BigFraction subtract(int i) {
-		// TODO Auto-generated method stub
-		return null;
+		return subtract((long) i);
 	}
 
 	@Override
-	public BigFraction multiply(int i) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction subtract(long lng) {
+		if (lng == Long.MIN_VALUE) {
+			return subtract(BigInteger.valueOf(lng));
+		}
+		return add(-lng);
 	}
 
 	@Override
-	public BigFraction multiply(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction subtract(BigInteger val) {
+		return add(val.negate());
 	}
 
 	@Override
-	public Fractional divide(BigFraction val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction multiply(BigFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (signum() == 0 || val.signum() == 0) {
+			return ZERO;
+		}
+		if (isSmall() && val.isSmall()) {
+			try {
+				return multiply(numerator, denominator, val.numerator, val.denominator);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return multiply(getNumerator(), getDenominator(), val.getNumerator(), val.getDenominator());
 	}
 
 	@Override
-	public Fractional divide(int i) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction multiply(int i) {
+		return multiply((long) i);
 	}
 
 	@Override
-	public int signum() {
-		// TODO Auto-generated method stub
-		return 0;
+	public BigFraction multiply(long lng) {
+		if (lng == 0L || signum() == 0) {
+			return ZERO;
+		}
+		if (isSmall()) {
+			try {
+				return multiply(numerator, denominator, lng, 1L);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return multiply(getNumerator(), getDenominator(), BigInteger.valueOf(lng), BigInteger.ONE);
 	}
 
 	@Override
-	public BigFraction pow(BigInteger val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction multiply(BigInteger val) {
+		if (fits(val)) {
+			return multiply(val.longValue());
+		}
+		return multiply(getNumerator(), getDenominator(), val, BigInteger.ONE);
 	}
 
 	@Override
-	public BigFraction add(BigInteger val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction divide(BigFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.signum() == 0) {
+			throw new MathArithmeticException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		return multiply(val.reciprocal());
 	}
 
 	@Override
-	public BigFraction subtract(BigInteger val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction divide(int i) {
+		return divide((long) i);
 	}
 
 	@Override
-	public BigFraction multiply(BigInteger val) {
-		// TODO Auto-generated method stub
-		return null;
+	public BigFraction divide(long lng) {
+		if (lng == 0L) {
+			throw new MathArithmeticException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		if (signum() == 0) {
+			return ZERO;
+		}
+		if (isSmall() && lng != Long.MIN_VALUE) {
+			try {
+				return lng > 0L ? multiply(numerator, denominator, 1L, lng)
+								: multiply(numerator, denominator, -1L, -lng);
+			} catch (ArithmeticException e) {
+				// 溢出，改用 BigInteger
+			}
+		}
+		return valueOf(getNumerator(), getDenominator().multiply(BigInteger.valueOf(lng)));
 	}
 
 	@Override
 	public BigFraction divide(BigInteger val) {
-		// TODO Auto-generated method stub
-		return null;
+		if (val.signum() == 0) {
+			throw new MathArithmeticException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		if (fits(val)) {
+			return divide(val.longValue());
+		}
+		return valueOf(getNumerator(), getDenominator().multiply(val));
+	}
+
+	/**
+	 * a/b + c/d，所有参数都以 {@code long} 表示，溢出时抛出 {@link ArithmeticException}。
+	 * 算法见 Knuth《计算机程序设计艺术》第二卷 4.5.1 节，中间结果尽可能小。
+	 */
+	private static BigFraction add(long a, long b, long c, long d) {
+		final long g = SuperMath.gcd(b, d);
+		if (g == 1L) {
+			return reduced(Math.addExact(Math.multiplyExact(a, d), Math.multiplyExact(c, b)),
+						   Math.multiplyExact(b, d));
+		}
+		final long s = b / g;
+		final long t = Math.addExact(Math.multiplyExact(a, d / g), Math.multiplyExact(c, s));
+		if (t == 0L) {
+			return ZERO;
+		}
+		final long g2 = SuperMath.gcd(t, g);
+		return reduced(t / g2, Math.multiplyExact(s, d / g2));
+	}
+
+	private static BigFraction add(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+		return valueOf(a.multiply(d).add(c.multiply(b)), b.multiply(d));
+	}
+
+	/**
+	 * a/b &times; c/d，其中 b、d 都是正数，溢出时抛出 {@link ArithmeticException}。
+	 * 先交叉约分再相乘，结果不需要再次约分。
+	 */
+	private static BigFraction multiply(long a, long b, long c, long d) {
+		final long g1 = SuperMath.gcd(a, d);
+		final long g2 = SuperMath.gcd(c, b);
+		return reduced(Math.multiplyExact(a / g1, c / g2), Math.multiplyExact(b / g2, d / g1));
+	}
+
+	private static BigFraction multiply(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+		return valueOf(a.multiply(c), b.multiply(d));
+	}
+
+	@Override
+	public int signum() {
+		return isSmall() ? Long.signum(numerator) : bigNumerator.signum();
 	}
 
 	@Override
 	public int intValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		return (int) longValue();
 	}
 
 	@Override
 	public long longValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		if (isSmall()) {
+			return numerator / denominator;
+		}
+		return bigNumerator.divide(bigDenominator).longValue();
 	}
 
 	@Override
 	public float floatValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		return (float) doubleValue();
 	}
 
 	@Override
 	public double doubleValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		// 分子与分母都能精确地转换为 double 时，一次除法的结果是正确舍入的
+		if (isSmall() && Math.abs(numerator) < (1L << 53) && denominator < (1L << 53)) {
+			return (double) numerator / (double) denominator;
+		}
+		return bigDecimalValue(new MathContext(20)).doubleValue();
+	}
+
+	/**
+	 * 转换为指定精度的小数。
+	 * 
+	 * @param mc 精度与舍入模式
+	 * @return   小数
+	 */
+	public BigDecimal bigDecimalValue(MathContext mc) {
+		return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), mc);
+	}
+
+	/**
+	 * 转换为指定小数位数的小数。
+	 * 
+	 * @param scale        小数位数
+	 * @param roundingMode 舍入模式，取值与 {@link RoundingMode#valueOf(int)} 相同
+	 * @return             小数
+	 */
+	public BigDecimal bigDecimalValue(int scale, int roundingMode) {
+		return bigDecimalValue(scale, RoundingMode.valueOf(roundingMode));
+	}
+
+	/**
+	 * 转换为指定小数位数的小数。
+	 * 
+	 * @param scale        小数位数
+	 * @param roundingMode 舍入模式
+	 * @return             小数
+	 */
+	public BigDecimal bigDecimalValue(int scale, RoundingMode roundingMode) {
+		return new BigDecimal(getNumerator()).divide(new BigDecimal(getDenominator()), scale, roundingMode);
 	}
 
 	@Override
 	public int hashCode() {
-		// TODO Auto-generated method stub
-		return 0;
+		if (isSmall()) {
+			return 31 * Long.hashCode(denominator) + Long.hashCode(numerator);
+		}
+		return 31 * bigDenominator.hashCode() + bigNumerator.hashCode();
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		// TODO Auto-generated method stub
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof BigFraction) {
+			final BigFraction rhs = (BigFraction) obj;
+			// 每个值只有一种表示
+			if (isSmall()) {
+				return rhs.isSmall() && numerator == rhs.numerator && denominator == rhs.denominator;
+			}
+			return bigNumerator.equals(rhs.bigNumerator) && bigDenominator.equals(rhs.bigDenominator);
+		}
 		return false;
 	}
 
 	@Override
 	public String toString() {
-		// TODO Auto-generated method stub
-		return null;
+		if (isSmall()) {
+			return denominator == 1L ? String.valueOf(numerator) : numerator + " / " + denominator;
+		}
+		return bigDenominator.equals(BigInteger.ONE) ? bigNumerator.toString() : bigNumerator + " / " + bigDenominator;
 	}
 
 	@Override
 	public int compareTo(BigFraction o) {
-		// TODO Auto-generated method stub
-		return 0;
-	}
-
-	public BigDecimal bigDecimalValue(int scale, int roundingMode) {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	public BigInteger getNumerator() {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	public BigInteger getDenominator() {
-		// TODO Auto-generated method stub
-		return null;
+		final int s = signum();
+		final int t = o.signum();
+		if (s != t) {
+			return Integer.compare(s, t);
+		}
+		if (s == 0) {
+			return 0;
+		}
+		if (isSmall() && o.isSmall()) {
+			// 以 128 位整数比较交叉相乘的结果
+			final long hi1 = Math.multiplyHigh(numerator, o.denominator);
+			final long hi2 = Math.multiplyHigh(o.numerator, denominator);
+			if (hi1 != hi2) {
+				return Long.compare(hi1, hi2);
+			}
+			return Long.compareUnsigned(numerator * o.denominator, o.numerator * denominator);
+		}
+		return getNumerator().multiply(o.getDenominator())
+				.compareTo(o.getNumerator().multiply(getDenominator()));
 	}
 
 }
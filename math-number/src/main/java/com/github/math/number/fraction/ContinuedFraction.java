@@ -0,0 +1,385 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.fraction;
+
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.utils.MathUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * 有理数的简单连分数展开 [a<sub>0</sub>; a<sub>1</sub>, a<sub>2</sub>, &hellip;]，用于把浮点数转换为分数。
+ * 
+ * <p>
+ * {@code double} 与 {@link BigDecimal} 都先转换为与其值完全相等的分数（{@code double} 是二进制小数），
+ * 之后的展开都是精确的整数运算，因此精度足够时可以得到原来的值。展开的步数与分母的位数成正比，
+ * 分子与分母在 {@code long} 的范围之内时只使用 {@code long} 运算。
+ * 
+ * <pre>
+ * ContinuedFraction.valueOf(Math.PI).bestApproximation(1000) = 355 / 113
+ * ContinuedFraction.valueOf(0.1).approximation(1e-12)       = 1 / 10
+ * </pre>
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+public final class ContinuedFraction {
+
+	/** 分子，{@link #bigNumerator} 不为 {@code null} 时无意义 */
+	private final long numerator;
+	/** 分母，总是正数，{@link #bigDenominator} 不为 {@code null} 时无意义 */
+	private final long denominator;
+	/** 超出 {@code long} 范围时的分子 */
+	private final BigInteger bigNumerator;
+	/** 超出 {@code long} 范围时的分母 */
+	private final BigInteger bigDenominator;
+
+	private ContinuedFraction(long num, long den, BigInteger bigNum, BigInteger bigDen) {
+		this.numerator      = num;
+		this.denominator    = den;
+		this.bigNumerator   = bigNum;
+		this.bigDenominator = bigDen;
+	}
+
+	/**
+	 * 展开与 {@code value} 的值完全相等的分数，也就是 m&middot;2<sup>e</sup>。
+	 * 
+	 * @param value 数值
+	 * @return      连分数
+	 * @exception MathIllegalArgumentException 如果数值为 {@code NaN} 或无穷大
+	 */
+	public static ContinuedFraction valueOf(double value) {
+		MathUtils.checkDouble(value, "LocalizedFormats.NAN_OR_INFINITY");
+		final long bits = Double.doubleToRawLongBits(value);
+		int  exp = (int) ((bits >>> 52) & 0x7ffL);
+		long m   = bits & 0xfffffffffffffL;
+		if (exp == 0) {
+			// 非规格化数
+			exp = 1;
+		} else {
+			m |= 1L << 52;
+		}
+		if (m == 0L) {
+			return new ContinuedFraction(0L, 1L, null, null);
+		}
+		// value = m * 2^exp，去掉 m 的因子 2 之后分数已经约分
+		final int zeros = Long.numberOfTrailingZeros(m);
+		m >>= zeros;
+		exp += zeros - 1075;
+		if (bits < 0L) {
+			m = -m;
+		}
+		if (exp >= 0) {
+			if (Long.SIZE - Long.numberOfLeadingZeros(Math.abs(m)) + exp < Long.SIZE) {
+				return new ContinuedFraction(m << exp, 1L, null, null);
+			}
+			return new ContinuedFraction(0L, 0L, BigInteger.valueOf(m).shiftLeft(exp), BigInteger.ONE);
+		}
+		if (exp > -(Long.SIZE - 1)) {
+			return new ContinuedFraction(m, 1L << -exp, null, null);
+		}
+		return new ContinuedFraction(0L, 0L, BigInteger.valueOf(m), BigInteger.ONE.shiftLeft(-exp));
+	}
+
+	/**
+	 * 展开与 {@code value} 的值完全相等的分数。
+	 * 
+	 * @param value 小数
+	 * @return      连分数
+	 */
+	public static ContinuedFraction valueOf(BigDecimal value) {
+		return valueOf(BigFraction.valueOf(value));
+	}
+
+	/**
+	 * 展开指定的分数。
+	 * 
+	 * @param value 分数
+	 * @return      连分数
+	 */
+	public static ContinuedFraction valueOf(BigFraction value) {
+		final BigInteger num = value.getNumerator();
+		final BigInteger den = value.getDenominator();
+		if (fits(num) && fits(den)) {
+			return new ContinuedFraction(num.longValue(), den.longValue(), null, null);
+		}
+		return new ContinuedFraction(0L, 0L, num, den);
+	}
+
+	private static boolean fits(BigInteger val) {
+		return val.bitLength() < Long.SIZE;
+	}
+
+	private boolean isSmall() {
+		return bigNumerator == null;
+	}
+
+	/**
+	 * 返回连分数的值，与展开之前的值完全相等。
+	 * 
+	 * @return 分数
+	 */
+	public BigFraction value() {
+		if (isSmall()) {
+			return BigFraction.reduced(numerator, denominator);
+		}
+		return BigFraction.reduced(bigNumerator, bigDenominator);
+	}
+
+	/**
+	 * <p>
+	 * 按顺序返回连分数的渐近分数 p<sub>n</sub>/q<sub>n</sub>，每一项只在需要时计算，最后一项等于 {@link #value()}。
+	 * 
+	 * <p>
+	 * 渐近分数交替地位于精确值的两侧，与精确值的距离小于 1/q<sub>n</sub><sup>2</sup>。
+	 * 
+	 * @return 渐近分数组成的流
+	 */
+	public Stream<BigFraction> convergents() {
+		final Spliterator<BigFraction> spliterator = new Spliterators.AbstractSpliterator<BigFraction>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE) {
+
+			private BigInteger n = isSmall() ? BigInteger.valueOf(numerator) : bigNumerator;
+			private BigInteger d = isSmall() ? BigInteger.valueOf(denominator) : bigDenominator;
+			private BigInteger p0 = BigInteger.ZERO;
+			private BigInteger q0 = BigInteger.ONE;
+			private BigInteger p1 = BigInteger.ONE;
+			private BigInteger q1 = BigInteger.ZERO;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super BigFraction> action) {
+				if (d.signum() == 0) {
+					return false;
+				}
+				final BigInteger[] qr = floorDivide(n, d);
+				final BigInteger p2 = qr[0].multiply(p1).add(p0);
+				final BigInteger q2 = qr[0].multiply(q1).add(q0);
+				p0 = p1;
+				q0 = q1;
+				p1 = p2;
+				q1 = q2;
+				n  = d;
+				d  = qr[1];
+				// 渐近分数总是已经约分的
+				action.accept(BigFraction.reduced(p1, q1));
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	/**
+	 * 向下取整的除法，返回商与非负的余数，其中 {@code d} 为正数。
+	 */
+	private static BigInteger[] floorDivide(BigInteger n, BigInteger d) {
+		final BigInteger[] qr = n.divideAndRemainder(d);
+		if (qr[1].signum() < 0) {
+			qr[0] = qr[0].subtract(BigInteger.ONE);
+			qr[1] = qr[1].add(d);
+		}
+		return qr;
+	}
+
+	/**
+	 * <p>
+	 * 返回分母不超过 {@code maxDenominator} 的分数中最接近精确值的一个，距离相等时返回分母较小的一个。
+	 * 
+	 * <p>
+	 * 结果是某个渐近分数或两个相邻渐近分数之间的中间分数。
+	 * 
+	 * @param  maxDenominator 分母的最大值
+	 * @return                最佳有理逼近
+	 * @exception MathIllegalArgumentException 如果 {@code maxDenominator < 1}
+	 */
+	public BigFraction bestApproximation(long maxDenominator) {
+		if (maxDenominator < 1L) {
+			throw new MathIllegalArgumentException("分母的最大值必须为正数：" + maxDenominator);
+		}
+		if (isSmall()) {
+			return bestApproximation(numerator, denominator, 0L, 1L, 1L, 0L, maxDenominator);
+		}
+		// 渐近分数的分子不超过精确值的分子，因此分子在 long 的范围之内时，
+		// 余数回到 long 的范围之后就可以改用 long 计算
+		final boolean small = fits(bigNumerator);
+		final BigInteger max = BigInteger.valueOf(maxDenominator);
+		BigInteger n  = bigNumerator;
+		BigInteger d  = bigDenominator;
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		BigInteger a;
+		for (;;) {
+			if (small && fits(n) && fits(d)) {
+				return bestApproximation(n.longValue(), d.longValue(), p0.longValue(), q0.longValue(),
+						p1.longValue(), q1.longValue(), maxDenominator);
+			}
+			final BigInteger[] qr = floorDivide(n, d);
+			a = qr[0];
+			final BigInteger q2 = a.multiply(q1).add(q0);
+			if (q2.compareTo(max) > 0) {
+				break;
+			}
+			final BigInteger p2 = a.multiply(p1).add(p0);
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			n  = d;
+			d  = qr[1];
+			if (d.signum() == 0) {
+				return BigFraction.reduced(p1, q1);
+			}
+		}
+		final BigInteger k = max.subtract(q0).divide(q1);
+		// 当前的完全商 t = n / d，t >= 2k + q0 / q1 时渐近分数不比中间分数差
+		final BigInteger m = k.shiftLeft(1).multiply(q1).add(q0);
+		if (n.multiply(q1).compareTo(m.multiply(d)) >= 0) {
+			return BigFraction.reduced(p1, q1);
+		}
+		return BigFraction.reduced(k.multiply(p1).add(p0), k.multiply(q1).add(q0));
+	}
+
+	/**
+	 * {@link #bestApproximation(long)} 的 {@code long} 实现，从渐近分数 p0/q0、p1/q1 与余数 n、d 继续展开。
+	 * 渐近分数的分子不超过精确值的分子；分母可能超出 {@code long} 的范围，因此先用除法判断下一个分母
+	 * a * q1 + q0 是否超过 {@code max}，不超过时才计算乘积。
+	 */
+	private static BigFraction bestApproximation(long n, long d, long p0, long q0, long p1, long q1, long max) {
+		long a;
+		for (;;) {
+			a = Math.floorDiv(n, d);
+			if (q1 != 0L && a > (max - q0) / q1) {
+				break;
+			}
+			final long q2 = a * q1 + q0;
+			final long p2 = a * p1 + p0;
+			final long r  = n - a * d;
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			n  = d;
+			d  = r;
+			if (d == 0L) {
+				return BigFraction.reduced(p1, q1);
+			}
+		}
+		final long k = (max - q0) / q1;
+		// 当前的完全商 t = n / d，t >= 2k + q0 / q1 时渐近分数不比中间分数差。
+		// 2k * q1 + q0 < 2 * max，按无符号数处理；两边的乘积以 128 位整数比较
+		final long m   = 2L * k * q1 + q0;
+		final long hi1 = Math.multiplyHigh(n, q1);
+		final long hi2 = Math.multiplyHigh(m, d) + ((m >> 63) & d);
+		if (hi1 != hi2 ? Long.compareUnsigned(hi1, hi2) > 0 : Long.compareUnsigned(n * q1, m * d) >= 0) {
+			return BigFraction.reduced(p1, q1);
+		}
+		return BigFraction.reduced(k * p1 + p0, k * q1 + q0);
+	}
+
+	/**
+	 * 返回第一个与精确值的距离不超过 {@code epsilon} 的渐近分数，也就是满足条件的分母最小的渐近分数。
+	 * {@code epsilon} 为零时返回精确值。
+	 * 
+	 * @param  epsilon 允许的误差
+	 * @return         渐近分数
+	 * @exception MathIllegalArgumentException 如果 {@code epsilon} 为负数或 {@code NaN}
+	 */
+	public BigFraction approximation(double epsilon) {
+		if (!(epsilon >= 0.0)) {
+			throw new MathIllegalArgumentException("误差不能为负数：" + epsilon);
+		}
+		if (isSmall()) {
+			long n  = numerator;
+			long d  = denominator;
+			long p0 = 0L;
+			long q0 = 1L;
+			long p1 = 1L;
+			long q1 = 0L;
+			for (;;) {
+				final long a  = Math.floorDiv(n, d);
+				final long p2 = a * p1 + p0;
+				final long q2 = a * q1 + q0;
+				final long r  = n - a * d;
+				p0 = p1;
+				q0 = q1;
+				p1 = p2;
+				q1 = q2;
+				n  = d;
+				d  = r;
+				// |x - p1 / q1| = d / (q1 * (q1 * n + q0 * d))
+				if (d == 0L || d / (q1 * (q1 * (double) n + q0 * (double) d)) <= epsilon) {
+					return BigFraction.reduced(p1, q1);
+				}
+			}
+		}
+		final BigDecimal bound = new BigDecimal(epsilon);
+		BigInteger n  = bigNumerator;
+		BigInteger d  = bigDenominator;
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		for (;;) {
+			final BigInteger[] qr = floorDivide(n, d);
+			final BigInteger p2 = qr[0].multiply(p1).add(p0);
+			final BigInteger q2 = qr[0].multiply(q1).add(q0);
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			n  = d;
+			d  = qr[1];
+			if (d.signum() == 0) {
+				return BigFraction.reduced(p1, q1);
+			}
+			// d / (q1 * (q1 * n + q0 * d)) <= epsilon，以精确的小数比较
+			final BigInteger error = q1.multiply(q1.multiply(n).add(q0.multiply(d)));
+			if (bound.multiply(new BigDecimal(error)).compareTo(new BigDecimal(d)) >= 0) {
+				return BigFraction.reduced(p1, q1);
+			}
+		}
+	}
+
+	/**
+	 * 返回完整的展开式，例如 {@code 415/93} 为 {@code [4; 2, 6, 7]}。
+	 */
+	@Override
+	public String toString() {
+		BigInteger n = isSmall() ? BigInteger.valueOf(numerator) : bigNumerator;
+		BigInteger d = isSmall() ? BigInteger.valueOf(denominator) : bigDenominator;
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; d.signum() != 0; i++) {
+			final BigInteger[] qr = floorDivide(n, d);
+			if (i > 0) {
+				sb.append(i == 1 ? "; " : ", ");
+			}
+			sb.append(qr[0]);
+			n = d;
+			d = qr[1];
+		}
+		return sb.append(']').toString();
+	}
+
+}
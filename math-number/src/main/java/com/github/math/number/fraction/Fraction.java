@@ -43,7 +43,7 @@ public final class Fraction
     public static final Fraction ONE = new Fraction(1, 1, 1);
 
     /** 分数： "0" */
-    public static final Fraction ZERO = new Fraction(0, 1, 1);
+    public static final Fraction ZERO = new Fraction(0, 1, 0);
 
     /** 分数： "4/5" */
     public static final Fraction FOUR_FIFTHS = new Fraction(4, 5, 1);
@@ -139,6 +139,103 @@ public final class Fraction
 		this.signum      = signum;
 	}
 
+	/**
+	 * <p>
+	 * 返回指定整数对应的分数，较小的整数返回缓存的实例。
+	 * 
+	 * @param num 整数
+	 * @return    分数
+	 */
+	public static Fraction valueOf(int num) {
+		return of(num, 1);
+	}
+
+	/**
+	 * <p>
+	 * 返回约分之后的分数。与 {@link Integer#valueOf(int)} 类似，分子的绝对值不超过
+	 * {@value Cache#MAX_NUM}、分母不超过 {@value Cache#MAX_DEN} 的分数返回缓存的实例，
+	 * 不创建新的对象。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return    分数
+	 */
+	public static Fraction valueOf(int num, int den) {
+		// 在缓存的范围之内时直接查表，表中的分数都已经约分
+		if (den > 0 && den <= Cache.MAX_DEN && num >= -Cache.MAX_NUM && num <= Cache.MAX_NUM) {
+			return Cache.TABLE[Cache.index(num, den)];
+		}
+		
+		// 分母不应为零
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		
+		// 符号问题
+		if (den < 0) {
+			if (den == Integer.MIN_VALUE ||
+	            num == Integer.MIN_VALUE) {
+				// 分子分母不能为 Integer#MIN_VALUE
+	            throw new MathArithmeticException();
+	        }
+			den = -den;
+			num = -num;
+		}
+		
+		// 约分
+		int gcd = SuperMath.gcd(num, den);
+		return of(num / gcd, den / gcd);
+	}
+	
+	/**
+	 * 返回已经约分且分母为正数的分数，在缓存的范围之内时返回缓存的实例。
+	 */
+	private static Fraction of(int num, int den) {
+		if (den <= Cache.MAX_DEN && num >= -Cache.MAX_NUM && num <= Cache.MAX_NUM) {
+			return Cache.TABLE[Cache.index(num, den)];
+		}
+		return new Fraction(num, den, Integer.signum(num));
+	}
+	
+	/**
+	 * 分数的缓存，在第一次使用时创建。相等的分数共享同一个实例，
+	 * 预定义的常量也在其中。
+	 */
+	private static final class Cache {
+		
+		/** 分子绝对值的最大值 */
+		static final int MAX_NUM = 64;
+		/** 分母的最大值 */
+		static final int MAX_DEN = 12;
+		
+		static final Fraction[] TABLE = new Fraction[MAX_DEN * (2 * MAX_NUM + 1)];
+		
+		static {
+			for (Fraction f : new Fraction[] {ZERO, ONE, TWO, MINUS_ONE, ONE_HALF, ONE_THIRD, TWO_THIRDS,
+					ONE_QUARTER, THREE_QUARTERS, ONE_FIFTH, TWO_FIFTHS, THREE_FIFTHS, FOUR_FIFTHS}) {
+				TABLE[index(f.numerator, f.denominator)] = f;
+			}
+			for (int den = 1; den <= MAX_DEN; den++) {
+				for (int num = -MAX_NUM; num <= MAX_NUM; num++) {
+					final int i = index(num, den);
+					if (TABLE[i] != null) {
+						continue;
+					}
+					// 约分之后的分母更小，因此对应的位置已经填充过
+					final int gcd = SuperMath.gcd(num, den);
+					final int j = index(num / gcd, den / gcd);
+					if (TABLE[j] == null) {
+						TABLE[j] = new Fraction(num / gcd, den / gcd, Integer.signum(num));
+					}
+					TABLE[i] = TABLE[j];
+				}
+			}
+		}
+		
+		static int index(int num, int den) {
+			return (den - 1) * (2 * MAX_NUM + 1) + num + MAX_NUM;
+		}
+		
+	}
+
 	/**
 	 * 返回当前分数的分子。
 	 * 
@@ -168,11 +265,40 @@ public final class Fraction
         return ret;
 	}
 
+	/**
+	 * 使用平方求幂精确地计算幂，指数为负数时计算倒数的幂。
+	 * 
+	 * @exception MathArithmeticException 如果分子或分母超出 {@code int} 的范围
+	 * @see #powExact(int)
+	 */
 	@Override
-	@Deprecated
 	public Fraction pow(int e) {
-		return new Fraction((int) Math.pow(numerator, e), 
-							(int) Math.pow(denominator, e));
+		if (e == 0) {
+			return ONE;
+		}
+		if (e < 0) {
+			if (e == Integer.MIN_VALUE) {
+				return pow(e / 2).pow(2);
+			}
+			return reciprocal().pow(-e);
+		}
+		// 分子与分母互质，因此它们的幂也互质，不需要约分
+		return of(MathUtils.powAndCheck(numerator, e), MathUtils.powAndCheck(denominator, e));
+	}
+	
+	/**
+	 * 精确地计算幂，结果超出 {@code int} 的范围时返回 {@link BigFraction}。
+	 * 
+	 * @param e 指数
+	 * @return  {@code this}<sup>e</sup>，类型为 {@code Fraction} 或 {@code BigFraction}
+	 */
+	public RationalNumber<?> powExact(int e) {
+		try {
+			return pow(e);
+		} catch (MathArithmeticException ex) {
+			// 溢出，改用 BigFraction
+			return BigFraction.valueOf(numerator, denominator).pow(e);
+		}
 	}
 
 	@Override
@@ -194,16 +320,16 @@ public final class Fraction
             throw new MathArithmeticException();
         }
 		
-		return new Fraction(-numerator, denominator);
+		return valueOf(-numerator, denominator);
 	}
 
 	@Override
 	public Fraction reciprocal() {
-		return new Fraction(denominator, numerator);
+		return valueOf(denominator, numerator);
 	}
 	
 	public static Fraction reciprocal(int x) {
-		return new Fraction(1, x, Integer.signum(x));
+		return valueOf(1, x);
 	}
 	
 	private Fraction addOrSub(Fraction x, boolean isAdd) {
@@ -229,7 +355,7 @@ public final class Fraction
 		
 		int num = isAdd ? (m + n) : (m - n);
 		
-		return new Fraction(num, den);
+		return valueOf(num, den);
 		
 	}
 
@@ -241,7 +367,7 @@ public final class Fraction
 
 	@Override
 	public Fraction add(int i) {
-		return new Fraction(numerator + denominator * i, denominator);
+		return valueOf(numerator + denominator * i, denominator);
 	}
 
 	@Override
@@ -252,12 +378,12 @@ public final class Fraction
 
 	@Override
 	public Fraction subtract(int i) {
-		return new Fraction(numerator - denominator * i, denominator);
+		return valueOf(numerator - denominator * i, denominator);
 	}
 
 	@Override
 	public Fraction multiply(int i) {
-		return new Fraction(numerator * i, denominator);
+		return valueOf(numerator * i, denominator);
 	}
 
 	@Override
@@ -271,8 +397,8 @@ public final class Fraction
 		int m = SuperMath.gcd(numerator, val.denominator);
 		int n = SuperMath.gcd(denominator, val.numerator);
 		
-		return new Fraction(MathUtils.mulAndCheck(numerator / m, val.numerator / m),
-							MathUtils.mulAndCheck(denominator / n, val.denominator / n));
+		return valueOf(MathUtils.mulAndCheck(numerator / m, val.numerator / n),
+					   MathUtils.mulAndCheck(denominator / n, val.denominator / m));
 	}
 
 	@Override
@@ -288,7 +414,7 @@ public final class Fraction
 
 	@Override
 	public Fraction divide(int i) {
-		return multiply(new Fraction(1, i));
+		return multiply(valueOf(1, i));
 	}
 
 	@Override
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.fraction;
+
+import com.github.math.SuperMath;
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+
+/**
+ * <p>
+ * 以列式（struct-of-arrays）保存的分数的批量运算，第 {@code i} 个分数为
+ * {@code num[i] / den[i]}。
+ * 
+ * <p>
+ * 与 {@link Fraction} 数组相比，每个元素只占用 8 字节（{@code long} 为 16 字节），
+ * 而且没有指针的间接访问。除 {@link #toFractions(int[], int[])} 以外，运算的结果都写入调用者提供的数组，
+ * 或者以 {@link BigFraction} 返回，结果数组可以与参数数组相同。循环中不创建对象，每次调用至多分配一个
+ * 保存中间结果的长度为 2 的数组。
+ * 
+ * <p>
+ * 所有参数中分数的分母都必须是正数，此类不会检查这一点。参数不必是约分的，除比较以外的运算结果都是约分的。
+ * 运算结果超出范围时抛出 {@link MathArithmeticException}，异常信息中含有出错元素的下标，
+ * 此时下标之前的结果已经写入。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+public final class FractionArrays {
+
+	private FractionArrays() {}
+
+	/**
+	 * <p>
+	 * 逐个元素计算 {@code a + b}。
+	 * 
+	 * @param an 分数 a 的分子
+	 * @param ad 分数 a 的分母
+	 * @param bn 分数 b 的分子
+	 * @param bd 分数 b 的分母
+	 * @param rn 结果的分子
+	 * @param rd 结果的分母
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围
+	 */
+	public static void add(int[] an, int[] ad, int[] bn, int[] bd, int[] rn, int[] rd) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, rn.length, rd.length);
+		for (int i = 0; i < n; i++) {
+			final long b = ad[i];
+			final long d = bd[i];
+			// 分母为正数时，两个乘积之和不会超出 long 的范围
+			store(i, an[i] * d + bn[i] * b, b * d, rn, rd);
+		}
+	}
+
+	/**
+	 * <p>
+	 * 逐个元素计算 {@code a + b}。
+	 * 
+	 * @param an 分数 a 的分子
+	 * @param ad 分数 a 的分母
+	 * @param bn 分数 b 的分子
+	 * @param bd 分数 b 的分母
+	 * @param rn 结果的分子
+	 * @param rd 结果的分母
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static void add(long[] an, long[] ad, long[] bn, long[] bd, long[] rn, long[] rd) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, rn.length, rd.length);
+		final long[] out = new long[2];
+		for (int i = 0; i < n; i++) {
+			add(i, an[i], ad[i], bn[i], bd[i], out);
+			rn[i] = out[0];
+			rd[i] = out[1];
+		}
+	}
+
+	/**
+	 * <p>
+	 * 逐个元素计算 {@code a * b}。
+	 * 
+	 * @param an 分数 a 的分子
+	 * @param ad 分数 a 的分母
+	 * @param bn 分数 b 的分子
+	 * @param bd 分数 b 的分母
+	 * @param rn 结果的分子
+	 * @param rd 结果的分母
+	 * @exception MathArithmeticException 如果结果超出 {@code int} 的范围
+	 */
+	public static void multiply(int[] an, int[] ad, int[] bn, int[] bd, int[] rn, int[] rd) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, rn.length, rd.length);
+		for (int i = 0; i < n; i++) {
+			store(i, (long) an[i] * bn[i], (long) ad[i] * bd[i], rn, rd);
+		}
+	}
+
+	/**
+	 * <p>
+	 * 逐个元素计算 {@code a * b}，两个分数各自约分之后交叉约分再相乘。
+	 * 
+	 * @param an 分数 a 的分子
+	 * @param ad 分数 a 的分母
+	 * @param bn 分数 b 的分子
+	 * @param bd 分数 b 的分母
+	 * @param rn 结果的分子
+	 * @param rd 结果的分母
+	 * @exception MathArithmeticException 如果结果超出 {@code long} 的范围
+	 */
+	public static void multiply(long[] an, long[] ad, long[] bn, long[] bd, long[] rn, long[] rd) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, rn.length, rd.length);
+		for (int i = 0; i < n; i++) {
+			try {
+				final long ga = SuperMath.gcd(an[i], ad[i]);
+				final long gb = SuperMath.gcd(bn[i], bd[i]);
+				final long a = an[i] / ga;
+				final long b = ad[i] / ga;
+				final long c = bn[i] / gb;
+				final long d = bd[i] / gb;
+				final long g1 = SuperMath.gcd(a, d);
+				final long g2 = SuperMath.gcd(c, b);
+				final long num = Math.multiplyExact(a / g1, c / g2);
+				final long den = Math.multiplyExact(b / g2, d / g1);
+				rn[i] = num;
+				rd[i] = num == 0L ? 1L : den;
+			} catch (ArithmeticException e) {
+				throw overflow(i);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * 逐个元素比较 {@code a} 与 {@code b}，结果为 {@code -1}、{@code 0} 或 {@code 1}。
+	 * 
+	 * <p>
+	 * 分母为正数时，交叉相乘的差不会超出 {@code long} 的范围，循环中没有分支，
+	 * 可以被 JIT 编译器自动向量化。
+	 * 
+	 * @param an     分数 a 的分子
+	 * @param ad     分数 a 的分母
+	 * @param bn     分数 b 的分子
+	 * @param bd     分数 b 的分母
+	 * @param result 比较的结果
+	 */
+	public static void compare(int[] an, int[] ad, int[] bn, int[] bd, int[] result) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, result.length, result.length);
+		for (int i = 0; i < n; i++) {
+			final long diff = (long) an[i] * bd[i] - (long) bn[i] * ad[i];
+			result[i] = (int) ((diff >> 63) | (-diff >>> 63));
+		}
+	}
+
+	/**
+	 * <p>
+	 * 逐个元素比较 {@code a} 与 {@code b}，结果为 {@code -1}、{@code 0} 或 {@code 1}。
+	 * 交叉相乘的结果以 128 位整数比较，不会溢出。
+	 * 
+	 * @param an     分数 a 的分子
+	 * @param ad     分数 a 的分母
+	 * @param bn     分数 b 的分子
+	 * @param bd     分数 b 的分母
+	 * @param result 比较的结果
+	 */
+	public static void compare(long[] an, long[] ad, long[] bn, long[] bd, int[] result) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, result.length, result.length);
+		for (int i = 0; i < n; i++) {
+			final long hi1 = Math.multiplyHigh(an[i], bd[i]);
+			final long hi2 = Math.multiplyHigh(bn[i], ad[i]);
+			final int cmp = hi1 != hi2 ? Long.compare(hi1, hi2)
+					: Long.compareUnsigned(an[i] * bd[i], bn[i] * ad[i]);
+			result[i] = Integer.signum(cmp);
+		}
+	}
+
+	/**
+	 * <p>
+	 * 计算前缀和，{@code rn[i] / rd[i]} 为前 {@code i + 1} 个分数之和。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @param rn  前缀和的分子
+	 * @param rd  前缀和的分母
+	 * @exception MathArithmeticException 如果前缀和超出 {@code long} 的范围
+	 */
+	public static void prefixSum(int[] num, int[] den, long[] rn, long[] rd) {
+		final int n = check(num.length, den.length, num.length, den.length, rn.length, rd.length);
+		final long[] out = {0L, 1L};
+		for (int i = 0; i < n; i++) {
+			add(i, out[0], out[1], num[i], den[i], out);
+			rn[i] = out[0];
+			rd[i] = out[1];
+		}
+	}
+
+	/**
+	 * <p>
+	 * 计算前缀和，{@code rn[i] / rd[i]} 为前 {@code i + 1} 个分数之和。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @param rn  前缀和的分子
+	 * @param rd  前缀和的分母
+	 * @exception MathArithmeticException 如果前缀和超出 {@code long} 的范围
+	 */
+	public static void prefixSum(long[] num, long[] den, long[] rn, long[] rd) {
+		final int n = check(num.length, den.length, num.length, den.length, rn.length, rd.length);
+		final long[] out = {0L, 1L};
+		for (int i = 0; i < n; i++) {
+			add(i, out[0], out[1], num[i], den[i], out);
+			rn[i] = out[0];
+			rd[i] = out[1];
+		}
+	}
+
+	/**
+	 * <p>
+	 * 计算所有分数之和。和在 {@code long} 的范围之内时不创建任何对象，
+	 * 超出时改用 {@link BigFraction} 继续计算，因此不会溢出。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return    分数之和
+	 */
+	public static BigFraction sum(int[] num, int[] den) {
+		final int n = check(num.length, den.length, num.length, den.length, num.length, den.length);
+		final long[] out = {0L, 1L};
+		for (int i = 0; i < n; i++) {
+			if (!tryAdd(out[0], out[1], num[i], den[i], out)) {
+				BigFraction sum = BigFraction.valueOf(out[0], out[1]);
+				for (; i < n; i++) {
+					sum = sum.add(BigFraction.valueOf(num[i], den[i]));
+				}
+				return sum;
+			}
+		}
+		return BigFraction.valueOf(out[0], out[1]);
+	}
+
+	/**
+	 * <p>
+	 * 计算点积 &Sigma; a<sub>i</sub> &times; b<sub>i</sub>。和在 {@code long} 的范围之内时
+	 * 不创建任何对象，超出时改用 {@link BigFraction} 继续计算，因此不会溢出。
+	 * 
+	 * @param an 分数 a 的分子
+	 * @param ad 分数 a 的分母
+	 * @param bn 分数 b 的分子
+	 * @param bd 分数 b 的分母
+	 * @return   点积
+	 */
+	public static BigFraction dot(int[] an, int[] ad, int[] bn, int[] bd) {
+		final int n = check(an.length, ad.length, bn.length, bd.length, an.length, an.length);
+		final long[] out = {0L, 1L};
+		for (int i = 0; i < n; i++) {
+			// 两个 int 的乘积不会超出 long 的范围
+			final long num = (long) an[i] * bn[i];
+			final long den = (long) ad[i] * bd[i];
+			if (!tryAdd(out[0], out[1], num, den, out)) {
+				BigFraction sum = BigFraction.valueOf(out[0], out[1]);
+				for (; i < n; i++) {
+					sum = sum.add(BigFraction.valueOf((long) an[i] * bn[i], (long) ad[i] * bd[i]));
+				}
+				return sum;
+			}
+		}
+		return BigFraction.valueOf(out[0], out[1]);
+	}
+
+	/**
+	 * <p>
+	 * 将分数数组转换为列式的分子与分母。
+	 * 
+	 * @param src 分数数组
+	 * @param num 分子
+	 * @param den 分母
+	 */
+	public static void fromFractions(Fraction[] src, int[] num, int[] den) {
+		final int n = check(src.length, src.length, src.length, src.length, num.length, den.length);
+		for (int i = 0; i < n; i++) {
+			num[i] = src[i].numerator();
+			den[i] = src[i].denominator();
+		}
+	}
+
+	/**
+	 * <p>
+	 * 将列式的分子与分母转换为分数数组。
+	 * 
+	 * @param num 分子
+	 * @param den 分母
+	 * @return    分数数组
+	 */
+	public static Fraction[] toFractions(int[] num, int[] den) {
+		final int n = check(num.length, den.length, num.length, den.length, num.length, den.length);
+		final Fraction[] dst = new Fraction[n];
+		for (int i = 0; i < n; i++) {
+			dst[i] = Fraction.valueOf(num[i], den[i]);
+		}
+		return dst;
+	}
+
+	/**
+	 * 检查数组的长度，参数的长度必须相同，结果的长度不能小于参数的长度。
+	 * 
+	 * @return 参数的长度
+	 */
+	private static int check(int a, int b, int c, int d, int r, int s) {
+		if (a != b || a != c || a != d)
+			throw new MathIllegalArgumentException("数组的长度不同");
+		if (r < a || s < a)
+			throw new MathIllegalArgumentException("结果数组的长度不足");
+		return a;
+	}
+
+	/**
+	 * 约分之后写入 {@code int} 数组。
+	 */
+	private static void store(int i, long num, long den, int[] rn, int[] rd) {
+		final long g = SuperMath.gcd(num, den);
+		num /= g;
+		den /= g;
+		if (num != (int) num || den != (int) den)
+			throw overflow(i);
+		rn[i] = (int) num;
+		rd[i] = (int) den;
+	}
+
+	/**
+	 * a/b + c/d，结果约分之后写入 {@code out}。
+	 */
+	private static void add(int i, long a, long b, long c, long d, long[] out) {
+		if (!tryAdd(a, b, c, d, out))
+			throw overflow(i);
+	}
+
+	/**
+	 * a/b + c/d，结果约分之后写入 {@code out}。两个分数先各自约分，
+	 * 算法见 Knuth《计算机程序设计艺术》第二卷 4.5.1 节。
+	 * 
+	 * @return 如果结果超出 {@code long} 的范围则返回 {@code false}，此时 {@code out} 不变
+	 */
+	private static boolean tryAdd(long a, long b, long c, long d, long[] out) {
+		try {
+			final long ga = SuperMath.gcd(a, b);
+			a /= ga;
+			b /= ga;
+			final long gc = SuperMath.gcd(c, d);
+			c /= gc;
+			d /= gc;
+			final long g = SuperMath.gcd(b, d);
+			final long s = b / g;
+			final long t = Math.addExact(Math.multiplyExact(a, d / g), Math.multiplyExact(c, s));
+			if (t == 0L) {
+				out[0] = 0L;
+				out[1] = 1L;
+				return true;
+			}
+			final long g2 = SuperMath.gcd(t, g);
+			final long den = Math.multiplyExact(s, d / g2);
+			out[0] = t / g2;
+			out[1] = den;
+			return true;
+		} catch (ArithmeticException e) {
+			return false;
+		}
+	}
+
+	private static MathArithmeticException overflow(int i) {
+		return new MathArithmeticException("第 " + i + " 个元素的结果溢出");
+	}
+
+}
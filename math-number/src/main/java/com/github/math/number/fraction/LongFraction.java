@@ -0,0 +1,431 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.fraction;
+
+import com.github.math.SuperMath;
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.number.RationalNumber;
+import com.github.math.utils.MathUtils;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * 分子与分母都是 {@code long} 的分数。
+ * 
+ * <p>
+ * 与 {@link Fraction} 相比，分子与分母的范围更大；与 {@link BigFraction} 相比，不保存任何
+ * {@link java.math.BigInteger}。交叉相乘的中间结果以 128 位整数计算（{@link Math#multiplyHigh(long, long)}），
+ * 因此只有约分之后的结果仍然超出 {@code long} 的范围时才会抛出 {@link MathArithmeticException}，
+ * 这时可以改用 {@link #bigFractionValue()} 继续计算。
+ * 
+ * <p>
+ * 此类不会在溢出时自动改用 {@link java.math.BigInteger}：{@link com.github.math.number.Arithmetic} 规定了运算结果的类型，
+ * 而且需要自动扩展的场合已经有 {@link BigFraction}，它在 {@code long} 的范围之内同样只做 {@code long} 运算，
+ * 速度与此类相当。此类适用于值必须保持在 {@code long} 范围之内的场合，例如以 {@code long} 保存或交给
+ * {@link FractionArrays} 的 {@code long} 版本计算：溢出时立即抛出异常，而不是让分子与分母无限制地增长，
+ * 每个实例的大小也是固定的。
+ * 
+ * <p>
+ * 分数总是约分的，分母总是正数，分子不是 {@link Long#MIN_VALUE}，因此取相反数不会溢出。
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+public final class LongFraction 
+	extends RationalNumber<LongFraction> implements Fractional {
+	// The serialVersionUID of the class LongFraction.
+	private static final long serialVersionUID = 2305092716377532146L;
+
+	/** 分数： "0" */
+	public static final LongFraction ZERO = new LongFraction(0L, 1L);
+
+	/** 分数： "1" */
+	public static final LongFraction ONE = new LongFraction(1L, 1L);
+
+	/** 分数： "&minus;1" */
+	public static final LongFraction MINUS_ONE = new LongFraction(-1L, 1L);
+
+	/** 分数的分子 */
+	private final long numerator;
+	/** 分数的分母 */
+	private final long denominator;
+
+	private LongFraction(long numerator, long denominator) {
+		this.numerator   = numerator;
+		this.denominator = denominator;
+	}
+
+	/**
+	 * 由指定的整数创建一个分数。
+	 * 
+	 * @param num 整数
+	 * @return    分数
+	 * @exception MathArithmeticException 如果 {@code num} 为 {@link Long#MIN_VALUE}
+	 */
+	public static LongFraction valueOf(long num) {
+		return of(num, 1L);
+	}
+
+	/**
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return    约分之后的分数
+	 * @exception MathZeroException 如果分母为零
+	 * @exception MathArithmeticException 如果约分之后的分子或分母不能表示
+	 */
+	public static LongFraction valueOf(long num, long den) {
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		final long gcd = SuperMath.gcd(num, den);
+		num /= gcd;
+		den /= gcd;
+		if (den < 0L) {
+			if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+				throw overflow();
+			}
+			num = -num;
+			den = -den;
+		}
+		return of(num, den);
+	}
+
+	/**
+	 * 返回已经约分且分母为正数的分数。
+	 */
+	private static LongFraction of(long num, long den) {
+		if (num == Long.MIN_VALUE) {
+			throw overflow();
+		}
+		if (num == 0L) {
+			return ZERO;
+		}
+		if (den == 1L) {
+			if (num == 1L) {
+				return ONE;
+			}
+			if (num == -1L) {
+				return MINUS_ONE;
+			}
+		}
+		return new LongFraction(num, den);
+	}
+
+	private static MathArithmeticException overflow() {
+		return new MathArithmeticException("LocalizedFormats.OVERFLOW");
+	}
+
+	/**
+	 * 返回当前分数的分子。
+	 * 
+	 * @return 当前分数的分子
+	 */
+	public long numerator() {
+		return this.numerator;
+	}
+
+	/**
+	 * 返回当前分数的分母。
+	 * 
+	 * @return 当前分数的分母
+	 */
+	public long denominator() {
+		return this.denominator;
+	}
+
+	/**
+	 * 转换为值相等的 {@link BigFraction}，用于继续超出 {@code long} 范围的计算。
+	 * 
+	 * @return 分数
+	 */
+	public BigFraction bigFractionValue() {
+		return BigFraction.valueOf(numerator, denominator);
+	}
+
+	@Override
+	public LongFraction abs() {
+		return numerator >= 0L ? this : negate();
+	}
+
+	/**
+	 * 使用平方求幂精确地计算幂，指数为负数时计算倒数的幂。
+	 * 
+	 * @exception MathArithmeticException 如果分子或分母超出 {@code long} 的范围
+	 */
+	@Override
+	public LongFraction pow(int e) {
+		if (e == 0) {
+			return ONE;
+		}
+		if (e < 0) {
+			if (e == Integer.MIN_VALUE) {
+				return pow(e / 2).pow(2);
+			}
+			return reciprocal().pow(-e);
+		}
+		// 分子与分母互质，因此它们的幂也互质，不需要约分
+		return of(MathUtils.powAndCheck(numerator, e), MathUtils.powAndCheck(denominator, e));
+	}
+
+	@Override
+	public LongFraction min(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		return this.compareTo(val) < 0 ? this : val;
+	}
+
+	@Override
+	public LongFraction max(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		return this.compareTo(val) > 0 ? this : val;
+	}
+
+	@Override
+	public LongFraction negate() {
+		return of(-numerator, denominator);
+	}
+
+	@Override
+	public LongFraction reciprocal() {
+		if (numerator == 0L) {
+			throw new MathZeroException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		return numerator > 0L ? of(denominator, numerator) : of(-denominator, -numerator);
+	}
+
+	@Override
+	public LongFraction add(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.numerator == 0L) {
+			return this;
+		}
+		if (numerator == 0L) {
+			return val;
+		}
+		return add(numerator, denominator, val.numerator, val.denominator);
+	}
+
+	@Override
+	public LongFraction add(int i) {
+		return add(numerator, denominator, i, 1L);
+	}
+
+	@Override
+	public LongFraction subtract(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.numerator == 0L) {
+			return this;
+		}
+		if (numerator == 0L) {
+			return val.negate();
+		}
+		return add(numerator, denominator, -val.numerator, val.denominator);
+	}
+
+	@Override
+	public LongFraction subtract(int i) {
+		return add(numerator, denominator, -(long) i, 1L);
+	}
+
+	@Override
+	public LongFraction multiply(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (numerator == 0L || val.numerator == 0L) {
+			return ZERO;
+		}
+		return multiply(numerator, denominator, val.numerator, val.denominator);
+	}
+
+	@Override
+	public LongFraction multiply(int i) {
+		if (numerator == 0L || i == 0) {
+			return ZERO;
+		}
+		return multiply(numerator, denominator, i, 1L);
+	}
+
+	@Override
+	public LongFraction divide(LongFraction val) {
+		Objects.requireNonNull(val, "LocalizedFormats.FRACTION");
+		if (val.numerator == 0L) {
+			throw new MathArithmeticException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		return multiply(val.reciprocal());
+	}
+
+	@Override
+	public LongFraction divide(int i) {
+		if (i == 0) {
+			throw new MathArithmeticException("LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		}
+		if (numerator == 0L) {
+			return ZERO;
+		}
+		return i > 0 ? multiply(numerator, denominator, 1L, i)
+					 : multiply(numerator, denominator, -1L, -(long) i);
+	}
+
+	/**
+	 * a/b + c/d，其中 b、d 都是正数。算法见 Knuth《计算机程序设计艺术》第二卷 4.5.1 节，
+	 * 分子以 128 位整数计算，除以 gcd(t, gcd(b, d)) 之后仍然超出 {@code long} 的范围时抛出异常。
+	 */
+	private static LongFraction add(long a, long b, long c, long d) {
+		final long g = SuperMath.gcd(b, d);
+		final long s = b / g;
+		final long u = d / g;
+		// t = a * u + c * s
+		final long lo1 = a * u;
+		final long lo  = lo1 + c * s;
+		final long hi  = Math.multiplyHigh(a, u) + Math.multiplyHigh(c, s)
+					   + (Long.compareUnsigned(lo, lo1) < 0 ? 1L : 0L);
+		long t;
+		long g2;
+		if (hi == (lo >> 63)) {
+			if (lo == 0L) {
+				return ZERO;
+			}
+			g2 = g == 1L ? 1L : SuperMath.gcd(lo, g);
+			t  = lo / g2;
+		} else {
+			// 分子超出 long 的范围，只有约分之后才可能回到 long 的范围之内
+			if (g == 1L) {
+				throw overflow();
+			}
+			final boolean negative = hi < 0L;
+			final long mhi = negative ? ~hi + (lo == 0L ? 1L : 0L) : hi;
+			final long mlo = negative ? -lo : lo;
+			g2 = SuperMath.gcd(remainder(mhi, mlo, g), g);
+			t  = quotient(mhi, mlo, g2);
+			if (negative) {
+				t = -t;
+			}
+		}
+		return of(t, MathUtils.mulAndCheck(s, d / g2));
+	}
+
+	/**
+	 * 非负的 128 位整数 hi&middot;2<sup>64</sup> + lo 除以正数 m 的余数。
+	 */
+	private static long remainder(long hi, long lo, long m) {
+		long r = hi % m;
+		for (int i = Long.SIZE - 1; i >= 0; i--) {
+			// r < m < 2^63，左移之后仍在无符号 64 位的范围之内
+			r = (r << 1) | ((lo >>> i) & 1L);
+			if (Long.compareUnsigned(r, m) >= 0) {
+				r -= m;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * 非负的 128 位整数 hi&middot;2<sup>64</sup> + lo 除以正数 m 的商，商超出 {@code long} 的范围时抛出异常。
+	 */
+	private static long quotient(long hi, long lo, long m) {
+		if (hi >= m) {
+			throw overflow();
+		}
+		long r = hi;
+		long q = 0L;
+		for (int i = Long.SIZE - 1; i >= 0; i--) {
+			r = (r << 1) | ((lo >>> i) & 1L);
+			q <<= 1;
+			if (Long.compareUnsigned(r, m) >= 0) {
+				r -= m;
+				q |= 1L;
+			}
+		}
+		if (q < 0L) {
+			throw overflow();
+		}
+		return q;
+	}
+
+	/**
+	 * a/b &times; c/d，其中 b、d 都是正数。先交叉约分再相乘，结果已经约分，
+	 * 因此乘积溢出时结果确实不能表示。
+	 */
+	private static LongFraction multiply(long a, long b, long c, long d) {
+		final long g1 = SuperMath.gcd(a, d);
+		final long g2 = SuperMath.gcd(c, b);
+		return of(MathUtils.mulAndCheck(a / g1, c / g2), MathUtils.mulAndCheck(b / g2, d / g1));
+	}
+
+	@Override
+	public int signum() {
+		return Long.signum(numerator);
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public long longValue() {
+		return numerator / denominator;
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		// 分子与分母都能精确地转换为 double 时，一次除法的结果是正确舍入的
+		if (Math.abs(numerator) < (1L << 53) && denominator < (1L << 53)) {
+			return (double) numerator / (double) denominator;
+		}
+		return bigFractionValue().doubleValue();
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Long.hashCode(denominator) + Long.hashCode(numerator);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof LongFraction) {
+			final LongFraction rhs = (LongFraction) obj;
+			return numerator == rhs.numerator && denominator == rhs.denominator;
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return denominator == 1L ? String.valueOf(numerator) : numerator + " / " + denominator;
+	}
+
+	@Override
+	public int compareTo(LongFraction o) {
+		// 以 128 位整数比较交叉相乘的结果
+		final long hi1 = Math.multiplyHigh(numerator, o.denominator);
+		final long hi2 = Math.multiplyHigh(o.numerator, denominator);
+		if (hi1 != hi2) {
+			return Long.compare(hi1, hi2);
+		}
+		return Long.compareUnsigned(numerator * o.denominator, o.numerator * denominator);
+	}
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.fraction;
+
+import com.github.math.SuperMath;
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.NumberOverbrimException;
+import com.github.math.utils.MathUtils;
+
+/**
+ * <p>
+ * 可变的分数，用于大量分数的累加或累乘。
+ * 
+ * <p>
+ * {@link Fraction} 是不可变的，每次运算都会创建新的对象并重新约分。
+ * 此类的分子与分母以 {@code long} 保存，所有运算都直接修改当前对象，不分配任何内存。
+ * 运算时并不约分，只有在中间结果将要溢出，或读取分子、分母时才进行约分，
+ * 因此连续运算的开销只有几次乘法。
+ * 
+ * <p>
+ * 分母总是正数。此类不是线程安全的。
+ * 
+ * <pre>
+ * MutableFraction sum = new MutableFraction();
+ * for (Fraction f : fractions) {
+ *     sum.addInPlace(f);
+ * }
+ * Fraction result = sum.toFraction();
+ * </pre>
+ * 
+ * @author 王帅
+ * @since  1.0
+ */
+public final class MutableFraction extends Number implements Fractional {
+
+	// The serialVersionUID of the class MutableFraction.
+	private static final long serialVersionUID = 4361720950843557194L;
+
+	/** 分数的分子 */
+	private long numerator;
+	/** 分数的分母，总是正数 */
+	private long denominator;
+
+	/**
+	 * 创建一个值为零的分数。
+	 */
+	public MutableFraction() {
+		this.numerator   = 0L;
+		this.denominator = 1L;
+	}
+
+	/**
+	 * 由指定的分子和分母创建一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 */
+	public MutableFraction(long num, long den) {
+		set(num, den);
+	}
+
+	/**
+	 * 由指定的分数创建一个分数。
+	 * 
+	 * @param val 分数
+	 */
+	public MutableFraction(Fraction val) {
+		this.numerator   = val.numerator();
+		this.denominator = val.denominator();
+	}
+
+	/**
+	 * 将当前分数设置为指定的值。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return 当前分数
+	 */
+	public MutableFraction set(long num, long den) {
+		// 分母不应为零
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		if (den < 0L) {
+			if (den == Long.MIN_VALUE || num == Long.MIN_VALUE) {
+				throw new MathArithmeticException();
+			}
+			num = -num;
+			den = -den;
+		}
+		this.numerator   = num;
+		this.denominator = den;
+		return this;
+	}
+
+	/**
+	 * 将当前分数设置为零。
+	 * 
+	 * @return 当前分数
+	 */
+	public MutableFraction reset() {
+		this.numerator   = 0L;
+		this.denominator = 1L;
+		return this;
+	}
+
+	/**
+	 * 加上一个整数。
+	 * 
+	 * @param i 整数
+	 * @return 当前分数
+	 */
+	public MutableFraction addInPlace(long i) {
+		return add(i, 1L);
+	}
+
+	/**
+	 * 加上一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return 当前分数
+	 */
+	public MutableFraction addInPlace(long num, long den) {
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		if (den < 0L) {
+			return add(negate(num), negate(den));
+		}
+		return add(num, den);
+	}
+
+	public MutableFraction addInPlace(Fraction val) {
+		return add(val.numerator(), val.denominator());
+	}
+
+	public MutableFraction addInPlace(MutableFraction val) {
+		return add(val.numerator, val.denominator);
+	}
+
+	/**
+	 * 减去一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return 当前分数
+	 */
+	public MutableFraction subtractInPlace(long num, long den) {
+		return addInPlace(negate(num), den);
+	}
+
+	public MutableFraction subtractInPlace(Fraction val) {
+		return add(negate(val.numerator()), val.denominator());
+	}
+
+	public MutableFraction subtractInPlace(MutableFraction val) {
+		return add(negate(val.numerator), val.denominator);
+	}
+
+	/**
+	 * 乘以一个整数。
+	 * 
+	 * @param i 整数
+	 * @return 当前分数
+	 */
+	public MutableFraction multiplyInPlace(long i) {
+		return multiply(i, 1L);
+	}
+
+	/**
+	 * 乘以一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return 当前分数
+	 */
+	public MutableFraction multiplyInPlace(long num, long den) {
+		MathUtils.notZero(den, "LocalizedFormats.DENOMINATOR");
+		if (den < 0L) {
+			return multiply(negate(num), negate(den));
+		}
+		return multiply(num, den);
+	}
+
+	public MutableFraction multiplyInPlace(Fraction val) {
+		return multiply(val.numerator(), val.denominator());
+	}
+
+	public MutableFraction multiplyInPlace(MutableFraction val) {
+		return multiply(val.numerator, val.denominator);
+	}
+
+	/**
+	 * 除以一个分数。
+	 * 
+	 * @param num 分数的分子
+	 * @param den 分数的分母
+	 * @return 当前分数
+	 * @exception com.github.math.exception.MathZeroException 如果除数为零
+	 */
+	public MutableFraction divideInPlace(long num, long den) {
+		MathUtils.notZero(num, "LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		return multiplyInPlace(den, num);
+	}
+
+	public MutableFraction divideInPlace(Fraction val) {
+		return divideInPlace(val.numerator(), val.denominator());
+	}
+
+	public MutableFraction divideInPlace(MutableFraction val) {
+		return divideInPlace(val.numerator, val.denominator);
+	}
+
+	/**
+	 * 取当前分数的相反数。
+	 * 
+	 * @return 当前分数
+	 */
+	public MutableFraction negateInPlace() {
+		numerator = negate(numerator);
+		return this;
+	}
+
+	/**
+	 * 取当前分数的倒数。
+	 * 
+	 * @return 当前分数
+	 * @exception com.github.math.exception.MathZeroException 如果当前分数为零
+	 */
+	public MutableFraction reciprocalInPlace() {
+		MathUtils.notZero(numerator, "LocalizedFormats.ZERO_TO_DIVIDE_BY");
+		return set(denominator, numerator);
+	}
+
+	/**
+	 * 约分之后返回分子。
+	 * 
+	 * @return 分数的分子
+	 */
+	public long numerator() {
+		reduce();
+		return numerator;
+	}
+
+	/**
+	 * 约分之后返回分母。
+	 * 
+	 * @return 分数的分母
+	 */
+	public long denominator() {
+		reduce();
+		return denominator;
+	}
+
+	public int signum() {
+		return Long.signum(numerator);
+	}
+
+	/**
+	 * 约分之后转换为不可变的分数。
+	 * 
+	 * @return 分数
+	 * @exception NumberOverbrimException 如果分子或分母超出 {@code int} 的范围
+	 */
+	public Fraction toFraction() {
+		reduce();
+		if (numerator != (int) numerator || denominator != (int) denominator) {
+			throw new NumberOverbrimException("long", "int");
+		}
+		return Fraction.valueOf((int) numerator, (int) denominator);
+	}
+
+	/**
+	 * 加法：a/b + c/d，其中 b、d 都是正数。
+	 */
+	private MutableFraction add(long c, long d) {
+		final long a = numerator;
+		final long b = denominator;
+		// 分母相同时只需要将分子相加
+		if (b == d) {
+			final long s = a + c;
+			if (((a ^ s) & (c ^ s)) >= 0L) {
+				numerator = s;
+				return this;
+			}
+		} else {
+			final long ad = a * d;
+			final long cb = c * b;
+			final long bd = b * d;
+			final long s = ad + cb;
+			if (!overflows(a, d, ad) && !overflows(c, b, cb) && !overflows(b, d, bd)
+					&& ((ad ^ s) & (cb ^ s)) >= 0L) {
+				numerator   = s;
+				denominator = bd;
+				return this;
+			}
+		}
+		reduce();
+		addReduced(c, d);
+		return this;
+	}
+
+	/**
+	 * 当前分数已经约分时的加法，中间结果尽可能小，结果是约分之后的值。
+	 * 算法见 Knuth《计算机程序设计艺术》第二卷 4.5.1 节。
+	 */
+	private void addReduced(long c, long d) {
+		final long g = SuperMath.gcd(c, d);
+		if (g > 1L) {
+			c /= g;
+			d /= g;
+		}
+		final long b = denominator;
+		final long d1 = SuperMath.gcd(b, d);
+		final long t = MathUtils.addAndCheck(MathUtils.mulAndCheck(numerator, d / d1), MathUtils.mulAndCheck(c, b / d1));
+		final long d2 = SuperMath.gcd(t, d1);
+		numerator   = t / d2;
+		denominator = MathUtils.mulAndCheck(b / d1, d / d2);
+		if (numerator == 0L) {
+			denominator = 1L;
+		}
+	}
+
+	/**
+	 * 乘法：a/b &times; c/d，其中 b、d 都是正数。
+	 */
+	private MutableFraction multiply(long c, long d) {
+		final long a = numerator;
+		final long b = denominator;
+		final long ac = a * c;
+		final long bd = b * d;
+		if (!overflows(a, c, ac) && !overflows(b, d, bd)) {
+			numerator   = ac;
+			denominator = bd;
+			return this;
+		}
+		// 两个分数各自约分之后交叉约分再相乘
+		reduce();
+		final long g = SuperMath.gcd(c, d);
+		if (g > 1L) {
+			c /= g;
+			d /= g;
+		}
+		final long m = SuperMath.gcd(numerator, d);
+		final long n = SuperMath.gcd(c, denominator);
+		numerator   = MathUtils.mulAndCheck(numerator / m, c / n);
+		denominator = MathUtils.mulAndCheck(denominator / n, d / m);
+		if (numerator == 0L) {
+			denominator = 1L;
+		}
+		return this;
+	}
+
+	/**
+	 * 约分当前分数。
+	 */
+	private void reduce() {
+		if (denominator == 1L) {
+			return;
+		}
+		if (numerator == 0L) {
+			denominator = 1L;
+			return;
+		}
+		final long g = SuperMath.gcd(numerator, denominator);
+		if (g != 1L) {
+			numerator   /= g;
+			denominator /= g;
+		}
+	}
+
+	private static boolean overflows(long x, long y, long product) {
+		return Math.multiplyHigh(x, y) != (product >> 63);
+	}
+
+	private static long negate(long x) {
+		if (x == Long.MIN_VALUE) {
+			throw new MathArithmeticException();
+		}
+		return -x;
+	}
+
+	@Override
+	public int intValue() {
+		return (int) doubleValue();
+	}
+
+	@Override
+	public long longValue() {
+		return numerator / denominator;
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		reduce();
+		return (double) numerator / (double) denominator;
+	}
+
+	@Override
+	public String toString() {
+		reduce();
+		if (denominator == 1L) {
+			return String.valueOf(numerator);
+		}
+		return numerator + " / " + denominator;
+	}
+
+}
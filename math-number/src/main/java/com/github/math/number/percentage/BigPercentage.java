@@ -16,6 +16,7 @@
 
 package com.github.math.number.percentage;
 
+import com.github.math.exception.MathIllegalArgumentException;
 import com.github.math.number.BigArithmetic;
 import com.github.math.number.RationalNumber;
 import com.github.math.number.fraction.BigFraction;
@@ -63,7 +64,9 @@ public final class BigPercentage
 	 * @param value g
 	 */
 	public BigPercentage(BigDecimal value) {
-		this(0.0);
+		this.parent  = BigFraction.valueOf(value);
+		this.decimal = value;
+		this.percent = decimal.movePointRight(2).stripTrailingZeros();
 	}
 	
 	/**
@@ -132,8 +135,19 @@ public final class BigPercentage
 	}
 	
 	public BigPercentage(Fractional divide) {
-		// TODO Auto-generated constructor stub
-		this(1.2);
+		this(toBigFraction(divide));
+	}
+
+	private static BigFraction toBigFraction(Fractional val) {
+		if (val instanceof BigFraction)
+			return (BigFraction) val;
+		if (val instanceof Fraction) {
+			final Fraction f = (Fraction) val;
+			return BigFraction.valueOf(f.numerator(), f.denominator());
+		}
+		if (val instanceof BigPercentage)
+			return ((BigPercentage) val).parent;
+		throw new MathIllegalArgumentException("LocalizedFormats.FRACTION");
 	}
 
 	private static int scale = 16;
@@ -367,26 +381,22 @@ public final class BigPercentage
 
 	@Override
 	public int intValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		return this.decimal.intValue();
 	}
 
 	@Override
 	public long longValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		return this.decimal.longValue();
 	}
 
 	@Override
 	public float floatValue() {
-		// TODO Auto-generated method stub
-		return 0;
+		return this.decimal.floatValue();
 	}
 
 	@Override
 	public int compareTo(BigPercentage o) {
-		// TODO Auto-generated method stub
-		return 0;
+		return parent.compareTo(o.parent);
 	}
 
 }
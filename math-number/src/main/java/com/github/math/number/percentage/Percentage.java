@@ -18,6 +18,8 @@ package com.github.math.number.percentage;
 
 import com.github.math.SuperMath;
 import com.github.math.number.RationalNumber;
+import com.github.math.number.fraction.BigFraction;
+import com.github.math.number.fraction.ContinuedFraction;
 import com.github.math.number.fraction.Fraction;
 import com.github.math.number.fraction.Fractional;
 
@@ -48,6 +50,9 @@ public final class Percentage
 	
 	private static final double HUNDRED = 100.0;
 	
+	/** 由 {@code double} 转换为分数时分母的最大值 */
+	private static final int MAX_DENOMINATOR = 1_000_000;
+	
 	/***/
 	public static final Percentage ZERO = new Percentage(0.0);
 	/***/
@@ -66,12 +71,28 @@ public final class Percentage
 	 */
 	@Deprecated
 	public Percentage(double value) {
-		this.parent  = null;
+		this.parent  = approximate(value);
 		this.decimal = value;
 		this.percent = value * HUNDRED;
 		this.signum  = SuperMath.signum(value);
 	}
 	
+	/**
+	 * 分子与分母都在 {@code int} 的范围之内的最佳有理逼近，分母不超过 {@value #MAX_DENOMINATOR}。
+	 */
+	private static Fraction approximate(double value) {
+		if (!Double.isFinite(value)) {
+			return null;
+		}
+		// |p| <= |value| * q + 1，因此分子不会超出 int 的范围
+		final long max = (long) Math.min(MAX_DENOMINATOR, Integer.MAX_VALUE / (Math.abs(value) + 1.0));
+		if (max < 1L) {
+			return null;
+		}
+		final BigFraction f = ContinuedFraction.valueOf(value).bestApproximation(max);
+		return Fraction.valueOf(f.getNumerator().intValueExact(), f.getDenominator().intValueExact());
+	}
+	
 	/**
 	 * 
 	 * @param num v
@@ -16,7 +16,6 @@
 
 package com.github.math.number.radical;
 
-import com.github.math.SuperMath;
 import com.github.math.exception.MathNegativeException;
 import com.github.math.number.fraction.Fraction;
 
@@ -74,7 +73,7 @@ public class Radical extends AbstractRadical implements Comparable<Radical> {
 
 	@Override
 	public Radical abs() {
-		return new Radical(exponent, SuperMath.abs(coefficient), radicand);
+		return new Radical(exponent, Math.abs(coefficient), radicand);
 	}
 
 	@Override
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.basic;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.NumberOverbrimException;
+import com.github.math.number.fraction.BigFraction;
+import com.github.math.number.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class BasicTest {
+
+    @Test
+    void valueOf() {
+        assertSame(AcInteger.valueOf(-128), AcInteger.valueOf(-128));
+        assertSame(AcInteger.valueOf(0), AcInteger.valueOf(3).subtract(3));
+        assertEquals(AcInteger.valueOf(1000), AcInteger.valueOf(999).add(1));
+        assertSame(AcLong.valueOf(1L), AcLong.valueOf(-1L).negate());
+        assertSame(AcShort.valueOf((short) 6), AcShort.valueOf((short) 2).multiply(AcShort.valueOf((short) 3)));
+        assertSame(AcByte.valueOf((byte) -128), AcByte.valueOf((byte) -127).subtract(1));
+        assertSame(Fraction.ONE_HALF, AcInteger.valueOf(2).reciprocal());
+
+        assertEquals(AcInteger.valueOf(12), AcInteger.valueOf(3).multiply(AcInteger.valueOf(4)));
+        assertEquals(AcLong.valueOf(12L), AcLong.valueOf(3L).multiply(AcLong.valueOf(4L)));
+        assertThrows(NumberOverbrimException.class, () -> AcByte.valueOf((byte) 100).multiply(2));
+        assertThrows(NumberOverbrimException.class, () -> AcShort.valueOf(Short.MIN_VALUE).negate());
+    }
+
+    @Test
+    void pow() {
+        assertEquals(AcInteger.valueOf(1162261467), AcInteger.valueOf(3).pow(19));
+        assertEquals(AcLong.valueOf(4052555153018976267L), AcLong.valueOf(3L).pow(39));
+        assertSame(AcInteger.valueOf(-1), AcInteger.valueOf(-1).pow(-3));
+        assertSame(AcByte.valueOf((byte) -128), AcByte.valueOf((byte) -2).pow(7));
+        assertThrows(MathArithmeticException.class, () -> AcInteger.valueOf(2).pow(31));
+        assertThrows(MathArithmeticException.class, () -> AcLong.valueOf(2L).pow(-1));
+        assertThrows(NumberOverbrimException.class, () -> AcShort.valueOf((short) 2).pow(15));
+
+        assertSame(AcInteger.valueOf(8), AcInteger.valueOf(2).powExact(3));
+        assertEquals(BigFraction.valueOf(1, 8), AcInteger.valueOf(2).powExact(-3));
+        assertEquals(BigFraction.valueOf(BigInteger.TEN.pow(20), BigInteger.ONE), AcLong.valueOf(10L).powExact(20));
+        assertEquals(new AcDouble(0.25), new AcDouble(0.5).pow(2));
+    }
+
+}
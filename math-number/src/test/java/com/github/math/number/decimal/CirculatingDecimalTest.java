@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathParseException;
+import com.github.math.number.fraction.BigFraction;
+import com.github.math.number.fraction.Fraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class CirculatingDecimalTest {
+
+    @Test
+    void toStringAndBack() {
+        assertEquals("0.1(6)", CirculatingDecimal.valueOf(1, 6).toString());
+        assertEquals("0.(142857)", CirculatingDecimal.valueOf(Fraction.valueOf(1, 7)).toString());
+        assertEquals("-12.3(45)", CirculatingDecimal.valueOf(-679, 55).toString());
+        assertEquals("1.25", CirculatingDecimal.valueOf(5, 4).toString());
+        assertEquals("7", CirculatingDecimal.valueOf(7, 1).toString());
+        assertEquals("0.08(3)", CirculatingDecimal.valueOf(1, 12).toString());
+
+        for (String s : new String[] {"0.1(6)", "0.(142857)", "-12.3(45)", "1.25", "7", "0.08(3)", "-0.0(0012)"}) {
+            assertEquals(s, CirculatingDecimal.valueOf(s).toString());
+        }
+        assertEquals(BigFraction.valueOf(1, 3), CirculatingDecimal.valueOf("0.(3)").bigFractionValue());
+        assertEquals(BigFraction.ONE, CirculatingDecimal.valueOf("0.(9)").bigFractionValue());
+        assertEquals(7, CirculatingDecimal.valueOf("6.(9)").intValueExact());
+
+        assertEquals(4, assertThrows(MathParseException.class, () -> CirculatingDecimal.valueOf("0.1(")).getErrorIndex());
+        assertEquals(1, assertThrows(MathParseException.class, () -> CirculatingDecimal.valueOf("1,5")).getErrorIndex());
+        assertEquals(0, assertThrows(MathParseException.class, () -> CirculatingDecimal.valueOf(".5")).getErrorIndex());
+        assertEquals(3, assertThrows(MathParseException.class, () -> CirculatingDecimal.valueOf("0.()")).getErrorIndex());
+    }
+
+    @Test
+    void period() {
+        CirculatingDecimal d = CirculatingDecimal.valueOf(1, 6);
+        assertEquals(1, d.preperiodLength());
+        assertEquals(1L, d.periodLength());
+        assertTrue(CirculatingDecimal.valueOf(3, 40).isTerminating());
+        assertEquals(3, CirculatingDecimal.valueOf(3, 40).preperiodLength());
+        assertEquals(16L, CirculatingDecimal.valueOf(1, 17).periodLength());
+        // 3^k 的循环节长度为 3^(k-2)
+        assertEquals(6561L, CirculatingDecimal.valueOf(1, 59049).periodLength());
+        // 1/9999943 的循环节有 9999942 位，不需要逐位做除法
+        CirculatingDecimal prime = CirculatingDecimal.valueOf(1, 9999943);
+        assertEquals(9999942L, prime.periodLength());
+        assertEquals(0, prime.preperiodLength());
+        assertEquals(1666665L, CirculatingDecimal.valueOf(1, 9999991).periodLength());
+        // 两个较大的质数之积，阶为 lcm(333333312, 124999991)
+        CirculatingDecimal semiprime = CirculatingDecimal.valueOf(BigFraction.valueOf(BigInteger.valueOf(3),
+                BigInteger.valueOf(999999937L * 999999929L).shiftLeft(3).multiply(BigInteger.valueOf(5))));
+        assertEquals(41666661000000192L, semiprime.periodLength());
+        assertEquals(3, semiprime.preperiodLength());
+        // 与逐位的除法比较
+        for (int den = 1; den < 2000; den++) {
+            assertEquals(naivePeriod(den), CirculatingDecimal.valueOf(1, den).periodLength(), "1/" + den);
+        }
+    }
+
+    /**
+     * 逐位地做除法，余数第一次重复时得到循环节的长度。
+     */
+    private static long naivePeriod(int den) {
+        while (den % 2 == 0) {
+            den /= 2;
+        }
+        while (den % 5 == 0) {
+            den /= 5;
+        }
+        if (den == 1) {
+            return 0;
+        }
+        int r = 1;
+        int k = 0;
+        do {
+            r = r * 10 % den;
+            k++;
+        } while (r != 1);
+        return k;
+    }
+
+    @Test
+    void digits() {
+        CirculatingDecimal seventh = CirculatingDecimal.valueOf(22, 7);
+        assertArrayEquals(new int[] {1, 4, 2, 8, 5, 7, 1, 4}, seventh.digits().limit(8).toArray());
+        assertEquals(BigInteger.valueOf(3), seventh.integerPart());
+        assertEquals("142857", seventh.repetend());
+        assertEquals("", seventh.preperiod());
+        for (int i = 1; i <= 8; i++) {
+            assertEquals(seventh.digits().skip(i - 1).findFirst().getAsInt(), seventh.digitAt(i));
+        }
+        // 第一百万位
+        CirculatingDecimal prime = CirculatingDecimal.valueOf(1, 9999943);
+        assertEquals(prime.digits().skip(999999).findFirst().getAsInt(), prime.digitAt(1000000));
+        assertEquals("0000001000005", prime.digits().limit(13).mapToObj(Integer::toString).collect(Collectors.joining()));
+
+        CirculatingDecimal big = CirculatingDecimal.valueOf(BigFraction.valueOf(BigInteger.ONE, BigInteger.TEN.pow(30).add(BigInteger.ONE)));
+        assertEquals(0, big.digitAt(30));
+        assertEquals(9, big.digitAt(31));
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 9, 9, 9, 9, 9}, big.digits().skip(25).limit(10).toArray());
+    }
+
+    @Test
+    void arithmetic() {
+        CirculatingDecimal third = CirculatingDecimal.valueOf("0.(3)");
+        CirculatingDecimal sixth = CirculatingDecimal.valueOf("0.1(6)");
+        assertEquals("0.5", third.add(sixth).toString());
+        assertEquals("0.1(6)", third.subtract(sixth).toString());
+        assertEquals("0.0(5)", third.multiply(sixth).toString());
+        assertEquals("2", third.divide(sixth).toString());
+        assertEquals("-0.(3)", third.negate().toString());
+        assertEquals("6", sixth.reciprocal().toString());
+        assertEquals(third, third.max(sixth));
+        assertEquals(1.0 / 3, third.doubleValue());
+        assertThrows(MathArithmeticException.class, third::intValueExact);
+        assertThrows(MathArithmeticException.class, () -> CirculatingDecimal.valueOf(1L << 40, 1L).intValueExact());
+        assertEquals(1L << 40, CirculatingDecimal.valueOf(1L << 40, 1L).longValueExact());
+        assertThrows(MathIllegalArgumentException.class, () -> third.digitAt(0));
+    }
+
+}
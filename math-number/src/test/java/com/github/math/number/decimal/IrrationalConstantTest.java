@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.decimal;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathNegativeException;
+import com.github.math.exception.MathZeroException;
+import org.junit.jupiter.api.Test;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class IrrationalConstantTest {
+
+    private static String digits(IrrationalConstant x, int precision) {
+        return x.bigDecimalValue(new MathContext(precision, RoundingMode.DOWN)).toPlainString();
+    }
+
+    @Test
+    void values() {
+        MathContext mc = new MathContext(50);
+        assertEquals("3.1415926535897932384626433832795028841971693993751", IrrationalConstant.PI.bigDecimalValue(mc).toString());
+        assertEquals("2.7182818284590452353602874713526624977572470937000", IrrationalConstant.E.bigDecimalValue(mc).toString());
+        assertEquals("0.69314718055994530941723212145817656807550013436026", IrrationalConstant.LN2.bigDecimalValue(mc).toString());
+        assertEquals("1.4142135623730950488016887242096980785696718753769", IrrationalConstant.sqrt(2).bigDecimalValue(mc).toString());
+
+        // 舍入模式
+        assertEquals("0.7", IrrationalConstant.LN2.bigDecimalValue(new MathContext(1)).toString());
+        assertEquals("0.6", IrrationalConstant.LN2.bigDecimalValue(new MathContext(1, RoundingMode.FLOOR)).toString());
+        assertEquals("3.15", IrrationalConstant.PI.bigDecimalValue(new MathContext(3, RoundingMode.UP)).toString());
+        assertThrows(ArithmeticException.class,
+                () -> IrrationalConstant.PI.bigDecimalValue(new MathContext(3, RoundingMode.UNNECESSARY)));
+        assertThrows(MathArithmeticException.class, () -> IrrationalConstant.PI.bigDecimalValue(MathContext.UNLIMITED));
+    }
+
+    @Test
+    void extend() {
+        // 先计算较低的精度，再在保存的结果上继续计算
+        digits(IrrationalConstant.PI, 100);
+        digits(IrrationalConstant.E, 100);
+        digits(IrrationalConstant.LN2, 100);
+        assertTrue(digits(IrrationalConstant.PI, 3000).endsWith("74894090718649423196"));
+        assertTrue(digits(IrrationalConstant.E, 3000).endsWith("69986066365832322787"));
+        assertTrue(digits(IrrationalConstant.LN2, 3000).endsWith("88877823890174981027"));
+        assertTrue(digits(IrrationalConstant.PI, 1000).startsWith("3.14159265358979323846"));
+
+        IrrationalConstant root = IrrationalConstant.sqrt(2003);
+        assertEquals("44.75488800", digits(root, 10));
+        assertTrue(digits(root, 3000).endsWith("63010213391359031225"));
+        assertEquals(digits(root, 3000), digits(IrrationalConstant.sqrt(2003), 3000));
+        assertTrue(digits(IrrationalConstant.sqrt(2), 3000).endsWith("27187092921531323682"));
+    }
+
+    @Test
+    void conversions() {
+        assertEquals(Math.PI, IrrationalConstant.PI.doubleValue());
+        assertEquals(Math.E, IrrationalConstant.E.doubleValue());
+        assertEquals(Math.sqrt(2.0), IrrationalConstant.sqrt(2).doubleValue());
+        assertEquals((float) Math.log(2.0), IrrationalConstant.LN2.floatValue());
+        assertEquals(9L, IrrationalConstant.sqrt(99).longValue());
+        assertEquals(0, IrrationalConstant.LN2.intValue());
+        assertEquals(1, IrrationalConstant.LN2.signum());
+        assertThrows(MathArithmeticException.class, () -> IrrationalConstant.E.intValueExact());
+    }
+
+    @Test
+    void compare() {
+        assertTrue(IrrationalConstant.PI.compareTo(IrrationalConstant.E) > 0);
+        assertTrue(IrrationalConstant.LN2.compareTo(IrrationalConstant.sqrt(2)) < 0);
+        assertTrue(IrrationalConstant.sqrt(10).compareTo(IrrationalConstant.PI) > 0);
+        assertEquals(0, IrrationalConstant.sqrt(3).compareTo(IrrationalConstant.sqrt(3)));
+        assertSame(IrrationalConstant.E, IrrationalConstant.E.min(IrrationalConstant.PI));
+        assertSame(IrrationalConstant.PI, IrrationalConstant.E.max(IrrationalConstant.PI).abs());
+
+        assertSame(IrrationalConstant.sqrt(5), IrrationalConstant.sqrt(5));
+        assertNotSame(IrrationalConstant.sqrt(5000), IrrationalConstant.sqrt(5000));
+        assertEquals(IrrationalConstant.sqrt(5000), IrrationalConstant.sqrt(5000));
+        assertEquals("√5000", IrrationalConstant.sqrt(5000).toString());
+    }
+
+    @Test
+    void errors() {
+        assertThrows(MathIllegalArgumentException.class, () -> IrrationalConstant.sqrt(49));
+        assertThrows(MathIllegalArgumentException.class, () -> IrrationalConstant.sqrt(0));
+        assertThrows(MathNegativeException.class, () -> IrrationalConstant.sqrt(-2));
+    }
+
+    @Test
+    void arithmetic() {
+        IrrationalConstant pi = IrrationalConstant.PI;
+        IrrationalConstant e = IrrationalConstant.E;
+        MathContext mc = new MathContext(30);
+        assertEquals("5.85987448204883847382293085463", pi.add(e).bigDecimalValue(mc).toString());
+        assertEquals("8.53973422267356706546355086955", pi.multiply(e).bigDecimalValue(mc).toString());
+        assertEquals("-0.423310825130748003102355911927", e.subtract(pi).bigDecimalValue(mc).toString());
+        assertEquals("0.318309886183790671537767526745",
+                ((InfiniteNonRecurringDecimal) pi.reciprocal()).bigDecimalValue(mc).toString());
+        assertEquals("31.0062766802998201754763150671", pi.pow(3).bigDecimalValue(mc).toString());
+        assertEquals("0.101321183642337771443879463210", pi.pow(-2).bigDecimalValue(mc).toString());
+        assertEquals("0.388325975494149319337183924479",
+                ((InfiniteNonRecurringDecimal) e.divide(7)).bigDecimalValue(mc).toString());
+        assertEquals("1.15572734979092171791009318331",
+                ((InfiniteNonRecurringDecimal) pi.divide(e)).bigDecimalValue(mc).toString());
+        assertEquals("5.28318530717958647692528676656", pi.multiply(2).subtract(1).bigDecimalValue(mc).toString());
+        assertEquals("2.44948974278317809819728407471",
+                IrrationalConstant.sqrt(2).multiply(IrrationalConstant.sqrt(3)).bigDecimalValue(mc).toString());
+
+        // 相反数与绝对值
+        InfiniteNonRecurringDecimal negative = e.subtract(pi);
+        assertEquals(-1, negative.signum());
+        assertEquals(1, negative.abs().signum());
+        assertSame(pi, pi.negate().negate());
+        assertEquals(0, pi.subtract(e).compareTo(negative.abs()));
+        assertEquals("(π+e)*2", pi.add(e).multiply(2).toString());
+
+        // 结果恰好是有理数时按照较短的小数舍入
+        InfiniteNonRecurringDecimal two = IrrationalConstant.sqrt(2).multiply(IrrationalConstant.sqrt(2));
+        assertEquals("2.0000", two.bigDecimalValue(new MathContext(5, RoundingMode.DOWN)).toString());
+        assertEquals("2.0000", two.bigDecimalValue(new MathContext(5, RoundingMode.CEILING)).toString());
+        assertEquals(2L, two.longValue());
+        assertEquals(0, pi.subtract(pi).signum());
+        assertThrows(MathZeroException.class, () -> pi.divide(0));
+        assertThrows(MathZeroException.class,
+                () -> ((InfiniteNonRecurringDecimal) pi.subtract(pi).reciprocal()).bigDecimalValue(mc));
+    }
+
+}
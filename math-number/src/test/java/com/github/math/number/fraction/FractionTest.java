@@ -0,0 +1,363 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.math.number.fraction;
+
+import com.github.math.exception.MathArithmeticException;
+import com.github.math.exception.MathIllegalArgumentException;
+import com.github.math.exception.MathZeroException;
+import com.github.math.exception.NumberOverbrimException;
+import com.github.math.number.percentage.BigPercentage;
+import com.github.math.number.percentage.Percentage;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 介绍信息
+ *
+ * @author 王帅
+ * @since 1.0
+ */
+class FractionTest {
+
+    @Test
+    void mutableFraction() {
+        // 1/1 + 1/2 + ... + 1/20
+        final MutableFraction sum = new MutableFraction();
+        Fraction expected = Fraction.ZERO;
+        for (int i = 1; i <= 20; i++) {
+            sum.addInPlace(1, i);
+            expected = expected.add(new Fraction(1, i));
+        }
+        assertEquals(55835135L, sum.numerator());
+        assertEquals(15519504L, sum.denominator());
+        assertEquals(expected, sum.toFraction());
+
+        // 分母相同时只累加分子
+        final MutableFraction same = new MutableFraction();
+        for (int i = 0; i < 1000; i++) {
+            same.addInPlace(new Fraction(3, 7));
+        }
+        assertEquals(new Fraction(3000, 7), same.toFraction());
+
+        // 乘积会溢出，但约分之后不会
+        final MutableFraction product = new MutableFraction(1, 1);
+        for (int i = 2; i <= 40; i++) {
+            product.multiplyInPlace(i, i - 1);
+        }
+        assertEquals(Fraction.ONE.multiply(40), product.toFraction());
+
+        assertEquals(new Fraction(-5, 6),
+                new MutableFraction(1, 2).subtractInPlace(4, 3).toFraction());
+        assertEquals(new Fraction(-3, 8),
+                new MutableFraction(3, -4).divideInPlace(new Fraction(2)).toFraction());
+        assertEquals(new Fraction(3, 4),
+                new MutableFraction(-4, 3).reciprocalInPlace().negateInPlace().toFraction());
+        assertEquals("0", new MutableFraction(0, 5).multiplyInPlace(7).toString());
+        // 乘数没有约分时，约分之后的乘积仍然可能在 long 的范围之内
+        assertEquals("3", new MutableFraction(3, 1).multiplyInPlace(1L << 62, 1L << 62).toString());
+        assertEquals("3 / " + (1L << 41), new MutableFraction(3, 1L << 40).multiplyInPlace(1L << 61, 1L << 62).toString());
+
+        assertThrows(MathZeroException.class, () -> new MutableFraction(1, 0));
+        assertThrows(MathZeroException.class, () -> new MutableFraction().reciprocalInPlace());
+        assertThrows(NumberOverbrimException.class, () -> new MutableFraction(1L << 40, 3).toFraction());
+        assertThrows(MathArithmeticException.class,
+                () -> new MutableFraction(Long.MAX_VALUE, 1).addInPlace(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void bigFraction() {
+        final BigFraction half = new BigFraction(1, 2);
+        final BigFraction third = BigFraction.valueOf(-2, -6);
+        assertEquals(BigFraction.valueOf(5, 6), half.add(third));
+        assertEquals(BigFraction.valueOf(1, 6), half.subtract(third));
+        assertEquals(BigFraction.valueOf(1, 6), half.multiply(third));
+        assertEquals(BigFraction.valueOf(3, 2), half.divide(third));
+        assertEquals(BigFraction.valueOf(-2), half.reciprocal().negate());
+        assertEquals(BigFraction.valueOf(7, 2), half.add(3));
+        assertEquals(BigFraction.valueOf(1, 8), half.pow(3));
+        assertEquals(BigFraction.valueOf(8), half.pow(-3));
+        assertEquals(BigFraction.ZERO, half.subtract(half));
+        assertEquals("1 / 3", third.toString());
+        assertEquals(new BigFraction(0.125), BigFraction.valueOf(1, 8));
+        assertTrue(half.isSmall());
+
+        // 溢出时改用 BigInteger，结果回到 long 的范围之内时又以 long 保存
+        final BigFraction big = BigFraction.valueOf(Long.MAX_VALUE, 3).multiply(Long.MAX_VALUE);
+        assertFalse(big.isSmall());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2).divide(BigInteger.valueOf(3)), big.getNumerator()
+                .multiply(BigInteger.ONE).divide(big.getDenominator()));
+        final BigFraction back = big.divide(Long.MAX_VALUE);
+        assertTrue(back.isSmall());
+        assertEquals(BigFraction.valueOf(Long.MAX_VALUE, 3), back);
+        assertEquals(BigFraction.valueOf(Long.MAX_VALUE, 3).hashCode(), back.hashCode());
+        assertEquals(new BigFraction(BigInteger.TEN.pow(30), BigInteger.TEN.pow(29)), BigFraction.valueOf(10));
+        assertFalse(BigFraction.valueOf(Long.MIN_VALUE, 1).isSmall());
+        assertEquals(BigFraction.valueOf(Long.MIN_VALUE, 1), BigFraction.valueOf(Long.MIN_VALUE + 1, 1).subtract(1));
+        assertEquals(BigInteger.valueOf(3).pow(100), BigFraction.valueOf(3).pow(100).getNumerator());
+        // 整数不论以 long 还是 BigInteger 保存都不输出分母
+        assertEquals("10", BigFraction.valueOf(10).toString());
+        assertEquals(String.valueOf(Long.MIN_VALUE), BigFraction.valueOf(Long.MIN_VALUE, 1).toString());
+        assertEquals("-" + Long.MAX_VALUE + " / 3", big.negate().divide(Long.MAX_VALUE).toString());
+
+        // 比较
+        assertTrue(BigFraction.valueOf(Long.MAX_VALUE - 1, Long.MAX_VALUE)
+                .compareTo(BigFraction.valueOf(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1)) > 0);
+        assertTrue(big.compareTo(half) > 0);
+        assertTrue(big.negate().compareTo(half) < 0);
+        assertEquals(half, half.min(big));
+        assertEquals(1.0 / 3, third.doubleValue());
+        assertEquals(Math.pow(Long.MAX_VALUE, 2) / 3, big.doubleValue(), 1e22);
+        assertEquals(new BigDecimal("0.3333"), third.bigDecimalValue(4, RoundingMode.HALF_UP));
+
+        assertThrows(MathZeroException.class, () -> BigFraction.valueOf(1, 0));
+        assertThrows(MathArithmeticException.class, () -> half.divide(BigFraction.ZERO));
+        assertThrows(MathZeroException.class, () -> BigFraction.ZERO.reciprocal());
+
+        // BigPercentage 依赖 BigFraction
+        assertEquals("50", new BigPercentage(1, 2).toString());
+        assertEquals("12.5", new BigPercentage(new BigDecimal("0.125")).toString());
+        assertTrue(new BigPercentage(1, 3).compareTo(new BigPercentage(1, 2)) < 0);
+    }
+
+    @Test
+    void valueOf() {
+        assertSame(Fraction.ONE_HALF, Fraction.valueOf(2, 4));
+        assertSame(Fraction.ONE_HALF, Fraction.valueOf(-3, -6));
+        assertSame(Fraction.ZERO, Fraction.valueOf(0, 7));
+        assertSame(Fraction.valueOf(-7, 12), Fraction.valueOf(14, -24));
+        assertSame(Fraction.ONE, Fraction.ONE_HALF.add(Fraction.ONE_HALF));
+        assertSame(Fraction.ZERO, Fraction.ONE_THIRD.subtract(Fraction.ONE_THIRD));
+        assertSame(Fraction.TWO, Fraction.valueOf(400, 200));
+        assertSame(Fraction.MINUS_ONE, Fraction.ONE.negate());
+        assertEquals(0, Fraction.ZERO.signum());
+        assertEquals(new Fraction(1000, 3), Fraction.valueOf(1000, 3));
+        assertThrows(MathZeroException.class, () -> Fraction.valueOf(1, 0));
+        assertThrows(MathZeroException.class, () -> Fraction.ZERO.reciprocal());
+    }
+
+    @Test
+    void fractionArrays() {
+        int[] an = {1, -3, 5, Integer.MIN_VALUE};
+        int[] ad = {2, 4, 6, 1};
+        int[] bn = {1, 3, -7, Integer.MAX_VALUE};
+        int[] bd = {3, 4, 9, Integer.MAX_VALUE};
+        int[] rn = new int[4];
+        int[] rd = new int[4];
+
+        int[] cmp = new int[4];
+        FractionArrays.compare(an, ad, bn, bd, cmp);
+        assertArrayEquals(new int[] {1, -1, 1, -1}, cmp);
+
+        FractionArrays.multiply(an, ad, bn, bd, rn, rd);
+        assertArrayEquals(new int[] {1, -9, -35, Integer.MIN_VALUE}, rn);
+        assertArrayEquals(new int[] {6, 16, 54, 1}, rd);
+
+        int[] sn = {1, -3, 5};
+        int[] sd = {2, 4, 6};
+        FractionArrays.add(sn, sd, new int[] {1, 3, -7}, new int[] {3, 4, 9}, sn, sd);
+        assertArrayEquals(new int[] {5, 0, 1}, sn);
+        assertArrayEquals(new int[] {6, 1, 18}, sd);
+        assertThrows(MathArithmeticException.class,
+                () -> FractionArrays.add(an, ad, an, ad, rn, rd));
+        assertThrows(MathIllegalArgumentException.class,
+                () -> FractionArrays.add(an, ad, sn, sd, rn, rd));
+
+        long[] pn = new long[3];
+        long[] pd = new long[3];
+        FractionArrays.prefixSum(new int[] {1, 1, 1}, new int[] {2, 3, 6}, pn, pd);
+        assertArrayEquals(new long[] {1, 5, 1}, pn);
+        assertArrayEquals(new long[] {2, 6, 1}, pd);
+
+        long[] ln = {Long.MAX_VALUE, 1};
+        long[] ld = {3, 2};
+        FractionArrays.compare(ln, ld, new long[] {Long.MAX_VALUE - 1, 1}, new long[] {3, 2}, cmp);
+        assertEquals(1, cmp[0]);
+        assertEquals(0, cmp[1]);
+        FractionArrays.multiply(ln, ld, new long[] {3, 4}, new long[] {Long.MAX_VALUE, 1}, pn, pd);
+        assertArrayEquals(new long[] {1, 2, 1}, pn);
+        assertArrayEquals(new long[] {1, 1, 1}, pd);
+        // 参数没有约分时，结果仍然是约分的
+        FractionArrays.add(new long[] {2, 6}, new long[] {4, 4}, new long[] {0, 1}, new long[] {1, 2}, pn, pd);
+        assertArrayEquals(new long[] {1, 2, 1}, pn);
+        assertArrayEquals(new long[] {2, 1, 1}, pd);
+        FractionArrays.multiply(new long[] {2, 6}, new long[] {4, 4}, new long[] {1, 1L << 62}, new long[] {1, 1L << 62}, pn, pd);
+        assertArrayEquals(new long[] {1, 3, 1}, pn);
+        assertArrayEquals(new long[] {2, 2, 1}, pd);
+
+        assertEquals(BigFraction.valueOf(7, 6), FractionArrays.sum(new int[] {1, 2}, new int[] {2, 3}));
+        // 第二项之后超出 long 的范围，改用 BigFraction 计算
+        int[] big = {Integer.MAX_VALUE, Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 2};
+        int[] one = {1, 1, 1};
+        BigFraction expected = BigFraction.ZERO;
+        for (int b : big) {
+            expected = expected.add(BigFraction.valueOf(1, (long) b * b));
+        }
+        assertEquals(expected, FractionArrays.dot(one, big, one, big));
+
+        Fraction[] fractions = FractionArrays.toFractions(new int[] {2, 3}, new int[] {4, 1});
+        assertSame(Fraction.ONE_HALF, fractions[0]);
+        int[] fn = new int[2];
+        int[] fd = new int[2];
+        FractionArrays.fromFractions(fractions, fn, fd);
+        assertArrayEquals(new int[] {1, 3}, fn);
+        assertArrayEquals(new int[] {2, 1}, fd);
+    }
+
+    @Test
+    void pow() {
+        assertSame(Fraction.ONE, Fraction.valueOf(7, 3).pow(0));
+        assertEquals(Fraction.valueOf(-8, 27), Fraction.valueOf(-2, 3).pow(3));
+        assertEquals(Fraction.valueOf(9, 4), Fraction.valueOf(-2, 3).pow(-2));
+        // 3^19 是 int 范围内最大的 3 的乘方，3^20 超出 int 的范围
+        assertEquals(1162261467, Fraction.valueOf(3).pow(19).numerator());
+        assertEquals(1, Fraction.valueOf(-1).pow(Integer.MIN_VALUE).numerator());
+        assertThrows(MathArithmeticException.class, () -> Fraction.valueOf(3).pow(20));
+        assertThrows(MathArithmeticException.class, () -> Fraction.valueOf(1, 2).pow(-31));
+
+        assertSame(Fraction.ONE_QUARTER, Fraction.ONE_HALF.powExact(2));
+        assertEquals(BigFraction.valueOf(BigInteger.ONE, BigInteger.valueOf(3).pow(20)), Fraction.valueOf(1, 3).powExact(20));
+        // 3^39 超过 2^53，double 的乘方已经不精确（Math.pow(3, 39) 的末位是 ...256）
+        assertEquals(BigFraction.valueOf(4052555153018976267L), Fraction.valueOf(3).powExact(39));
+    }
+
+    @Test
+    void longFraction() {
+        final LongFraction half = LongFraction.valueOf(1, 2);
+        final LongFraction third = LongFraction.valueOf(-2, -6);
+        assertEquals(LongFraction.valueOf(5, 6), half.add(third));
+        assertEquals(LongFraction.valueOf(1, 6), half.subtract(third));
+        assertEquals(LongFraction.valueOf(1, 6), half.multiply(third));
+        assertEquals(LongFraction.valueOf(3, 2), half.divide(third));
+        assertEquals(LongFraction.valueOf(-3, 2), half.divide(third).divide(-1));
+        assertEquals(LongFraction.valueOf(7, 2), half.add(3));
+        assertEquals(LongFraction.valueOf(8), half.pow(-3));
+        assertSame(LongFraction.ZERO, half.subtract(half));
+        assertSame(LongFraction.MINUS_ONE, half.reciprocal().negate().divide(2));
+        assertEquals("-3 / 2", LongFraction.valueOf(6, -4).toString());
+        assertEquals(BigFraction.valueOf(1, 3), third.bigFractionValue());
+
+        // 分子的中间结果超出 long 的范围，约分之后回到 long 的范围之内
+        final long p = 3486784401L;
+        final long a = Long.MAX_VALUE - Long.MAX_VALUE % p + 1;
+        final long c = Long.MAX_VALUE - Long.MAX_VALUE % p - 1;
+        final LongFraction x = LongFraction.valueOf(a, p);
+        final LongFraction y = LongFraction.valueOf(c, p);
+        assertEquals(x.bigFractionValue().add(y.bigFractionValue()), x.add(y).bigFractionValue());
+        assertEquals(x.negate().bigFractionValue().add(y.negate().bigFractionValue()),
+                x.negate().subtract(y).bigFractionValue());
+        // 约分之后仍然超出 long 的范围
+        assertThrows(MathArithmeticException.class, () -> x.add(x));
+        assertThrows(MathArithmeticException.class, () -> LongFraction.valueOf(Long.MAX_VALUE).multiply(2));
+        assertThrows(MathArithmeticException.class, () -> LongFraction.valueOf(Long.MIN_VALUE, 1));
+        assertEquals(LongFraction.valueOf(Long.MIN_VALUE / 2), LongFraction.valueOf(Long.MIN_VALUE, 2));
+
+        // 与 BigFraction 的结果比较
+        final Random random = new Random(42L);
+        for (int i = 0; i < 10000; i++) {
+            final long g = random.nextInt(1 << 20) + 1;
+            final LongFraction l = LongFraction.valueOf(random.nextLong() >> random.nextInt(40), g * (random.nextInt(1 << 20) + 1));
+            final LongFraction r = LongFraction.valueOf(random.nextLong() >> random.nextInt(40), g * (random.nextInt(1 << 20) + 1));
+            final BigFraction bl = l.bigFractionValue();
+            final BigFraction br = r.bigFractionValue();
+            assertEquals(Integer.signum(bl.compareTo(br)), Integer.signum(l.compareTo(r)));
+            assertLongFraction(bl.add(br), () -> l.add(r));
+            assertLongFraction(bl.subtract(br), () -> l.subtract(r));
+            assertLongFraction(bl.multiply(br), () -> l.multiply(r));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void continuedFraction() {
+        assertEquals("[4; 2, 6, 7]", ContinuedFraction.valueOf(BigFraction.valueOf(415, 93)).toString());
+        assertEquals("[-1; 2]", ContinuedFraction.valueOf(-0.5).toString());
+        assertEquals(BigFraction.valueOf(355, 113), ContinuedFraction.valueOf(Math.PI).bestApproximation(1000));
+        assertEquals(BigFraction.valueOf(333, 106), ContinuedFraction.valueOf(Math.PI).bestApproximation(112));
+        // 中间分数比渐近分数 3/1 更接近
+        assertEquals(BigFraction.valueOf(13, 4), ContinuedFraction.valueOf(3.24).bestApproximation(4));
+        assertEquals(BigFraction.valueOf(-1, 3), ContinuedFraction.valueOf(-1.0 / 3).bestApproximation(100));
+        assertEquals(BigFraction.valueOf(1, 10), ContinuedFraction.valueOf(0.1).approximation(1e-15));
+        assertEquals(BigFraction.valueOf(22, 7), ContinuedFraction.valueOf(Math.PI).approximation(2e-3));
+        assertEquals(BigFraction.valueOf(1, 10), ContinuedFraction.valueOf(new BigDecimal("0.1")).approximation(0));
+        assertEquals(BigFraction.valueOf(1, 1000), ContinuedFraction.valueOf(1e-3).bestApproximation(1 << 20));
+        assertEquals(BigFraction.valueOf(-7, 1L << 60), ContinuedFraction.valueOf(-7.0 / (1L << 60)).approximation(0));
+        // 转为 long 计算之后，下一个分母 a * q1 + q0 会超出 long 的范围
+        assertEquals(BigFraction.valueOf(8192, 9007199254740993L),
+                ContinuedFraction.valueOf(Math.scalb((double) ((1L << 53) - 1), -93)).bestApproximation(Long.MAX_VALUE));
+        assertEquals(BigFraction.valueOf(1, 1L << 40), ContinuedFraction.valueOf(
+                BigFraction.valueOf(BigInteger.ONE.shiftLeft(62), BigInteger.ONE.shiftLeft(102).add(BigInteger.ONE)))
+                .bestApproximation(1L << 50));
+
+        // 二进制小数可以精确地还原
+        final Random random = new Random(42L);
+        for (int i = 0; i < 1000; i++) {
+            final double x = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isFinite(x)) {
+                continue;
+            }
+            final ContinuedFraction cf = ContinuedFraction.valueOf(x);
+            final BigFraction exact = cf.value();
+            assertEquals(new BigDecimal(x), exact.bigDecimalValue(MathContext.UNLIMITED));
+            assertEquals(exact, cf.approximation(0));
+            assertEquals(exact, cf.convergents().reduce((a, b) -> b).get());
+            if (exact.getDenominator().bitLength() < Long.SIZE) {
+                assertEquals(exact, cf.bestApproximation(Long.MAX_VALUE));
+            } else {
+                // 分母超出 long 的范围时，结果的分母仍不超过上限
+                final BigFraction max = cf.bestApproximation(Long.MAX_VALUE);
+                assertTrue(max.getDenominator().signum() > 0 && max.getDenominator().bitLength() < Long.SIZE);
+                cf.convergents().filter(c -> c.getDenominator().bitLength() < Long.SIZE).forEach(c ->
+                        assertTrue(c.subtract(exact).abs().compareTo(max.subtract(exact).abs()) >= 0));
+            }
+            // 最佳逼近与精确值的距离不超过任何分母更小的渐近分数
+            final BigFraction best = cf.bestApproximation(1000);
+            assertTrue(best.getDenominator().compareTo(BigInteger.valueOf(1000)) <= 0);
+            cf.convergents().filter(c -> c.getDenominator().compareTo(BigInteger.valueOf(1000)) <= 0).forEach(c ->
+                    assertTrue(c.subtract(exact).abs().compareTo(best.subtract(exact).abs()) >= 0));
+        }
+        assertEquals(5, ContinuedFraction.valueOf(Math.PI).convergents().limit(5).count());
+
+        assertThrows(MathIllegalArgumentException.class, () -> ContinuedFraction.valueOf(Double.NaN));
+        assertThrows(MathIllegalArgumentException.class, () -> ContinuedFraction.valueOf(1.5).bestApproximation(0));
+
+        // Percentage(double) 保存对应的分数
+        assertEquals(0.375, new Percentage(0.125).add(Fraction.ONE_QUARTER).doubleValue());
+    }
+
+    private static void assertLongFraction(BigFraction expected, Supplier<LongFraction> actual) {
+        if (expected.getNumerator().bitLength() < Long.SIZE && expected.getDenominator().bitLength() < Long.SIZE) {
+            assertEquals(expected, actual.get().bigFractionValue());
+        } else {
+            assertThrows(MathArithmeticException.class, actual::get);
+        }
+    }
+
+}